@@ -2,18 +2,22 @@ package com.nhnacademy; // 패키지 경로 확인
 
 import com.nhnacademy.company.dto.request.CompanyUpdateEmailRequest;
 import com.nhnacademy.company.dto.request.CompanyRegisterRequest;
+import com.nhnacademy.company.dto.request.CompanySearchRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateRequest;
 import com.nhnacademy.company.dto.response.CompanyResponse;
 import com.nhnacademy.company.service.CompanyService;
 
 import com.nhnacademy.common.annotation.HasRole;
+import com.nhnacademy.common.util.ETagUtil;
 import com.nhnacademy.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -45,16 +49,27 @@ public class CompanyController {
 
     /**
      * 주어진 회사 도메인에 해당하는 회사 정보를 조회합니다.
-     * 성공 시 HTTP 상태 코드 200 (OK)과 회사 정보를 반환합니다.
+     * 성공 시 HTTP 상태 코드 200 (OK)과 회사 정보, 회사 번호와 변경 버전으로 만든 ETag 를 반환합니다.
+     * {@code If-None-Match}가 현재 버전과 같으면 304 (Not Modified)를 반환합니다.
      *
      * @param companyDomain 조회할 회사의 도메인 (경로 변수)
+     * @param webRequest    조건부 요청 확인용
      * @return 조회된 회사 정보 ({@link CompanyResponse})와 상태 코드 200
      */
     @GetMapping("/{companyDomain}")
     @HasRole({"ROLE_ADMIN", "ROLE_OWNER"})
-    public ResponseEntity<CompanyResponse> getCompanyByDomain(@PathVariable String companyDomain) {
+    public ResponseEntity<CompanyResponse> getCompanyByDomain(@PathVariable String companyDomain, WebRequest webRequest) {
+        // 검증 요청이면 번호와 버전만 조회해, 같으면 회사 정보를 읽거나 복호화하지 않고 304
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            CompanyService.CompanyVersion current = companyService.getCompanyVersion(companyDomain);
+            if (webRequest.checkNotModified(ETagUtil.of("company", current.companyNo(), current.version()))) {
+                return null;
+            }
+        }
         CompanyResponse response = companyService.getCompanyByDomain(companyDomain);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.of("company", response.getCompanyNo(), response.getVersion()))
+                .body(response);
     }
 
     /**
@@ -70,6 +85,21 @@ public class CompanyController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 이름/이메일/연락처/주소의 정확한 값으로 회사를 검색합니다.
+     * 모든 회사를 읽어 복호화하는 {@link #getAllCompanies()} 대신 블라인드 인덱스로 일치하는 회사만 조회합니다.
+     * 같은 필드의 여러 값은 OR(일괄 조회), 필드끼리는 AND 로 결합하며, 검색할 값이 없으면 400 을 반환합니다.
+     *
+     * @param request 검색 조건 DTO ({@link CompanySearchRequest})
+     * @return 조건과 일치하는 회사 정보 리스트 ({@link CompanyResponse})와 상태 코드 200
+     */
+    @PostMapping("/search")
+    @HasRole({"ROLE_ADMIN"})
+    public ResponseEntity<List<CompanyResponse>> searchCompanies(@RequestBody CompanySearchRequest request) {
+        List<CompanyResponse> response = companyService.searchCompanies(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 주어진 회사 도메인에 해당하는 회사의 정보(이름, 연락처, 주소)를 수정합니다.
      * 성공 시 HTTP 상태 코드 200 (OK)과 수정된 회사 정보를 반환합니다.
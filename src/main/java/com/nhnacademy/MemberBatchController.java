@@ -0,0 +1,36 @@
+package com.nhnacademy;
+
+import com.nhnacademy.member.dto.request.MemberBatchGetRequest;
+import com.nhnacademy.member.dto.response.MemberBatchGetResponse;
+import com.nhnacademy.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 회원 여러 명을 한 번에 다루는 REST 컨트롤러입니다.
+ * {@code /members:batchGet}처럼 컬렉션 경로에 동작을 붙이는 형식이므로
+ * "/members/" 하위 경로를 사용하는 {@link MemberController}와 분리합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberBatchController {
+
+    private final MemberService memberService;
+
+    /**
+     * 회원 번호 여러 개로 회원 정보를 한 번에 조회합니다.
+     * 다른 서비스가 가진 회원 번호를 {@code GET /members/{memberNo}}로 하나씩 조회하는 대신 사용합니다.
+     * 응답은 요청 순서를 유지하며, 존재하지 않는 회원 번호는 오류 대신 {@code missing}에 담아 반환합니다.
+     *
+     * @param request 조회할 회원 번호 목록 ({@link MemberBatchGetRequest})
+     * @return 회원 정보와 찾지 못한 회원 번호 ({@link MemberBatchGetResponse})와 상태 코드 200
+     */
+    @PostMapping(value = "/members:batchGet", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MemberBatchGetResponse> batchGet(@RequestBody MemberBatchGetRequest request) {
+        return ResponseEntity.ok(memberService.getMembersByIds(request.getMemberNos()));
+    }
+}
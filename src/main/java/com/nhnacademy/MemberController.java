@@ -2,10 +2,18 @@ package com.nhnacademy;
 
 
 import com.nhnacademy.common.annotation.HasRole;
+import com.nhnacademy.common.util.ETagUtil;
+import com.nhnacademy.member.dto.request.MemberLoginBatchRequest;
 import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
+import com.nhnacademy.member.dto.request.MemberPasswordVerifyRequest;
 import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberAuthResponse;
+import com.nhnacademy.member.dto.response.MemberLoginBatchResponse;
 import com.nhnacademy.member.dto.response.MemberLoginResponse;
 import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.repository.CustomMemberRepository;
+import com.nhnacademy.member.service.MemberIdentityCache;
+import com.nhnacademy.member.service.MemberPasswordFacade;
 import com.nhnacademy.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,8 +24,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 
 /**
  * 회원(Member) 관련 HTTP 요청을 처리하는 REST 컨트롤러입니다.
@@ -30,30 +42,34 @@ import org.springframework.web.server.ResponseStatusException;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberPasswordFacade memberPasswordFacade;
+    private final MemberIdentityCache memberIdentityCache;
 
     /**
      * 신규 회원을 등록합니다 (기존 회사에 User 역할로 가입).
      * 요청 본문에는 회원 정보(이메일, 비밀번호, 이름)와 소속될 회사 도메인이 포함되어야 합니다.
      * 성공 시 HTTP 상태 코드 201 (Created)과 생성된 회원 정보를 반환합니다.
+     * 비밀번호 해싱은 전용 풀에서 비동기로 처리되며, 해싱 대기열이 가득 차면 503 (Retry-After)을 반환합니다.
      *
      * @param request 회원 가입 정보 DTO ({@link MemberRegisterRequest})
      * @return 생성된 회원 정보 ({@link MemberResponse})와 상태 코드 201
      */
     @PostMapping("/register")
-    public ResponseEntity<MemberResponse> registerMember(@Validated @RequestBody MemberRegisterRequest request) {
-        MemberResponse response = memberService.registerMember(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<MemberResponse>> registerMember(@Validated @RequestBody MemberRegisterRequest request) {
+        return memberPasswordFacade.registerMember(request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     @PostMapping("register/owners")
-    public ResponseEntity<MemberResponse> registerOwner(@Validated @RequestBody MemberRegisterRequest request) {
-        MemberResponse response = memberService.registerOwner(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<MemberResponse>> registerOwner(@Validated @RequestBody MemberRegisterRequest request) {
+        return memberPasswordFacade.registerOwner(request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     /**
      * 회원이 로그인하고 가장 최근에 로그인한 시간을 나타내는 lastLoginAt을 업데이트합니다.
      * 내부 서비스 전용으로 사용됩니다.
+     * 시각은 메모리에 기록만 하고 바로 반환하며, 저장 주기마다 모아서 저장됩니다.
      * @param email 업데이트할 대상의 이메일 정보.
      * @return HTTP 상태 코드 200 (OK)를 반환합니다.
      */
@@ -63,6 +79,32 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    /**
+     * 여러 회원의 로그인 정보를 한 번에 조회합니다. 내부 서비스(예: 인증 서버) 전용으로 사용됩니다.
+     * 회원이 없거나 탈퇴한 이메일은 오류 대신 {@code missing}에 담아 반환합니다.
+     *
+     * @param request 조회할 이메일 목록 ({@link MemberLoginBatchRequest})
+     * @return 찾은 로그인 정보와 찾지 못한 이메일 ({@link MemberLoginBatchResponse})과 상태 코드 200
+     */
+    @PostMapping("/internal/login-info:batch")
+    public ResponseEntity<MemberLoginBatchResponse> getLoginInfosByEmails(@RequestBody MemberLoginBatchRequest request) {
+        return ResponseEntity.ok(memberService.getLoginInfosByEmails(request.getEmails()));
+    }
+
+    /**
+     * 로그인 비밀번호를 검증합니다. 내부 서비스(예: 인증 서버) 전용으로 사용됩니다.
+     * 저장된 해시의 BCrypt cost 가 현재 설정과 다르면 검증에 성공한 평문으로 다시 해싱해 저장합니다.
+     * 성공 시 200 (OK)과 회원 정보(비밀번호 해시 제외)를, 이메일이 없거나 비밀번호가 다르면 401 을 반환합니다.
+     *
+     * @param request 이메일과 비밀번호 ({@link MemberPasswordVerifyRequest})
+     * @return 인증된 회원 정보 ({@link MemberAuthResponse})와 상태 코드 200
+     */
+    @PostMapping("/internal/password/verify")
+    public CompletableFuture<ResponseEntity<MemberAuthResponse>> verifyPassword(@Validated @RequestBody MemberPasswordVerifyRequest request) {
+        return memberPasswordFacade.verifyPassword(request)
+                .thenApply(ResponseEntity::ok);
+    }
+
     /**
      * 주어진 회원 ID(UUID)에 해당하는 회원 정보를 조회합니다.
      * 성공 시 HTTP 상태 코드 200 (OK)과 회원 정보를 반환합니다.
@@ -79,6 +121,9 @@ public class MemberController {
     /**
      * 주어진 회원 email 에 해당하는 회원 정보를 조회합니다.
      * 성공 시 HTTP 상태 코드 200 (OK)과 회원 정보를 반환합니다.
+     * 인증된 요청마다 호출되므로 {@link MemberIdentityCache}를 거칩니다.
+     * 회원 번호와 변경 버전으로 만든 ETag 를 함께 반환하며, {@code If-None-Match}가 같으면
+     * 본문을 직렬화(복호화)하지 않고 304 (Not Modified)를 반환합니다.
      *
      * @param userEmail 토큰에서 얻은 유저의 이메일 정보입니다.
      * @return 조회된 회원 정보 ({@link MemberResponse})와 상태 코드 200
@@ -88,8 +133,12 @@ public class MemberController {
         if(userEmail == null || userEmail.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 요청입니다. ");
         }
-        MemberResponse response = memberService.getMemberByEmail(userEmail);
-        return ResponseEntity.ok(response);
+        MemberResponse response = memberIdentityCache.getMemberByEmail(userEmail);
+        // 같은 경로를 여러 회원이 사용하므로 캐시가 이메일 헤더별로 구분하도록 Vary 지정
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.of("member", response.getMemberNo(), response.getVersion()))
+                .varyBy("X-User-Email")
+                .body(response);
     }
 
 
@@ -97,23 +146,24 @@ public class MemberController {
      * 주어진 회원 ID에 해당하는 회원의 비밀번호를 변경합니다.
      * 요청 본문에는 현재 비밀번호와 새 비밀번호가 포함되어야 합니다.
      * 성공 시 HTTP 상태 코드 204 (No Content)를 반환합니다. (본문 없음)
+     * 비밀번호 검증/해싱은 전용 풀에서 비동기로 처리되며, 해싱 대기열이 가득 차면 503 (Retry-After)을 반환합니다.
      *
      * @param memberNo 비밀번호를 변경할 회원의 UUID (경로 변수)
      * @param request  비밀번호 변경 정보 DTO ({@link MemberPasswordChangeRequest})
      * @return 상태 코드 204 (No Content)
      */
     @PutMapping("/{memberNo}/password")
-    public ResponseEntity<Void> changeMemberPassword(
+    public CompletableFuture<ResponseEntity<Void>> changeMemberPassword(
             @PathVariable Long memberNo,
             @Validated @RequestBody MemberPasswordChangeRequest request,
             @RequestHeader("X-User-Email")String userEmail) {
 
-        MemberResponse memberResponse = memberService.getMemberByEmail(userEmail);
+        MemberResponse memberResponse = memberIdentityCache.getMemberByEmail(userEmail);
         if(!memberResponse.getMemberNo().equals(memberNo)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "접근 권한이 없습니다. ");
         }
-        memberService.changeMemberPassword(memberNo, request);
-        return ResponseEntity.noContent().build();
+        return memberPasswordFacade.changeMemberPassword(memberNo, request)
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
 
     /**
@@ -128,7 +178,7 @@ public class MemberController {
             @PathVariable Long memberNo,
             @RequestHeader("X-User-Email")String userEmail) {
 
-        MemberResponse memberResponse = memberService.getMemberByEmail(userEmail);
+        MemberResponse memberResponse = memberIdentityCache.getMemberByEmail(userEmail);
         if(!memberResponse.getMemberNo().equals(memberNo)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 정보를 삭제할 권한이 없습니다.");
         }
@@ -140,6 +190,7 @@ public class MemberController {
      * 주어진 이메일 주소에 해당하는 회원의 로그인 관련 정보를 조회합니다.
      * 이 API는 주로 다른 내부 서비스(예: 인증 서버)에서 호출됩니다.
      * 성공 시 HTTP 상태 코드 200 (OK)와 로그인 정보를 반환합니다.
+     * 인증된 요청마다 호출되므로 {@link MemberIdentityCache}를 거칩니다.
      *
      * @param userEmail 조회할 회원의 이메일 주소 (경로 변수)
      * @return 로그인 관련 정보 ({@link MemberLoginResponse})와 상태 코드 200
@@ -151,15 +202,48 @@ public class MemberController {
         if(userEmail == null || userEmail.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 정보에 대한 접근이 불가합니다. ");
         }
-        MemberLoginResponse response = memberService.getLoginInfoByEmail(userEmail);
+        MemberLoginResponse response = memberIdentityCache.getLoginInfoByEmail(userEmail);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 회사의 회원 목록을 페이지로 조회합니다.
+     * 목록의 회원 수와 변경 버전 합계로 ETag 를 만들어, {@code If-None-Match}가 같으면 목록을 조회하지 않고 304 를 반환합니다.
+     *
+     * @param companyDomain 회사 도메인 (경로 변수)
+     * @param pageable      페이지 정보
+     * @param isPending     승인 대기 회원 목록이면 true
+     * @param webRequest    조건부 요청 확인용
+     * @return 회원 목록 페이지와 상태 코드 200, 바뀌지 않았으면 304
+     */
     @GetMapping("/companies/{company-domain}")
     public ResponseEntity<Page<MemberResponse>> getMemberResponseFromCompanyDomain
-            (@PathVariable("company-domain") String companyDomain, @PageableDefault(size=10) Pageable pageable, @RequestParam("isPending")boolean isPending) {
+            (@PathVariable("company-domain") String companyDomain, @PageableDefault(size=10) Pageable pageable, @RequestParam("isPending")boolean isPending,
+             WebRequest webRequest) {
+        CustomMemberRepository.MemberListVersion listVersion = memberService.getMemberListVersion(companyDomain, isPending);
+        String eTag = ETagUtil.of("members", listVersion.count(), listVersion.versionSum(),
+                listVersion.memberNoSum());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         Page<MemberResponse> memberResponsePage = memberService.getMemberResponseFromCompanyDomain(companyDomain, pageable, isPending);
-        return ResponseEntity.ok(memberResponsePage);
+        return ResponseEntity.ok().eTag(eTag).body(memberResponsePage);
+    }
+
+    /**
+     * 회사 소속 회원을 이메일 일부로 검색합니다 (관리자 화면용).
+     * 이메일은 암호화되어 있으므로 가입 시 저장한 이메일 토큰 블라인드 인덱스로 후보를 찾습니다.
+     * 검색을 사용하지 않도록 설정되어 있거나 검색어가 너무 짧으면 400 (Bad Request)을 반환합니다.
+     *
+     * @param companyDomain 회사 도메인 (경로 변수)
+     * @param email         이메일 검색어
+     * @return 회원 목록과 상태 코드 200
+     */
+    @GetMapping("/companies/{company-domain}/search")
+    @HasRole({"ROLE_ADMIN", "ROLE_OWNER"})
+    public ResponseEntity<List<MemberResponse>> searchMembersByEmail(
+            @PathVariable("company-domain") String companyDomain, @RequestParam("email") String email) {
+        return ResponseEntity.ok(memberService.searchMembersByEmail(companyDomain, email));
     }
 
     @PutMapping("/role/{member-no}")
@@ -0,0 +1,32 @@
+package com.nhnacademy.common.annotation;
+
+import com.nhnacademy.common.crypto.FieldCipherType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 암호문으로 저장되는 엔티티 필드에 붙이는 Annotation 입니다.
+ * 필드 타입은 {@link com.nhnacademy.common.crypto.EncryptedValue} 이어야 하며,
+ * {@link com.nhnacademy.common.crypto.EncryptedValueConverter}가 자동 적용되어
+ * DB에서 읽을 때는 복호화하지 않고 암호문만 담아 둡니다.
+ * 평문은 처음 접근하거나 직렬화할 때 한 번만 복호화됩니다.
+ * <p>
+ * {@link #cipher()}로 필드별 암호화 엔진을 지정합니다. 엔티티는 평문을 받아
+ * {@link com.nhnacademy.common.crypto.FieldCiphers#forField(Class, String)}로 얻은 이 엔진으로 암호화하므로,
+ * 서비스는 암호화를 직접 하지 않습니다. 복호화는 암호문 접두사로 엔진을 판별하므로
+ * 엔진을 바꿔도 기존 데이터는 그대로 읽을 수 있습니다.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Encrypted {
+
+    /**
+     * @return 이 필드를 암호화할 엔진 (기본값: 검색 가능한 결정적 암호화)
+     */
+    FieldCipherType cipher() default FieldCipherType.DETERMINISTIC;
+}
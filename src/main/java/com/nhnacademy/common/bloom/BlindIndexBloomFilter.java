@@ -0,0 +1,282 @@
+package com.nhnacademy.common.bloom;
+
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원가입/회사 등록 시 중복 확인 쿼리를 줄이기 위한 블라인드 인덱스 Bloom 필터입니다.
+ * <p>
+ * {@code member_index}와 {@code companies_index}의 해시 값을 기동 시 스트리밍으로 읽어 채우고,
+ * 인덱스 행을 추가한 트랜잭션이 커밋되면 함께 갱신하며, {@code blind-index.bloom.rebuild-minutes} 마다 다시 만듭니다.
+ * {@link #mightContain(Target, String)}가 false 이면 "확실히 없음"이므로 DB 조회를 생략할 수 있고,
+ * true 인 경우에만 DB로 확인합니다. 필터가 아직 준비되지 않았거나 비활성화되어 있으면 항상 true 입니다.
+ * <p>
+ * 이전 형식(SHA-256 hex) 인덱스가 남아 있는 동안에는 두 형식의 해시를 모두 담고 두 형식으로 확인합니다.
+ * 다른 인스턴스가 추가한 행은 다음 재생성 때 반영되므로, 그 사이에는 다른 인스턴스에서 방금 가입한 값을
+ * "없음"으로 판단할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlindIndexBloomFilter implements MeterBinder {
+
+    /**
+     * 필터 대상 인덱스 테이블.
+     */
+    public enum Target {
+        // 이메일 검색 토큰(email_prefix, email_ngram)은 중복 확인 대상이 아니므로 제외
+        MEMBER("member_index", " WHERE field_name = 'email'"),
+        COMPANY("companies_index", "");
+
+        private final String table;
+        private final String condition;
+
+        Target(String table, String condition) {
+            this.table = table;
+            this.condition = condition;
+        }
+
+        public String table() {
+            return table;
+        }
+    }
+
+    private static final String METRIC_PREFIX = "blind.index.bloom";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${blind-index.bloom.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 테이블별 예상 원소 수. 재생성 시 실제 행 수의 2배가 더 크면 그 값을 사용합니다.
+     */
+    @Value("${blind-index.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    /**
+     * 목표 오탐률.
+     */
+    @Value("${blind-index.bloom.fpp:0.01}")
+    private double fpp;
+
+    /**
+     * 재생성 주기(분). 0 이하이면 기동 시 한 번만 만듭니다.
+     */
+    @Value("${blind-index.bloom.rebuild-minutes:10}")
+    private long rebuildMinutes;
+
+    /**
+     * 테이블을 읽을 때의 fetch size.
+     */
+    @Value("${blind-index.bloom.fetch-size:1000}")
+    private int fetchSize;
+
+    private final Map<Target, Filters> filters = new EnumMap<>(Map.of(
+            Target.MEMBER, new Filters(), Target.COMPANY, new Filters()));
+
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder possiblyPresent = new LongAdder();
+    private final LongAdder rebuildFailures = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("blind-index-bloom").daemon(true).factory());
+        if (rebuildMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::rebuildAllSafely, 0, rebuildMinutes, TimeUnit.MINUTES);
+        } else {
+            scheduler.execute(this::rebuildAllSafely);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * @param target 대상 인덱스 테이블
+     * @param value  평문
+     * @return 인덱스에 있을 수도 있으면 true, 확실히 없으면 false
+     */
+    public boolean mightContain(Target target, String value) {
+        BloomFilter filter = filters.get(target).active;
+        if (filter == null) {
+            return true;
+        }
+        byte[] hash = new byte[BlindIndexUtil.LENGTH];
+        BlindIndexUtil.hash(value, hash, 0);
+        boolean result = filter.mightContain(hash);
+        if (!result && BlindIndexUtil.isLegacyFallbackEnabled()) {
+            HashUtil.sha256(value, hash, 0);
+            result = filter.mightContain(hash);
+        }
+        (result ? possiblyPresent : definitelyAbsent).increment();
+        return result;
+    }
+
+    /**
+     * 새로 저장한 인덱스 행의 해시를 필터에 추가합니다.
+     * 트랜잭션 안에서 호출되면 롤백된 행의 해시가 남지 않도록 커밋된 뒤에 추가합니다.
+     *
+     * @param target 대상 인덱스 테이블
+     * @param hash   블라인드 인덱스 (32바이트)
+     */
+    public void put(Target target, byte[] hash) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putNow(target, hash);
+                }
+            });
+        } else {
+            putNow(target, hash);
+        }
+    }
+
+    private void putNow(Target target, byte[] hash) {
+        Filters current = filters.get(target);
+        // 재생성 중이면 새 필터에도 추가해 교체 후 누락되지 않도록 함
+        BloomFilter building = current.building;
+        BloomFilter active = current.active;
+        if (building != null) {
+            building.put(hash);
+        }
+        if (active != null) {
+            active.put(hash);
+        }
+    }
+
+    /**
+     * 모든 대상 테이블의 필터를 다시 만듭니다.
+     */
+    void rebuildAll() {
+        for (Target target : Target.values()) {
+            rebuild(target);
+        }
+    }
+
+    private void rebuildAllSafely() {
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            rebuildFailures.increment();
+            log.error("블라인드 인덱스 Bloom 필터 생성에 실패했습니다. 기존 필터(없으면 DB 조회)를 계속 사용합니다.", e);
+        }
+    }
+
+    private void rebuild(Target target) {
+        Filters current = filters.get(target);
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + target.table() + target.condition, Long.class);
+        long capacity = Math.max(expectedInsertions, rows == null ? 0 : rows * 2);
+        BloomFilter next = new BloomFilter(capacity, fpp);
+        current.building = next;
+        try {
+            boolean legacy = BlindIndexUtil.isLegacyFallbackEnabled();
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "SELECT hash_key, hash_value FROM " + target.table() + target.condition,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                byte[] hashKey = rs.getBytes(1);
+                if (hashKey != null) {
+                    next.put(hashKey);
+                }
+                String legacyHash = rs.getString(2);
+                if (legacy && legacyHash != null) {
+                    next.put(decodeHex(legacyHash));
+                }
+            });
+            current.active = next;
+            log.info("블라인드 인덱스 Bloom 필터 생성: {} {}건, {}바이트, 예상 오탐률 {}",
+                    target.table(), next.insertions(), next.sizeInBytes(), next.expectedFpp());
+        } finally {
+            current.building = null;
+        }
+    }
+
+    private static byte[] decodeHex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ((Character.digit(hex.charAt(i * 2), 16) << 4)
+                    | Character.digit(hex.charAt(i * 2 + 1), 16));
+        }
+        return bytes;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Target target : Target.values()) {
+            Filters current = filters.get(target);
+            Gauge.builder(METRIC_PREFIX + ".fpp", current, f -> f.active == null ? 1.0 : f.active.expectedFpp())
+                    .tag("table", target.table())
+                    .description("현재 원소 수 기준 예상 오탐률")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".size", current, f -> f.active == null ? 0 : f.active.sizeInBytes())
+                    .tag("table", target.table())
+                    .baseUnit("bytes")
+                    .description("Bloom 필터 비트 배열 크기")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".entries", current, f -> f.active == null ? 0 : f.active.insertions())
+                    .tag("table", target.table())
+                    .description("Bloom 필터에 추가된 해시 수")
+                    .register(registry);
+        }
+        Gauge.builder(METRIC_PREFIX + ".target.fpp", () -> fpp)
+                .description("설정된 목표 오탐률")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".checks", definitelyAbsent, LongAdder::sum)
+                .tag("result", "absent")
+                .description("DB 조회 없이 끝난 중복 확인 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".checks", possiblyPresent, LongAdder::sum)
+                .tag("result", "maybe")
+                .description("DB 조회로 넘긴 중복 확인 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".rebuild.failures", rebuildFailures, LongAdder::sum)
+                .description("실패한 Bloom 필터 생성 수")
+                .register(registry);
+    }
+
+    /**
+     * 테이블 하나의 사용 중인 필터와 생성 중인 필터.
+     */
+    private static final class Filters {
+        private volatile BloomFilter active;
+        private volatile BloomFilter building;
+    }
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.common.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 32바이트 해시(HMAC-SHA256 / SHA-256) 값을 담는 스레드 안전한 Bloom 필터입니다.
+ * <p>
+ * 입력이 이미 균등 분포의 해시이므로 별도 해시 함수 없이 앞 16바이트를 두 개의 long 으로 읽어
+ * {@code h1 + i * h2} (Kirsch-Mitzenmacher) 방식으로 k 개의 비트 위치를 만듭니다.
+ * {@link #mightContain(byte[])}가 false 이면 해당 값은 확실히 추가된 적이 없습니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp                목표 오탐률 (0 초과 1 미만)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다.");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp는 0 과 1 사이여야 합니다.");
+        }
+        long words = Math.max(1, (long) Math.ceil(
+                -expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)) / Long.SIZE));
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom 필터 크기가 너무 큽니다: " + expectedInsertions);
+        }
+        this.bits = new AtomicLongArray((int) words);
+        this.bitSize = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * @param hash 32바이트 해시 값
+     */
+    public void put(byte[] hash) {
+        long h1 = readLong(hash, 0);
+        long h2 = readLong(hash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertions.increment();
+    }
+
+    /**
+     * @param hash 32바이트 해시 값
+     * @return 추가되었을 수도 있으면 true, 확실히 추가된 적이 없으면 false
+     */
+    public boolean mightContain(byte[] hash) {
+        long h1 = readLong(hash, 0);
+        long h2 = readLong(hash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재까지 추가된 원소 수 기준의 예상 오탐률 {@code (1 - e^(-kn/m))^k}.
+     */
+    public double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.sum() / bitSize), hashCount);
+    }
+
+    /**
+     * @return 비트 배열 크기(바이트)
+     */
+    public long sizeInBytes() {
+        return bitSize / Byte.SIZE;
+    }
+
+    /**
+     * @return 추가된 원소 수 (같은 값을 여러 번 추가하면 중복 집계)
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xffL);
+        }
+        return value;
+    }
+}
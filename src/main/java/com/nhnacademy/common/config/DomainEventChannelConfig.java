@@ -0,0 +1,98 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.event.DomainEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.PublishSubscribeChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link DomainEvent}를 구독자에게 전달하는 Spring Integration 채널 설정입니다.
+ * <p>
+ * 채널마다 스레드 수와 대기열 길이를 제한한 전용 스레드 풀을 두어, 구독자가 느려도 요청 스레드나 다른 채널에 영향을 주지 않습니다.
+ * 대기열이 가득 차면 전달을 거절하고 {@code DomainEventRelay}가 이벤트를 버린 수를 기록합니다.
+ * 스레드 풀은 빈으로 등록하지 않습니다. (등록하면 Boot 기본 {@code applicationTaskExecutor}가 만들어지지 않음)
+ */
+@Slf4j
+@Configuration
+public class DomainEventChannelConfig {
+
+    public static final String MEMBER_EVENT_CHANNEL = "memberEventChannel";
+    public static final String COMPANY_EVENT_CHANNEL = "companyEventChannel";
+
+    /**
+     * 채널당 구독자 실행 스레드 수.
+     */
+    @Value("${domain-event.threads:2}")
+    private int threads;
+
+    /**
+     * 채널당 전달을 기다릴 수 있는 최대 이벤트 수. 초과하면 버립니다.
+     */
+    @Value("${domain-event.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private final Map<String, ThreadPoolTaskExecutor> executors = new LinkedHashMap<>();
+
+    @Bean(MEMBER_EVENT_CHANNEL)
+    public PublishSubscribeChannel memberEventChannel() {
+        return newChannel("member-event");
+    }
+
+    @Bean(COMPANY_EVENT_CHANNEL)
+    public PublishSubscribeChannel companyEventChannel() {
+        return newChannel("company-event");
+    }
+
+    /**
+     * 채널별 스레드 풀의 대기열 길이와 실행 중인 작업 수.
+     * 채널(스레드 풀)이 먼저 만들어지도록 채널을 인자로 받습니다.
+     */
+    @Bean
+    public MeterBinder domainEventExecutorMetrics(
+            @Qualifier(MEMBER_EVENT_CHANNEL) PublishSubscribeChannel memberEventChannel,
+            @Qualifier(COMPANY_EVENT_CHANNEL) PublishSubscribeChannel companyEventChannel) {
+        return registry -> executors.forEach((name, executor) -> {
+            Gauge.builder("domain.event.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                    .tag("channel", name)
+                    .description("전달을 기다리는 이벤트 수")
+                    .register(registry);
+            Gauge.builder("domain.event.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .tag("channel", name)
+                    .description("실행 중인 구독자 수")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 대기 중인 이벤트를 전달할 때까지 잠시 기다린 뒤 스레드 풀을 닫습니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    private PublishSubscribeChannel newChannel(String name) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        executors.put(name, executor);
+        log.info("도메인 이벤트 채널 {}: 스레드 {}개, 대기열 {}", name, threads, queueCapacity);
+        return new PublishSubscribeChannel(executor);
+    }
+}
@@ -0,0 +1,256 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.exception.DecryptionException;
+import com.nhnacademy.common.exception.EncryptionException;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.BiFunction;
+
+/**
+ * 비밀키(SecretKeySpec)를 한 번만 만들어 두고, 초기화가 끝난 {@link Cipher} 인스턴스를 풀에서 재사용하는 AES 엔진입니다.
+ * 호출마다 {@code Cipher.getInstance}(프로바이더 조회)와 {@code cipher.init}(키 확장)을 반복하지 않도록 합니다.
+ * <p>
+ * {@link Cipher}는 스레드 안전하지 않으므로 호출 시 풀에서 빌려 쓰고 작업이 끝나면 반납합니다.
+ * ThreadLocal 대신 크기가 제한된 풀을 사용하므로 가상 스레드가 아무리 많아도 보관되는 Cipher 수는 {@code poolSize}를 넘지 않습니다.
+ * 풀이 비어 있으면 새로 만들고, 풀이 가득 차 있으면 반납된 Cipher는 버려집니다.
+ */
+public class AesCipherEngine {
+
+    /**
+     * Base64 표준 알파벳의 문자 -> 6비트 값 변환표. 알파벳이 아닌 문자는 -1.
+     */
+    private static final int[] BASE64_INDEX = new int[128];
+
+    static {
+        Arrays.fill(BASE64_INDEX, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_INDEX[alphabet.charAt(i)] = i;
+        }
+    }
+
+    /**
+     * Cipher 생성 시 사용할 알고리즘 (예: "AES").
+     */
+    private final String algorithm;
+
+    /**
+     * 엔진 생성 시 사용된 원본 비밀키 문자열. 설정 변경 여부 비교용.
+     */
+    private final String secretKey;
+
+    /**
+     * 미리 만들어 둔 비밀키 객체.
+     */
+    private final SecretKeySpec keySpec;
+
+    /**
+     * 암호화 모드로 초기화된 Cipher 풀.
+     */
+    private final BlockingQueue<Cipher> encryptors;
+
+    /**
+     * 복호화 모드로 초기화된 Cipher 풀.
+     */
+    private final BlockingQueue<Cipher> decryptors;
+
+    /**
+     * @param algorithm 사용할 알고리즘
+     * @param secretKey 비밀키 문자열
+     * @param poolSize  모드별로 보관할 Cipher 최대 개수
+     */
+    public AesCipherEngine(String algorithm, String secretKey, int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize는 1 이상이어야 합니다.");
+        }
+        this.algorithm = algorithm;
+        this.secretKey = secretKey;
+        this.keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), algorithm);
+        this.encryptors = new ArrayBlockingQueue<>(poolSize);
+        this.decryptors = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * 평문을 암호화한 뒤 Base64 문자열로 반환합니다.
+     *
+     * @param input 암호화할 평문
+     * @return Base64로 인코딩된 암호문
+     */
+    public String encrypt(String input) {
+        Cipher cipher = borrow(encryptors, Cipher.ENCRYPT_MODE, EncryptionException::new);
+        byte[] encryptedBytes;
+        try {
+            encryptedBytes = cipher.doFinal(input.getBytes(StandardCharsets.UTF_8));
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            throw new EncryptionException(e.getMessage(), e);
+        }
+        encryptors.offer(cipher);
+        return Base64.getEncoder().encodeToString(encryptedBytes);
+    }
+
+    /**
+     * Base64 암호문을 복호화해 평문으로 반환합니다.
+     *
+     * @param encryptedInput Base64로 인코딩된 암호문
+     * @return 복호화된 평문
+     */
+    public String decrypt(String encryptedInput) {
+        Cipher cipher = borrow(decryptors, Cipher.DECRYPT_MODE, DecryptionException::new);
+        byte[] encryptedBytes = Base64.getDecoder().decode(encryptedInput);
+        byte[] decryptedBytes;
+        try {
+            decryptedBytes = cipher.doFinal(encryptedBytes);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            throw new DecryptionException(e.getMessage(), e);
+        }
+        decryptors.offer(cipher);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 여러 개의 암호문을 한 번에 복호화합니다.
+     * 하나의 Cipher와 Base64 디코딩/복호화용 작업 버퍼를 배치 전체에서 재사용하므로
+     * 목록 조회 시 행마다 Cipher를 빌리고 버퍼를 할당하는 비용이 없어집니다.
+     * 입력 순서를 그대로 유지하며, null 은 null 로 반환합니다.
+     *
+     * @param encryptedInputs Base64로 인코딩된 암호문 목록
+     * @return 같은 순서의 평문 목록
+     */
+    public List<String> decryptAll(List<String> encryptedInputs) {
+        if (encryptedInputs.isEmpty()) {
+            return List.of();
+        }
+        Cipher cipher = borrow(decryptors, Cipher.DECRYPT_MODE, DecryptionException::new);
+        List<String> result = new ArrayList<>(encryptedInputs.size());
+        byte[] encryptedBuffer = new byte[64];
+        byte[] plainBuffer = new byte[64];
+        try {
+            for (String encryptedInput : encryptedInputs) {
+                if (encryptedInput == null) {
+                    result.add(null);
+                    continue;
+                }
+                int maxDecoded = encryptedInput.length() / 4 * 3 + 3;
+                if (encryptedBuffer.length < maxDecoded) {
+                    encryptedBuffer = new byte[maxDecoded];
+                }
+                int encryptedLength = decodeBase64(encryptedInput, 0, encryptedBuffer);
+                int maxPlain = cipher.getOutputSize(encryptedLength);
+                if (plainBuffer.length < maxPlain) {
+                    plainBuffer = new byte[maxPlain];
+                }
+                int plainLength = cipher.doFinal(encryptedBuffer, 0, encryptedLength, plainBuffer, 0);
+                result.add(new String(plainBuffer, 0, plainLength, StandardCharsets.UTF_8));
+            }
+        } catch (IllegalBlockSizeException | BadPaddingException | ShortBufferException e) {
+            throw new DecryptionException(e.getMessage(), e);
+        }
+        decryptors.offer(cipher);
+        return result;
+    }
+
+    /**
+     * Base64 암호문을 복호화해 평문 UTF-8 바이트를 {@code scratch}의 평문 버퍼에 씁니다.
+     * 중간 byte[]와 String 을 만들지 않으므로 응답 직렬화처럼 바이트를 바로 내보낼 때 사용합니다.
+     *
+     * @param encryptedInput Base64 암호문이 포함된 문자열
+     * @param offset         Base64 암호문이 시작하는 위치 (키 버전 접두사 길이)
+     * @param scratch        재사용 버퍼
+     * @return 평문 바이트 수 ({@link DecryptScratch#plain()}의 유효 길이)
+     */
+    public int decryptTo(String encryptedInput, int offset, DecryptScratch scratch) {
+        Cipher cipher = borrow(decryptors, Cipher.DECRYPT_MODE, DecryptionException::new);
+        byte[] encryptedBuffer = scratch.encrypted((encryptedInput.length() - offset) / 4 * 3 + 3);
+        int encryptedLength = decodeBase64(encryptedInput, offset, encryptedBuffer);
+        byte[] plainBuffer = scratch.plain(cipher.getOutputSize(encryptedLength));
+        int plainLength;
+        try {
+            plainLength = cipher.doFinal(encryptedBuffer, 0, encryptedLength, plainBuffer, 0);
+        } catch (IllegalBlockSizeException | BadPaddingException | ShortBufferException e) {
+            throw new DecryptionException(e.getMessage(), e);
+        }
+        decryptors.offer(cipher);
+        return plainLength;
+    }
+
+    /**
+     * 현재 엔진이 주어진 알고리즘/키로 만들어졌는지 확인합니다.
+     *
+     * @param algorithm 비교할 알고리즘
+     * @param secretKey 비교할 비밀키
+     * @return 동일하면 true
+     */
+    public boolean matches(String algorithm, String secretKey) {
+        return Objects.equals(this.algorithm, algorithm) && Objects.equals(this.secretKey, secretKey);
+    }
+
+    /**
+     * 풀에서 Cipher를 꺼내고, 없으면 새로 생성 후 초기화합니다.
+     * 실패한 Cipher는 상태를 알 수 없으므로 풀에 돌려놓지 않습니다(호출부에서 성공 시에만 반납).
+     */
+    private Cipher borrow(BlockingQueue<Cipher> pool, int mode,
+                          BiFunction<String, Throwable, ? extends RuntimeException> exceptionFactory) {
+        Cipher cipher = pool.poll();
+        if (cipher != null) {
+            return cipher;
+        }
+        try {
+            cipher = Cipher.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw exceptionFactory.apply(e.getMessage(), e);
+        }
+        try {
+            cipher.init(mode, keySpec);
+        } catch (InvalidKeyException e) {
+            throw exceptionFactory.apply(e.getMessage(), e);
+        }
+        return cipher;
+    }
+
+    /**
+     * Base64 문자열을 주어진 버퍼에 디코딩합니다. (String -> byte[] 중간 할당 없이 처리)
+     *
+     * @param src  Base64 문자열
+     * @param from 디코딩을 시작할 위치
+     * @param dst  디코딩 결과를 쓸 버퍼 (길이 >= (src.length() - from) / 4 * 3 + 3)
+     * @return 디코딩된 바이트 수
+     */
+    static int decodeBase64(String src, int from, byte[] dst) {
+        int length = src.length();
+        while (length > from && src.charAt(length - 1) == '=') {
+            length--;
+        }
+        int written = 0;
+        int bits = 0;
+        int accumulator = 0;
+        for (int i = from; i < length; i++) {
+            char c = src.charAt(i);
+            int value = c < BASE64_INDEX.length ? BASE64_INDEX[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Illegal base64 character " + Integer.toString(c, 16));
+            }
+            accumulator = (accumulator << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[written++] = (byte) (accumulator >> bits);
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.exception.DecryptionException;
+import com.nhnacademy.common.exception.EncryptionException;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * AES-GCM(무작위 IV) 암호화 엔진입니다.
+ * <p>
+ * 같은 평문도 매번 다른 암호문이 되므로 검색(동등 비교)이 필요 없는 필드에 사용합니다.
+ * 출력 형식은 {@code Base64(IV 12바이트 || 암호문 || 인증 태그 16바이트)} 입니다.
+ * <p>
+ * GCM은 IV가 바뀔 때마다 {@code init}이 필요하므로 초기화된 Cipher를 재사용할 수는 없지만,
+ * {@code Cipher.getInstance}(프로바이더 조회) 비용은 {@link AesCipherEngine}과 같은 방식의 풀로 줄입니다.
+ * 결정적 모드와 같은 키를 그대로 쓰지 않도록 설정된 키에서 GCM 전용 키를 파생합니다.
+ */
+public class AesGcmEngine {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    /**
+     * GCM 전용 키 파생에 사용하는 구분 값.
+     */
+    private static final byte[] KEY_CONTEXT = "javame-field-cipher:aes-gcm".getBytes(StandardCharsets.UTF_8);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final SecretKeySpec keySpec;
+    private final BlockingQueue<Cipher> pool;
+
+    /**
+     * @param secretKey 비밀키 문자열 (aes.key / aes.keyring 값)
+     * @param poolSize  보관할 Cipher 최대 개수
+     */
+    public AesGcmEngine(String secretKey, int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize는 1 이상이어야 합니다.");
+        }
+        this.keySpec = deriveKey(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * @param input 평문
+     * @return Base64(IV || 암호문 || 태그)
+     */
+    public String encrypt(String input) {
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        byte[] plain = input.getBytes(StandardCharsets.UTF_8);
+        try {
+            Cipher cipher = borrow();
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] out = Arrays.copyOf(iv, IV_LENGTH + cipher.getOutputSize(plain.length));
+            int written = cipher.doFinal(plain, 0, plain.length, out, IV_LENGTH);
+            pool.offer(cipher);
+            return Base64.getEncoder().encodeToString(
+                    written + IV_LENGTH == out.length ? out : Arrays.copyOf(out, IV_LENGTH + written));
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param encryptedInput Base64(IV || 암호문 || 태그)
+     * @return 평문
+     */
+    public String decrypt(String encryptedInput) {
+        byte[] data = Base64.getDecoder().decode(encryptedInput);
+        if (data.length < IV_LENGTH + TAG_BITS / 8) {
+            throw new DecryptionException("GCM 암호문 길이가 올바르지 않습니다.", null);
+        }
+        try {
+            Cipher cipher = borrow();
+            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            byte[] plain = cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+            pool.offer(cipher);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new DecryptionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 복호화한 평문 UTF-8 바이트를 {@code scratch}의 평문 버퍼에 씁니다.
+     *
+     * @param encryptedInput Base64(IV || 암호문 || 태그)가 포함된 문자열
+     * @param offset         Base64 부분이 시작하는 위치
+     * @param scratch        재사용 버퍼
+     * @return 평문 바이트 수
+     */
+    public int decryptTo(String encryptedInput, int offset, DecryptScratch scratch) {
+        byte[] data = scratch.encrypted((encryptedInput.length() - offset) / 4 * 3 + 3);
+        int length = AesCipherEngine.decodeBase64(encryptedInput, offset, data);
+        if (length < IV_LENGTH + TAG_BITS / 8) {
+            throw new DecryptionException("GCM 암호문 길이가 올바르지 않습니다.", null);
+        }
+        try {
+            Cipher cipher = borrow();
+            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            byte[] plain = scratch.plain(cipher.getOutputSize(length - IV_LENGTH));
+            int written = cipher.doFinal(data, IV_LENGTH, length - IV_LENGTH, plain, 0);
+            pool.offer(cipher);
+            return written;
+        } catch (GeneralSecurityException e) {
+            throw new DecryptionException(e.getMessage(), e);
+        }
+    }
+
+    private Cipher borrow() throws GeneralSecurityException {
+        Cipher cipher = pool.poll();
+        return cipher != null ? cipher : Cipher.getInstance(TRANSFORMATION);
+    }
+
+    /**
+     * HMAC-SHA256(원본 키, 구분 값)의 앞부분을 원본 키와 같은 길이(16/24/32바이트)만큼 사용합니다.
+     */
+    private static SecretKeySpec deriveKey(byte[] masterKey) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(masterKey, "HmacSHA256"));
+            byte[] derived = mac.doFinal(KEY_CONTEXT);
+            int length = masterKey.length >= 32 ? 32 : masterKey.length >= 24 ? 24 : 16;
+            return new SecretKeySpec(Arrays.copyOf(derived, length), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.exception.DecryptionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전별 AES 키를 보관하고, 암호문 앞의 키 버전 접두사로 복호화 키를 선택하는 키링입니다.
+ * <p>
+ * 저장 형식은 다음과 같습니다.
+ * <ul>
+ *     <li>버전 0 (기존 {@code aes.key}): 접두사 없이 Base64 암호문 그대로</li>
+ *     <li>버전 n (n &gt;= 1): {@code v{n}:} + Base64 암호문</li>
+ *     <li>무작위(GCM) 암호문: 버전과 관계없이 {@code g{n}:} + Base64(IV || 암호문 || 태그)</li>
+ * </ul>
+ * Base64 알파벳에는 ':' 이 없으므로 접두사 유무로 기존 암호문과 구분됩니다.
+ * 복호화는 접두사로 모드와 키를 모두 판별하므로 호출부는 필드가 어떤 모드로 저장되었는지 알 필요가 없습니다.
+ * 암호화는 항상 활성 버전 키로 수행하고, 복호화는 등록된 모든 버전을 지원하므로
+ * 재암호화 작업이 끝나기 전에도 기존 데이터를 그대로 읽을 수 있습니다.
+ */
+public class AesKeyring {
+
+    /**
+     * 키 버전 접두사 시작 문자.
+     */
+    private static final char VERSION_MARK = 'v';
+
+    /**
+     * 무작위(GCM) 암호문 접두사 시작 문자.
+     */
+    private static final char RANDOMIZED_MARK = 'g';
+
+    /**
+     * 키 버전 접두사 구분자.
+     */
+    private static final char VERSION_SEPARATOR = ':';
+
+    private final int activeVersion;
+    private final Map<Integer, AesCipherEngine> engines;
+    private final Map<Integer, AesGcmEngine> gcmEngines;
+    private final AesCipherEngine activeEngine;
+    private final AesGcmEngine activeGcmEngine;
+    private final String activePrefix;
+    private final String activeRandomizedPrefix;
+
+    /**
+     * @param algorithm     사용할 알고리즘
+     * @param keys          버전 -> 비밀키 문자열
+     * @param activeVersion 암호화에 사용할 버전 (keys 에 있어야 함)
+     * @param poolSize      엔진별로 보관할 Cipher 최대 개수
+     */
+    public AesKeyring(String algorithm, Map<Integer, String> keys, int activeVersion, int poolSize) {
+        if (!keys.containsKey(activeVersion)) {
+            throw new IllegalArgumentException("활성 키 버전(" + activeVersion + ")에 해당하는 키가 없습니다.");
+        }
+        this.activeVersion = activeVersion;
+        Map<Integer, AesCipherEngine> created = new HashMap<>();
+        Map<Integer, AesGcmEngine> createdGcm = new HashMap<>();
+        keys.forEach((version, key) -> {
+            created.put(version, new AesCipherEngine(algorithm, key, poolSize));
+            createdGcm.put(version, new AesGcmEngine(key, poolSize));
+        });
+        this.engines = Map.copyOf(created);
+        this.gcmEngines = Map.copyOf(createdGcm);
+        this.activeEngine = engines.get(activeVersion);
+        this.activeGcmEngine = gcmEngines.get(activeVersion);
+        this.activePrefix = prefixOf(activeVersion);
+        this.activeRandomizedPrefix = RANDOMIZED_MARK + Integer.toString(activeVersion) + VERSION_SEPARATOR;
+    }
+
+    /**
+     * 활성 버전 키로 암호화하고 버전 접두사를 붙여 반환합니다.
+     *
+     * @param input 평문
+     * @return 버전 접두사가 붙은 암호문
+     */
+    public String encrypt(String input) {
+        return activePrefix + activeEngine.encrypt(input);
+    }
+
+    /**
+     * 활성 버전 키로 AES-GCM(무작위 IV) 암호화합니다. 같은 평문도 매번 다른 암호문이 됩니다.
+     *
+     * @param input 평문
+     * @return {@code g{버전}:} 접두사가 붙은 암호문
+     */
+    public String encryptRandomized(String input) {
+        return activeRandomizedPrefix + activeGcmEngine.encrypt(input);
+    }
+
+    /**
+     * 암호문의 접두사에 맞는 모드와 키로 복호화합니다.
+     *
+     * @param encryptedInput 버전 접두사가 붙은(또는 버전 0) 암호문
+     * @return 평문
+     */
+    public String decrypt(String encryptedInput) {
+        int version = versionOf(encryptedInput);
+        if (isRandomized(encryptedInput)) {
+            return gcmEngineFor(version).decrypt(bodyOf(encryptedInput));
+        }
+        return engineFor(version).decrypt(bodyOf(encryptedInput));
+    }
+
+    /**
+     * 암호문을 복호화해 평문 UTF-8 바이트를 {@code scratch}에 씁니다. 접두사를 잘라낸 문자열도 만들지 않습니다.
+     *
+     * @param encryptedInput 암호문
+     * @param scratch        재사용 버퍼
+     * @return 평문 바이트 수 ({@link DecryptScratch#plain()}의 유효 길이)
+     */
+    public int decryptTo(String encryptedInput, DecryptScratch scratch) {
+        int version = versionOf(encryptedInput);
+        int offset = hasPrefix(encryptedInput) ? encryptedInput.indexOf(VERSION_SEPARATOR) + 1 : 0;
+        if (isRandomized(encryptedInput)) {
+            return gcmEngineFor(version).decryptTo(encryptedInput, offset, scratch);
+        }
+        return engineFor(version).decryptTo(encryptedInput, offset, scratch);
+    }
+
+    /**
+     * 여러 암호문을 한 번에 복호화합니다. 키 버전별로 묶어 각 엔진의 일괄 복호화를 사용합니다.
+     * GCM 암호문은 값마다 IV가 달라 일괄 처리 이점이 없으므로 개별로 복호화합니다.
+     * 입력 순서를 유지하며 null 은 null 로 반환합니다.
+     *
+     * @param encryptedInputs 암호문 목록
+     * @return 같은 순서의 평문 목록
+     */
+    public List<String> decryptAll(List<String> encryptedInputs) {
+        if (encryptedInputs.isEmpty()) {
+            return List.of();
+        }
+
+        // 대부분 같은 버전이므로 버전별 목록을 만들고, 원래 위치를 함께 기억해 둔다.
+        Map<Integer, List<String>> byVersion = new HashMap<>();
+        Map<Integer, List<Integer>> positions = new HashMap<>();
+        String[] result = new String[encryptedInputs.size()];
+        for (int i = 0; i < encryptedInputs.size(); i++) {
+            String encryptedInput = encryptedInputs.get(i);
+            if (encryptedInput == null) {
+                continue;
+            }
+            if (isRandomized(encryptedInput)) {
+                result[i] = decrypt(encryptedInput);
+                continue;
+            }
+            int version = versionOf(encryptedInput);
+            byVersion.computeIfAbsent(version, v -> new ArrayList<>())
+                    .add(bodyOf(encryptedInput));
+            positions.computeIfAbsent(version, v -> new ArrayList<>()).add(i);
+        }
+
+        byVersion.forEach((version, ciphertexts) -> {
+            List<String> decrypted = engineFor(version).decryptAll(ciphertexts);
+            List<Integer> indexes = positions.get(version);
+            for (int i = 0; i < decrypted.size(); i++) {
+                result[indexes.get(i)] = decrypted.get(i);
+            }
+        });
+        return Arrays.asList(result);
+    }
+
+    /**
+     * 암호문이 활성 버전 키의 결정적 모드로 암호화되어 있는지 확인합니다. (재암호화 대상 판별용)
+     *
+     * @param encryptedInput 암호문
+     * @return 활성 버전이면 true, null 이면 true (재암호화할 값 없음)
+     */
+    public boolean isCurrent(String encryptedInput) {
+        return isCurrent(encryptedInput, false);
+    }
+
+    /**
+     * 암호문이 활성 버전 키와 지정한 모드로 암호화되어 있는지 확인합니다.
+     *
+     * @param encryptedInput 암호문
+     * @param randomized     GCM 모드여야 하면 true
+     * @return 활성 버전/모드이면 true, null 이면 true
+     */
+    public boolean isCurrent(String encryptedInput, boolean randomized) {
+        return encryptedInput == null
+                || (versionOf(encryptedInput) == activeVersion && isRandomized(encryptedInput) == randomized);
+    }
+
+    /**
+     * 암호문을 활성 버전 키의 결정적 모드로 다시 암호화합니다. 이미 활성 버전이면 그대로 반환합니다.
+     *
+     * @param encryptedInput 암호문 (null 가능)
+     * @return 활성 버전 암호문
+     */
+    public String reencrypt(String encryptedInput) {
+        return reencrypt(encryptedInput, false);
+    }
+
+    /**
+     * 암호문을 활성 버전 키와 지정한 모드로 다시 암호화합니다. 이미 해당 버전/모드이면 그대로 반환합니다.
+     *
+     * @param encryptedInput 암호문 (null 가능)
+     * @param randomized     GCM 모드로 저장해야 하면 true
+     * @return 활성 버전 암호문
+     */
+    public String reencrypt(String encryptedInput, boolean randomized) {
+        if (isCurrent(encryptedInput, randomized)) {
+            return encryptedInput;
+        }
+        String plaintext = decrypt(encryptedInput);
+        return randomized ? encryptRandomized(plaintext) : encrypt(plaintext);
+    }
+
+    public int activeVersion() {
+        return activeVersion;
+    }
+
+    /**
+     * 암호문의 키 버전을 반환합니다. 접두사가 없으면 0 입니다.
+     *
+     * @param encryptedInput 암호문
+     * @return 키 버전
+     */
+    public static int versionOf(String encryptedInput) {
+        if (!hasPrefix(encryptedInput)) {
+            return 0;
+        }
+        int separator = encryptedInput.indexOf(VERSION_SEPARATOR);
+        int version = 0;
+        for (int i = 1; i < separator; i++) {
+            char c = encryptedInput.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new DecryptionException("잘못된 키 버전 접두사입니다.", null);
+            }
+            version = version * 10 + (c - '0');
+        }
+        return version;
+    }
+
+    /**
+     * @param encryptedInput 암호문
+     * @return AES-GCM(무작위) 암호문이면 true
+     */
+    public static boolean isRandomized(String encryptedInput) {
+        return hasPrefix(encryptedInput) && encryptedInput.charAt(0) == RANDOMIZED_MARK;
+    }
+
+    /**
+     * {@code v{n}:} 또는 {@code g{n}:} 형태의 접두사가 있는지 확인합니다.
+     */
+    private static boolean hasPrefix(String encryptedInput) {
+        if (encryptedInput.isEmpty()) {
+            return false;
+        }
+        char mark = encryptedInput.charAt(0);
+        if (mark != VERSION_MARK && mark != RANDOMIZED_MARK) {
+            return false;
+        }
+        return encryptedInput.indexOf(VERSION_SEPARATOR) >= 2;
+    }
+
+    /**
+     * 접두사를 제외한 Base64 암호문 부분을 반환합니다.
+     */
+    private static String bodyOf(String encryptedInput) {
+        return hasPrefix(encryptedInput)
+                ? encryptedInput.substring(encryptedInput.indexOf(VERSION_SEPARATOR) + 1)
+                : encryptedInput;
+    }
+
+    private static String prefixOf(int version) {
+        return version == 0 ? "" : VERSION_MARK + Integer.toString(version) + VERSION_SEPARATOR;
+    }
+
+    private AesGcmEngine gcmEngineFor(int version) {
+        AesGcmEngine engine = gcmEngines.get(version);
+        if (engine == null) {
+            throw new DecryptionException("등록되지 않은 키 버전입니다: " + version, null);
+        }
+        return engine;
+    }
+
+    private AesCipherEngine engineFor(int version) {
+        AesCipherEngine engine = engines.get(version);
+        if (engine == null) {
+            throw new DecryptionException("등록되지 않은 키 버전입니다: " + version, null);
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.common.crypto;
+
+/**
+ * 복호화 시 Base64 디코딩 결과와 평문(UTF-8) 바이트를 담아 두는 재사용 버퍼입니다.
+ * 스레드 안전하지 않으므로 스레드마다 하나씩 사용합니다.
+ */
+public final class DecryptScratch {
+
+    private byte[] encrypted = new byte[128];
+    private byte[] plain = new byte[128];
+
+    /**
+     * @param minLength 필요한 최소 길이
+     * @return 암호문 바이트를 담을 버퍼
+     */
+    byte[] encrypted(int minLength) {
+        if (encrypted.length < minLength) {
+            encrypted = new byte[Math.max(minLength, encrypted.length * 2)];
+        }
+        return encrypted;
+    }
+
+    /**
+     * @param minLength 필요한 최소 길이
+     * @return 평문 바이트를 담을 버퍼
+     */
+    byte[] plain(int minLength) {
+        if (plain.length < minLength) {
+            plain = new byte[Math.max(minLength, plain.length * 2)];
+        }
+        return plain;
+    }
+
+    /**
+     * @return 마지막 복호화 결과가 담긴 평문 버퍼 (유효 길이는 decryptTo 반환 값)
+     */
+    public byte[] plain() {
+        return plain;
+    }
+}
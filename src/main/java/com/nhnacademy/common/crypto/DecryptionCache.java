@@ -0,0 +1,186 @@
+package com.nhnacademy.common.crypto;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 암호문 -> 평문 복호화 결과를 보관하는 LRU 캐시입니다.
+ * <p>
+ * {@code aes.algorithm=AES}(ECB)는 같은 평문에 대해 항상 같은 암호문을 만들기 때문에,
+ * 목록 조회에서 반복되는 회사 도메인 등의 복호화를 해시 조회로 대체할 수 있습니다.
+ * 항목 수와 (추정) 바이트 수 두 가지로 크기를 제한하고, 항목별 TTL이 지나면 다시 복호화합니다.
+ * <p>
+ * synchronized 대신 {@link ReentrantLock}을 사용해 가상 스레드가 고정(pinning)되지 않도록 하며,
+ * 실제 복호화는 락 밖에서 수행합니다.
+ */
+public class DecryptionCache {
+
+    /**
+     * 항목 하나당 문자열 외에 차지하는 대략적인 메모리 (엔트리, 노드, 참조 등).
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * accessOrder=true 로 생성하여 조회 순서 기준 LRU로 동작합니다.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxEntries 최대 항목 수
+     * @param maxBytes   최대 (추정) 바이트 수
+     * @param ttlSeconds 항목 유효 시간(초), 0 이하이면 만료 없음
+     */
+    public DecryptionCache(int maxEntries, long maxBytes, long ttlSeconds) {
+        this(maxEntries, maxBytes, ttlSeconds, System::nanoTime);
+    }
+
+    DecryptionCache(int maxEntries, long maxBytes, long ttlSeconds, LongSupplier nanoClock) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttlSeconds > 0 ? TimeUnit.SECONDS.toNanos(ttlSeconds) : Long.MAX_VALUE;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 캐시에 있으면 평문을 반환하고, 없으면 복호화 후 캐시에 저장합니다.
+     *
+     * @param ciphertext 암호문
+     * @param decryptor  캐시 미스 시 사용할 복호화 함수
+     * @return 평문
+     */
+    public String getOrDecrypt(String ciphertext, UnaryOperator<String> decryptor) {
+        String plaintext = get(ciphertext);
+        if (plaintext != null) {
+            return plaintext;
+        }
+        plaintext = decryptor.apply(ciphertext);
+        put(ciphertext, plaintext);
+        return plaintext;
+    }
+
+    /**
+     * @param ciphertext 암호문
+     * @return 캐시된 평문, 없거나 만료되었으면 null
+     */
+    public String get(String ciphertext) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            Entry entry = entries.get(ciphertext);
+            if (entry != null && now - entry.createdAt() < ttlNanos) {
+                hits.increment();
+                return entry.plaintext();
+            }
+            if (entry != null) {
+                entries.remove(ciphertext);
+                currentBytes -= entry.bytes();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 복호화 결과를 저장하고, 제한을 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+     *
+     * @param ciphertext 암호문
+     * @param plaintext  평문
+     */
+    public void put(String ciphertext, String plaintext) {
+        long bytes = estimateBytes(ciphertext, plaintext);
+        if (bytes > maxBytes) {
+            return;
+        }
+        Entry entry = new Entry(plaintext, bytes, nanoClock.getAsLong());
+        lock.lock();
+        try {
+            Entry previous = entries.put(ciphertext, entry);
+            if (previous != null) {
+                currentBytes -= previous.bytes();
+            }
+            currentBytes += bytes;
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || currentBytes > maxBytes) && eldest.hasNext()) {
+                Entry removed = eldest.next().getValue();
+                eldest.remove();
+                currentBytes -= removed.bytes();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 항목을 제거합니다. (키 변경 시 사용)
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            currentBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.lock();
+        try {
+            return currentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long estimateBytes(String ciphertext, String plaintext) {
+        return ENTRY_OVERHEAD_BYTES + 2L * (ciphertext.length() + plaintext.length());
+    }
+
+    private record Entry(String plaintext, long bytes, long createdAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.util.AESUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link AESUtil}의 복호화 캐시 상태(적중/미스/제거 수, 항목 수, 추정 바이트)를 Micrometer 지표로 노출합니다.
+ * 캐시가 비활성화되어 있으면 모든 값은 0으로 보고됩니다.
+ */
+@Component
+public class DecryptionCacheMetrics implements MeterBinder {
+
+    private static final String PREFIX = "aes.decrypt.cache";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".requests", this, read(DecryptionCache::hitCount))
+                .tag("result", "hit")
+                .description("복호화 캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".requests", this, read(DecryptionCache::missCount))
+                .tag("result", "miss")
+                .description("복호화 캐시 미스 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".evictions", this, read(DecryptionCache::evictionCount))
+                .description("용량 초과/만료로 제거된 항목 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".size", this, read(DecryptionCache::size))
+                .description("캐시 항목 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".bytes", this, read(DecryptionCache::estimatedBytes))
+                .baseUnit("bytes")
+                .description("캐시가 차지하는 추정 메모리")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<DecryptionCacheMetrics> read(ToDoubleFunction<DecryptionCache> reader) {
+        return ignored -> {
+            DecryptionCache cache = AESUtil.decryptionCache();
+            return cache == null ? 0 : reader.applyAsDouble(cache);
+        };
+    }
+}
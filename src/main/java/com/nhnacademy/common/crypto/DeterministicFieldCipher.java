@@ -0,0 +1,32 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.util.AESUtil;
+
+import java.util.List;
+
+/**
+ * 기존 {@code aes.algorithm}(ECB) 방식의 결정적 암호화 엔진입니다.
+ * 같은 평문은 항상 같은 암호문이 되므로 암호문 동등 비교가 필요한 필드(도메인, 이메일, 회사명)에 사용합니다.
+ */
+public class DeterministicFieldCipher implements FieldCipher {
+
+    @Override
+    public String encrypt(String plaintext) {
+        return AESUtil.encrypt(plaintext);
+    }
+
+    @Override
+    public String decrypt(String ciphertext) {
+        return AESUtil.decrypt(ciphertext);
+    }
+
+    @Override
+    public List<String> decryptAll(List<String> ciphertexts) {
+        return AESUtil.decryptAll(ciphertexts);
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+}
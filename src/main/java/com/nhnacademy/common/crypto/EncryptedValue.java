@@ -0,0 +1,160 @@
+package com.nhnacademy.common.crypto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.nhnacademy.common.util.AESUtil;
+
+import java.util.Objects;
+
+/**
+ * 암호문과 (필요할 때만 복호화되는) 평문을 함께 보관하는 값 타입입니다.
+ * <p>
+ * 엔티티에 평문을 넣을 때는 {@link #of(String, FieldCipher)}로 암호화하고,
+ * DB에서 읽어 올 때는 {@link #fromCiphertext(String)}로 암호문만 담아 두고,
+ * {@link #plaintext()}를 처음 호출할 때 복호화한 뒤 결과를 기억해 둡니다.
+ * 따라서 ID/권한만 사용하는 로직에서는 복호화 비용이 발생하지 않습니다.
+ * <p>
+ * 동등성은 암호문 기준이며, 같은 평문은 같은 암호문이 되므로 JPA 변경 감지에도 그대로 사용할 수 있습니다.
+ * <p>
+ * JSON 으로는 평문 문자열이 되며, 복호화는 {@link EncryptedValueSerializer}가 응답 스트림에 쓰는 시점에 수행합니다.
+ */
+@JsonSerialize(using = EncryptedValueSerializer.class)
+public final class EncryptedValue {
+
+    /**
+     * DB에 저장되는 암호문.
+     */
+    private final String ciphertext;
+
+    /**
+     * 복호화된 평문 (최초 접근 전까지 null).
+     */
+    private volatile String plaintext;
+
+    private EncryptedValue(String ciphertext, String plaintext) {
+        this.ciphertext = ciphertext;
+        this.plaintext = plaintext;
+    }
+
+    /**
+     * 평문을 결정적 암호화로 암호화하여 값 객체를 만듭니다. 평문은 그대로 기억해 두므로 다시 복호화하지 않습니다.
+     *
+     * @param plaintext 평문
+     * @return 값 객체, 평문이 null 이면 null
+     */
+    public static EncryptedValue of(String plaintext) {
+        return of(plaintext, FieldCipherType.DETERMINISTIC.cipher());
+    }
+
+    /**
+     * 평문을 필드에 지정된 엔진으로 암호화하여 값 객체를 만듭니다.
+     * 엔티티는 {@link FieldCiphers#forField(Class, String)}로 얻은 엔진을 넘겨 평문을 그대로 받아 저장합니다.
+     *
+     * @param plaintext 평문
+     * @param cipher    암호화 엔진
+     * @return 값 객체, 평문이 null 이면 null
+     */
+    public static EncryptedValue of(String plaintext, FieldCipher cipher) {
+        if (plaintext == null) {
+            return null;
+        }
+        return new EncryptedValue(cipher.encrypt(plaintext), plaintext);
+    }
+
+    /**
+     * 이미 암호화된 값으로 값 객체를 만듭니다. 복호화는 {@link #plaintext()} 호출 시 수행됩니다.
+     *
+     * @param ciphertext 암호문
+     * @return 값 객체, 암호문이 null 이면 null
+     */
+    public static EncryptedValue fromCiphertext(String ciphertext) {
+        if (ciphertext == null) {
+            return null;
+        }
+        return new EncryptedValue(ciphertext, null);
+    }
+
+    /**
+     * 암호문 없이 평문만 가진 값 객체를 만듭니다. 요청 값처럼 이미 평문을 알고 있는 값을 응답 DTO에 담을 때 사용하며,
+     * DB에 저장할 수 없습니다.
+     *
+     * @param plaintext 평문
+     * @return 값 객체, 평문이 null 이면 null
+     */
+    public static EncryptedValue decrypted(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        return new EncryptedValue(null, plaintext);
+    }
+
+    /**
+     * @param value 값 객체 (null 가능)
+     * @return 암호문, 값 객체가 null 이면 null
+     */
+    public static String ciphertextOf(EncryptedValue value) {
+        return value == null ? null : value.ciphertext;
+    }
+
+    /**
+     * @param value 값 객체 (null 가능)
+     * @return 평문, 값 객체가 null 이면 null
+     */
+    public static String plaintextOf(EncryptedValue value) {
+        return value == null ? null : value.plaintext();
+    }
+
+    /**
+     * @return 암호문, {@link #decrypted(String)}로 만든 값이면 null
+     */
+    public String ciphertext() {
+        return ciphertext;
+    }
+
+    /**
+     * 처음 호출될 때 복호화하고, 이후에는 기억해 둔 평문을 반환합니다.
+     *
+     * @return 평문
+     */
+    public String plaintext() {
+        String current = plaintext;
+        if (current == null) {
+            current = AESUtil.decrypt(ciphertext);
+            plaintext = current;
+        }
+        return current;
+    }
+
+    /**
+     * @return 이미 복호화되어 평문을 가지고 있는지 여부
+     */
+    public boolean isDecrypted() {
+        return plaintext != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedValue other)) {
+            return false;
+        }
+        if (ciphertext == null || other.ciphertext == null) {
+            return ciphertext == null && other.ciphertext == null && plaintext.equals(other.plaintext);
+        }
+        return ciphertext.equals(other.ciphertext);
+    }
+
+    @Override
+    public int hashCode() {
+        return ciphertext != null ? ciphertext.hashCode() : Objects.hash(plaintext);
+    }
+
+    /**
+     * 로그에 평문이 남지 않도록 암호문만 출력합니다.
+     */
+    @Override
+    public String toString() {
+        return ciphertext != null ? ciphertext : "[decrypted]";
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.common.crypto;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * {@link EncryptedValue} 타입 필드를 암호문 문자열 컬럼으로 매핑하는 JPA 컨버터입니다.
+ * 엔티티를 읽을 때 복호화하지 않고 암호문만 감싸 두며, 복호화는 값에 처음 접근할 때 수행됩니다.
+ * {@link EncryptedValue}는 불변 값으로 취급하여 스냅샷 복사 없이 equals 로 변경 감지합니다.
+ */
+@Converter(autoApply = true)
+@Immutable
+public class EncryptedValueConverter implements AttributeConverter<EncryptedValue, String> {
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedValue attribute) {
+        if (attribute != null && attribute.ciphertext() == null) {
+            throw new IllegalArgumentException("암호문이 없는 값은 저장할 수 없습니다.");
+        }
+        return EncryptedValue.ciphertextOf(attribute);
+    }
+
+    @Override
+    public EncryptedValue convertToEntityAttribute(String dbData) {
+        return EncryptedValue.fromCiphertext(dbData);
+    }
+}
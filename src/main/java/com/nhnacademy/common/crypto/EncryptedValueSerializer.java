@@ -0,0 +1,51 @@
+package com.nhnacademy.common.crypto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.nhnacademy.common.util.AESUtil;
+
+import java.io.IOException;
+
+/**
+ * {@link EncryptedValue}를 JSON 문자열(평문)로 직렬화합니다.
+ * <p>
+ * 아직 복호화되지 않은 값은 Base64 디코딩과 복호화를 스레드별 재사용 버퍼에서 수행하고,
+ * 평문 UTF-8 바이트를 {@link JsonGenerator#writeUTF8String(byte[], int, int)}로 바로 씁니다.
+ * 따라서 응답 한 건마다 평문 String / byte[] 를 만들지 않습니다.
+ * <ul>
+ *     <li>이미 평문을 가지고 있거나 복호화 캐시에 있는 값은 그 평문을 그대로 씁니다.</li>
+ *     <li>byte 출력 스트림용 {@link UTF8JsonGenerator}가 아니면(Writer 기반, TokenBuffer 등) 평문 String 으로 씁니다.</li>
+ * </ul>
+ * 직렬화 시점에 복호화된 평문은 값 객체에 기억하지 않으므로, 같은 DTO를 다시 직렬화하면 다시 복호화합니다.
+ */
+public class EncryptedValueSerializer extends StdSerializer<EncryptedValue> {
+
+    private static final ThreadLocal<DecryptScratch> SCRATCH = ThreadLocal.withInitial(DecryptScratch::new);
+
+    public EncryptedValueSerializer() {
+        super(EncryptedValue.class);
+    }
+
+    @Override
+    public void serialize(EncryptedValue value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value.isDecrypted()) {
+            gen.writeString(value.plaintext());
+            return;
+        }
+        String ciphertext = value.ciphertext();
+        String cached = AESUtil.cachedPlaintext(ciphertext);
+        if (cached != null) {
+            gen.writeString(cached);
+            return;
+        }
+        if (!(gen instanceof UTF8JsonGenerator)) {
+            gen.writeString(value.plaintext());
+            return;
+        }
+        DecryptScratch scratch = SCRATCH.get();
+        int length = AESUtil.decryptTo(ciphertext, scratch);
+        gen.writeUTF8String(scratch.plain(), 0, length);
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.common.crypto;
+
+import java.util.List;
+
+/**
+ * 엔티티 필드 하나를 암호화/복호화하는 엔진의 공통 인터페이스(SPI)입니다.
+ * 필드마다 {@link com.nhnacademy.common.annotation.Encrypted#cipher()}로 사용할 엔진을 지정하고,
+ * {@link FieldCiphers#forField(Class, String)}로 해당 필드의 엔진을 얻습니다.
+ */
+public interface FieldCipher {
+
+    /**
+     * @param plaintext 평문
+     * @return 저장할 암호문
+     */
+    String encrypt(String plaintext);
+
+    /**
+     * @param ciphertext 저장된 암호문
+     * @return 평문
+     */
+    String decrypt(String ciphertext);
+
+    /**
+     * 여러 암호문을 한 번에 복호화합니다. 입력 순서를 유지하며 null 은 null 로 반환합니다.
+     *
+     * @param ciphertexts 암호문 목록
+     * @return 같은 순서의 평문 목록
+     */
+    List<String> decryptAll(List<String> ciphertexts);
+
+    /**
+     * @return 같은 평문이 항상 같은 암호문이 되어 동등 비교 검색이 가능한지 여부
+     */
+    boolean isDeterministic();
+}
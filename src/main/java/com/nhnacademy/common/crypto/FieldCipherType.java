@@ -0,0 +1,27 @@
+package com.nhnacademy.common.crypto;
+
+/**
+ * {@link com.nhnacademy.common.annotation.Encrypted}로 지정할 수 있는 필드 암호화 엔진 종류입니다.
+ */
+public enum FieldCipherType {
+
+    /**
+     * 결정적 암호화 (검색 가능 필드).
+     */
+    DETERMINISTIC(new DeterministicFieldCipher()),
+
+    /**
+     * AES-GCM 무작위 암호화 (검색하지 않는 필드).
+     */
+    GCM(new GcmFieldCipher());
+
+    private final FieldCipher cipher;
+
+    FieldCipherType(FieldCipher cipher) {
+        this.cipher = cipher;
+    }
+
+    public FieldCipher cipher() {
+        return cipher;
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.annotation.Encrypted;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티 필드에 선언된 {@link Encrypted#cipher()}를 읽어 해당 필드의 {@link FieldCipher}를 반환합니다.
+ * 필드별 엔진 선택은 엔티티 선언 한 곳에서만 관리하고, 서비스는 이 클래스로 엔진을 조회합니다.
+ * 리플렉션 결과는 필드별로 한 번만 계산해 보관합니다.
+ */
+public final class FieldCiphers {
+
+    private static final Map<String, FieldCipher> CIPHERS = new ConcurrentHashMap<>();
+
+    private FieldCiphers() {
+    }
+
+    /**
+     * @param entityType 엔티티 클래스
+     * @param fieldName  {@link Encrypted}가 선언된 필드명
+     * @return 필드에 지정된 암호화 엔진
+     */
+    public static FieldCipher forField(Class<?> entityType, String fieldName) {
+        return CIPHERS.computeIfAbsent(entityType.getName() + "#" + fieldName, key -> resolve(entityType, fieldName));
+    }
+
+    private static FieldCipher resolve(Class<?> entityType, String fieldName) {
+        Field field;
+        try {
+            field = entityType.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + "에 " + fieldName + " 필드가 없습니다.", e);
+        }
+        Encrypted encrypted = field.getAnnotation(Encrypted.class);
+        if (encrypted == null) {
+            throw new IllegalArgumentException(fieldName + " 필드는 @Encrypted 필드가 아닙니다.");
+        }
+        return encrypted.cipher().cipher();
+    }
+}
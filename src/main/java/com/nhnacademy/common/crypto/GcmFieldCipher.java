@@ -0,0 +1,33 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.util.AESUtil;
+
+import java.util.List;
+
+/**
+ * AES-GCM(무작위 IV, 인증 태그 포함) 암호화 엔진입니다.
+ * 같은 평문도 매번 다른 암호문이 되어 값의 분포가 드러나지 않으므로,
+ * 검색에 사용하지 않는 필드(연락처, 주소)에 사용합니다.
+ */
+public class GcmFieldCipher implements FieldCipher {
+
+    @Override
+    public String encrypt(String plaintext) {
+        return AESUtil.encryptRandomized(plaintext);
+    }
+
+    @Override
+    public String decrypt(String ciphertext) {
+        return AESUtil.decrypt(ciphertext);
+    }
+
+    @Override
+    public List<String> decryptAll(List<String> ciphertexts) {
+        return AESUtil.decryptAll(ciphertexts);
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+}
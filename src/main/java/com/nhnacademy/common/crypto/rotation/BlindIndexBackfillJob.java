@@ -0,0 +1,261 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이전 형식(SHA-256 hex) 인덱스 행에 HMAC 블라인드 인덱스({@code hash_key})를 채우는 백그라운드 작업입니다.
+ * <p>
+ * 인덱스 테이블에는 해시만 있으므로 원본 테이블의 암호문을 복호화해 새 인덱스를 계산합니다.
+ * {@link KeyRotationJob}과 같이 id 기준 keyset 청크로 나눠 처리하고,
+ * 청크마다 갱신과 진행 위치({@link KeyRotationCheckpoint}) 저장을 한 트랜잭션으로 커밋합니다.
+ * 모든 행이 채워진 뒤 {@code blind-index.legacy-fallback}을 끄면 이전 형식 조회/저장이 중단됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlindIndexBackfillJob implements MeterBinder {
+
+    static final String MEMBER_INDEX = "member_index";
+    static final String COMPANIES_INDEX = "companies_index";
+
+    /**
+     * 진행 위치에 기록하는 인덱스 형식 버전.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final String METRIC_PREFIX = "blind.index.backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KeyRotationCheckpointRepository checkpointRepository;
+
+    /**
+     * 애플리케이션 기동 시 자동으로 백필을 시작할지 여부.
+     */
+    @Value("${blind-index.backfill.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 한 트랜잭션에서 처리할 최대 행 수.
+     */
+    @Value("${blind-index.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 청크 사이 대기 시간(ms).
+     */
+    @Value("${blind-index.backfill.pause-millis:50}")
+    private long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+    private final LongAdder filledRows = new LongAdder();
+    private final LongAdder staleRows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 별도 스레드에서 백필을 시작합니다.
+     *
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        stopRequested = false;
+        Thread.ofPlatform().name("blind-index-backfill").daemon(true).start(() -> {
+            try {
+                backfillAll();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("블라인드 인덱스 백필이 중단되었습니다. 다음 실행 시 마지막 진행 위치부터 재개합니다.", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 실행 중인 작업을 현재 청크가 끝난 뒤 멈춥니다.
+     */
+    @PreDestroy
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 모든 인덱스 테이블을 현재 스레드에서 순서대로 백필합니다.
+     */
+    void backfillAll() {
+        log.info("블라인드 인덱스 백필 시작");
+        backfillTable(MEMBER_INDEX);
+        backfillTable(COMPANIES_INDEX);
+        log.info("블라인드 인덱스 백필 종료");
+    }
+
+    private void backfillTable(String table) {
+        KeyRotationCheckpoint start = transactionTemplate.execute(status -> loadCheckpoint(table));
+        if (start == null || start.isCompleted()) {
+            return;
+        }
+
+        String lastKey = start.getLastKey();
+        while (!stopRequested) {
+            final long from = lastKey == null ? 0L : Long.parseLong(lastKey);
+            ChunkResult result = transactionTemplate.execute(status -> {
+                ChunkResult chunk = backfillChunk(table, from);
+                KeyRotationCheckpoint checkpoint = loadCheckpoint(table);
+                if (chunk.scanned() > 0) {
+                    checkpoint.advance(Long.toString(chunk.lastId()), chunk.filled());
+                }
+                if (chunk.scanned() < chunkSize) {
+                    checkpoint.complete();
+                }
+                return chunk;
+            });
+            Objects.requireNonNull(result);
+            filledRows.add(result.filled());
+            staleRows.add(result.stale());
+            log.debug("블라인드 인덱스 백필 진행: {} 테이블 {}행 조회, {}행 변경", table, result.scanned(), result.filled());
+            if (result.scanned() < chunkSize) {
+                return;
+            }
+            lastKey = Long.toString(result.lastId());
+            pause();
+        }
+    }
+
+    private KeyRotationCheckpoint loadCheckpoint(String table) {
+        KeyRotationCheckpoint checkpoint = checkpointRepository.findById(table)
+                .orElseGet(() -> checkpointRepository.save(new KeyRotationCheckpoint(table, FORMAT_VERSION)));
+        if (checkpoint.getKeyVersion() != FORMAT_VERSION) {
+            checkpoint.restart(FORMAT_VERSION);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * hash_key 가 비어 있는 인덱스 행을 id 순서로 한 청크 백필합니다.
+     */
+    private ChunkResult backfillChunk(String table, long from) {
+        List<IndexRow> rows = MEMBER_INDEX.equals(table)
+                ? jdbcTemplate.query(
+                "SELECT mi.id, mi.field_name, mi.hash_value, m.member_email FROM member_index mi "
+                        + "JOIN members m ON m.member_no = mi.member_no "
+                        + "WHERE mi.id > ? AND mi.hash_key IS NULL ORDER BY mi.id LIMIT ?",
+                (rs, rowNum) -> new IndexRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                from, chunkSize)
+                : jdbcTemplate.query(
+                "SELECT ci.id, ci.field_name, ci.hash_value, CASE ci.field_name "
+                        + "WHEN 'domain' THEN c.company_domain WHEN 'name' THEN c.company_name "
+                        + "WHEN 'email' THEN c.company_email WHEN 'mobile' THEN c.company_mobile "
+                        + "WHEN 'address' THEN c.company_address END FROM companies_index ci "
+                        + "JOIN companies c ON c.company_no = ci.company_no "
+                        + "WHERE ci.id > ? AND ci.hash_key IS NULL ORDER BY ci.id LIMIT ?",
+                (rs, rowNum) -> new IndexRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                from, chunkSize);
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, 0, from);
+        }
+
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        int stale = 0;
+        for (IndexRow row : rows) {
+            if (row.encrypted() == null) {
+                continue;
+            }
+            String plain = AESUtil.decrypt(row.encrypted());
+            if (row.legacyHash() != null && !row.legacyHash().equals(HashUtil.sha256Hex(plain))) {
+                // 값이 수정된 뒤 인덱스가 갱신되지 않은 행: 현재 저장된 값 기준으로 채움
+                stale++;
+                log.warn("블라인드 인덱스 백필: {} id {} ({}) 의 이전 해시가 현재 값과 다릅니다.",
+                        table, row.id(), row.fieldName());
+            }
+            updates.add(new Object[]{BlindIndexUtil.hash(plain), row.id()});
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE " + table + " SET hash_key = ? WHERE id = ? AND hash_key IS NULL", updates);
+        }
+        return new ChunkResult(rows.size(), updates.size(), stale, rows.getLast().id());
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRequested = true;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".rows", filledRows, LongAdder::sum)
+                .description("블라인드 인덱스를 채운 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".stale", staleRows, LongAdder::sum)
+                .description("이전 해시가 현재 값과 달랐던 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failures", failures, LongAdder::sum)
+                .description("중단된 백필 작업 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".running", running, r -> r.get() ? 1 : 0)
+                .description("백필 작업 실행 여부")
+                .register(registry);
+    }
+
+    /**
+     * 청크 처리 결과.
+     *
+     * @param scanned 조회한 행 수
+     * @param filled  블라인드 인덱스를 채운 행 수
+     * @param stale   이전 해시가 현재 값과 달랐던 행 수
+     * @param lastId  마지막으로 조회한 행의 id
+     */
+    private record ChunkResult(int scanned, int filled, int stale, long lastId) {
+    }
+
+    /**
+     * @param encrypted 인덱스 대상 컬럼의 암호문
+     */
+    private record IndexRow(long id, String fieldName, String legacyHash, String encrypted) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블별 AES 키 재암호화 진행 위치를 저장하는 엔티티입니다.
+ * 청크를 처리한 트랜잭션 안에서 함께 갱신되므로, 작업이 중단되어도 마지막으로 커밋된 청크 다음부터 재개합니다.
+ */
+@Entity
+@Table(name = "key_rotation_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class KeyRotationCheckpoint {
+
+    /**
+     * 재암호화 대상 테이블명.
+     */
+    @Id
+    @Column(name = "target_table", length = 30)
+    @Comment("재암호화 대상 테이블")
+    private String targetTable;
+
+    /**
+     * 재암호화 목표 키 버전. 활성 버전이 바뀌면 처음부터 다시 진행합니다.
+     */
+    @Column(name = "key_version", nullable = false)
+    @Comment("목표 키 버전")
+    private int keyVersion;
+
+    /**
+     * 마지막으로 처리한 행의 키 (keyset 페이지네이션 기준 값).
+     */
+    @Column(name = "last_key", length = 200)
+    @Comment("마지막 처리 키")
+    private String lastKey;
+
+    /**
+     * 재암호화한 행 수.
+     */
+    @Column(name = "rotated_rows", nullable = false)
+    @Comment("재암호화한 행 수")
+    private long rotatedRows;
+
+    /**
+     * 완료 여부.
+     */
+    @Column(name = "completed", nullable = false)
+    @Comment("완료 여부")
+    private boolean completed;
+
+    /**
+     * 마지막 갱신 일시.
+     */
+    @Column(name = "updated_at")
+    @Comment("갱신 일시")
+    private LocalDateTime updatedAt;
+
+    public KeyRotationCheckpoint(String targetTable, int keyVersion) {
+        this.targetTable = targetTable;
+        restart(keyVersion);
+    }
+
+    /**
+     * 새 키 버전 기준으로 처음부터 다시 진행하도록 초기화합니다.
+     *
+     * @param keyVersion 목표 키 버전
+     */
+    public void restart(int keyVersion) {
+        this.keyVersion = keyVersion;
+        this.lastKey = null;
+        this.rotatedRows = 0;
+        this.completed = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 처리 결과를 반영합니다.
+     *
+     * @param lastKey 청크의 마지막 행 키
+     * @param rotated 청크에서 재암호화한 행 수
+     */
+    public void advance(String lastKey, int rotated) {
+        this.lastKey = lastKey;
+        this.rotatedRows += rotated;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
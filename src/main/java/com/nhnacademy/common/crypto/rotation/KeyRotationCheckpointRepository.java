@@ -0,0 +1,8 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface KeyRotationCheckpointRepository extends JpaRepository<KeyRotationCheckpoint, String> {
+}
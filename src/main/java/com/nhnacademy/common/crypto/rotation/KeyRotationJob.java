@@ -0,0 +1,306 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import com.nhnacademy.common.crypto.AesKeyring;
+import com.nhnacademy.common.crypto.FieldCiphers;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.company.domain.Company;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 저장된 암호문을 활성 버전 키로 다시 암호화하는 백그라운드 작업입니다.
+ * <p>
+ * {@code members}와 {@code companies} 테이블을 keyset 방식의 청크({@code aes.rotation.chunk-size})로 나눠 읽고,
+ * 청크마다 짧은 트랜잭션 하나로 갱신과 진행 위치({@link KeyRotationCheckpoint}) 저장을 함께 커밋합니다.
+ * 청크 사이에는 {@code aes.rotation.pause-millis} 만큼 쉬어 운영 트래픽에 주는 부하를 제한하며,
+ * 재시작하면 저장된 진행 위치부터 이어서 처리합니다.
+ * <p>
+ * members / companies_index 는 회사 번호({@code company_no})로 회사를 참조하므로 도메인 암호문도 제자리에서 바꿉니다.
+ * 회사 연락처/주소처럼 GCM 엔진이 지정된 필드는 결정적 암호문을 GCM 암호문으로 함께 옮깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeyRotationJob implements MeterBinder {
+
+    static final String MEMBERS = "members";
+    static final String COMPANIES = "companies";
+
+    private static final String METRIC_PREFIX = "aes.rotation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KeyRotationCheckpointRepository checkpointRepository;
+
+    /**
+     * 애플리케이션 기동 시 자동으로 재암호화를 시작할지 여부.
+     */
+    @Value("${aes.rotation.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 한 트랜잭션에서 처리할 최대 행 수.
+     */
+    @Value("${aes.rotation.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 청크 사이 대기 시간(ms).
+     */
+    @Value("${aes.rotation.pause-millis:100}")
+    private long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+    private final LongAdder rotatedMembers = new LongAdder();
+    private final LongAdder rotatedCompanies = new LongAdder();
+    private final LongAdder scannedRows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 별도 스레드에서 재암호화를 시작합니다.
+     *
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        stopRequested = false;
+        Thread.ofPlatform().name("aes-key-rotation").daemon(true).start(() -> {
+            try {
+                rotateAll();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("AES 키 재암호화 작업이 중단되었습니다. 다음 실행 시 마지막 진행 위치부터 재개합니다.", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 실행 중인 작업을 현재 청크가 끝난 뒤 멈춥니다.
+     */
+    @PreDestroy
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 모든 대상 테이블을 현재 스레드에서 순서대로 재암호화합니다.
+     */
+    void rotateAll() {
+        int version = AESUtil.keyring().activeVersion();
+        log.info("AES 키 재암호화 시작: 목표 키 버전 {}", version);
+        rotateTable(MEMBERS, version);
+        rotateTable(COMPANIES, version);
+        log.info("AES 키 재암호화 종료: 목표 키 버전 {}", version);
+    }
+
+    private void rotateTable(String table, int version) {
+        KeyRotationCheckpoint start = transactionTemplate.execute(status -> loadCheckpoint(table, version));
+        if (start == null || start.isCompleted()) {
+            return;
+        }
+
+        String lastKey = start.getLastKey();
+        while (!stopRequested) {
+            final String from = lastKey;
+            ChunkResult result = transactionTemplate.execute(status -> {
+                ChunkResult chunk = MEMBERS.equals(table) ? rotateMemberChunk(from) : rotateCompanyChunk(from);
+                KeyRotationCheckpoint checkpoint = loadCheckpoint(table, version);
+                if (chunk.scanned() > 0) {
+                    checkpoint.advance(chunk.lastKey(), chunk.rotated());
+                }
+                if (chunk.scanned() < chunkSize) {
+                    checkpoint.complete();
+                }
+                return chunk;
+            });
+            Objects.requireNonNull(result);
+            scannedRows.add(result.scanned());
+            (MEMBERS.equals(table) ? rotatedMembers : rotatedCompanies).add(result.rotated());
+            log.debug("AES 키 재암호화 진행: {} 테이블 {}행 조회, {}행 변경", table, result.scanned(), result.rotated());
+            if (result.scanned() < chunkSize) {
+                return;
+            }
+            lastKey = result.lastKey();
+            pause();
+        }
+    }
+
+    private KeyRotationCheckpoint loadCheckpoint(String table, int version) {
+        KeyRotationCheckpoint checkpoint = checkpointRepository.findById(table)
+                .orElseGet(() -> checkpointRepository.save(new KeyRotationCheckpoint(table, version)));
+        if (checkpoint.getKeyVersion() != version) {
+            checkpoint.restart(version);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * members 테이블을 member_no 순서로 한 청크 재암호화합니다.
+     */
+    private ChunkResult rotateMemberChunk(String lastKey) {
+        long from = lastKey == null ? 0L : Long.parseLong(lastKey);
+        List<String[]> rows = jdbcTemplate.query(
+                "SELECT member_no, member_email FROM members WHERE member_no > ? ORDER BY member_no LIMIT ?",
+                (rs, rowNum) -> new String[]{Long.toString(rs.getLong(1)), rs.getString(2)},
+                from, chunkSize);
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, lastKey);
+        }
+
+        AesKeyring keyring = AESUtil.keyring();
+        List<Object[]> updates = new ArrayList<>();
+        for (String[] row : rows) {
+            if (!keyring.isCurrent(row[1])) {
+                updates.add(new Object[]{keyring.reencrypt(row[1]), Long.parseLong(row[0]), row[1]});
+            }
+        }
+        if (!updates.isEmpty()) {
+            // 그 사이 다른 요청이 값을 바꿨다면 덮어쓰지 않도록 기존 암호문도 조건에 포함
+            jdbcTemplate.batchUpdate(
+                    "UPDATE members SET member_email = ? WHERE member_no = ? AND member_email = ?", updates);
+        }
+        return new ChunkResult(rows.size(), updates.size(), rows.getLast()[0]);
+    }
+
+    /**
+     * companies 테이블을 company_no 순서로 한 청크 재암호화합니다.
+     */
+    private ChunkResult rotateCompanyChunk(String lastKey) {
+        long from = lastKey == null ? 0L : Long.parseLong(lastKey);
+        List<CompanyRow> rows = jdbcTemplate.query(
+                "SELECT company_no, company_domain, company_name, company_email, company_mobile, company_address "
+                        + "FROM companies WHERE company_no > ? ORDER BY company_no LIMIT ?",
+                (rs, rowNum) -> new CompanyRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.getString(6)),
+                from, chunkSize);
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, lastKey);
+        }
+
+        AesKeyring keyring = AESUtil.keyring();
+        List<Object[]> updates = new ArrayList<>();
+        for (CompanyRow row : rows) {
+            if (row.isCurrent(keyring)) {
+                continue;
+            }
+            CompanyRow next = row.reencrypt(keyring);
+            updates.add(new Object[]{next.domain(), next.name(), next.email(), next.mobile(), next.address(),
+                    row.companyNo(), row.domain(), row.name(), row.email(), row.mobile(), row.address()});
+        }
+        if (!updates.isEmpty()) {
+            // 회원과 같이, 그 사이 다른 요청이 바꾼 행은 덮어쓰지 않도록 다시 쓰는 모든 컬럼의 기존 암호문을 조건에 포함
+            // (회사 이메일은 null 일 수 있으므로 빈 문자열로 바꿔 비교)
+            jdbcTemplate.batchUpdate(
+                    "UPDATE companies SET company_domain = ?, company_name = ?, company_email = ?, "
+                            + "company_mobile = ?, company_address = ? WHERE company_no = ? AND company_domain = ? "
+                            + "AND company_name = ? AND COALESCE(company_email, '') = COALESCE(?, '') "
+                            + "AND company_mobile = ? AND company_address = ?",
+                    updates);
+        }
+        return new ChunkResult(rows.size(), updates.size(), Long.toString(rows.getLast().companyNo()));
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRequested = true;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".rows", rotatedMembers, LongAdder::sum)
+                .tag("table", MEMBERS)
+                .description("재암호화한 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".rows", rotatedCompanies, LongAdder::sum)
+                .tag("table", COMPANIES)
+                .description("재암호화한 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".scanned", scannedRows, LongAdder::sum)
+                .description("재암호화 대상 여부를 확인한 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failures", failures, LongAdder::sum)
+                .description("중단된 재암호화 작업 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".running", running, r -> r.get() ? 1 : 0)
+                .description("재암호화 작업 실행 여부")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".key.version", () -> AESUtil.keyring().activeVersion())
+                .description("활성 AES 키 버전")
+                .register(registry);
+    }
+
+    /**
+     * 청크 처리 결과.
+     *
+     * @param scanned 조회한 행 수
+     * @param rotated 재암호화한 행 수
+     * @param lastKey 마지막으로 조회한 행의 키
+     */
+    private record ChunkResult(int scanned, int rotated, String lastKey) {
+    }
+
+    private record CompanyRow(long companyNo, String domain, String name, String email, String mobile,
+                              String address) {
+
+        /**
+         * 연락처/주소는 엔티티에 지정된 엔진이 GCM 이면 GCM 암호문으로 옮깁니다.
+         */
+        private static final boolean MOBILE_RANDOMIZED =
+                !FieldCiphers.forField(Company.class, "companyMobile").isDeterministic();
+        private static final boolean ADDRESS_RANDOMIZED =
+                !FieldCiphers.forField(Company.class, "companyAddress").isDeterministic();
+
+        boolean isCurrent(AesKeyring keyring) {
+            return keyring.isCurrent(domain) && keyring.isCurrent(name) && keyring.isCurrent(email)
+                    && keyring.isCurrent(mobile, MOBILE_RANDOMIZED) && keyring.isCurrent(address, ADDRESS_RANDOMIZED);
+        }
+
+        CompanyRow reencrypt(AesKeyring keyring) {
+            return new CompanyRow(companyNo, keyring.reencrypt(domain), keyring.reencrypt(name),
+                    keyring.reencrypt(email), keyring.reencrypt(mobile, MOBILE_RANDOMIZED),
+                    keyring.reencrypt(address, ADDRESS_RANDOMIZED));
+        }
+    }
+}
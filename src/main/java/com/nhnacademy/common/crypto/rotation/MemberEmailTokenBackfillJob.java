@@ -0,0 +1,236 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.member.domain.MemberIndex;
+import com.nhnacademy.member.service.MemberEmailTokenizer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기존 회원의 이메일 검색 토큰({@link MemberEmailTokenizer})을 만드는 백그라운드 작업입니다.
+ * <p>
+ * 회원 번호 기준 keyset 청크로 이메일을 복호화해, 청크 범위 회원의 기존 토큰 행을 지우고 현재 설정의 토큰을 다시 저장합니다.
+ * 청크마다 저장과 진행 위치({@link KeyRotationCheckpoint}) 저장을 한 트랜잭션으로 커밋하며,
+ * 진행 위치에는 토큰 설정 버전을 기록하므로 방식이나 길이 설정이 바뀌면 처음부터 다시 만듭니다.
+ * 방식을 {@code NONE}으로 바꾼 뒤 실행하면 저장된 토큰이 모두 지워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberEmailTokenBackfillJob implements MeterBinder {
+
+    static final String TARGET = "member_email_token";
+
+    private static final String METRIC_PREFIX = "member.email.token.backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KeyRotationCheckpointRepository checkpointRepository;
+    private final MemberEmailTokenizer memberEmailTokenizer;
+
+    /**
+     * 애플리케이션 기동 시 자동으로 토큰 생성을 시작할지 여부.
+     */
+    @Value("${member.email-search.backfill.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 한 트랜잭션에서 처리할 최대 회원 수.
+     */
+    @Value("${member.email-search.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 청크 사이 대기 시간(ms).
+     */
+    @Value("${member.email-search.backfill.pause-millis:50}")
+    private long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+    private final LongAdder members = new LongAdder();
+    private final LongAdder tokens = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 별도 스레드에서 토큰 생성을 시작합니다.
+     *
+     * @return 새로 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        stopRequested = false;
+        Thread.ofPlatform().name("member-email-token-backfill").daemon(true).start(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("이메일 검색 토큰 생성이 중단되었습니다. 다음 실행 시 마지막 진행 위치부터 재개합니다.", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 실행 중인 작업을 현재 청크가 끝난 뒤 멈춥니다.
+     */
+    @PreDestroy
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 현재 스레드에서 마지막 진행 위치부터 끝까지 토큰을 만듭니다.
+     */
+    void backfill() {
+        KeyRotationCheckpoint start = transactionTemplate.execute(status -> loadCheckpoint());
+        if (start == null || start.isCompleted()) {
+            return;
+        }
+        log.info("이메일 검색 토큰 생성 시작: 방식 {}", memberEmailTokenizer.getScheme());
+
+        String lastKey = start.getLastKey();
+        while (!stopRequested) {
+            final long from = lastKey == null ? 0L : Long.parseLong(lastKey);
+            ChunkResult result = transactionTemplate.execute(status -> {
+                ChunkResult chunk = backfillChunk(from);
+                KeyRotationCheckpoint checkpoint = loadCheckpoint();
+                if (chunk.scanned() > 0) {
+                    checkpoint.advance(Long.toString(chunk.lastMemberNo()), chunk.scanned());
+                }
+                if (chunk.scanned() < chunkSize) {
+                    checkpoint.complete();
+                }
+                return chunk;
+            });
+            Objects.requireNonNull(result);
+            members.add(result.scanned());
+            tokens.add(result.tokens());
+            log.debug("이메일 검색 토큰 생성 진행: 회원 {}명, 토큰 {}행", result.scanned(), result.tokens());
+            if (result.scanned() < chunkSize) {
+                log.info("이메일 검색 토큰 생성 종료");
+                return;
+            }
+            lastKey = Long.toString(result.lastMemberNo());
+            pause();
+        }
+    }
+
+    private KeyRotationCheckpoint loadCheckpoint() {
+        int version = memberEmailTokenizer.schemeVersion();
+        KeyRotationCheckpoint checkpoint = checkpointRepository.findById(TARGET)
+                .orElseGet(() -> checkpointRepository.save(new KeyRotationCheckpoint(TARGET, version)));
+        if (checkpoint.getKeyVersion() != version) {
+            checkpoint.restart(version);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * 회원 번호 순으로 한 청크의 토큰을 다시 만듭니다.
+     * 청크 범위의 토큰을 모두 지운 뒤 저장하므로 여러 번 실행해도 결과가 같습니다.
+     */
+    private ChunkResult backfillChunk(long from) {
+        List<MemberRow> rows = jdbcTemplate.query(
+                "SELECT member_no, member_email FROM members WHERE member_no > ? ORDER BY member_no LIMIT ?",
+                (rs, rowNum) -> new MemberRow(rs.getLong(1), rs.getString(2)),
+                from, chunkSize);
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, from);
+        }
+        long lastMemberNo = rows.getLast().memberNo();
+
+        jdbcTemplate.update(
+                "DELETE FROM member_index WHERE member_no > ? AND member_no <= ? AND field_name IN (?, ?)",
+                from, lastMemberNo, MemberEmailTokenizer.PREFIX_FIELD, MemberEmailTokenizer.NGRAM_FIELD);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (MemberRow row : rows) {
+            for (MemberIndex token : memberEmailTokenizer.indexRows(row.memberNo(), AESUtil.decrypt(row.encryptedEmail()))) {
+                inserts.add(new Object[]{token.getMemberNo(), token.getFieldName(), token.getHashValue()});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO member_index (member_no, field_name, hash_key) VALUES (?, ?, ?)", inserts);
+        }
+        return new ChunkResult(rows.size(), inserts.size(), lastMemberNo);
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRequested = true;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".members", members, LongAdder::sum)
+                .description("토큰을 만든 회원 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".tokens", tokens, LongAdder::sum)
+                .description("저장한 토큰 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failures", failures, LongAdder::sum)
+                .description("중단된 토큰 생성 작업 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".running", running, r -> r.get() ? 1 : 0)
+                .description("토큰 생성 작업 실행 여부")
+                .register(registry);
+    }
+
+    /**
+     * 청크 처리 결과.
+     *
+     * @param scanned      조회한 회원 수
+     * @param tokens       저장한 토큰 행 수
+     * @param lastMemberNo 마지막으로 조회한 회원 번호
+     */
+    private record ChunkResult(int scanned, int tokens, long lastMemberNo) {
+    }
+
+    /**
+     * @param encryptedEmail 이메일 암호문
+     */
+    private record MemberRow(long memberNo, String encryptedEmail) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.common.event;
+
+import java.time.Instant;
+
+/**
+ * 커밋 이후 {@link DomainEventRelay}를 거쳐 Spring Integration 채널로 비동기 전달되는 도메인 이벤트입니다.
+ * <p>
+ * 서비스는 트랜잭션 안에서 {@code ApplicationEventPublisher}로 발행만 하고, 채널 구독자(감사 로그, 외부 캐시 등)는
+ * 요청 스레드와 트랜잭션 밖의 전용 스레드에서 실행됩니다. 구독자가 밀리면 이벤트는 버려지므로
+ * 캐시 무효화처럼 반드시 처리해야 하는 일은 {@code MemberIdentityChangedEvent}처럼 동기 리스너를 사용합니다.
+ * 이메일 등 개인정보는 담지 않고 번호로만 식별합니다.
+ */
+public interface DomainEvent {
+
+    /**
+     * @return 이벤트가 만들어진 시각
+     */
+    Instant occurredAt();
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.common.event;
+
+import com.nhnacademy.common.config.DomainEventChannelConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트를 감사 로그로 남기는 구독자입니다.
+ * 이벤트 채널의 전용 스레드에서 실행되므로 요청 지연에 포함되지 않습니다.
+ */
+@Slf4j
+@Component
+public class DomainEventAuditLogger {
+
+    @ServiceActivator(inputChannel = DomainEventChannelConfig.MEMBER_EVENT_CHANNEL)
+    public void onMemberEvent(DomainEvent event) {
+        log.info("[audit] {}", event);
+    }
+
+    @ServiceActivator(inputChannel = DomainEventChannelConfig.COMPANY_EVENT_CHANNEL)
+    public void onCompanyEvent(DomainEvent event) {
+        log.info("[audit] {}", event);
+    }
+}
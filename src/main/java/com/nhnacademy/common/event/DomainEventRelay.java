@@ -0,0 +1,91 @@
+package com.nhnacademy.common.event;
+
+import com.nhnacademy.common.config.DomainEventChannelConfig;
+import com.nhnacademy.company.event.CompanyDeactivatedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션 안에서 발행된 {@link DomainEvent}를 <b>커밋 이후</b>에 Spring Integration 채널로 넘깁니다.
+ * <p>
+ * 롤백된 변경의 이벤트는 전달되지 않습니다. 채널은 대기열이 제한된 스레드 풀에 작업을 넘기기만 하므로
+ * 요청 스레드는 기다리지 않으며, 대기열이 가득 차면 기다리지 않고 이벤트를 버립니다. (버린 수는 메트릭으로 확인)
+ * 그 밖의 전달 실패는 원인과 함께 오류로 남기고 실패 수로 따로 셉니다.
+ */
+@Slf4j
+@Component
+public class DomainEventRelay implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "domain.event";
+
+    private final MessageChannel memberEventChannel;
+    private final MessageChannel companyEventChannel;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public DomainEventRelay(@Qualifier(DomainEventChannelConfig.MEMBER_EVENT_CHANNEL) MessageChannel memberEventChannel,
+                            @Qualifier(DomainEventChannelConfig.COMPANY_EVENT_CHANNEL) MessageChannel companyEventChannel) {
+        this.memberEventChannel = memberEventChannel;
+        this.companyEventChannel = companyEventChannel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void relay(DomainEvent event) {
+        MessageChannel channel = switch (event) {
+            case CompanyDeactivatedEvent companyEvent -> companyEventChannel;
+            default -> memberEventChannel;
+        };
+        boolean sent;
+        try {
+            sent = channel.send(MessageBuilder.withPayload(event).build(), 0);
+        } catch (MessageDeliveryException e) {
+            if (!(e.getCause() instanceof RejectedExecutionException)) {
+                fail(event, e);
+                return;
+            }
+            // 스레드 풀 대기열이 가득 차 거절된 경우
+            sent = false;
+        } catch (RuntimeException e) {
+            fail(event, e);
+            return;
+        }
+        if (sent) {
+            published.increment();
+        } else {
+            dropped.increment();
+            log.warn("도메인 이벤트 전달 대기열이 가득 차 이벤트를 버립니다: {}", event);
+        }
+    }
+
+    private void fail(DomainEvent event, RuntimeException e) {
+        failed.increment();
+        log.error("도메인 이벤트 전달에 실패했습니다: {}", event, e);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".published", published, LongAdder::sum)
+                .description("채널로 넘긴 도메인 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".dropped", dropped, LongAdder::sum)
+                .description("대기열이 가득 차 버린 도메인 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failed", failed, LongAdder::sum)
+                .description("대기열 거절 외의 오류로 전달하지 못한 도메인 이벤트 수")
+                .register(registry);
+    }
+}
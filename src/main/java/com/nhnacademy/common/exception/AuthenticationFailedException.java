@@ -0,0 +1,12 @@
+package com.nhnacademy.common.exception;
+
+/**
+ * 자격 증명(이메일/비밀번호) 검증에 실패했을 때 사용되는 예외 클래스입니다.
+ * 존재하지 않는 회원과 비밀번호 불일치를 구분하지 않고 HTTP 401 (Unauthorized)로 응답합니다.
+ */
+public class AuthenticationFailedException extends RuntimeException {
+
+    public AuthenticationFailedException(String message) {
+        super(message);
+    }
+}
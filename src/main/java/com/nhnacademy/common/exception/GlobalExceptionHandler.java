@@ -2,6 +2,7 @@ package com.nhnacademy.common.exception;
 
 import com.nhnacademy.common.dto.ErrorResponse;
 import com.nhnacademy.company.common.AlreadyExistCompanyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -69,6 +70,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * 자격 증명 검증에 실패했을 때 발생하는 {@link AuthenticationFailedException}을 처리합니다.
+     * HTTP 상태 코드 401 (Unauthorized)를 반환합니다.
+     *
+     * @param ex 발생한 AuthenticationFailedException 객체
+     * @return 401 상태 코드와 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationFailedException(AuthenticationFailedException ex) {
+        log.warn("Authentication Failed Exception: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.UNAUTHORIZED.value(),
+                HttpStatus.UNAUTHORIZED.getReasonPhrase(),
+                ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
+    /**
+     * 작업 대기열이 가득 차 요청을 거절했을 때 발생하는 {@link ServiceBusyException}을 처리합니다.
+     * HTTP 상태 코드 503 (Service Unavailable)과 {@code Retry-After} 헤더를 반환합니다.
+     *
+     * @param ex 발생한 ServiceBusyException 객체
+     * @return 503 상태 코드와 재시도 대기 시간, 에러 정보를 담은 ResponseEntity
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException ex) {
+        log.warn("Service Busy Exception: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * {@code @Valid} 어노테이션이 적용된 요청 본문(DTO)의 유효성 검증 실패 시 발생하는
      * {@link MethodArgumentNotValidException}을 처리합니다.
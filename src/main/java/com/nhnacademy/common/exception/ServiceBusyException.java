@@ -0,0 +1,23 @@
+package com.nhnacademy.common.exception;
+
+/**
+ * 작업 대기열이 가득 차 요청을 지금 처리할 수 없을 때 사용되는 예외 클래스입니다.
+ * 예: 비밀번호 해싱 대기열 초과
+ * HTTP 503 (Service Unavailable)과 {@code Retry-After} 헤더로 응답합니다.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    /**
+     * 클라이언트에게 안내할 재시도 대기 시간(초).
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,103 @@
+package com.nhnacademy.common.password;
+
+import com.nhnacademy.common.util.PasswordUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 현재 노드에서 BCrypt 해시 한 번이 목표 지연 시간({@code password.hash.target-millis})을
+ * 넘지 않는 가장 큰 cost 를 골라 {@link PasswordUtil}에 설정합니다.
+ * <p>
+ * 최소 cost 로 몇 번 해싱해 가장 빠른 시간을 재고, cost 가 1 오를 때마다 시간이 2배가 되는 것으로 계산합니다.
+ * 최소 cost({@code password.hash.min-strength})보다 낮게는 내리지 않으며,
+ * {@code password.hash.strength}를 지정하면 측정 없이 그 값을 사용합니다.
+ * 저장된 해시의 cost 가 설정과 다르면 로그인 검증 시 다시 해싱됩니다. ({@link PasswordUtil#needsRehash(String)})
+ */
+@Slf4j
+@Component
+public class BCryptCostCalibrator implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "password.hash.bcrypt";
+    private static final int SAMPLES = 3;
+
+    /**
+     * 고정 cost. 0 이하이면 측정해서 정합니다.
+     */
+    @Value("${password.hash.strength:0}")
+    private int fixedStrength;
+
+    /**
+     * 해시 한 번의 목표 지연 시간(ms).
+     */
+    @Value("${password.hash.target-millis:100}")
+    private long targetMillis;
+
+    @Value("${password.hash.min-strength:10}")
+    private int minStrength;
+
+    @Value("${password.hash.max-strength:14}")
+    private int maxStrength;
+
+    /**
+     * 선택한 cost 로 예상되는 해시 한 번의 시간(ms). 고정 cost 이면 -1.
+     */
+    private volatile double estimatedMillis = -1;
+
+    @PostConstruct
+    public void calibrate() {
+        if (fixedStrength > 0) {
+            PasswordUtil.configureStrength(fixedStrength);
+            log.info("BCrypt cost 고정: {}", fixedStrength);
+            return;
+        }
+        double baseMillis = measureMillis(minStrength);
+        int strength = minStrength;
+        double millis = baseMillis;
+        while (strength < maxStrength && millis * 2 <= targetMillis) {
+            strength++;
+            millis *= 2;
+        }
+        estimatedMillis = millis;
+        PasswordUtil.configureStrength(strength);
+        log.info("BCrypt cost 보정: cost {} 에서 {}ms, 목표 {}ms 이하로 cost {} 선택 (예상 {}ms)",
+                minStrength, String.format("%.1f", baseMillis), targetMillis, strength, String.format("%.1f", millis));
+        if (baseMillis > targetMillis) {
+            log.warn("최소 cost {} 의 해시 시간({}ms)이 목표 {}ms 를 넘습니다.",
+                    minStrength, String.format("%.1f", baseMillis), targetMillis);
+        }
+    }
+
+    /**
+     * 주어진 cost 로 해싱한 시간 중 가장 짧은 값(ms)을 반환합니다. 첫 해싱은 워밍업으로 제외합니다.
+     */
+    static double measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration-warmup");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".cost", PasswordUtil::strength)
+                .description("현재 BCrypt cost")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".estimated", this, c -> c.estimatedMillis)
+                .baseUnit("milliseconds")
+                .description("보정 시 예상한 해시 한 번의 시간 (고정 cost 이면 -1)")
+                .register(registry);
+    }
+}
@@ -0,0 +1,121 @@
+package com.nhnacademy.common.password;
+
+import com.nhnacademy.common.exception.ServiceBusyException;
+import com.nhnacademy.common.util.PasswordUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/검증 전용 스레드 풀입니다.
+ * <p>
+ * BCrypt 한 번에 수십~수백 ms 의 CPU 를 쓰므로 Tomcat 요청 스레드나 트랜잭션 안에서 실행하면
+ * 그 시간 동안 요청 스레드와 DB 커넥션이 함께 묶입니다. 해싱은 이 풀에서 트랜잭션 시작 전에 끝내고,
+ * 풀 크기(기본: CPU 코어 수)와 대기열 길이를 제한해 CPU 를 넘는 요청은 쌓아 두지 않고
+ * 즉시 {@link ServiceBusyException}(503 + {@code Retry-After})으로 거절합니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "password.hash.executor";
+
+    /**
+     * 해싱 스레드 수. 0 이하이면 CPU 코어 수를 사용합니다.
+     */
+    @Value("${password.hash.threads:0}")
+    private int threads;
+
+    /**
+     * 실행을 기다릴 수 있는 최대 작업 수. 초과하면 즉시 거절합니다.
+     */
+    @Value("${password.hash.queue-capacity:64}")
+    private int queueCapacity;
+
+    /**
+     * 거절 응답의 {@code Retry-After}(초).
+     */
+    @Value("${password.hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private final LongAdder rejected = new LongAdder();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> Thread.ofPlatform()
+                        .name("password-hash-" + sequence.incrementAndGet())
+                        .daemon(true)
+                        .unstarted(runnable),
+                (runnable, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("password hash queue is full");
+                });
+        executor.prestartAllCoreThreads();
+        log.info("비밀번호 해싱 풀: 스레드 {}개, 대기열 {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시를 완료하는 future
+     * @throws ServiceBusyException 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> PasswordUtil.encode(rawPassword));
+    }
+
+    /**
+     * 해싱 풀에서 작업을 실행합니다. 작업 안에서 DB 에 접근하지 않아야 합니다.
+     *
+     * @param task BCrypt 해싱/검증 작업
+     * @return 작업 결과를 완료하는 future
+     * @throws ServiceBusyException 대기열이 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("요청이 많아 비밀번호를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSeconds);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queued", this, e -> e.executor == null ? 0 : e.executor.getQueue().size())
+                .description("실행을 기다리는 해싱 작업 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", this, e -> e.executor == null ? 0 : e.executor.getActiveCount())
+                .description("실행 중인 해싱 작업 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".rejected", rejected, LongAdder::sum)
+                .description("대기열 초과로 거절된 해싱 작업 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.common.password;
+
+import com.nhnacademy.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해싱을 마친 뒤의 회원 트랜잭션(가입, 비밀번호 변경, 재해싱)을 실행하는 전용 스레드 풀입니다.
+ * <p>
+ * 공용 {@code applicationTaskExecutor}는 대기열 제한이 없어 DB 가 느려지면 작업이 끝없이 쌓이고
+ * 다른 비동기 작업까지 밀리므로, {@link PasswordHashExecutor}처럼 스레드 수(기본: DB 커넥션 풀보다 작게)와
+ * 대기열 길이를 제한하고 초과하면 {@link ServiceBusyException}(503 + {@code Retry-After})으로 거절합니다.
+ * <p>
+ * {@code Executor} 빈으로 등록하면 Boot 기본 {@code applicationTaskExecutor}가 만들어지지 않으므로
+ * {@code Executor}를 구현하지 않고 {@link #execute(Runnable)}만 제공합니다.
+ */
+@Slf4j
+@Component
+public class PasswordTransactionExecutor implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "password.transaction.executor";
+
+    /**
+     * 트랜잭션 실행 스레드 수.
+     */
+    @Value("${password.transaction.threads:8}")
+    private int threads;
+
+    /**
+     * 실행을 기다릴 수 있는 최대 작업 수. 초과하면 즉시 거절합니다.
+     */
+    @Value("${password.transaction.queue-capacity:128}")
+    private int queueCapacity;
+
+    /**
+     * 거절 응답의 {@code Retry-After}(초).
+     */
+    @Value("${password.hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private final LongAdder rejected = new LongAdder();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = Math.max(1, threads);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-tx-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setDaemon(true);
+        executor.setRejectedExecutionHandler((runnable, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("password transaction queue is full");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        log.info("비밀번호 트랜잭션 풀: 스레드 {}개, 대기열 {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 트랜잭션 작업을 실행합니다. {@code CompletableFuture.thenApplyAsync(fn, this::execute)}처럼 사용하면
+     * 거절 예외로 future 가 완료되어 응답이 503 이 됩니다.
+     *
+     * @param task 실행할 작업
+     * @throws ServiceBusyException 대기열이 가득 찬 경우
+     */
+    public void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("요청이 많아 회원 정보를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSeconds);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queued", this, e -> e.executor == null ? 0 : e.executor.getQueueSize())
+                .description("실행을 기다리는 트랜잭션 작업 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", this, e -> e.executor == null ? 0 : e.executor.getActiveCount())
+                .description("실행 중인 트랜잭션 작업 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".rejected", rejected, LongAdder::sum)
+                .description("대기열 초과로 거절된 트랜잭션 작업 수")
+                .register(registry);
+    }
+}
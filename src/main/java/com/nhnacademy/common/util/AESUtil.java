@@ -1,19 +1,18 @@
 package com.nhnacademy.common.util;
 
-import com.nhnacademy.common.exception.DecryptionException;
-import com.nhnacademy.common.exception.EncryptionException;
+import com.nhnacademy.common.crypto.AesKeyring;
+import com.nhnacademy.common.crypto.DecryptScratch;
+import com.nhnacademy.common.crypto.DecryptionCache;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Component
 public class AESUtil {
@@ -32,6 +31,56 @@ public class AESUtil {
     @SuppressWarnings("java:S7178")
     private String secretKeyProp;
 
+    /**
+     * 키 교체용 추가 키 목록. "버전:키" 를 쉼표로 구분합니다. (예: 1:key1,2:key2)
+     * {@code aes.key}는 항상 버전 0 으로 등록됩니다.
+     */
+    @Value("${aes.keyring:}")
+    @SuppressWarnings("java:S7178")
+    private String keyringProp;
+
+    /**
+     * 암호화에 사용할 키 버전. 0 이면 기존 {@code aes.key}로 접두사 없이 암호화합니다.
+     */
+    @Value("${aes.active-version:0}")
+    @SuppressWarnings("java:S7178")
+    private int activeVersionProp;
+
+    /**
+     * 모드(암호화/복호화)별로 재사용할 Cipher 최대 개수.
+     */
+    @Value("${aes.pool-size:32}")
+    @SuppressWarnings("java:S7178")
+    private int poolSizeProp;
+
+    /**
+     * 복호화 결과 캐시 사용 여부.
+     */
+    @Value("${aes.cache.enabled:false}")
+    @SuppressWarnings("java:S7178")
+    private boolean cacheEnabledProp;
+
+    /**
+     * 복호화 결과 캐시의 최대 항목 수.
+     */
+    @Value("${aes.cache.max-entries:10000}")
+    @SuppressWarnings("java:S7178")
+    private int cacheMaxEntriesProp;
+
+    /**
+     * 복호화 결과 캐시의 최대 (추정) 바이트 수.
+     */
+    @Value("${aes.cache.max-bytes:8388608}")
+    @SuppressWarnings("java:S7178")
+    private long cacheMaxBytesProp;
+
+    /**
+     * 복호화 결과 캐시 항목의 유효 시간(초).
+     */
+    @Value("${aes.cache.ttl-seconds:600}")
+    @SuppressWarnings("java:S7178")
+    private long cacheTtlSecondsProp;
+
     /**
      * Cipher에 들어갈 static 알고리즘 값.
      */
@@ -42,76 +91,208 @@ public class AESUtil {
      */
     private static String secretKey;
 
+    /**
+     * 버전 0 이외의 추가 키 (aes.keyring 설정 값).
+     */
+    private static String keyringSpec = "";
+
+    /**
+     * 암호화에 사용할 키 버전.
+     */
+    private static int activeVersion;
+
+    /**
+     * 엔진이 보관할 Cipher 최대 개수.
+     */
+    private static int poolSize = 32;
+
+    /**
+     * 버전별 키와 초기화된 Cipher를 보관하는 키링과, 키링을 만들 때 사용한 설정.
+     * algorithm, secretKey 등의 설정이 바뀌면 다음 호출 시 새로 만들어집니다.
+     */
+    private static volatile KeyringHolder keyring;
+
+    /**
+     * 암호문 -> 평문 캐시. 비활성화 시 null.
+     */
+    private static volatile DecryptionCache cache;
+
     @PostConstruct
     @SuppressWarnings("java:S2696")
     public void init() {
         algorithm = algorithmProp;
         secretKey = secretKeyProp;
+        keyringSpec = keyringProp;
+        activeVersion = activeVersionProp;
+        poolSize = poolSizeProp;
+        keyring = KeyringHolder.create();
+        cache = cacheEnabledProp
+                ? new DecryptionCache(cacheMaxEntriesProp, cacheMaxBytesProp, cacheTtlSecondsProp)
+                : null;
     }
 
     /**
-     * 1. secretKey를 바이트 배열로 변환 후 AES에 맞는 비밀키 객체를 생성한다.
-     * 2. AES에 맞는 Cipher 인스턴스(암호화 및 복호화를 위한 암호 기능 제공)를 가져온다.
-     * 3. 암호화 모드로 Cipher 객체를 초기화 하고 앞서 생성한 키를 설정한다.
-     * 4. 평면 문자열을 바이트로 변환 후 암호화 를 수행함.
-     * 5. 암호화된 바이트 배열을 Base64로 인코딩해 사람이 읽을 수 있는 문자열로 반환한다.
+     * 평문 문자열을 활성 버전 키로 암호화해 Base64 문자열로 반환합니다.
+     * 활성 버전이 1 이상이면 앞에 {@code v{버전}:} 접두사가 붙습니다.
+     * 비밀키 객체와 초기화된 Cipher는 {@link AesKeyring}이 재사용하므로
+     * 호출마다 프로바이더 조회와 키 확장이 반복되지 않습니다.
      *
      * @param input 인코딩 할 Text.
      * @return 인코딩 된 text값.
      */
     public static String encrypt(String input) {
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(), algorithm);
-        Cipher cipher;
-        try {
-            cipher = Cipher.getInstance(algorithm);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-            throw new EncryptionException(e.getMessage(), e);
+        return keyring().encrypt(input);
+    }
+
+    /**
+     * 평문 문자열을 활성 버전 키의 AES-GCM(무작위 IV)으로 암호화합니다.
+     * 같은 평문도 매번 다른 암호문이 되므로 동등 비교로 검색하지 않는 필드에만 사용합니다.
+     * 복호화는 {@link #decrypt(String)}가 접두사({@code g{버전}:})로 판별합니다.
+     *
+     * @param input 인코딩 할 Text.
+     * @return 인코딩 된 text값.
+     */
+    public static String encryptRandomized(String input) {
+        return keyring().encryptRandomized(input);
+    }
+
+    /**
+     * Base64로 인코딩된 암호문을 복호화해 원래의 평문 문자열로 반환합니다.
+     * 암호문의 키 버전 접두사로 복호화 키를 선택하므로 이전 버전 키로 암호화된 값도 복호화됩니다.
+     * 캐시가 활성화되어 있으면 같은 암호문은 다시 복호화하지 않고 캐시된 평문을 반환합니다.
+     *
+     * @param encryptedInput 인코딩 된 Text.
+     * @return 디코딩 된 text값.
+     */
+    public static String decrypt(String encryptedInput) {
+        AesKeyring current = keyring();
+        DecryptionCache currentCache = cache;
+        if (currentCache == null) {
+            return current.decrypt(encryptedInput);
         }
-        try {
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-        } catch (InvalidKeyException e) {
-            throw new EncryptionException(e.getMessage(), e);
+        return currentCache.getOrDecrypt(encryptedInput, current::decrypt);
+    }
+
+    /**
+     * 여러 암호문을 하나의 Cipher와 작업 버퍼로 한 번에 복호화합니다.
+     * 페이지/목록 결과처럼 여러 행을 복호화할 때 사용합니다.
+     *
+     * @param encryptedInputs 인코딩 된 Text 목록.
+     * @return 입력과 같은 순서로 디코딩 된 text 목록. (null 은 null 그대로)
+     */
+    public static List<String> decryptAll(List<String> encryptedInputs) {
+        AesKeyring current = keyring();
+        DecryptionCache currentCache = cache;
+        if (currentCache == null) {
+            return current.decryptAll(encryptedInputs);
+        }
+
+        // 캐시에 없는 암호문만 모아 한 번에 복호화
+        String[] result = new String[encryptedInputs.size()];
+        List<String> missed = new ArrayList<>();
+        int[] missedIndexes = new int[encryptedInputs.size()];
+        for (int i = 0; i < encryptedInputs.size(); i++) {
+            String encryptedInput = encryptedInputs.get(i);
+            if (encryptedInput == null) {
+                continue;
+            }
+            result[i] = currentCache.get(encryptedInput);
+            if (result[i] == null) {
+                missedIndexes[missed.size()] = i;
+                missed.add(encryptedInput);
+            }
         }
-        byte[] encryptedBytes;
-        try {
-            encryptedBytes = cipher.doFinal(input.getBytes());
-        } catch (IllegalBlockSizeException | BadPaddingException e) {
-            throw new EncryptionException(e.getMessage(), e);
+        List<String> decrypted = current.decryptAll(missed);
+        for (int m = 0; m < decrypted.size(); m++) {
+            result[missedIndexes[m]] = decrypted.get(m);
+            currentCache.put(missed.get(m), decrypted.get(m));
         }
-        return Base64.getEncoder().encodeToString(encryptedBytes);
+        return Arrays.asList(result);
     }
 
     /**
-     * 1. 복호화를 위한 키 객체를 생성한다. encrypt와 동일한 키를 사용해야 정상적으로 복호화 된다.
-     * 2. 해당 알고리즘을 위한 Cipher 객체를 가져온다.
-     * 3. 복호화 모드로 Cipher를 초기화 한다.
-     * 4. 암호화된 문자열을 Base64로 디코딩해 바이트 배열로 변환한다.
-     * 5. 암호화된 바이트배열을 복호화 해 원래의 바이트 배열(평문)으로 되돌린다.
-     * 6. 원래의 평문 문자열로 반환한다.
+     * 암호문을 복호화해 평문 UTF-8 바이트를 재사용 버퍼에 씁니다. (String 생성 없음)
+     * 캐시를 채우지 않으므로, 호출 전에 {@link #cachedPlaintext(String)}로 캐시를 먼저 확인합니다.
      *
      * @param encryptedInput 인코딩 된 Text.
-     * @return 디코딩 된 text값.
+     * @param scratch        재사용 버퍼
+     * @return 평문 바이트 수
      */
-    public static String decrypt(String encryptedInput) {
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(), algorithm);
-        Cipher cipher;
-        try {
-            cipher = Cipher.getInstance(algorithm);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-            throw new DecryptionException(e.getMessage(), e);
+    public static int decryptTo(String encryptedInput, DecryptScratch scratch) {
+        return keyring().decryptTo(encryptedInput, scratch);
+    }
+
+    /**
+     * @param encryptedInput 인코딩 된 Text.
+     * @return 캐시에 있는 평문, 캐시가 없거나 미스이면 null
+     */
+    public static String cachedPlaintext(String encryptedInput) {
+        DecryptionCache currentCache = cache;
+        return currentCache == null ? null : currentCache.get(encryptedInput);
+    }
+
+    /**
+     * @return 복호화 결과 캐시 (비활성화 시 null)
+     */
+    public static DecryptionCache decryptionCache() {
+        return cache;
+    }
+
+    /**
+     * 현재 설정된 알고리즘/키에 맞는 키링을 반환합니다.
+     * 설정 값이 바뀐 경우(테스트 등) 새 키링을 만들어 교체합니다.
+     *
+     * @return AES 키링
+     */
+    public static AesKeyring keyring() {
+        KeyringHolder current = keyring;
+        if (current == null || !current.isBuiltFromCurrentSettings()) {
+            current = KeyringHolder.create();
+            keyring = current;
+            DecryptionCache currentCache = cache;
+            if (currentCache != null) {
+                currentCache.clear();
+            }
         }
-        try {
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-        } catch (InvalidKeyException e) {
-            throw new DecryptionException(e.getMessage(), e);
+        return current.keyring();
+    }
+
+    /**
+     * aes.key(버전 0)와 aes.keyring 설정을 버전 -> 키 맵으로 변환합니다.
+     */
+    private static Map<Integer, String> parseKeys() {
+        Map<Integer, String> keys = new HashMap<>();
+        keys.put(0, secretKey);
+        if (keyringSpec == null || keyringSpec.isBlank()) {
+            return keys;
         }
-        byte[] encryptedBytes = Base64.getDecoder().decode(encryptedInput);
-        byte[] decryptedBytes;
-        try {
-            decryptedBytes = cipher.doFinal(encryptedBytes);
-        } catch (IllegalBlockSizeException | BadPaddingException e) {
-            throw new DecryptionException(e.getMessage(), e);
+        for (String entry : keyringSpec.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator < 1) {
+                throw new IllegalArgumentException("aes.keyring 형식이 올바르지 않습니다. (버전:키)");
+            }
+            keys.put(Integer.parseInt(entry.substring(0, separator).trim()), entry.substring(separator + 1).trim());
+        }
+        return keys;
+    }
+
+    /**
+     * 키링과, 키링을 만들 때 사용한 설정 값을 함께 보관합니다.
+     * 호출마다 키 목록을 다시 파싱하지 않고 설정 문자열만 비교하기 위해 사용합니다.
+     */
+    private record KeyringHolder(String algorithm, String secretKey, String keyringSpec, int activeVersion,
+                                 AesKeyring keyring) {
+
+        static KeyringHolder create() {
+            return new KeyringHolder(AESUtil.algorithm, AESUtil.secretKey, AESUtil.keyringSpec, AESUtil.activeVersion,
+                    new AesKeyring(AESUtil.algorithm, parseKeys(), AESUtil.activeVersion, poolSize));
+        }
+
+        boolean isBuiltFromCurrentSettings() {
+            return Objects.equals(this.algorithm, AESUtil.algorithm)
+                    && Objects.equals(this.secretKey, AESUtil.secretKey)
+                    && Objects.equals(this.keyringSpec, AESUtil.keyringSpec)
+                    && this.activeVersion == AESUtil.activeVersion;
         }
-        return new String(decryptedBytes);
     }
 }
@@ -0,0 +1,147 @@
+package com.nhnacademy.common.util;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 검색용 블라인드 인덱스(HMAC-SHA256, 32바이트)를 계산하는 유틸입니다.
+ * <p>
+ * 서버에만 있는 키({@code blind-index.key})로 계산하므로 인덱스 테이블만으로는 평문을 사전 대입으로 찾을 수 없고,
+ * hex 문자열(64자) 대신 원본 32바이트를 저장해 인덱스 키 크기를 절반으로 줄입니다.
+ * <p>
+ * 이전 형식(키 없는 SHA-256 hex, {@code hash_value} 컬럼)은 백필이 끝날 때까지
+ * {@code blind-index.legacy-fallback}이 켜져 있는 동안 함께 저장하고, 새 형식으로 찾지 못하면 이전 형식으로 다시 조회합니다.
+ */
+@Component
+public class BlindIndexUtil {
+
+    /**
+     * HMAC 결과 길이(바이트).
+     */
+    public static final int LENGTH = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * 블라인드 인덱스 HMAC 키.
+     */
+    @Value("${blind-index.key}")
+    @SuppressWarnings("java:S7178")
+    private String secretKeyProp;
+
+    /**
+     * 이전 형식(SHA-256 hex) 인덱스를 함께 저장하고 조회할지 여부.
+     */
+    @Value("${blind-index.legacy-fallback:true}")
+    @SuppressWarnings("java:S7178")
+    private boolean legacyFallbackProp;
+
+    /**
+     * HMAC 키 static 값.
+     */
+    private static String secretKey;
+
+    /**
+     * 이전 형식 인덱스 사용 여부 static 값.
+     */
+    private static boolean legacyFallback = true;
+
+    private static final ThreadLocal<Hmac> HMAC = new ThreadLocal<>();
+
+    @PostConstruct
+    @SuppressWarnings("java:S2696")
+    public void init() {
+        secretKey = secretKeyProp;
+        legacyFallback = legacyFallbackProp;
+    }
+
+    /**
+     * @param input 인덱스를 만들 평문
+     * @return HMAC-SHA256 블라인드 인덱스 (32바이트)
+     */
+    public static byte[] hash(CharSequence input) {
+        byte[] result = new byte[LENGTH];
+        hash(input, result, 0);
+        return result;
+    }
+
+    /**
+     * 블라인드 인덱스를 호출자가 준비한 버퍼에 씁니다.
+     *
+     * @param input  인덱스를 만들 평문
+     * @param dst    결과를 쓸 버퍼
+     * @param offset 쓰기 시작할 위치 ({@link #LENGTH}바이트를 씁니다)
+     */
+    public static void hash(CharSequence input, byte[] dst, int offset) {
+        hmac().compute(input, dst, offset);
+    }
+
+    /**
+     * @param input 인덱스를 만들 평문
+     * @return 이전 형식(SHA-256 hex) 인덱스, 이전 형식을 사용하지 않으면 null
+     */
+    public static String legacyHash(String input) {
+        return legacyFallback ? HashUtil.sha256Hex(input) : null;
+    }
+
+    /**
+     * @return 새 형식으로 찾지 못했을 때 이전 형식 인덱스로 다시 조회할지 여부
+     */
+    public static boolean isLegacyFallbackEnabled() {
+        return legacyFallback;
+    }
+
+    /**
+     * 현재 스레드의 Mac 을 반환합니다. 키 설정이 바뀌었으면 새로 만듭니다.
+     */
+    private static Hmac hmac() {
+        String key = secretKey;
+        if (key == null || key.isEmpty()) {
+            throw new IllegalStateException("blind-index.key 가 설정되지 않았습니다.");
+        }
+        Hmac current = HMAC.get();
+        if (current == null || !current.key.equals(key)) {
+            current = new Hmac(key);
+            HMAC.set(current);
+        }
+        return current;
+    }
+
+    /**
+     * 스레드 하나가 사용하는 Mac 과 UTF-8 버퍼.
+     */
+    private static final class Hmac {
+
+        private final String key;
+        private final Mac mac;
+        private final Utf8Buffer utf8 = new Utf8Buffer();
+
+        private Hmac(String key) {
+            this.key = key;
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+                this.mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void compute(CharSequence input, byte[] dst, int offset) {
+            int length = utf8.encode(input);
+            mac.update(utf8.bytes(), 0, length);
+            try {
+                mac.doFinal(dst, offset);
+            } catch (ShortBufferException e) {
+                mac.reset();
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+    }
+}
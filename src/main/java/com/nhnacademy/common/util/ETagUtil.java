@@ -0,0 +1,27 @@
+package com.nhnacademy.common.util;
+
+/**
+ * 엔티티 변경 버전으로 조건부 조회(If-None-Match)에 사용할 강한 ETag 를 만드는 유틸입니다.
+ * <p>
+ * ETag 는 응답 본문이 아닌 버전 값으로 만들므로, 본문을 직렬화(복호화)하지 않고도 304 여부를 판단할 수 있습니다.
+ */
+public class ETagUtil {
+
+    private ETagUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param resource 리소스 구분 값 (예: "member")
+     * @param parts    식별자와 버전 값
+     * @return 큰따옴표로 감싼 ETag (예: {@code "member-1-3"})
+     */
+    public static String of(String resource, long... parts) {
+        StringBuilder builder = new StringBuilder(resource.length() + parts.length * 8 + 2)
+                .append('"').append(resource);
+        for (long part : parts) {
+            builder.append('-').append(part);
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -1,12 +1,32 @@
 package com.nhnacademy.common.util;
 
-import org.apache.commons.codec.digest.DigestUtils;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * sha256Hex 알고리즘을 사용하기 위한 유틸입니다.
+ * <p>
+ * 블라인드 인덱스 해시는 로그인/회원가입/회사 조회마다 계산되므로,
+ * 스레드마다 MessageDigest 와 UTF-8/다이제스트/hex 버퍼를 하나씩 두고 재사용합니다.
+ * 결과는 commons-codec {@code DigestUtils.sha256Hex(String)}와 같습니다.
  */
 public class HashUtil {
 
+    /**
+     * SHA-256 다이제스트 길이(바이트).
+     */
+    public static final int SHA256_LENGTH = 32;
+
+    /**
+     * SHA-256 hex 문자열 길이.
+     */
+    public static final int SHA256_HEX_LENGTH = SHA256_LENGTH * 2;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<Sha256> SHA256 = ThreadLocal.withInitial(Sha256::new);
+
     private HashUtil() {
         throw new IllegalStateException("Utility class");
     }
@@ -16,6 +36,67 @@ public class HashUtil {
      * @return 해쉬값으로 변환된 값.
      */
     public static String sha256Hex(String input) {
-        return DigestUtils.sha256Hex(input);
+        Sha256 sha256 = SHA256.get();
+        sha256Hex(input, sha256.hex, 0);
+        return new String(sha256.hex);
+    }
+
+    /**
+     * SHA-256 hex 문자열을 호출자가 준비한 버퍼에 씁니다. (String 생성 없음)
+     *
+     * @param input  해쉬값으로 변환할 값
+     * @param dst    hex 문자를 쓸 버퍼
+     * @param offset 쓰기 시작할 위치 ({@link #SHA256_HEX_LENGTH}개의 문자를 씁니다)
+     */
+    public static void sha256Hex(CharSequence input, char[] dst, int offset) {
+        Sha256 sha256 = SHA256.get();
+        sha256.digest(input, sha256.digest, 0);
+        byte[] digest = sha256.digest;
+        for (int i = 0; i < SHA256_LENGTH; i++) {
+            int b = digest[i] & 0xff;
+            dst[offset + i * 2] = HEX[b >>> 4];
+            dst[offset + i * 2 + 1] = HEX[b & 0x0f];
+        }
+    }
+
+    /**
+     * SHA-256 다이제스트(32바이트)를 호출자가 준비한 버퍼에 씁니다.
+     *
+     * @param input  해쉬값으로 변환할 값
+     * @param dst    다이제스트를 쓸 버퍼
+     * @param offset 쓰기 시작할 위치 ({@link #SHA256_LENGTH}바이트를 씁니다)
+     */
+    public static void sha256(CharSequence input, byte[] dst, int offset) {
+        SHA256.get().digest(input, dst, offset);
+    }
+
+    /**
+     * 스레드 하나가 사용하는 MessageDigest 와 재사용 버퍼.
+     */
+    private static final class Sha256 {
+
+        private final MessageDigest messageDigest;
+        private final byte[] digest = new byte[SHA256_LENGTH];
+        private final char[] hex = new char[SHA256_HEX_LENGTH];
+        private final Utf8Buffer utf8 = new Utf8Buffer();
+
+        private Sha256() {
+            try {
+                this.messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void digest(CharSequence input, byte[] dst, int offset) {
+            int length = utf8.encode(input);
+            messageDigest.update(utf8.bytes(), 0, length);
+            try {
+                messageDigest.digest(dst, offset, SHA256_LENGTH);
+            } catch (DigestException e) {
+                messageDigest.reset();
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
     }
 }
@@ -1,28 +1,57 @@
 package com.nhnacademy.common.util;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
 
 /**
  * PasswordEncode 유틸.
+ * <p>
+ * BCrypt cost 는 기동 시 {@link com.nhnacademy.common.password.BCryptCostCalibrator}가
+ * 목표 지연 시간에 맞춰 {@link #configureStrength(int)}로 설정합니다. (설정 전 기본값 10)
  */
 public class PasswordUtil {
+
+    /**
+     * 설정 전 기본 BCrypt cost. ({@code new BCryptPasswordEncoder()}와 같음)
+     */
+    public static final int DEFAULT_STRENGTH = 10;
+
     /**
      * Security.crypto.bcrypt를 사용한 BcryptPasswordEncoder.
      */
-    private static final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private static volatile Encoder encoder = new Encoder(DEFAULT_STRENGTH);
 
     private PasswordUtil() {
         throw new IllegalStateException("Utility class");
     }
 
+    /**
+     * 이후 인코딩에 사용할 BCrypt cost 를 설정합니다.
+     * 비교용 임의 해시도 새 cost 로 여기서 미리 만들어 두므로, 교체 후 첫 로그인 요청이 해시 생성 비용을 부담하지 않습니다.
+     *
+     * @param strength BCrypt cost (4 ~ 31)
+     */
+    public static void configureStrength(int strength) {
+        if (encoder.strength != strength) {
+            encoder = new Encoder(strength);
+        }
+    }
+
+    /**
+     * @return 현재 인코딩에 사용하는 BCrypt cost
+     */
+    public static int strength() {
+        return encoder.strength;
+    }
+
     /**
      * 들어오는 순수 String 비밀번호 값을 BcryptPasswordEncoder로 인코딩하는 메소드입니다.
      * @param input 인코딩할 비밀번호
      * @return 인코딩 된 비밀번호 값.
      */
     public static String encode(String input) {
-        return passwordEncoder.encode(input);
+        return encoder.passwordEncoder.encode(input);
     }
 
     /**
@@ -32,6 +61,64 @@ public class PasswordUtil {
      * @return true, false를 반환합니다.
      */
     public static boolean matches(String input, String encodePassword) {
-        return passwordEncoder.matches(input, encodePassword);
+        return encoder.passwordEncoder.matches(input, encodePassword);
+    }
+
+    /**
+     * 존재하지 않는 회원을 검증할 때도 실제 검증과 같은 시간이 걸리도록, 현재 cost 의 임의 해시와 비교합니다.
+     *
+     * @param input 인코딩되지 않은 비밀번호 값.
+     */
+    public static void matchesDummy(String input) {
+        Encoder current = encoder;
+        current.passwordEncoder.matches(input, current.dummyHash);
+    }
+
+    /**
+     * 저장된 해시를 현재 cost 로 다시 인코딩해야 하는지 확인합니다.
+     * <p>
+     * {@code BCryptPasswordEncoder.upgradeEncoding}은 저장된 cost 가 더 낮은 경우만 true 이므로,
+     * 노드 사양이 낮아져 cost 를 내린 경우(저장된 cost 가 더 높은 경우)도 함께 확인합니다.
+     *
+     * @param encodePassword 인코딩 되어 DB에 저장된 비밀번호 값.
+     * @return cost 가 현재 설정과 다르면 true, BCrypt 형식이 아니면 false
+     */
+    public static boolean needsRehash(String encodePassword) {
+        Encoder current = encoder;
+        int cost = costOf(encodePassword);
+        return cost > 0 && (current.passwordEncoder.upgradeEncoding(encodePassword) || cost != current.strength);
+    }
+
+    /**
+     * @param encodePassword BCrypt 해시 ({@code $2a$10$...})
+     * @return 해시에 기록된 cost, BCrypt 형식이 아니면 -1
+     */
+    public static int costOf(String encodePassword) {
+        if (encodePassword == null || encodePassword.length() < 7 || encodePassword.charAt(0) != '$'
+                || encodePassword.charAt(3) != '$' || encodePassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodePassword.charAt(4);
+        char ones = encodePassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * 같은 cost 의 인코더와 비교용 임의 해시. 해시는 생성 시 미리 만들어 cost 와 항상 일치합니다.
+     */
+    private static final class Encoder {
+
+        private final int strength;
+        private final BCryptPasswordEncoder passwordEncoder;
+        private final String dummyHash;
+
+        private Encoder(int strength) {
+            this.strength = strength;
+            this.passwordEncoder = new BCryptPasswordEncoder(strength);
+            this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        }
     }
 }
@@ -0,0 +1,56 @@
+package com.nhnacademy.common.util;
+
+/**
+ * 문자열을 UTF-8 로 인코딩해 담아 두는 재사용 버퍼입니다. 스레드마다 하나씩 사용합니다.
+ */
+final class Utf8Buffer {
+
+    private byte[] bytes = new byte[128];
+
+    /**
+     * @return 마지막 {@link #encode(CharSequence)} 결과가 담긴 버퍼
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * 입력을 UTF-8 로 버퍼에 인코딩합니다.
+     * 짝이 맞지 않는 서로게이트는 {@code String.getBytes(UTF_8)}와 같이 '?'로 바꿉니다.
+     *
+     * @return 인코딩된 바이트 수
+     */
+    int encode(CharSequence input) {
+        int length = input.length();
+        if (bytes.length < length * 3) {
+            bytes = new byte[Math.max(length * 3, bytes.length * 2)];
+        }
+        byte[] out = bytes;
+        int written = 0;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < 0x80) {
+                out[written++] = (byte) c;
+            } else if (c < 0x800) {
+                out[written++] = (byte) (0xc0 | (c >> 6));
+                out[written++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(input.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, input.charAt(++i));
+                    out[written++] = (byte) (0xf0 | (codePoint >> 18));
+                    out[written++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    out[written++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    out[written++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else {
+                    out[written++] = '?';
+                }
+            } else {
+                out[written++] = (byte) (0xe0 | (c >> 12));
+                out[written++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                out[written++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return written;
+    }
+}
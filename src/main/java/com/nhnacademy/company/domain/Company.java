@@ -1,57 +1,93 @@
 package com.nhnacademy.company.domain;
 
+import com.nhnacademy.common.annotation.Encrypted;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import com.nhnacademy.common.crypto.FieldCipher;
+import com.nhnacademy.common.crypto.FieldCipherType;
+import com.nhnacademy.common.crypto.FieldCiphers;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "companies")
+// 스키마는 Flyway 마이그레이션(db/migration)이 관리합니다. (V5__company_surrogate_key)
+@Table(name = "companies", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_companies_company_domain", columnNames = "company_domain")
+})
+// 키 재암호화(KeyRotationJob)가 JDBC 로 다시 쓴 암호문을, 그 전에 읽어 둔 엔티티가 이전 키의 값으로 덮어쓰지 않도록 바뀐 컬럼만 갱신
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
 public class Company {
 
     /**
-     * 회사 고유 도메인 주소 (기본키).
-     * 예: "javame.com"
+     * 암호화 필드는 평문으로 받아 각 필드의 {@link Encrypted}에 지정된 엔진으로 암호화합니다.
+     */
+    private static final FieldCipher DOMAIN_CIPHER = FieldCiphers.forField(Company.class, "companyDomain");
+    private static final FieldCipher NAME_CIPHER = FieldCiphers.forField(Company.class, "companyName");
+    private static final FieldCipher EMAIL_CIPHER = FieldCiphers.forField(Company.class, "companyEmail");
+    private static final FieldCipher MOBILE_CIPHER = FieldCiphers.forField(Company.class, "companyMobile");
+    private static final FieldCipher ADDRESS_CIPHER = FieldCiphers.forField(Company.class, "companyAddress");
+
+    /**
+     * 회사 고유 번호 (기본키).
+     * members / companies_index 는 도메인 암호문 대신 이 값으로 회사를 참조합니다.
      */
     @Id
-    @Column(name = "company_domain", length = 200)
-    @Comment("회사 도메인 (PK)")
-    private String companyDomain;
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "company_no")
+    @Comment("회사 고유 번호")
+    private Long companyNo;
+
+    /**
+     * 회사 고유 도메인 주소.
+     * 예: "javame.com"
+     */
+    @Encrypted
+    @Column(name = "company_domain", length = 200, nullable = false)
+    @Comment("회사 도메인")
+    private EncryptedValue companyDomain;
 
     /**
      * 회사 이름.
      */
+    @Encrypted
     @Column(name = "company_name", length = 100, nullable = false)
     @Comment("회사명")
-    private String companyName;
+    private EncryptedValue companyName;
 
     /**
      * 회사 대표 이메일 주소.
      */
+    @Encrypted
     @Column(name = "company_email", length = 100)
     @Comment("회사 이메일")
-    private String companyEmail;
+    private EncryptedValue companyEmail;
 
     /**
-     * 회사 대표 연락처.
+     * 회사 대표 연락처. 검색하지 않으므로 AES-GCM으로 암호화합니다.
      */
+    @Encrypted(cipher = FieldCipherType.GCM)
     @Column(name = "company_mobile", length = 200, nullable = false)
     @Comment("회사 연락처")
-    private String companyMobile;
+    private EncryptedValue companyMobile;
 
     /**
-     * 회사 주소.
+     * 회사 주소. 검색하지 않으므로 AES-GCM으로 암호화합니다.
      */
+    @Encrypted(cipher = FieldCipherType.GCM)
     @Column(name = "company_address", length = 200, nullable = false)
     @Comment("회사 주소")
-    private String companyAddress;
+    private EncryptedValue companyAddress;
 
     /**
      * 회사 정보 등록 일시.
@@ -69,7 +105,16 @@ public class Company {
     private boolean active = true;
 
     /**
-     * 회사 정보 생성자.
+     * 변경 버전. 엔티티 UPDATE 마다 SQL 에서 {@code version = version + 1} 로 증가하며 조회 응답의 ETag 로 사용합니다.
+     * 키 교체는 JDBC 로 암호문만 바꾸고 평문은 그대로이므로 증가시키지 않습니다.
+     */
+    @Generated(event = EventType.UPDATE, sql = "version + 1")
+    @Column(name = "version", nullable = false)
+    @Comment("변경 버전")
+    private long version;
+
+    /**
+     * 회사 정보 생성자. 모든 값은 평문으로 받습니다.
      *
      * @param companyDomain  회사 도메인
      * @param companyName    회사 이름
@@ -92,19 +137,21 @@ public class Company {
         if (companyAddress == null || companyAddress.isBlank()) {
             throw new IllegalArgumentException("회사 주소는 필수입니다.");
         }
-        this.companyDomain = companyDomain;
-        this.companyName = companyName;
-        this.companyEmail = companyEmail;
-        this.companyMobile = companyMobile;
-        this.companyAddress = companyAddress;
+        this.companyDomain = EncryptedValue.of(companyDomain, DOMAIN_CIPHER);
+        this.companyName = EncryptedValue.of(companyName, NAME_CIPHER);
+        // 이메일은 선택 항목이며, 빈 값은 입력하지 않은 것으로 보고 저장/인덱싱하지 않음
+        this.companyEmail = companyEmail == null || companyEmail.isBlank()
+                ? null : EncryptedValue.of(companyEmail, EMAIL_CIPHER);
+        this.companyMobile = EncryptedValue.of(companyMobile, MOBILE_CIPHER);
+        this.companyAddress = EncryptedValue.of(companyAddress, ADDRESS_CIPHER);
     }
 
     /**
      * 새로운 Company 엔티티를 생성하는 정적 팩토리 메서드입니다.
      *
-     * @param companyDomain  회사 도메인 (PK)
+     * @param companyDomain  회사 도메인
      * @param companyName    회사 이름
-     * @param companyEmail   회사 이메일 (선택 사항, null 가능)
+     * @param companyEmail   회사 이메일 (선택 사항, null/빈 값이면 저장하지 않음)
      * @param companyMobile  회사 연락처
      * @param companyAddress 회사 주소
      * @return 새로 생성된 Company 엔티티
@@ -115,7 +162,7 @@ public class Company {
     }
 
     /**
-     * 회사의 상세 정보를 수정합니다.
+     * 회사의 상세 정보를 수정합니다. null/빈 값인 필드는 기존 값을 유지합니다.
      *
      * @param companyName    새로운 회사 이름
      * @param companyMobile  새로운 회사 연락처
@@ -124,18 +171,27 @@ public class Company {
     public void updateDetails(String companyName,
                               String companyMobile, String companyAddress) {
         if (companyName != null && !companyName.isBlank()) {
-            this.companyName = companyName;
+            this.companyName = EncryptedValue.of(companyName, NAME_CIPHER);
         }
         if (companyMobile != null && !companyMobile.isBlank()) {
-            this.companyMobile = companyMobile;
+            this.companyMobile = EncryptedValue.of(companyMobile, MOBILE_CIPHER);
         }
         if (companyAddress != null && !companyAddress.isBlank()) {
-            this.companyAddress = companyAddress;
+            this.companyAddress = EncryptedValue.of(companyAddress, ADDRESS_CIPHER);
         }
     }
 
+    /**
+     * 회사 대표 이메일을 변경합니다.
+     *
+     * @param companyEmail 새 이메일 (평문)
+     * @throws IllegalArgumentException 이메일이 null 이거나 빈 값인 경우
+     */
     public void updateEmail(String companyEmail){
-        this.companyEmail = companyEmail;
+        if (companyEmail == null || companyEmail.isBlank()) {
+            throw new IllegalArgumentException("변경할 회사 이메일을 입력하세요.");
+        }
+        this.companyEmail = EncryptedValue.of(companyEmail, EMAIL_CIPHER);
     }
 
     /**
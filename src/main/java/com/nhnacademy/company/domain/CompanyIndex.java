@@ -1,17 +1,25 @@
 package com.nhnacademy.company.domain;
 
+import com.nhnacademy.common.util.BlindIndexUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "companies_index")
+// 스키마는 Flyway 마이그레이션(db/migration)이 관리합니다. (V4__lookup_indexes, V5__company_surrogate_key)
+@Table(name = "companies_index", indexes = {
+        @Index(name = "uk_companies_index_field_hash_key", columnList = "field_name, hash_key, company_no", unique = true),
+        @Index(name = "idx_companies_index_field_hash_value", columnList = "field_name, hash_value")
+})
 @Getter
 @NoArgsConstructor
 @ToString
@@ -20,18 +28,37 @@ public class CompanyIndex {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "company_domain", length = 50, nullable = false)
-    private String companyDomain; // FK로 company 테이블과 연결할 예정
+    @Column(name = "company_no", nullable = false)
+    private Long companyNo; // companies.company_no 참조 (FK)
 
     @Column(name = "field_name", length = 30, nullable = false)
     private String fieldName;
 
-    @Column(name = "hash_value", length = 64, nullable = false)
-    private String hashValue;
+    // HMAC-SHA256 블라인드 인덱스 (32바이트), 이전 형식 행은 백필 전까지 null
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "hash_key", length = BlindIndexUtil.LENGTH)
+    private byte[] hashValue;
 
-    public CompanyIndex(String companyDomain, String fieldName, String hashValue) {
-        this.companyDomain = companyDomain;
+    // 이전 형식 해시 (SHA-256 hex), 백필이 끝나면 저장하지 않음
+    @Column(name = "hash_value", length = 64)
+    private String legacyHashValue;
+
+    public CompanyIndex(Long companyNo, String fieldName, byte[] hashValue, String legacyHashValue) {
+        this.companyNo = companyNo;
         this.fieldName = fieldName;
         this.hashValue = hashValue;
+        this.legacyHashValue = legacyHashValue;
+    }
+
+    /**
+     * 평문으로 블라인드 인덱스를 계산해 인덱스 행을 만듭니다.
+     *
+     * @param companyNo 회사 번호
+     * @param fieldName 필드명
+     * @param value     인덱스를 만들 평문
+     * @return 인덱스 행
+     */
+    public static CompanyIndex of(Long companyNo, String fieldName, String value) {
+        return new CompanyIndex(companyNo, fieldName, BlindIndexUtil.hash(value), BlindIndexUtil.legacyHash(value));
     }
 }
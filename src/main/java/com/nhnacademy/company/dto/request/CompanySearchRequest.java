@@ -0,0 +1,38 @@
+package com.nhnacademy.company.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 블라인드 인덱스로 회사를 검색할 때 사용하는 DTO 클래스입니다.
+ * 값은 정확히 일치해야 하며(부분 일치 불가), 한 필드에 여러 값을 주면 그중 하나와 일치하는 회사를,
+ * 여러 필드를 주면 모든 필드가 일치하는 회사를 찾습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanySearchRequest {
+
+    /**
+     * 검색할 회사 이름 목록.
+     */
+    private List<String> companyName;
+
+    /**
+     * 검색할 회사 대표 이메일 목록.
+     */
+    private List<String> companyEmail;
+
+    /**
+     * 검색할 회사 대표 연락처 목록.
+     */
+    private List<String> companyMobile;
+
+    /**
+     * 검색할 회사 주소 목록.
+     */
+    private List<String> companyAddress;
+}
@@ -1,5 +1,9 @@
 package com.nhnacademy.company.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,36 +12,42 @@ import java.time.LocalDateTime;
 
 /**
  * 회사 정보 조회 응답 시 반환될 데이터를 담는 DTO 클래스입니다.
+ * <p>
+ * 암호화 컬럼은 암호문 그대로 담아 두고, JSON 직렬화 시점에 응답 스트림으로 바로 복호화합니다.
+ * 문자열 getter 는 평문을 반환합니다.
  */
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
 public class CompanyResponse {
 
     /**
      * 회사의 고유 도메인 (기본키).
      */
-    private String companyDomain;
+    private EncryptedValue companyDomain;
 
     /**
      * 회사의 이름.
      */
-    private String companyName;
+    private EncryptedValue companyName;
 
     /**
      * 회사의 대표 이메일.
      */
-    private String companyEmail;
+    private EncryptedValue companyEmail;
 
     /**
      * 회사의 대표 연락처.
      */
-    private String companyMobile;
+    private EncryptedValue companyMobile;
 
     /**
      * 회사의 주소.
      */
-    private String companyAddress;
+    private EncryptedValue companyAddress;
 
     /**
      * 회사 정보 등록 일시.
@@ -48,4 +58,58 @@ public class CompanyResponse {
      * 회사의 서비스 활성화 여부.
      */
     private boolean active;
+
+    /**
+     * 회사 고유 번호. 응답 본문에는 포함하지 않고 ETag 를 만드는 데만 사용합니다.
+     * 같은 도메인으로 다시 등록된 회사는 버전이 처음부터 시작하므로 버전만으로는 구분할 수 없습니다.
+     */
+    @JsonIgnore
+    private long companyNo;
+
+    /**
+     * 회사 변경 버전. 응답 본문에는 포함하지 않고 ETag 를 만드는 데만 사용합니다.
+     */
+    @JsonIgnore
+    private long version;
+
+    /**
+     * 평문 값으로 응답을 만듭니다.
+     */
+    public CompanyResponse(String companyDomain, String companyName, String companyEmail, String companyMobile,
+                           String companyAddress, LocalDateTime registeredAt, boolean active) {
+        this(EncryptedValue.decrypted(companyDomain), EncryptedValue.decrypted(companyName),
+                EncryptedValue.decrypted(companyEmail), EncryptedValue.decrypted(companyMobile),
+                EncryptedValue.decrypted(companyAddress), registeredAt, active, 0L, 0L);
+    }
+
+    /**
+     * 암호문 그대로 응답을 만듭니다. 복호화는 직렬화 또는 getter 호출 시 수행됩니다.
+     */
+    public static CompanyResponse ofEncrypted(EncryptedValue companyDomain, EncryptedValue companyName,
+                                              EncryptedValue companyEmail, EncryptedValue companyMobile,
+                                              EncryptedValue companyAddress, LocalDateTime registeredAt,
+                                              boolean active, long companyNo, long version) {
+        return new CompanyResponse(companyDomain, companyName, companyEmail, companyMobile, companyAddress,
+                registeredAt, active, companyNo, version);
+    }
+
+    public String getCompanyDomain() {
+        return EncryptedValue.plaintextOf(companyDomain);
+    }
+
+    public String getCompanyName() {
+        return EncryptedValue.plaintextOf(companyName);
+    }
+
+    public String getCompanyEmail() {
+        return EncryptedValue.plaintextOf(companyEmail);
+    }
+
+    public String getCompanyMobile() {
+        return EncryptedValue.plaintextOf(companyMobile);
+    }
+
+    public String getCompanyAddress() {
+        return EncryptedValue.plaintextOf(companyAddress);
+    }
 }
@@ -0,0 +1,19 @@
+package com.nhnacademy.company.event;
+
+import com.nhnacademy.common.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * 회사가 비활성화되었음을 알리는 도메인 이벤트입니다.
+ * 도메인 매핑 갱신은 {@link CompanyDomainChangedEvent}가 동기로 처리합니다.
+ *
+ * @param companyNo  회사 번호
+ * @param occurredAt 발생 시각
+ */
+public record CompanyDeactivatedEvent(Long companyNo, Instant occurredAt) implements DomainEvent {
+
+    public CompanyDeactivatedEvent(Long companyNo) {
+        this(companyNo, Instant.now());
+    }
+}
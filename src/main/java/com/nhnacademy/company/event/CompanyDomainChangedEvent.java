@@ -0,0 +1,12 @@
+package com.nhnacademy.company.event;
+
+/**
+ * 회사가 등록되었거나 활성 상태가 바뀌었음을 알리는 이벤트입니다.
+ * 트랜잭션 안에서 발행되며, 구독자는 커밋 이후에 처리합니다.
+ *
+ * @param companyDomain 회사 도메인 (평문)
+ * @param companyNo     회사 번호 (companies 의 PK)
+ * @param active        활성 여부
+ */
+public record CompanyDomainChangedEvent(String companyDomain, Long companyNo, boolean active) {
+}
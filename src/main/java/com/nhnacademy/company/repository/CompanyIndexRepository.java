@@ -1,30 +1,85 @@
 package com.nhnacademy.company.repository;
 
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
 import com.nhnacademy.company.domain.CompanyIndex;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
 public interface CompanyIndexRepository extends JpaRepository<CompanyIndex, Long> {
 
     /**
-     * @param hashValue 해쉬 값
+     * @param fieldName 필드명
+     * @param hashValue 블라인드 인덱스 (HMAC-SHA256, 32바이트)
      * @return boolean 값
      */
-    boolean existsByHashValue(String hashValue);
+    boolean existsByFieldNameAndHashValue(String fieldName, byte[] hashValue);
 
     /**
-     * @param hashValue 해쉬 값
      * @param fieldName 필드명
+     * @param hashValue 블라인드 인덱스 (HMAC-SHA256, 32바이트)
+     * @return Optional<CompanyIndex>
+     */
+    Optional<CompanyIndex> findFirstByFieldNameAndHashValue(String fieldName, byte[] hashValue);
+
+    /**
+     * @param fieldName       필드명
+     * @param legacyHashValue 이전 형식 해쉬 값 (SHA-256 hex)
      * @return boolean 값
      */
-    boolean existsByHashValueAndFieldName(String hashValue, String fieldName);
+    boolean existsByFieldNameAndLegacyHashValue(String fieldName, String legacyHashValue);
 
     /**
-     * @param hashValue 해쉬값
+     * @param fieldName       필드명
+     * @param legacyHashValue 이전 형식 해쉬 값 (SHA-256 hex)
      * @return Optional<CompanyIndex>
      */
-    Optional<CompanyIndex> findByHashValue(String hashValue);
+    Optional<CompanyIndex> findFirstByFieldNameAndLegacyHashValue(String fieldName, String legacyHashValue);
+
+    /**
+     * 회사의 특정 필드 인덱스 행을 삭제합니다. 값이 바뀐 필드의 인덱스를 다시 만들기 전에 사용합니다.
+     * 같은 값으로 다시 저장해도 유니크 인덱스에 걸리지 않도록 영속성 컨텍스트를 거치지 않고 바로 실행합니다.
+     *
+     * @param companyNo  회사 번호
+     * @param fieldNames 삭제할 필드명 목록
+     * @return 삭제한 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CompanyIndex ci where ci.companyNo = :companyNo and ci.fieldName in :fieldNames")
+    int deleteByCompanyNoAndFieldNames(@Param("companyNo") Long companyNo,
+                                       @Param("fieldNames") Collection<String> fieldNames);
+
+    /**
+     * 평문과 필드명으로 인덱스를 조회합니다. 새 형식으로 찾지 못하면 (백필 전 행을 위해) 이전 형식으로 다시 조회합니다.
+     * 다른 필드에 같은 값의 해시가 저장되어 있어도 조회되지 않도록 필드명을 함께 비교합니다.
+     *
+     * @param value     평문
+     * @param fieldName 필드명
+     * @return Optional<CompanyIndex>
+     */
+    default Optional<CompanyIndex> findByBlindIndex(String value, String fieldName) {
+        Optional<CompanyIndex> found = findFirstByFieldNameAndHashValue(fieldName, BlindIndexUtil.hash(value));
+        if (found.isEmpty() && BlindIndexUtil.isLegacyFallbackEnabled()) {
+            return findFirstByFieldNameAndLegacyHashValue(fieldName, HashUtil.sha256Hex(value));
+        }
+        return found;
+    }
+
+    /**
+     * @param value     평문
+     * @param fieldName 필드명
+     * @return 새 형식 또는 (백필 전) 이전 형식 인덱스가 있는지 여부
+     */
+    default boolean existsByBlindIndex(String value, String fieldName) {
+        return existsByFieldNameAndHashValue(fieldName, BlindIndexUtil.hash(value))
+                || (BlindIndexUtil.isLegacyFallbackEnabled()
+                && existsByFieldNameAndLegacyHashValue(fieldName, HashUtil.sha256Hex(value)));
+    }
 }
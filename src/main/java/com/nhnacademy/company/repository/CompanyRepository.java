@@ -1,7 +1,10 @@
 package com.nhnacademy.company.repository;
 
+import com.nhnacademy.common.crypto.EncryptedValue;
 import com.nhnacademy.company.domain.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,31 +12,40 @@ import java.util.Optional;
 /**
  * 회사(Company) 엔티티에 대한 데이터 액세스 작업을 위한 리포지토리 인터페이스입니다.
  * Spring Data JPA의 JpaRepository를 상속받아 기본적인 CRUD 기능을 제공받습니다.
- * 기본키는 회사 도메인(String)입니다.
+ * 기본키는 회사 번호(Long)이며, 회사 도메인(암호문)은 블라인드 인덱스로 조회합니다.
  */
 @Repository
-public interface CompanyRepository extends JpaRepository<Company, String> {
+public interface CompanyRepository extends JpaRepository<Company, Long>, CustomCompanyRepository {
 
     /**
      *
-     * @param companyEmail 회사 대표 이메일
+     * @param companyEmail 회사 대표 이메일 (암호문)
      * @return boolean값
      */
-    boolean existsByCompanyEmail(String companyEmail);
+    boolean existsByCompanyEmail(EncryptedValue companyEmail);
 
     /**
      * 회사명으로 회사를 조회합니다.
      *
-     * @param companyName 회사명
+     * @param companyName 회사명 (암호문)
      * @return 회사 엔티티
      */
-    Optional<Company> findByCompanyName(String companyName);
+    Optional<Company> findByCompanyName(EncryptedValue companyName);
 
     /**
      * 주어진 회사 이름이 존재하는지 확인합니다.
      *
-     * @param companyName 확인할 회사의 이름
+     * @param companyName 확인할 회사의 이름 (암호문)
      * @return 존재하면 true, 그렇지 않으면 false
      */
-    boolean existsByCompanyName(String companyName);
+    boolean existsByCompanyName(EncryptedValue companyName);
+
+    /**
+     * 회사의 변경 버전만 조회합니다. 암호화 컬럼을 읽지 않으므로 ETag 비교에 사용합니다.
+     *
+     * @param companyNo 회사 번호
+     * @return 변경 버전, 회사가 없으면 empty
+     */
+    @Query("select c.version from Company c where c.companyNo = :companyNo")
+    Optional<Long> findVersionByCompanyNo(@Param("companyNo") Long companyNo);
 }
@@ -0,0 +1,32 @@
+package com.nhnacademy.company.repository;
+
+import com.nhnacademy.company.domain.Company;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface CustomCompanyRepository {
+
+    /**
+     * 블라인드 인덱스({@code companies_index})와 회사를 조인해 한 번의 쿼리로 회사를 조회합니다.
+     * 이전 형식 인덱스를 사용하는 동안에는 새 형식/이전 형식 해시를 같은 쿼리에서 함께 비교합니다.
+     *
+     * @param value     평문 (예: 회사 도메인)
+     * @param fieldName 인덱스 필드명 (예: "domain")
+     * @return 회사 Optional 값
+     */
+    Optional<Company> findByBlindIndex(String value, String fieldName);
+
+    /**
+     * 여러 필드의 블라인드 인덱스로 회사를 검색합니다. 회사 테이블 전체를 읽거나 복호화하지 않고,
+     * 필드마다 {@code (field_name, hash_key)} 인덱스로 찾은 회사 도메인만 조회하는 한 번의 쿼리로 실행됩니다.
+     * 같은 필드의 값들은 OR, 필드끼리는 AND 로 결합합니다.
+     *
+     * @param criteria 필드명 -> 평문 값 목록 (비어 있으면 안 됨)
+     * @param limit    최대 결과 수
+     * @return 조건을 모두 만족하는 회사 목록
+     */
+    List<Company> findAllByBlindIndexes(Map<String, ? extends Collection<String>> criteria, int limit);
+}
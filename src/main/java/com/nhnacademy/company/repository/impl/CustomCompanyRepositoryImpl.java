@@ -0,0 +1,78 @@
+package com.nhnacademy.company.repository.impl;
+
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.QCompany;
+import com.nhnacademy.company.domain.QCompanyIndex;
+import com.nhnacademy.company.repository.CustomCompanyRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class CustomCompanyRepositoryImpl implements CustomCompanyRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    QCompany qCompany = QCompany.company;
+    QCompanyIndex qCompanyIndex = QCompanyIndex.companyIndex;
+
+    @Override
+    public Optional<Company> findByBlindIndex(String value, String fieldName) {
+        return Optional.ofNullable(jpaQueryFactory.select(qCompany)
+                .from(qCompanyIndex)
+                .join(qCompany).on(qCompany.companyNo.eq(qCompanyIndex.companyNo))
+                .where(qCompanyIndex.fieldName.eq(fieldName), blindIndexMatches(value))
+                .fetchFirst());
+    }
+
+    @Override
+    public List<Company> findAllByBlindIndexes(Map<String, ? extends Collection<String>> criteria, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        for (Map.Entry<String, ? extends Collection<String>> criterion : criteria.entrySet()) {
+            // 필드마다 인덱스만 읽는 서브쿼리 (field_name, hash_key, company_no 인덱스로 처리)
+            QCompanyIndex index = new QCompanyIndex("index_" + criterion.getKey());
+            where.and(qCompany.companyNo.in(JPAExpressions.select(index.companyNo)
+                    .from(index)
+                    .where(index.fieldName.eq(criterion.getKey()), blindIndexIn(index, criterion.getValue()))));
+        }
+        return jpaQueryFactory.selectFrom(qCompany)
+                .where(where)
+                .orderBy(qCompany.registeredAt.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 여러 값의 새 형식 해시(와 이전 형식을 사용하는 동안에는 이전 형식 해시)를 IN 조건 하나로 비교합니다.
+     */
+    private BooleanExpression blindIndexIn(QCompanyIndex index, Collection<String> values) {
+        List<byte[]> hashes = new ArrayList<>(values.size());
+        List<String> legacyHashes = new ArrayList<>();
+        for (String value : values) {
+            hashes.add(BlindIndexUtil.hash(value));
+            legacyHashes.add(BlindIndexUtil.legacyHash(value));
+        }
+        BooleanExpression matches = index.hashValue.in(hashes);
+        legacyHashes.removeIf(Objects::isNull);
+        return legacyHashes.isEmpty() ? matches : matches.or(index.legacyHashValue.in(legacyHashes));
+    }
+
+    /**
+     * 새 형식 해시와, 이전 형식을 사용하는 동안에는 이전 형식 해시까지 한 조건으로 비교합니다.
+     */
+    private BooleanExpression blindIndexMatches(String value) {
+        BooleanExpression matches = qCompanyIndex.hashValue.eq(BlindIndexUtil.hash(value));
+        String legacyHash = BlindIndexUtil.legacyHash(value);
+        return legacyHash == null ? matches : matches.or(qCompanyIndex.legacyHashValue.eq(legacyHash));
+    }
+}
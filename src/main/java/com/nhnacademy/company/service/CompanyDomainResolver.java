@@ -0,0 +1,275 @@
+package com.nhnacademy.company.service;
+
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.event.CompanyDomainChangedEvent;
+import com.nhnacademy.company.repository.CompanyRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 평문 회사 도메인을 companies 의 PK(회사 번호)와 활성 여부로 바꿔 주는 메모리 매핑입니다.
+ * <p>
+ * 회원 가입, 회사 조회, 회사별 회원 목록 조회는 모두 평문 도메인으로 시작하지만, 도메인은 암호문으로만 저장되므로
+ * 매번 {@code companies_index}를 거쳐 회사 번호를 찾아야 했습니다.
+ * 이 매핑은 도메인 블라인드 인덱스(HMAC)를 키로 기동 시 {@code companies_index}와 {@code companies}를 한 번 읽어 채우고,
+ * 회사 등록/활성화/비활성화를 커밋 이후에 반영하며, {@code company.domain-cache.refresh-minutes} 마다 다시 만듭니다.
+ * 회사 번호는 키 교체로 도메인 암호문이 바뀌어도 그대로이므로 매핑을 고칠 필요가 없습니다.
+ * <p>
+ * 매핑에 없으면 DB 에서 찾아 추가하므로, 다른 인스턴스에서 방금 등록한 회사도 찾을 수 있습니다.
+ * DB 에서 찾은 값은 조회한 트랜잭션이 커밋된 뒤에만 추가하므로, 롤백된 트랜잭션에서만 보인 회사는 매핑에 남지 않습니다.
+ * <p>
+ * 매핑에 있는 회사 번호는 조회할 때마다 {@code companies}의 PK 로 존재/활성 여부를 확인하고,
+ * 회사가 없으면 항목을 지운 뒤 인덱스로 다시 찾습니다. ({@code companies_index} 조인과 HMAC 비교는 생략)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyDomainResolver implements MeterBinder {
+
+    /**
+     * 도메인 조회 결과.
+     *
+     * @param companyNo 회사 번호 (companies 의 PK)
+     * @param active    활성 여부
+     */
+    public record ResolvedCompany(long companyNo, boolean active) {
+
+        static ResolvedCompany of(Company company) {
+            return new ResolvedCompany(company.getCompanyNo(), company.isActive());
+        }
+    }
+
+    private static final String METRIC_PREFIX = "company.domain.resolver";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyRepository companyRepository;
+
+    @Value("${company.domain-cache.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 재생성 주기(분). 0 이하이면 기동 시 한 번만 만듭니다.
+     */
+    @Value("${company.domain-cache.refresh-minutes:10}")
+    private long refreshMinutes;
+
+    private volatile Map<ByteBuffer, ResolvedCompany> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 재생성 중인 매핑. 그 사이 들어온 변경을 함께 반영해 교체 후 누락되지 않도록 합니다.
+     */
+    private volatile Map<ByteBuffer, ResolvedCompany> building;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("company-domain-resolver").daemon(true).factory());
+        if (refreshMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::refreshSafely, 0, refreshMinutes, TimeUnit.MINUTES);
+        } else {
+            scheduler.execute(this::refreshSafely);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 평문 도메인을 PK 와 활성 여부로 바꿉니다. 매핑에 없으면 DB 에서 찾아 추가합니다.
+     * 매핑에 있으면 회사 번호로 존재/활성 여부만 확인하고, 회사가 없으면 매핑을 지우고 DB 에서 다시 찾습니다.
+     *
+     * @param companyDomain 회사 도메인 (평문)
+     * @return 조회 결과, 등록되지 않은 도메인이면 empty
+     */
+    public Optional<ResolvedCompany> resolve(String companyDomain) {
+        if (!enabled) {
+            return companyRepository.findByBlindIndex(companyDomain, "domain").map(ResolvedCompany::of);
+        }
+        ByteBuffer key = keyOf(companyDomain);
+        ResolvedCompany cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+            return loadFromDatabase(companyDomain, key).map(ResolvedCompany::of);
+        }
+        List<Boolean> active = jdbcTemplate.queryForList(
+                "SELECT is_active FROM companies WHERE company_no = ?", Boolean.class, cached.companyNo());
+        if (active.isEmpty()) {
+            log.debug("회사 도메인 매핑이 낡아 다시 조회합니다: {}", companyDomain);
+            apply(map -> map.remove(key, cached));
+            misses.increment();
+            return loadFromDatabase(companyDomain, key).map(ResolvedCompany::of);
+        }
+        hits.increment();
+        ResolvedCompany current = new ResolvedCompany(cached.companyNo(), Boolean.TRUE.equals(active.getFirst()));
+        if (!current.equals(cached)) {
+            // 다른 인스턴스에서 바뀐 활성 여부
+            apply(map -> map.replace(key, cached, current));
+        }
+        return Optional.of(current);
+    }
+
+    /**
+     * 평문 도메인으로 회사 엔티티를 PK 로 조회합니다.
+     * 매핑이 낡아 PK 로 찾지 못하면 매핑을 지우고 DB 에서 다시 찾습니다.
+     *
+     * @param companyDomain 회사 도메인 (평문)
+     * @return 회사 엔티티, 등록되지 않은 도메인이면 empty
+     */
+    public Optional<Company> findCompany(String companyDomain) {
+        if (!enabled) {
+            return companyRepository.findByBlindIndex(companyDomain, "domain");
+        }
+        ByteBuffer key = keyOf(companyDomain);
+        ResolvedCompany cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+            return loadFromDatabase(companyDomain, key);
+        }
+        hits.increment();
+        Optional<Company> company = companyRepository.findById(cached.companyNo());
+        if (company.isPresent()) {
+            return company;
+        }
+        log.debug("회사 도메인 매핑이 낡아 다시 조회합니다: {}", companyDomain);
+        apply(map -> map.remove(key, cached));
+        return loadFromDatabase(companyDomain, key);
+    }
+
+    /**
+     * 회사 등록/활성화/비활성화가 커밋된 뒤 매핑을 갱신합니다.
+     *
+     * @param event 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCompanyChanged(CompanyDomainChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        ByteBuffer key = keyOf(event.companyDomain());
+        ResolvedCompany value = new ResolvedCompany(event.companyNo(), event.active());
+        apply(map -> map.put(key, value));
+    }
+
+    /**
+     * {@code companies_index}의 도메인 인덱스와 회사를 조인해 매핑을 다시 만듭니다.
+     * 백필 전(이전 형식만 있는) 행은 건너뛰며, 조회 시 DB 에서 찾아 추가됩니다.
+     */
+    void refresh() {
+        Map<ByteBuffer, ResolvedCompany> next = new ConcurrentHashMap<>();
+        building = next;
+        try {
+            jdbcTemplate.query(
+                    "SELECT ci.hash_key, c.company_no, c.is_active FROM companies_index ci "
+                            + "JOIN companies c ON c.company_no = ci.company_no "
+                            + "WHERE ci.field_name = 'domain' AND ci.hash_key IS NOT NULL",
+                    rs -> {
+                        // 읽는 동안 커밋된 변경이 먼저 반영되었으면 그 값을 유지
+                        next.putIfAbsent(ByteBuffer.wrap(rs.getBytes(1)),
+                                new ResolvedCompany(rs.getLong(2), rs.getBoolean(3)));
+                    });
+            entries = next;
+            log.info("회사 도메인 매핑 생성: {}건", next.size());
+        } finally {
+            building = null;
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.error("회사 도메인 매핑 생성에 실패했습니다. 기존 매핑(없으면 DB 조회)을 계속 사용합니다.", e);
+        }
+    }
+
+    private Optional<Company> loadFromDatabase(String companyDomain, ByteBuffer key) {
+        Optional<Company> company = companyRepository.findByBlindIndex(companyDomain, "domain");
+        company.ifPresent(found -> {
+            ResolvedCompany value = ResolvedCompany.of(found);
+            // 그 사이 커밋 이후 이벤트로 반영된 값이 있으면 덮어쓰지 않음
+            Runnable put = () -> apply(map -> map.putIfAbsent(key, value));
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                // 아직 커밋되지 않은 회사일 수 있으므로 조회한 트랜잭션이 커밋된 뒤에 추가
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        put.run();
+                    }
+                });
+            } else {
+                put.run();
+            }
+        });
+        return company;
+    }
+
+    private void apply(Consumer<Map<ByteBuffer, ResolvedCompany>> change) {
+        Map<ByteBuffer, ResolvedCompany> next = building;
+        if (next != null) {
+            change.accept(next);
+        }
+        change.accept(entries);
+    }
+
+    private static ByteBuffer keyOf(String companyDomain) {
+        return ByteBuffer.wrap(BlindIndexUtil.hash(companyDomain));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".lookups", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("인덱스 조회 없이 끝난 도메인 조회 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".lookups", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("인덱스 조회로 넘긴 도메인 조회 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, r -> r.entries.size())
+                .description("매핑된 회사 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".refresh.failures", refreshFailures, LongAdder::sum)
+                .description("실패한 매핑 생성 수")
+                .register(registry);
+    }
+}
@@ -4,6 +4,7 @@ package com.nhnacademy.company.service;
 import com.nhnacademy.company.dto.request.CompanyUpdateEmailRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateRequest;
 import com.nhnacademy.company.dto.request.CompanyRegisterRequest;
+import com.nhnacademy.company.dto.request.CompanySearchRequest;
 import com.nhnacademy.company.dto.response.CompanyResponse;
 
 import java.util.List;
@@ -33,6 +34,14 @@ public interface CompanyService {
      */
     CompanyResponse getCompanyByDomain(String companyDomain);
 
+    /**
+     * 회사의 번호와 변경 버전만 조회합니다. 조건부 조회(If-None-Match)에서 회사 정보를 읽지 않고 304 여부를 판단할 때 사용합니다.
+     *
+     * @param companyDomain 회사 도메인
+     * @return 회사 번호와 변경 버전
+     */
+    CompanyVersion getCompanyVersion(String companyDomain);
+
     /**
      * 기존 회사의 정보(이름, 연락처, 주소)를 수정합니다.
      * 회사 도메인(PK)은 변경할 수 없습니다.
@@ -78,4 +87,22 @@ public interface CompanyService {
      */
     List<CompanyResponse> getAllCompanies();
 
+    /**
+     * 이름/이메일/연락처/주소의 정확한 값으로 회사를 검색합니다.
+     * 전체 회사를 읽어 복호화하지 않고 블라인드 인덱스로 일치하는 회사만 조회합니다.
+     * 같은 필드의 여러 값은 OR(일괄 조회), 필드끼리는 AND 로 결합합니다.
+     *
+     * @param request 검색 조건이 담긴 {@link CompanySearchRequest} DTO
+     * @return 조건과 일치하는 회사 정보 목록 ({@link CompanyResponse})
+     */
+    List<CompanyResponse> searchCompanies(CompanySearchRequest request);
+
+    /**
+     * 조건부 조회용 회사 번호와 변경 버전.
+     *
+     * @param companyNo 회사 번호
+     * @param version   변경 버전
+     */
+    record CompanyVersion(long companyNo, long version) {
+    }
 }
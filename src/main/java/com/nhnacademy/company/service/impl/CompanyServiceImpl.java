@@ -1,7 +1,6 @@
 package com.nhnacademy.company.service.impl;
 
-import com.nhnacademy.common.util.AESUtil;
-import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.common.bloom.BlindIndexBloomFilter;
 import com.nhnacademy.company.common.AlreadyExistCompanyException;
 import com.nhnacademy.company.common.NotExistCompanyException;
 import com.nhnacademy.company.common.NotFoundCompanyByEmailException;
@@ -10,9 +9,13 @@ import com.nhnacademy.company.domain.CompanyIndex;
 import com.nhnacademy.company.dto.request.CompanyUpdateEmailRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateRequest;
 import com.nhnacademy.company.dto.request.CompanyRegisterRequest;
+import com.nhnacademy.company.dto.request.CompanySearchRequest;
 import com.nhnacademy.company.dto.response.CompanyResponse;
+import com.nhnacademy.company.event.CompanyDeactivatedEvent;
+import com.nhnacademy.company.event.CompanyDomainChangedEvent;
 import com.nhnacademy.company.repository.CompanyIndexRepository;
 import com.nhnacademy.company.repository.CompanyRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
 import com.nhnacademy.company.service.CompanyService;
 import com.nhnacademy.member.domain.Member;
 import com.nhnacademy.member.repository.MemberRepository;
@@ -22,13 +25,20 @@ import jakarta.ws.rs.InternalServerErrorException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -50,10 +60,25 @@ public class CompanyServiceImpl implements CompanyService {
     private final CompanyRepository companyRepository;
     private final CompanyIndexRepository companyIndexRepository;
     private final RoleRepository roleRepository;
+    private final BlindIndexBloomFilter blindIndexBloomFilter;
+    private final CompanyDomainResolver companyDomainResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.security.owner-role-id:ROLE_OWNER}")
     private String ownerRoleId;
 
+    /**
+     * 검색 한 번에 허용하는 값 수 (모든 필드 합계).
+     */
+    @Value("${company.search.max-values:100}")
+    private int searchMaxValues;
+
+    /**
+     * 검색 결과 최대 건수.
+     */
+    @Value("${company.search.max-results:100}")
+    private int searchMaxResults;
+
     /**
      * {@inheritDoc}
      * 이 구현체는 단일 트랜잭션 내에서 다음 작업을 순차적으로 수행합니다:
@@ -72,47 +97,36 @@ public class CompanyServiceImpl implements CompanyService {
         log.debug("신규 회사 및 Owner 등록 요청 시작: 도메인 {}", request.getCompanyDomain());
 
         // 회사 도메인 중복 체크
-        if (companyIndexRepository.existsByHashValueAndFieldName(HashUtil.sha256Hex(request.getCompanyDomain()), "domain")) {
+        if (blindIndexBloomFilter.mightContain(BlindIndexBloomFilter.Target.COMPANY, request.getCompanyDomain())
+                && companyIndexRepository.existsByBlindIndex(request.getCompanyDomain(), "domain")) {
             log.warn("회사 등록 실패: 이미 존재하는 도메인 {}", request.getCompanyDomain());
             throw new AlreadyExistCompanyException("이미 사용 중인 회사 도메인입니다.");
         }
-        //해쉬값 구하기.
-        String domainHash = HashUtil.sha256Hex(request.getCompanyDomain());
-        String nameHash = HashUtil.sha256Hex(request.getCompanyName());
-        String emailHash = HashUtil.sha256Hex(request.getCompanyEmail());
-        String mobileHash = HashUtil.sha256Hex(request.getCompanyMobile());
-        String addressHash = HashUtil.sha256Hex(request.getCompanyAddress());
-
-        // 개인정보 암호화
-        String encryptedDomain = AESUtil.encrypt(request.getCompanyDomain());
-        String encryptedName = AESUtil.encrypt(request.getCompanyName());
-        String encryptedEmail = AESUtil.encrypt(request.getCompanyEmail());
-        String encryptedMobile = AESUtil.encrypt(request.getCompanyMobile());
-        String encryptedAddress = AESUtil.encrypt(request.getCompanyAddress());
-
-        //인덱스 테이블에 추가
-        List<CompanyIndex> indices = List.of(
-                new CompanyIndex(encryptedDomain, "domain", domainHash),
-                new CompanyIndex(encryptedDomain, "name", nameHash),
-                new CompanyIndex(encryptedDomain, "email", emailHash),
-                new CompanyIndex(encryptedDomain, "mobile", mobileHash),
-                new CompanyIndex(encryptedDomain, "address", addressHash)
-        );
-        companyIndexRepository.saveAll(indices);
-        log.debug("인덱스 테이블에 저장 완료");
-
-        // 신규 회사 생성
+        // 신규 회사 생성 (인덱스가 참조할 회사 번호를 받기 위해 먼저 저장, 암호화는 엔티티가 필드별 엔진으로 수행)
         Company newCompany = Company.ofNewCompany(
-                encryptedDomain,
-                encryptedName,
-                encryptedEmail,
-                encryptedMobile,
-                encryptedAddress
+                request.getCompanyDomain(),
+                request.getCompanyName(),
+                request.getCompanyEmail(),
+                request.getCompanyMobile(),
+                request.getCompanyAddress()
         );
         log.debug("신규 회사 생성: {}", newCompany);
         Company savedCompany = companyRepository.save(newCompany);
         log.debug("등록된 회사: {}", savedCompany);
 
+        //인덱스 테이블에 추가 (블라인드 인덱스 계산, 입력하지 않은 이메일은 엔티티처럼 건너뜀)
+        Long companyNo = savedCompany.getCompanyNo();
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("domain", request.getCompanyDomain());
+        fields.put("name", request.getCompanyName());
+        fields.put("email", request.getCompanyEmail());
+        fields.put("mobile", request.getCompanyMobile());
+        fields.put("address", request.getCompanyAddress());
+        saveIndices(companyNo, presentValues(fields));
+        log.debug("인덱스 테이블에 저장 완료");
+        eventPublisher.publishEvent(new CompanyDomainChangedEvent(
+                request.getCompanyDomain(), companyNo, savedCompany.isActive()));
+
         return mapToCompanyResponse(savedCompany);
     }
 
@@ -127,16 +141,28 @@ public class CompanyServiceImpl implements CompanyService {
     public CompanyResponse getCompanyByDomain(String companyDomain) {
         log.debug("회사 정보 조회 요청: 도메인 {}", companyDomain);
 
-        String hashDomain = HashUtil.sha256Hex(companyDomain);
-
-        if(!companyIndexRepository.existsByHashValue(hashDomain)) {
-            throw new NotExistCompanyException(companyDomain);
-        }
         Company company = findCompanyByIdOrThrow(companyDomain);
         log.debug("회사 정보 조회 성공: {}", company.getCompanyDomain());
         return mapToCompanyResponse(company);
     }
 
+    /**
+     * {@inheritDoc}
+     * 도메인은 메모리 매핑으로 회사 번호로 바꾸고, 버전 컬럼 하나만 조회합니다.
+     * 매핑에 없는 도메인이거나 회사를 찾지 못하면 {@code NotExistCompanyException}이 발생합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyVersion getCompanyVersion(String companyDomain) {
+        if(companyDomain == null || companyDomain.isBlank()){
+            throw new IllegalArgumentException("조회할려는 회사의 도메인 정보를 정확히 입력하세요.");
+        }
+        return companyDomainResolver.resolve(companyDomain)
+                .flatMap(resolved -> companyRepository.findVersionByCompanyNo(resolved.companyNo())
+                        .map(version -> new CompanyVersion(resolved.companyNo(), version)))
+                .orElseThrow(() -> new NotExistCompanyException(companyDomain));
+    }
+
 
     /**
      * {@inheritDoc}
@@ -149,11 +175,20 @@ public class CompanyServiceImpl implements CompanyService {
     public CompanyResponse updateCompany(String companyDomain, CompanyUpdateRequest request) {
         log.debug("회사 정보 수정 요청: 도메인 {}", companyDomain);
         Company company = findCompanyByIdOrThrow(companyDomain);
+        // 입력하지 않은(null/빈) 필드는 엔티티와 인덱스 모두 기존 값을 유지
         company.updateDetails(
-                AESUtil.encrypt(request.getCompanyName()),
-                AESUtil.encrypt(request.getCompanyMobile()),
-                AESUtil.encrypt(request.getCompanyAddress())
+                request.getCompanyName(),
+                request.getCompanyMobile(),
+                request.getCompanyAddress()
         );
+        // 검색용 인덱스도 바뀐 값으로 교체
+        Map<String, String> changed = new LinkedHashMap<>();
+        changed.put("name", request.getCompanyName());
+        changed.put("mobile", request.getCompanyMobile());
+        changed.put("address", request.getCompanyAddress());
+        replaceIndices(company.getCompanyNo(), changed);
+        // 버전은 UPDATE 문에서 증가하므로 반영 후 응답을 만듦
+        companyRepository.flush();
         log.debug("회사 정보 수정 완료: 도메인 {}", companyDomain);
 
         return mapToCompanyResponse(company);
@@ -169,8 +204,13 @@ public class CompanyServiceImpl implements CompanyService {
     @Override
     public CompanyResponse updateCompanyEmail(String companyDomain, CompanyUpdateEmailRequest request) {
         log.debug("회사 정보 수정 요청: 도메인 {}", companyDomain);
+        if (request.getNewEmail() == null || request.getNewEmail().isBlank()) {
+            throw new IllegalArgumentException("변경할 회사 이메일을 입력하세요.");
+        }
         Company company = findCompanyByIdOrThrow(companyDomain);
-        company.updateEmail(AESUtil.encrypt(request.getNewEmail()));
+        company.updateEmail(request.getNewEmail());
+        replaceIndices(company.getCompanyNo(), Collections.singletonMap("email", request.getNewEmail()));
+        companyRepository.flush();
         log.debug("회사 정보 수정 완료: 도메인 {}", companyDomain);
 
         return mapToCompanyResponse(company);
@@ -188,6 +228,8 @@ public class CompanyServiceImpl implements CompanyService {
         log.debug("회사 비활성화 요청: 도메인 {}", companyDomain);
         Company company = findCompanyByIdOrThrow(companyDomain);
         company.deactivate();
+        eventPublisher.publishEvent(new CompanyDomainChangedEvent(companyDomain, company.getCompanyNo(), false));
+        eventPublisher.publishEvent(new CompanyDeactivatedEvent(company.getCompanyNo()));
         log.info("회사 비활성화 완료: 도메인 {}", companyDomain);
     }
 
@@ -203,6 +245,7 @@ public class CompanyServiceImpl implements CompanyService {
         log.debug("회사 활성화 요청: 도메인 {}", companyDomain);
         Company company = findCompanyByIdOrThrow(companyDomain);
         company.activate();
+        eventPublisher.publishEvent(new CompanyDomainChangedEvent(companyDomain, company.getCompanyNo(), true));
         log.info("회사 활성화 완료: 도메인 {}", companyDomain);
     }
 
@@ -212,7 +255,7 @@ public class CompanyServiceImpl implements CompanyService {
      * {@inheritDoc}
      * {@code @Transactional(readOnly = true)}로 설정되어 읽기 전용으로 실행됩니다.
      * {@link CompanyRepository#findAll()}을 호출하여 모든 회사 엔티티를 조회한 후,
-     * 각 엔티티를 {@link #mapToCompanyResponse(Company)}를 통해 {@link CompanyResponse} DTO로 변환하여 리스트로 반환합니다.
+     * 각 엔티티를 {@link #mapToCompanyResponses(List)}를 통해 {@link CompanyResponse} DTO로 변환하여 리스트로 반환합니다.
      */
     @Override
     @Transactional(readOnly = true)
@@ -220,13 +263,97 @@ public class CompanyServiceImpl implements CompanyService {
         log.debug("모든 회사 목록 조회 요청");
         List<Company> companies = companyRepository.findAll();
         log.error("총 {}개의 회사 조회됨.", companies.size());
-        return companies.stream()
-                .map(this::mapToCompanyResponse)
-                .toList();
+        return mapToCompanyResponses(companies);
+    }
+
+    /**
+     * {@inheritDoc}
+     * {@code @Transactional(readOnly = true)}로 설정되어 읽기 전용으로 실행됩니다.
+     * 비어 있는 값은 무시하고 같은 값은 한 번만 검색하며, 값이 {@code company.search.max-values}개를 넘거나
+     * 검색할 값이 없으면 {@code IllegalArgumentException}이 발생합니다.
+     * 결과는 등록 순서로 최대 {@code company.search.max-results}건입니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CompanyResponse> searchCompanies(CompanySearchRequest request) {
+        Map<String, Set<String>> criteria = new LinkedHashMap<>();
+        addCriterion(criteria, "name", request.getCompanyName());
+        addCriterion(criteria, "email", request.getCompanyEmail());
+        addCriterion(criteria, "mobile", request.getCompanyMobile());
+        addCriterion(criteria, "address", request.getCompanyAddress());
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("검색할 값을 하나 이상 입력하세요.");
+        }
+        int valueCount = criteria.values().stream().mapToInt(Set::size).sum();
+        if (valueCount > searchMaxValues) {
+            throw new IllegalArgumentException("한 번에 검색할 수 있는 값은 최대 " + searchMaxValues + "개입니다.");
+        }
+
+        List<Company> companies = companyRepository.findAllByBlindIndexes(criteria, searchMaxResults);
+        log.debug("회사 검색: 필드 {}, 값 {}개, 결과 {}건", criteria.keySet(), valueCount, companies.size());
+        return mapToCompanyResponses(companies);
+    }
+
+    private static void addCriterion(Map<String, Set<String>> criteria, String fieldName, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                distinct.add(value);
+            }
+        }
+        if (!distinct.isEmpty()) {
+            criteria.put(fieldName, distinct);
+        }
+    }
+
+    /**
+     * 값이 바뀐 필드의 블라인드 인덱스를 새 값으로 교체합니다.
+     * null/빈 값은 엔티티에서도 변경하지 않는 필드이므로 건너뜁니다.
+     *
+     * @param companyNo 회사 번호
+     * @param changed   필드명 -> 새 평문 값
+     */
+    private void replaceIndices(Long companyNo, Map<String, String> changed) {
+        Map<String, String> targets = presentValues(changed);
+        if (targets.isEmpty()) {
+            return;
+        }
+        companyIndexRepository.deleteByCompanyNoAndFieldNames(companyNo, targets.keySet());
+        saveIndices(companyNo, targets);
+    }
+
+    /**
+     * 필드별 블라인드 인덱스를 저장하고, 커밋 후 Bloom 필터에 추가합니다.
+     *
+     * @param companyNo 회사 번호
+     * @param values    필드명 -> 평문 값 (null/빈 값 없음)
+     */
+    private void saveIndices(Long companyNo, Map<String, String> values) {
+        List<CompanyIndex> indices = new ArrayList<>(values.size());
+        values.forEach((fieldName, value) -> indices.add(CompanyIndex.of(companyNo, fieldName, value)));
+        companyIndexRepository.saveAll(indices);
+        indices.forEach(index -> blindIndexBloomFilter.put(BlindIndexBloomFilter.Target.COMPANY, index.getHashValue()));
+    }
+
+    /**
+     * @return null/빈 값을 제외한 필드 (엔티티에도 저장하지 않는 값이므로 인덱스도 만들지 않음)
+     */
+    private static Map<String, String> presentValues(Map<String, String> values) {
+        Map<String, String> present = new LinkedHashMap<>();
+        values.forEach((fieldName, value) -> {
+            if (value != null && !value.isBlank()) {
+                present.put(fieldName, value);
+            }
+        });
+        return present;
     }
 
     /**
      * 주어진 ID(도메인)로 Company를 조회하고, 없으면 NotExistCompanyException을 발생시키는 내부 헬퍼 메서드입니다.
+     * 도메인 -> PK 매핑({@link CompanyDomainResolver})으로 PK 를 얻어 조회하며, 매핑에 없을 때만 인덱스를 거칩니다.
      *
      * @param companyDomain 조회할 회사의 고유 도메인
      * @return 조회된 Company 엔티티
@@ -237,11 +364,7 @@ public class CompanyServiceImpl implements CompanyService {
             throw new IllegalArgumentException("조회할려는 회사의 도메인 정보를 정확히 입력하세요.");
         }
 
-        String hashKey = HashUtil.sha256Hex(companyDomain);
-        CompanyIndex companyIndex = companyIndexRepository.findByHashValue(hashKey).orElseThrow(
-                () -> new NotExistCompanyException(companyDomain));
-
-        return companyRepository.findById(companyIndex.getCompanyDomain())
+        return companyDomainResolver.findCompany(companyDomain)
                 .orElseThrow(() -> {
                     log.warn("내부 조회 실패: 존재하지 않는 회사 도메인 {}", companyDomain);
                     return new NotExistCompanyException(companyDomain);
@@ -249,7 +372,8 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     /**
-     * Company 엔티티를 디코딩하여 CompanyResponse DTO로 변환하는 내부 헬퍼 메서드입니다.
+     * Company 엔티티를 CompanyResponse DTO로 변환하는 내부 헬퍼 메서드입니다.
+     * 암호화 컬럼은 복호화하지 않고 엔티티의 값 객체를 그대로 넘기며, 응답 직렬화 시점에 복호화됩니다.
      * @param company 변환할 Company 엔티티
      * @return 변환된 CompanyResponse DTO
      */
@@ -257,14 +381,29 @@ public class CompanyServiceImpl implements CompanyService {
         if(Objects.isNull(company)) {
             throw new IllegalArgumentException("DTO 변환 문제 발생!");
         }
-        return new CompanyResponse(
-                AESUtil.decrypt(company.getCompanyDomain()),
-                AESUtil.decrypt(company.getCompanyName()),
-                AESUtil.decrypt(company.getCompanyEmail()),
-                AESUtil.decrypt(company.getCompanyMobile()),
-                AESUtil.decrypt(company.getCompanyAddress()),
+        return CompanyResponse.ofEncrypted(
+                company.getCompanyDomain(),
+                company.getCompanyName(),
+                company.getCompanyEmail(),
+                company.getCompanyMobile(),
+                company.getCompanyAddress(),
                 company.getRegisteredAt(),
-                company.isActive()
+                company.isActive(),
+                company.getCompanyNo() == null ? 0L : company.getCompanyNo(),
+                company.getVersion()
         );
     }
+
+    /**
+     * 여러 Company 엔티티를 CompanyResponse DTO 목록으로 변환하는 내부 헬퍼 메서드입니다.
+     * @param companies 변환할 Company 엔티티 목록
+     * @return 변환된 CompanyResponse DTO 목록
+     */
+    private List<CompanyResponse> mapToCompanyResponses(List<Company> companies) {
+        List<CompanyResponse> responses = new ArrayList<>(companies.size());
+        for (Company company : companies) {
+            responses.add(mapToCompanyResponse(company));
+        }
+        return responses;
+    }
 }
@@ -1,5 +1,9 @@
 package com.nhnacademy.member.domain;
 
+import com.nhnacademy.common.annotation.Encrypted;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import com.nhnacademy.common.crypto.FieldCipher;
+import com.nhnacademy.common.crypto.FieldCiphers;
 import com.nhnacademy.company.domain.Company;
 import com.nhnacademy.role.domain.Role;
 import jakarta.persistence.*;
@@ -8,6 +12,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 
@@ -15,12 +22,20 @@ import java.time.LocalDateTime;
  * 회원 정보를 저장하는 엔티티 클래스입니다.
  */
 @Entity
-@Table(name = "members")
+// 스키마는 Flyway 마이그레이션(db/migration)이 관리합니다. (V4__lookup_indexes, V5__company_surrogate_key)
+@Table(name = "members", indexes = {
+        @Index(name = "idx_members_company_role", columnList = "company_no, role_id"),
+        @Index(name = "idx_members_last_login_at", columnList = "last_login_at")
+})
+// 로그인 시각은 LastLoginWriteBehind 가 JDBC 로 따로 저장하므로, 다른 변경이 읽어 둔 이전 값으로 덮어쓰지 않도록 바뀐 컬럼만 갱신
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
 public class Member {
 
+    private static final FieldCipher EMAIL_CIPHER = FieldCiphers.forField(Member.class, "memberEmail");
+
     /**
      * 회원 고유 식별자 (UUID).
      */
@@ -34,7 +49,7 @@ public class Member {
      * 회원이 속한 회사 정보.
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "company_domain", referencedColumnName = "company_domain", nullable = false)
+    @JoinColumn(name = "company_no", referencedColumnName = "company_no", nullable = false)
     private Company company;
 
     /**
@@ -45,11 +60,13 @@ public class Member {
     private Role role;
 
     /**
-     * 회원 이메일 주소.
+     * 회원 이메일 주소. 평문으로 받아 {@link Encrypted}에 지정된 엔진으로 암호화해 저장합니다.
+     * 조회 시 복호화하지 않고, {@link EncryptedValue#plaintext()} 최초 호출 시 복호화합니다.
      */
+    @Encrypted
     @Column(name = "member_email", length = 100, nullable = false, unique = true)
     @Comment("회원 이메일")
-    private String memberEmail;
+    private EncryptedValue memberEmail;
 
     /**
      * 회원 비밀번호.
@@ -80,6 +97,16 @@ public class Member {
     @Comment("탈퇴일시")
     private LocalDateTime withdrawalAt;
 
+    /**
+     * 변경 버전. 엔티티 UPDATE 마다 SQL 에서 {@code version = version + 1} 로 증가하며 조회 응답의 ETag 로 사용합니다.
+     * 읽은 값을 되쓰지 않으므로 동시 수정이나 로그인 시각 지연 저장과 겹쳐도 증가분이 사라지지 않습니다.
+     * 동시 수정을 막는 낙관적 잠금({@code @Version})은 아니므로, 로그인 시각 갱신이 다른 변경을 실패시키지 않습니다.
+     */
+    @Generated(event = EventType.UPDATE, sql = "version + 1")
+    @Column(name = "version", nullable = false)
+    @Comment("변경 버전")
+    private long version;
+
     @PrePersist
     protected void prePersist() {
         this.registeredAt = LocalDateTime.now();
@@ -91,13 +118,13 @@ public class Member {
      *
      * @param company       소속 회사
      * @param role          회원 역할
-     * @param memberEmail   회원 이메일
+     * @param memberEmail   회원 이메일 (평문)
      * @param memberPassword 해싱된 비밀번호
      */
     public Member(Company company, Role role, String memberEmail, String memberPassword) {
         this.company = company;
         this.role = role;
-        this.memberEmail = memberEmail;
+        this.memberEmail = EncryptedValue.of(memberEmail, EMAIL_CIPHER);
         this.memberPassword = memberPassword;
     }
 
@@ -117,6 +144,9 @@ public class Member {
                 || memberPassword == null) {
             throw new IllegalArgumentException("Member 생성에 필요한 인자가 null입니다.");
         }
+        if (memberEmail.isBlank()) {
+            throw new IllegalArgumentException("회원 이메일은 필수입니다.");
+        }
         return new Member(company, role, memberEmail, memberPassword);
     }
 
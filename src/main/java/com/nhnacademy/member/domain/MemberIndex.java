@@ -1,18 +1,25 @@
 package com.nhnacademy.member.domain;
 
-
+import com.nhnacademy.common.util.BlindIndexUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "member_index")
+// 스키마는 Flyway 마이그레이션(db/migration)이 관리합니다. (V4__lookup_indexes, V6__member_index_tokens)
+@Table(name = "member_index", indexes = {
+        @Index(name = "uk_member_index_field_hash_key", columnList = "field_name, hash_key, member_no", unique = true),
+        @Index(name = "idx_member_index_field_hash_value", columnList = "field_name, hash_value")
+})
 @Getter
 @NoArgsConstructor
 @ToString
@@ -29,13 +36,31 @@ public class MemberIndex {
     @Column(name = "field_name", length = 20, nullable = false)
     private String fieldName;
 
-    // 해시된 값 (SHA-256 등)
-    @Column(name = "hash_value", length = 64, nullable = false)
-    private String hashValue;
+    // HMAC-SHA256 블라인드 인덱스 (32바이트), 이전 형식 행은 백필 전까지 null
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "hash_key", length = BlindIndexUtil.LENGTH)
+    private byte[] hashValue;
+
+    // 이전 형식 해시 (SHA-256 hex), 백필이 끝나면 저장하지 않음
+    @Column(name = "hash_value", length = 64)
+    private String legacyHashValue;
 
-    public MemberIndex(Long memberNo, String fieldName, String hashValue) {
+    public MemberIndex(Long memberNo, String fieldName, byte[] hashValue, String legacyHashValue) {
         this.memberNo = memberNo;
         this.fieldName = fieldName;
         this.hashValue = hashValue;
+        this.legacyHashValue = legacyHashValue;
+    }
+
+    /**
+     * 평문으로 블라인드 인덱스를 계산해 인덱스 행을 만듭니다.
+     *
+     * @param memberNo  회원 번호
+     * @param fieldName 필드명
+     * @param value     인덱스를 만들 평문
+     * @return 인덱스 행
+     */
+    public static MemberIndex of(Long memberNo, String fieldName, String value) {
+        return new MemberIndex(memberNo, fieldName, BlindIndexUtil.hash(value), BlindIndexUtil.legacyHash(value));
     }
 }
\ No newline at end of file
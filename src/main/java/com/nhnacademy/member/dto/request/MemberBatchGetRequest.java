@@ -0,0 +1,21 @@
+package com.nhnacademy.member.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다른 서비스가 회원 번호 여러 개로 회원 정보를 한 번에 요청할 때 사용하는 DTO 클래스입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBatchGetRequest {
+
+    /**
+     * 조회할 회원 번호 목록. (최대 {@code member.batch-get.max-size}개)
+     */
+    private List<Long> memberNos;
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.member.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다른 서비스(예: Auth API)가 여러 회원의 로그인 정보를 한 번에 요청할 때 사용하는 DTO 클래스입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberLoginBatchRequest {
+
+    /**
+     * 조회할 회원 이메일 목록. (최대 {@code member.login-info.batch.max-size}개)
+     */
+    private List<String> emails;
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.member.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 서비스(예: Auth API)가 로그인 시 비밀번호 검증을 요청할 때 사용하는 DTO 클래스입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPasswordVerifyRequest {
+
+    /**
+     * 회원 이메일.
+     */
+    @NotBlank
+    private String memberEmail;
+
+    /**
+     * 검증할 비밀번호 (평문).
+     */
+    @NotBlank
+    private String memberPassword;
+}
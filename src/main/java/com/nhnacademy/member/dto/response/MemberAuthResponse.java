@@ -0,0 +1,30 @@
+package com.nhnacademy.member.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비밀번호 검증에 성공한 회원의 인증 정보를 다른 서비스(예: Auth API)에 제공하기 위한 DTO입니다.
+ * {@link MemberLoginResponse}와 달리 비밀번호 해시를 포함하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberAuthResponse {
+
+    /**
+     * 회원 식별 아이디.
+     */
+    private Long memberNo;
+
+    /**
+     * 회원 이메일.
+     */
+    private String memberEmail;
+
+    /**
+     * 권한 아이디.
+     */
+    private String roleId;
+}
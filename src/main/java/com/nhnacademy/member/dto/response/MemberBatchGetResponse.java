@@ -0,0 +1,26 @@
+package com.nhnacademy.member.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 번호 여러 개로 조회한 회원 정보를 제공하기 위한 DTO 입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBatchGetResponse {
+
+    /**
+     * 찾은 회원 정보. (요청 순서)
+     */
+    private List<MemberResponse> members;
+
+    /**
+     * 존재하지 않는 회원 번호. (요청 순서)
+     */
+    private List<Long> missing;
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.member.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 회원의 로그인 정보를 한 번에 제공하기 위한 DTO 입니다.
+ * 해싱된 비밀번호를 포함합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberLoginBatchResponse {
+
+    /**
+     * 찾은 회원의 로그인 정보. (요청 순서)
+     */
+    private List<MemberLoginResponse> found;
+
+    /**
+     * 회원이 없거나 탈퇴한 이메일. (요청 순서)
+     */
+    private List<String> missing;
+}
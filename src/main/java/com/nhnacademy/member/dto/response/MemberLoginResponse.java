@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 /**
  * 다른 서비스(예: Auth API)에 로그인 관련 정보를 제공하기 위한 DTO입니다.
  * 해싱된 비밀번호를 포함합니다.
+ * 비밀번호 검증은 해시를 넘기지 않는 {@code POST /members/internal/password/verify}({@link MemberAuthResponse})를 사용하면
+ * 현재 BCrypt cost 로의 재해싱까지 함께 처리됩니다.
  */
 @Getter
 @NoArgsConstructor
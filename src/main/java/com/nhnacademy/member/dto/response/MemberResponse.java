@@ -1,7 +1,8 @@
 package com.nhnacademy.member.dto.response;
 
-import com.fasterxml.jackson.core.JsonToken;
-import com.querydsl.core.annotations.QueryProjection;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nhnacademy.common.crypto.EncryptedValue;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -9,10 +10,17 @@ import java.time.LocalDateTime;
 /**
  * 회원 정보 조회 응답 시 반환될 데이터를 담는 DTO 클래스입니다.
  * 비밀번호 등 민감 정보는 포함하지 않습니다.
+ * <p>
+ * 이메일/도메인은 암호문 그대로 담아 두고, JSON 직렬화 시점에 응답 스트림으로 바로 복호화합니다.
+ * 문자열 getter 는 평문을 반환합니다.
  */
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
 public class MemberResponse {
 
     /**
@@ -23,12 +31,12 @@ public class MemberResponse {
     /**
      * 회원 이메일.
      */
-    private String memberEmail;
+    private EncryptedValue memberEmail;
 
     /**
      * 소속 회사 도메인.
      */
-    private String companyDomain;
+    private EncryptedValue companyDomain;
 
     /**
      * 역할 ID (예: "ROLE_USER").
@@ -39,13 +47,25 @@ public class MemberResponse {
 
     private LocalDateTime lastLoginAt;
 
-    @QueryProjection
+    /**
+     * 회원 변경 버전. 응답 본문에는 포함하지 않고 ETag 를 만드는 데만 사용합니다.
+     */
+    @JsonIgnore
+    private long version;
+
+    /**
+     * 평문 값으로 응답을 만듭니다.
+     */
     public MemberResponse(Long memberNo, String memberEmail, String companyDomain, String roleId, LocalDateTime registerAt, LocalDateTime lastLoginAt) {
-        this.memberNo = memberNo;
-        this.memberEmail = memberEmail;
-        this.companyDomain = companyDomain;
-        this.roleId = roleId;
-        this.registerAt = registerAt;
-        this.lastLoginAt = lastLoginAt;
+        this(memberNo, EncryptedValue.decrypted(memberEmail), EncryptedValue.decrypted(companyDomain),
+                roleId, registerAt, lastLoginAt, 0L);
+    }
+
+    public String getMemberEmail() {
+        return EncryptedValue.plaintextOf(memberEmail);
+    }
+
+    public String getCompanyDomain() {
+        return EncryptedValue.plaintextOf(companyDomain);
     }
 }
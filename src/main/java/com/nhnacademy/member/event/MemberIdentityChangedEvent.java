@@ -0,0 +1,19 @@
+package com.nhnacademy.member.event;
+
+/**
+ * 이메일로 조회되는 회원 정보(비밀번호 해시, 권한, 탈퇴 여부, 마지막 로그인 시각)가 바뀌었음을 알리는 이벤트입니다.
+ * 트랜잭션 안에서 발행되며, 구독자는 커밋 이후에 처리합니다.
+ *
+ * @param memberNo    회원 번호
+ * @param memberEmail 회원 이메일 (평문)
+ * @param reason      변경 사유
+ */
+public record MemberIdentityChangedEvent(Long memberNo, String memberEmail, Reason reason) {
+
+    public enum Reason {
+        PASSWORD,
+        WITHDRAWAL,
+        ROLE,
+        LOGIN
+    }
+}
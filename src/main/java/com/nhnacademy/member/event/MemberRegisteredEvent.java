@@ -0,0 +1,21 @@
+package com.nhnacademy.member.event;
+
+import com.nhnacademy.common.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * 회원(또는 소유주)이 가입했음을 알리는 도메인 이벤트입니다.
+ *
+ * @param memberNo   회원 번호
+ * @param companyNo  소속 회사 번호
+ * @param roleId     가입 시 부여한 권한 아이디
+ * @param occurredAt 발생 시각
+ */
+public record MemberRegisteredEvent(Long memberNo, Long companyNo, String roleId, Instant occurredAt)
+        implements DomainEvent {
+
+    public MemberRegisteredEvent(Long memberNo, Long companyNo, String roleId) {
+        this(memberNo, companyNo, roleId, Instant.now());
+    }
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.member.event;
+
+import com.nhnacademy.common.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * 회원 권한이 바뀌었음을 알리는 도메인 이벤트입니다.
+ *
+ * @param memberNo       회원 번호
+ * @param previousRoleId 변경 전 권한 아이디
+ * @param roleId         변경 후 권한 아이디
+ * @param occurredAt     발생 시각
+ */
+public record MemberRoleChangedEvent(Long memberNo, String previousRoleId, String roleId, Instant occurredAt)
+        implements DomainEvent {
+
+    public MemberRoleChangedEvent(Long memberNo, String previousRoleId, String roleId) {
+        this(memberNo, previousRoleId, roleId, Instant.now());
+    }
+}
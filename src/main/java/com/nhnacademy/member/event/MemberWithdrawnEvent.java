@@ -0,0 +1,18 @@
+package com.nhnacademy.member.event;
+
+import com.nhnacademy.common.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * 회원이 탈퇴했음을 알리는 도메인 이벤트입니다.
+ *
+ * @param memberNo   회원 번호
+ * @param occurredAt 발생 시각
+ */
+public record MemberWithdrawnEvent(Long memberNo, Instant occurredAt) implements DomainEvent {
+
+    public MemberWithdrawnEvent(Long memberNo) {
+        this(memberNo, Instant.now());
+    }
+}
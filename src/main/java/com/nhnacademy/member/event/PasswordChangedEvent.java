@@ -0,0 +1,19 @@
+package com.nhnacademy.member.event;
+
+import com.nhnacademy.common.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * 회원이 비밀번호를 변경했음을 알리는 도메인 이벤트입니다.
+ * 로그인 시 cost 변경에 따른 재해싱은 비밀번호가 바뀐 것이 아니므로 발행하지 않습니다.
+ *
+ * @param memberNo   회원 번호
+ * @param occurredAt 발생 시각
+ */
+public record PasswordChangedEvent(Long memberNo, Instant occurredAt) implements DomainEvent {
+
+    public PasswordChangedEvent(Long memberNo) {
+        this(memberNo, Instant.now());
+    }
+}
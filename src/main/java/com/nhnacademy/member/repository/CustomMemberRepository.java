@@ -1,11 +1,115 @@
 package com.nhnacademy.member.repository;
 
+import com.nhnacademy.member.domain.Member;
 import com.nhnacademy.member.dto.response.MemberResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface CustomMemberRepository {
 
     Page<MemberResponse> findMembersFromCompanyDomain(String companyDomain, Pageable pageable, boolean isPending);
 
+    /**
+     * {@link #findMembersFromCompanyDomain(String, Pageable, boolean)}와 같은 조건의 회원 수, 변경 버전 합계, 회원 번호 합계를 조회합니다.
+     * 목록 안의 회원이 바뀌면 버전 합계가 늘고, 회원 하나가 빠지면서 다른 회원이 들어오면 (예: 승인 대기 회원 승인과 신규 가입이 겹침)
+     * 회원 수와 버전 합계가 같아도 회원 번호 합계가 달라집니다.
+     * 여러 회원이 동시에 빠지고 들어오면서 두 합계가 모두 맞아떨어지는 경우는 구분하지 못합니다.
+     * 암호화 컬럼을 읽지 않으므로 목록의 ETag 를 복호화 없이 만들 수 있습니다.
+     *
+     * @param companyDomain 회사 도메인 (평문)
+     * @param isPending     승인 대기 회원 목록이면 true
+     * @return 회원 수, 버전 합계, 회원 번호 합계
+     */
+    MemberListVersion findMemberListVersion(String companyDomain, boolean isPending);
+
+    /**
+     * 회사 소속 회원 중 주어진 토큰 해시를 모두 가진 회원을 조회합니다.
+     * {@code member_index}에서 (field_name, hash_key) 인덱스로 토큰별 회원을 찾아 회원 번호로 묶고,
+     * 토큰 수만큼 일치한 회원만 남기는 교집합을 한 번의 쿼리로 처리합니다.
+     *
+     * @param companyDomain 회사 도메인 (평문)
+     * @param fieldName     토큰 필드명 (예: "email_prefix")
+     * @param tokenHashes   중복 없는 토큰 해시
+     * @param limit         최대 조회 수
+     * @return 회원 번호 순 목록 (이메일은 응답 시 복호화)
+     */
+    List<MemberResponse> findMembersByTokens(String companyDomain, String fieldName,
+                                             Collection<byte[]> tokenHashes, int limit);
+
+    /**
+     * 블라인드 인덱스({@code member_index})와 회원을 조인해 한 번의 쿼리로 회원을 조회합니다.
+     * 이전 형식 인덱스를 사용하는 동안에는 새 형식/이전 형식 해시를 같은 쿼리에서 함께 비교합니다.
+     *
+     * @param value     평문 (예: 이메일)
+     * @param fieldName 인덱스 필드명 (예: "email")
+     * @return 회원 Optional 값
+     */
+    Optional<Member> findByBlindIndex(String value, String fieldName);
+
+    /**
+     * 이메일 블라인드 인덱스로 회원 정보 응답에 필요한 컬럼만 한 번의 쿼리로 조회합니다.
+     * 엔티티(스냅샷, 회사/역할 프록시)를 만들지 않으며, 이메일은 조회에 사용한 평문을 그대로 사용하고
+     * 회사 도메인은 암호문 그대로 담아 응답 직렬화 시점에 복호화합니다.
+     * 탈퇴한 회원도 조회됩니다. ({@link #findByBlindIndex(String, String)}와 같음)
+     *
+     * @param email 회원 이메일 (평문)
+     * @return 회원 정보 Optional 값
+     */
+    Optional<MemberResponse> findMemberResponseByEmail(String email);
+
+    /**
+     * 여러 회원 번호의 회원 정보를 응답에 필요한 컬럼만 한 번의 쿼리로 조회합니다.
+     * 엔티티를 만들지 않으며, 이메일과 회사 도메인은 행마다 복호화하지 않고 필드의 암호화 엔진으로 한 번에 복호화합니다.
+     * 탈퇴한 회원도 조회됩니다. ({@code findById}와 같음)
+     *
+     * @param memberNos 중복 없는 회원 번호
+     * @return 회원 번호 순 목록 (찾지 못한 번호는 포함하지 않음)
+     */
+    List<MemberResponse> findMemberResponsesByMemberNos(Collection<Long> memberNos);
+
+    /**
+     * 이메일 블라인드 인덱스로 로그인에 필요한 값만 한 번의 쿼리로 조회합니다.
+     * 엔티티를 만들지 않으며, 이메일은 조회에 사용한 평문을 그대로 사용하므로 복호화하지 않습니다.
+     *
+     * @param email 회원 이메일 (평문)
+     * @return 로그인 정보 Optional 값
+     */
+    Optional<MemberLoginInfo> findLoginInfoByEmail(String email);
+
+    /**
+     * 여러 이메일의 로그인 정보를 한 번의 쿼리로 조회합니다.
+     * 이메일마다 블라인드 인덱스 해시를 만들어 {@code member_index}의 {@code IN} 조건 하나로 회원과 조인하고,
+     * 조회한 인덱스 해시로 결과를 요청 이메일에 다시 연결합니다. 이메일은 요청 값을 그대로 사용하므로 복호화하지 않습니다.
+     * 탈퇴한 회원도 조회됩니다. ({@link MemberLoginInfo#active()}로 구분)
+     *
+     * @param emails 중복 없는 회원 이메일 (평문)
+     * @return 이메일 -> 로그인 정보 (찾지 못한 이메일은 포함하지 않음)
+     */
+    Map<String, MemberLoginInfo> findLoginInfosByEmails(Collection<String> emails);
+
+    /**
+     * 로그인 정보 조회 결과.
+     *
+     * @param memberNo       회원 번호
+     * @param memberPassword BCrypt 해시
+     * @param roleId         권한 아이디
+     * @param active         탈퇴하지 않은 회원이면 true
+     */
+    record MemberLoginInfo(Long memberNo, String memberPassword, String roleId, boolean active) {
+    }
+
+    /**
+     * 회원 목록 버전 조회 결과.
+     *
+     * @param count       회원 수
+     * @param versionSum  변경 버전 합계
+     * @param memberNoSum 회원 번호 합계
+     */
+    record MemberListVersion(long count, long versionSum, long memberNoSum) {
+    }
 }
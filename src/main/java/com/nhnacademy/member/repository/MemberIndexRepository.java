@@ -1,5 +1,7 @@
 package com.nhnacademy.member.repository;
 
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
 import com.nhnacademy.member.domain.MemberIndex;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -10,15 +12,57 @@ import java.util.Optional;
 public interface MemberIndexRepository extends JpaRepository<MemberIndex, Long> {
 
     /**
-     * @param hashValue 해쉬값
      * @param fieldName 필드명
+     * @param hashValue 블라인드 인덱스 (HMAC-SHA256, 32바이트)
      * @return boolean
      */
-    boolean existsByHashValueAndFieldName(String hashValue, String fieldName);
+    boolean existsByFieldNameAndHashValue(String fieldName, byte[] hashValue);
 
     /**
-     * @param hashValue 해쉬값
+     * @param fieldName 필드명
+     * @param hashValue 블라인드 인덱스 (HMAC-SHA256, 32바이트)
+     * @return MemberIndex Optional 값
+     */
+    Optional<MemberIndex> findFirstByFieldNameAndHashValue(String fieldName, byte[] hashValue);
+
+    /**
+     * @param fieldName       필드명
+     * @param legacyHashValue 이전 형식 해쉬값 (SHA-256 hex)
+     * @return boolean
+     */
+    boolean existsByFieldNameAndLegacyHashValue(String fieldName, String legacyHashValue);
+
+    /**
+     * @param fieldName       필드명
+     * @param legacyHashValue 이전 형식 해쉬값 (SHA-256 hex)
      * @return MemberIndex Optional 값
      */
-    Optional<MemberIndex> findByHashValue(String hashValue);
+    Optional<MemberIndex> findFirstByFieldNameAndLegacyHashValue(String fieldName, String legacyHashValue);
+
+    /**
+     * 평문과 필드명으로 인덱스를 조회합니다. 새 형식으로 찾지 못하면 (백필 전 행을 위해) 이전 형식으로 다시 조회합니다.
+     * 다른 필드에 같은 값의 해시가 저장되어 있어도 조회되지 않도록 필드명을 함께 비교합니다.
+     *
+     * @param value     평문
+     * @param fieldName 필드명
+     * @return MemberIndex Optional 값
+     */
+    default Optional<MemberIndex> findByBlindIndex(String value, String fieldName) {
+        Optional<MemberIndex> found = findFirstByFieldNameAndHashValue(fieldName, BlindIndexUtil.hash(value));
+        if (found.isEmpty() && BlindIndexUtil.isLegacyFallbackEnabled()) {
+            return findFirstByFieldNameAndLegacyHashValue(fieldName, HashUtil.sha256Hex(value));
+        }
+        return found;
+    }
+
+    /**
+     * @param value     평문
+     * @param fieldName 필드명
+     * @return 새 형식 또는 (백필 전) 이전 형식 인덱스가 있는지 여부
+     */
+    default boolean existsByBlindIndex(String value, String fieldName) {
+        return existsByFieldNameAndHashValue(fieldName, BlindIndexUtil.hash(value))
+                || (BlindIndexUtil.isLegacyFallbackEnabled()
+                && existsByFieldNameAndLegacyHashValue(fieldName, HashUtil.sha256Hex(value)));
+    }
 }
@@ -1,5 +1,6 @@
 package com.nhnacademy.member.repository;
 
+import com.nhnacademy.common.crypto.EncryptedValue;
 import com.nhnacademy.company.domain.Company;
 import com.nhnacademy.member.domain.Member;
 import com.nhnacademy.role.domain.Role;
@@ -20,19 +21,19 @@ public interface MemberRepository extends JpaRepository<Member, Long>, CustomMem
      * 주어진 이메일 주소로 회원을 조회합니다.
      * 이메일은 고유해야 하므로 결과는 최대 1개입니다.
      *
-     * @param memberEmail 조회할 회원의 이메일 주소
+     * @param memberEmail 조회할 회원의 (암호화된) 이메일 주소
      * @return 해당 이메일을 가진 회원 정보 (Optional)
      */
 
-    Optional<Member> findByMemberEmail(String memberEmail);
+    Optional<Member> findByMemberEmail(EncryptedValue memberEmail);
 
     /**
      * 주어진 이메일 주소를 가진 회원이 존재하는지 확인합니다.
      *
-     * @param memberEmail 확인할 회원의 이메일 주소
+     * @param memberEmail 확인할 회원의 (암호화된) 이메일 주소
      * @return 존재하면 true, 그렇지 않으면 false
      */
-    boolean existsByMemberEmail(String memberEmail);
+    boolean existsByMemberEmail(EncryptedValue memberEmail);
 
     /**
      * 특정 회사에 소속된 모든 회원을 조회합니다.
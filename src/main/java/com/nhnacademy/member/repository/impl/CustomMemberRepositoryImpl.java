@@ -1,15 +1,21 @@
 package com.nhnacademy.member.repository.impl;
 
-import com.nhnacademy.common.util.AESUtil;
-import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import com.nhnacademy.common.crypto.FieldCipher;
+import com.nhnacademy.common.crypto.FieldCiphers;
+import com.nhnacademy.common.util.BlindIndexUtil;
 import com.nhnacademy.company.common.NotExistCompanyException;
-import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.domain.Company;
 import com.nhnacademy.company.domain.QCompany;
-import com.nhnacademy.company.repository.CompanyIndexRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.member.domain.QMemberIndex;
 import com.nhnacademy.member.dto.response.MemberResponse;
-import com.nhnacademy.member.dto.response.QMemberResponse;
 import com.nhnacademy.member.repository.CustomMemberRepository;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,63 +23,70 @@ import com.nhnacademy.member.domain.QMember;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class CustomMemberRepositoryImpl implements CustomMemberRepository {
 
-    private final CompanyIndexRepository companyIndexRepository;
+    private static final FieldCipher EMAIL_CIPHER = FieldCiphers.forField(Member.class, "memberEmail");
+    private static final FieldCipher DOMAIN_CIPHER = FieldCiphers.forField(Company.class, "companyDomain");
+
+    private final CompanyDomainResolver companyDomainResolver;
 
     private final JPAQueryFactory jpaQueryFactory;
 
     QMember qMember = QMember.member;
+    QMemberIndex qMemberIndex = QMemberIndex.memberIndex;
     QCompany qCompany = QCompany.company;
 
     @Override
     public Page<MemberResponse> findMembersFromCompanyDomain(String companyDomain, Pageable pageable, boolean isPending) {
-        String hashValue = HashUtil.sha256Hex(companyDomain);
-        CompanyIndex companyIndex = companyIndexRepository.findByHashValue(hashValue).orElseThrow(
-                () -> new NotExistCompanyException("해당하는 값이 없습니다.")
-        );
+        // 평문 도메인 -> 회사 번호는 메모리 매핑으로 변환 (인덱스 조회 생략)
+        long companyNo = resolveCompanyNo(companyDomain);
+        BooleanBuilder whereClause = pendingCondition(isPending);
 
-        BooleanBuilder whereClause = new BooleanBuilder();
-        if(isPending){
-            whereClause.and(qMember.role.roleId.eq("ROLE_PENDING"));
-        }else {
-            whereClause.and(qMember.role.roleId.ne("ROLE_PENDING"));
-        }
-
-        List<MemberResponse> memberResponseList = jpaQueryFactory.select(new QMemberResponse(
+        // 이메일은 EncryptedValue(암호문)로 조회되므로 DTO 프로젝션 대신 Tuple로 받아 한 번에 복호화
+        List<Tuple> rows = jpaQueryFactory.select(
                 qMember.memberNo,
                 qMember.memberEmail,
-                qMember.company.companyDomain,
                 qMember.role.roleId,
                 qMember.registeredAt,
                 qMember.lastLoginAt
-                ))
+                )
                 .from(qMember)
-                .join(qMember.company, qCompany)
-                .where(qMember.company.companyDomain.eq(companyIndex.getCompanyDomain())
+                // members.company_no 로 바로 비교하므로 companies 와 조인하지 않음
+                .where(qMember.company.companyNo.eq(companyNo)
                         .and(whereClause))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        List<MemberResponse> decryptedList = memberResponseList.stream()
-                .map(member -> MemberResponse.builder()
-                        .memberNo(member.getMemberNo()) // 복호화할 필요 없는 값
-                        .memberEmail(AESUtil.decrypt(member.getMemberEmail()))
-                        .companyDomain(AESUtil.decrypt(member.getCompanyDomain()))
-                        .roleId(member.getRoleId())
-                        .registerAt(member.getRegisterAt())
-                        .lastLoginAt(member.getLastLoginAt())
-                        .build()).toList();
+        // 이메일은 암호문 그대로 넘기고 응답 직렬화 시점에 복호화
+        // 조회 조건이 회사 도메인이므로 도메인은 복호화하지 않고 요청 값을 그대로 사용
+        EncryptedValue domain = EncryptedValue.decrypted(companyDomain);
+        List<MemberResponse> decryptedList = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            decryptedList.add(MemberResponse.builder()
+                    .memberNo(row.get(qMember.memberNo)) // 복호화할 필요 없는 값
+                    .memberEmail(row.get(qMember.memberEmail))
+                    .companyDomain(domain)
+                    .roleId(row.get(qMember.role.roleId))
+                    .registerAt(row.get(qMember.registeredAt))
+                    .lastLoginAt(row.get(qMember.lastLoginAt))
+                    .build());
+        }
 
         Long listSize = jpaQueryFactory.select(qMember.count())
                 .from(qMember)
-                .join(qMember.company, qCompany)
-                .where(qMember.company.companyDomain.eq(companyIndex.getCompanyDomain())
+                .where(qMember.company.companyNo.eq(companyNo)
                         .and(whereClause))
                 .fetchOne();
         if (Objects.isNull(listSize)){
@@ -82,4 +95,252 @@ public class CustomMemberRepositoryImpl implements CustomMemberRepository {
 
         return new PageImpl<>(decryptedList, pageable, listSize);
     }
+
+    @Override
+    public MemberListVersion findMemberListVersion(String companyDomain, boolean isPending) {
+        long companyNo = resolveCompanyNo(companyDomain);
+        Tuple row = jpaQueryFactory.select(qMember.count(), qMember.version.sum().coalesce(0L),
+                        qMember.memberNo.sum().coalesce(0L))
+                .from(qMember)
+                .where(qMember.company.companyNo.eq(companyNo)
+                        .and(pendingCondition(isPending)))
+                .fetchOne();
+        if (row == null) {
+            return new MemberListVersion(0L, 0L, 0L);
+        }
+        return new MemberListVersion(
+                Objects.requireNonNullElse(row.get(0, Long.class), 0L),
+                Objects.requireNonNullElse(row.get(1, Long.class), 0L),
+                Objects.requireNonNullElse(row.get(2, Long.class), 0L));
+    }
+
+    @Override
+    public List<MemberResponse> findMembersByTokens(String companyDomain, String fieldName,
+                                                    Collection<byte[]> tokenHashes, int limit) {
+        long companyNo = resolveCompanyNo(companyDomain);
+
+        // 토큰 인덱스만 읽어 모든 토큰을 가진 회원 번호를 구함 (field_name, hash_key, member_no 인덱스로 처리)
+        List<Tuple> rows = jpaQueryFactory.select(
+                        qMember.memberNo,
+                        qMember.memberEmail,
+                        qMember.role.roleId,
+                        qMember.registeredAt,
+                        qMember.lastLoginAt)
+                .from(qMember)
+                .where(qMember.company.companyNo.eq(companyNo),
+                        qMember.memberNo.in(JPAExpressions.select(qMemberIndex.memberNo)
+                                .from(qMemberIndex)
+                                .where(qMemberIndex.fieldName.eq(fieldName), qMemberIndex.hashValue.in(tokenHashes))
+                                .groupBy(qMemberIndex.memberNo)
+                                .having(qMemberIndex.hashValue.countDistinct().eq((long) tokenHashes.size()))))
+                .orderBy(qMember.memberNo.asc())
+                .limit(limit)
+                .fetch();
+
+        EncryptedValue domain = EncryptedValue.decrypted(companyDomain);
+        List<MemberResponse> responses = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            responses.add(MemberResponse.builder()
+                    .memberNo(row.get(qMember.memberNo))
+                    .memberEmail(row.get(qMember.memberEmail))
+                    .companyDomain(domain)
+                    .roleId(row.get(qMember.role.roleId))
+                    .registerAt(row.get(qMember.registeredAt))
+                    .lastLoginAt(row.get(qMember.lastLoginAt))
+                    .build());
+        }
+        return responses;
+    }
+
+    @Override
+    public Optional<Member> findByBlindIndex(String value, String fieldName) {
+        return Optional.ofNullable(jpaQueryFactory.select(qMember)
+                .from(qMemberIndex)
+                .join(qMember).on(qMember.memberNo.eq(qMemberIndex.memberNo))
+                // 응답의 회사 도메인은 companies 에만 있으므로 같은 쿼리에서 함께 읽음
+                .join(qMember.company, qCompany).fetchJoin()
+                .where(qMemberIndex.fieldName.eq(fieldName), blindIndexMatches(value))
+                .fetchFirst());
+    }
+
+    @Override
+    public Optional<MemberResponse> findMemberResponseByEmail(String email) {
+        Tuple row = jpaQueryFactory.select(
+                        qMember.memberNo,
+                        qCompany.companyDomain,
+                        qMember.role.roleId,
+                        qMember.registeredAt,
+                        qMember.lastLoginAt,
+                        qMember.version)
+                .from(qMemberIndex)
+                .join(qMember).on(qMember.memberNo.eq(qMemberIndex.memberNo))
+                .join(qMember.company, qCompany)
+                .where(qMemberIndex.fieldName.eq("email"), blindIndexMatches(email))
+                .fetchFirst();
+        if (row == null) {
+            return Optional.empty();
+        }
+        return Optional.of(MemberResponse.builder()
+                .memberNo(row.get(qMember.memberNo))
+                // 인덱스가 일치했으므로 저장된 이메일은 조회한 평문과 같음
+                .memberEmail(EncryptedValue.decrypted(email))
+                .companyDomain(row.get(qCompany.companyDomain))
+                .roleId(row.get(qMember.role.roleId))
+                .registerAt(row.get(qMember.registeredAt))
+                .lastLoginAt(row.get(qMember.lastLoginAt))
+                .version(Objects.requireNonNullElse(row.get(qMember.version), 0L))
+                .build());
+    }
+
+    @Override
+    public List<MemberResponse> findMemberResponsesByMemberNos(Collection<Long> memberNos) {
+        if (memberNos.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> rows = jpaQueryFactory.select(
+                        qMember.memberNo,
+                        qMember.memberEmail,
+                        qCompany.companyDomain,
+                        qMember.role.roleId,
+                        qMember.registeredAt,
+                        qMember.lastLoginAt,
+                        qMember.version)
+                .from(qMember)
+                .join(qMember.company, qCompany)
+                .where(qMember.memberNo.in(memberNos))
+                .orderBy(qMember.memberNo.asc())
+                .fetch();
+
+        // 이메일은 한 번에, 도메인은 회사별로 한 번만 복호화
+        List<String> emailCiphertexts = new ArrayList<>(rows.size());
+        Map<String, String> domains = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            emailCiphertexts.add(EncryptedValue.ciphertextOf(row.get(qMember.memberEmail)));
+            domains.putIfAbsent(EncryptedValue.ciphertextOf(row.get(qCompany.companyDomain)), null);
+        }
+        List<String> emails = EMAIL_CIPHER.decryptAll(emailCiphertexts);
+        List<String> domainCiphertexts = new ArrayList<>(domains.keySet());
+        List<String> decryptedDomains = DOMAIN_CIPHER.decryptAll(domainCiphertexts);
+        for (int i = 0; i < domainCiphertexts.size(); i++) {
+            domains.put(domainCiphertexts.get(i), decryptedDomains.get(i));
+        }
+
+        List<MemberResponse> responses = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Tuple row = rows.get(i);
+            responses.add(MemberResponse.builder()
+                    .memberNo(row.get(qMember.memberNo))
+                    .memberEmail(EncryptedValue.decrypted(emails.get(i)))
+                    .companyDomain(EncryptedValue.decrypted(
+                            domains.get(EncryptedValue.ciphertextOf(row.get(qCompany.companyDomain)))))
+                    .roleId(row.get(qMember.role.roleId))
+                    .registerAt(row.get(qMember.registeredAt))
+                    .lastLoginAt(row.get(qMember.lastLoginAt))
+                    .version(Objects.requireNonNullElse(row.get(qMember.version), 0L))
+                    .build());
+        }
+        return responses;
+    }
+
+    @Override
+    public Optional<MemberLoginInfo> findLoginInfoByEmail(String email) {
+        Tuple row = jpaQueryFactory.select(
+                        qMember.memberNo,
+                        qMember.memberPassword,
+                        qMember.role.roleId,
+                        qMember.withdrawalAt)
+                .from(qMemberIndex)
+                .join(qMember).on(qMember.memberNo.eq(qMemberIndex.memberNo))
+                .where(qMemberIndex.fieldName.eq("email"), blindIndexMatches(email))
+                .fetchFirst();
+        if (row == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new MemberLoginInfo(
+                row.get(qMember.memberNo),
+                row.get(qMember.memberPassword),
+                row.get(qMember.role.roleId),
+                row.get(qMember.withdrawalAt) == null));
+    }
+
+    @Override
+    public Map<String, MemberLoginInfo> findLoginInfosByEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        // 해시 -> 이메일 (byte[]는 내용으로 비교되지 않으므로 ByteBuffer 로 감쌈)
+        Map<ByteBuffer, String> emailByHash = new HashMap<>(emails.size() * 2);
+        Map<String, String> emailByLegacyHash = new HashMap<>();
+        for (String email : emails) {
+            emailByHash.put(ByteBuffer.wrap(BlindIndexUtil.hash(email)), email);
+            String legacyHash = BlindIndexUtil.legacyHash(email);
+            if (legacyHash != null) {
+                emailByLegacyHash.put(legacyHash, email);
+            }
+        }
+        List<byte[]> hashes = new ArrayList<>(emailByHash.size());
+        emailByHash.keySet().forEach(hash -> hashes.add(hash.array()));
+        BooleanExpression matches = qMemberIndex.hashValue.in(hashes);
+        if (!emailByLegacyHash.isEmpty()) {
+            matches = matches.or(qMemberIndex.legacyHashValue.in(emailByLegacyHash.keySet()));
+        }
+
+        List<Tuple> rows = jpaQueryFactory.select(
+                        qMemberIndex.hashValue,
+                        qMemberIndex.legacyHashValue,
+                        qMember.memberNo,
+                        qMember.memberPassword,
+                        qMember.role.roleId,
+                        qMember.withdrawalAt)
+                .from(qMemberIndex)
+                .join(qMember).on(qMember.memberNo.eq(qMemberIndex.memberNo))
+                .where(qMemberIndex.fieldName.eq("email"), matches)
+                .fetch();
+
+        Map<String, MemberLoginInfo> result = new HashMap<>(rows.size() * 2);
+        for (Tuple row : rows) {
+            byte[] hash = row.get(qMemberIndex.hashValue);
+            String email = hash == null ? null : emailByHash.get(ByteBuffer.wrap(hash));
+            if (email == null) {
+                email = emailByLegacyHash.get(row.get(qMemberIndex.legacyHashValue));
+            }
+            if (email == null) {
+                continue;
+            }
+            result.putIfAbsent(email, new MemberLoginInfo(
+                    row.get(qMember.memberNo),
+                    row.get(qMember.memberPassword),
+                    row.get(qMember.role.roleId),
+                    row.get(qMember.withdrawalAt) == null));
+        }
+        return result;
+    }
+
+    /**
+     * 평문 도메인을 메모리 매핑으로 회사 번호로 바꿉니다. (인덱스 조회 생략)
+     */
+    private long resolveCompanyNo(String companyDomain) {
+        return companyDomainResolver.resolve(companyDomain)
+                .map(CompanyDomainResolver.ResolvedCompany::companyNo)
+                .orElseThrow(() -> new NotExistCompanyException("해당하는 값이 없습니다."));
+    }
+
+    private BooleanBuilder pendingCondition(boolean isPending) {
+        BooleanBuilder whereClause = new BooleanBuilder();
+        if(isPending){
+            whereClause.and(qMember.role.roleId.eq("ROLE_PENDING"));
+        }else {
+            whereClause.and(qMember.role.roleId.ne("ROLE_PENDING"));
+        }
+        return whereClause;
+    }
+
+    /**
+     * 새 형식 해시와, 이전 형식을 사용하는 동안에는 이전 형식 해시까지 한 조건으로 비교합니다.
+     */
+    private BooleanExpression blindIndexMatches(String value) {
+        BooleanExpression matches = qMemberIndex.hashValue.eq(BlindIndexUtil.hash(value));
+        String legacyHash = BlindIndexUtil.legacyHash(value);
+        return legacyHash == null ? matches : matches.or(qMemberIndex.legacyHashValue.eq(legacyHash));
+    }
 }
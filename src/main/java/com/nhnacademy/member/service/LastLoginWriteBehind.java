@@ -0,0 +1,283 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.member.event.MemberIdentityChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시각 갱신({@code PUT /members/internal/last-login})을 메모리에 모았다가 주기적으로 한 번에 저장합니다.
+ * <p>
+ * 회원 번호별 가장 최근 시각만 남기므로 저장 주기 안의 반복 로그인은 한 행 갱신으로 합쳐지고,
+ * 저장은 엔티티를 읽지 않고 JDBC 배치 UPDATE 한 번으로 처리합니다.
+ * 버퍼는 회원 번호로 나눈 여러 구간(stripe)으로 나뉘어 구간별 잠금만 잡으므로, 요청 스레드끼리나 저장 스레드와 경쟁이 적습니다.
+ * <p>
+ * UPDATE 는 저장된 값보다 새로운 시각일 때만 바꾸고 변경 버전을 올리며, 커밋 이후 {@link MemberIdentityChangedEvent}로
+ * 회원 조회 캐시를 비웁니다. 저장에 실패한 항목은 버퍼로 되돌려 다음 주기에 다시 저장하고,
+ * 종료 시에는 남은 항목을 모두 저장합니다. 프로세스가 비정상 종료되면 마지막 주기의 로그인 시각은 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginWriteBehind implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "member.last.login";
+
+    private static final String UPDATE_SQL = "UPDATE members SET last_login_at = ?, version = version + 1 "
+            + "WHERE member_no = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * false 이면 모으지 않고 요청마다 바로 저장합니다.
+     */
+    @Value("${member.last-login.write-behind.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 저장 주기(ms).
+     */
+    @Value("${member.last-login.write-behind.flush-interval-millis:1000}")
+    private long flushIntervalMillis;
+
+    /**
+     * 버퍼 항목 수가 이 값을 넘으면 주기를 기다리지 않고 저장합니다.
+     */
+    @Value("${member.last-login.write-behind.max-buffered:10000}")
+    private int maxBuffered;
+
+    @Value("${member.last-login.write-behind.stripes:16}")
+    private int stripeCount;
+
+    private Stripe[] stripes;
+    private ScheduledExecutorService scheduler;
+
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong lastFlushRows = new AtomicLong();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        // 회원 번호의 하위 비트로 구간을 고르므로 2의 거듭제곱으로 맞춤
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        if (!enabled) {
+            log.info("로그인 시각 지연 저장 비활성화");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("last-login-write-behind").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("로그인 시각 지연 저장 활성화: 주기 {}ms, 구간 {}개", flushIntervalMillis, size);
+    }
+
+    /**
+     * 예약된 저장을 멈추고 버퍼에 남은 항목을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(flushIntervalMillis + 5000, TimeUnit.MILLISECONDS)) {
+                    scheduler.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushSafely();
+        if (buffered.get() > 0) {
+            log.warn("종료 전에 저장하지 못한 로그인 시각 {}건이 유실됩니다.", buffered.get());
+        }
+    }
+
+    /**
+     * 회원의 로그인 시각을 버퍼에 기록합니다. 이미 기록된 회원이면 더 최근 시각만 남깁니다.
+     *
+     * @param memberNo    회원 번호
+     * @param memberEmail 회원 이메일 (평문, 저장 후 캐시 제거용)
+     * @param loginAt     로그인 시각
+     */
+    public void record(long memberNo, String memberEmail, LocalDateTime loginAt) {
+        recorded.increment();
+        if (!enabled) {
+            flush(Map.of(memberNo, new PendingLogin(memberEmail, loginAt)));
+            return;
+        }
+        Stripe stripe = stripes[Long.hashCode(memberNo) & (stripes.length - 1)];
+        boolean added;
+        synchronized (stripe) {
+            PendingLogin previous = stripe.pending.get(memberNo);
+            added = previous == null;
+            if (added || previous.loginAt().isBefore(loginAt)) {
+                stripe.pending.put(memberNo, new PendingLogin(memberEmail, loginAt));
+            }
+        }
+        if (!added) {
+            coalesced.increment();
+        } else if (buffered.incrementAndGet() >= maxBuffered && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 stop()에서 저장
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 버퍼를 비우고 모은 항목을 저장합니다.
+     */
+    void flushSafely() {
+        flushRequested.set(false);
+        Map<Long, PendingLogin> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            flush(drained);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("로그인 시각 {}건 저장에 실패했습니다. 다음 주기에 다시 저장합니다.", drained.size(), e);
+            drained.forEach(this::restore);
+        }
+    }
+
+    /**
+     * 모든 구간을 새 맵으로 바꾸고 기존 항목을 모읍니다.
+     * 여러 인스턴스가 같은 행을 갱신할 때 잠금 순서가 같도록 회원 번호 순으로 정렬합니다.
+     */
+    private Map<Long, PendingLogin> drain() {
+        Map<Long, PendingLogin> drained = new TreeMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, PendingLogin> pending;
+            synchronized (stripe) {
+                if (stripe.pending.isEmpty()) {
+                    continue;
+                }
+                pending = stripe.pending;
+                stripe.pending = new HashMap<>();
+            }
+            buffered.addAndGet(-pending.size());
+            drained.putAll(pending);
+        }
+        return drained;
+    }
+
+    /**
+     * 저장에 실패한 항목을 되돌립니다. 그 사이 더 최근 로그인이 기록되었으면 그 값을 유지합니다.
+     */
+    private void restore(Long memberNo, PendingLogin login) {
+        Stripe stripe = stripes[Long.hashCode(memberNo) & (stripes.length - 1)];
+        synchronized (stripe) {
+            PendingLogin current = stripe.pending.get(memberNo);
+            if (current == null) {
+                stripe.pending.put(memberNo, login);
+                buffered.incrementAndGet();
+            } else if (current.loginAt().isBefore(login.loginAt())) {
+                stripe.pending.put(memberNo, login);
+            }
+        }
+    }
+
+    private void flush(Map<Long, PendingLogin> logins) {
+        long start = System.nanoTime();
+        List<Object[]> args = new ArrayList<>(logins.size());
+        logins.forEach((memberNo, login) -> {
+            Timestamp loginAt = Timestamp.valueOf(login.loginAt());
+            args.add(new Object[]{loginAt, memberNo, loginAt});
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            // 커밋 이후 캐시에서 제거
+            logins.forEach((memberNo, login) -> eventPublisher.publishEvent(new MemberIdentityChangedEvent(
+                    memberNo, login.memberEmail(), MemberIdentityChangedEvent.Reason.LOGIN)));
+        });
+        flushes.increment();
+        flushNanos.add(System.nanoTime() - start);
+        flushedRows.add(logins.size());
+        lastFlushRows.set(logins.size());
+        log.debug("로그인 시각 {}건 저장", logins.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".buffered", buffered, AtomicInteger::get)
+                .description("저장 대기 중인 회원 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".recorded", recorded, LongAdder::sum)
+                .description("기록한 로그인 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".coalesced", coalesced, LongAdder::sum)
+                .description("저장 주기 안에서 합쳐진 반복 로그인 수")
+                .register(registry);
+        FunctionTimer.builder(METRIC_PREFIX + ".flush", this,
+                        writeBehind -> writeBehind.flushes.sum(),
+                        writeBehind -> writeBehind.flushNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("배치 저장 시간")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".flush.rows", flushedRows, LongAdder::sum)
+                .description("배치 저장한 행 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".flush.last.rows", lastFlushRows, AtomicLong::get)
+                .description("마지막 배치 저장의 행 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".flush.failures", failures, LongAdder::sum)
+                .description("실패한 배치 저장 수")
+                .register(registry);
+    }
+
+    /**
+     * @param memberEmail 회원 이메일 (평문)
+     * @param loginAt     가장 최근 로그인 시각
+     */
+    private record PendingLogin(String memberEmail, LocalDateTime loginAt) {
+    }
+
+    /**
+     * 버퍼의 한 구간. 인스턴스 자체를 잠금으로 사용합니다.
+     */
+    private static final class Stripe {
+        private Map<Long, PendingLogin> pending = new HashMap<>();
+    }
+}
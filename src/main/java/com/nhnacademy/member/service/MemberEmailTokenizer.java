@@ -0,0 +1,183 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.member.domain.MemberIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 관리자 화면의 이메일 부분 검색을 위해 이메일을 블라인드 인덱스 토큰으로 나눕니다.
+ * <p>
+ * 토큰은 {@code member_index}에 {@link #PREFIX_FIELD} 또는 {@link #NGRAM_FIELD} 필드로 회원당 여러 행 저장되며,
+ * 같은 토큰이 {@code "email"} 인덱스와 연결되지 않도록 필드명을 붙여 해시합니다.
+ * 방식({@code member.email-search.scheme})별 저장 비용과 노출 범위는 다음과 같습니다.
+ * <ul>
+ *     <li>{@code PREFIX}: 길이 {@code min-length}~{@code max-prefix-length}의 접두어. 회원당 최대
+ *     {@code max-prefix-length - min-length + 1}행이며, 같은 접두어를 가진 회원끼리만 묶입니다.</li>
+ *     <li>{@code NGRAM}: 길이 {@code ngram-size}의 모든 부분 문자열. 회원당 약 (이메일 길이 - n + 1)행이며,
+ *     중간 문자열(도메인 등) 검색이 가능한 대신 토큰 빈도로 공통 도메인/이름 조각이 드러날 수 있습니다.</li>
+ *     <li>{@code NONE}: 토큰을 저장하지 않고 검색을 막습니다.</li>
+ * </ul>
+ * 설정을 바꾸면 {@code MemberEmailTokenBackfillJob}으로 기존 회원의 토큰을 다시 만듭니다.
+ */
+@Component
+public class MemberEmailTokenizer {
+
+    public static final String PREFIX_FIELD = "email_prefix";
+    public static final String NGRAM_FIELD = "email_ngram";
+
+    /**
+     * 토큰 방식.
+     */
+    public enum Scheme {
+        NONE, PREFIX, NGRAM
+    }
+
+    /**
+     * 검색어를 바꾼 토큰 집합.
+     *
+     * @param fieldName 토큰 필드명
+     * @param hashes    중복 없는 토큰 해시 (모두 가진 회원이 후보)
+     * @param exact     후보가 곧 결과인지 여부. false 이면 복호화한 이메일로 다시 확인해야 합니다.
+     */
+    public record TokenQuery(String fieldName, List<byte[]> hashes, boolean exact) {
+    }
+
+    @Value("${member.email-search.scheme:PREFIX}")
+    private Scheme scheme;
+
+    /**
+     * 검색어 최소 길이. 짧은 토큰일수록 많은 회원이 묶이므로 저장하지 않습니다.
+     */
+    @Value("${member.email-search.min-length:3}")
+    private int minLength;
+
+    @Value("${member.email-search.max-prefix-length:16}")
+    private int maxPrefixLength;
+
+    @Value("${member.email-search.ngram-size:3}")
+    private int ngramSize;
+
+    public Scheme getScheme() {
+        return scheme;
+    }
+
+    /**
+     * 토큰 설정이 바뀌었는지 확인하기 위한 버전 값입니다. 백필 진행 위치에 기록됩니다.
+     *
+     * @return 현재 방식과 길이 설정으로 만든 값
+     */
+    public int schemeVersion() {
+        return Objects.hash(scheme.name(), minLength, maxPrefixLength, ngramSize);
+    }
+
+    /**
+     * 회원 이메일의 토큰 인덱스 행을 만듭니다.
+     *
+     * @param memberNo 회원 번호
+     * @param email    회원 이메일 (평문)
+     * @return 인덱스 행, 검색을 사용하지 않으면 빈 목록
+     */
+    public List<MemberIndex> indexRows(Long memberNo, String email) {
+        if (scheme == Scheme.NONE || email == null) {
+            return List.of();
+        }
+        String fieldName = fieldName();
+        List<MemberIndex> rows = new ArrayList<>();
+        for (String token : tokens(normalize(email))) {
+            rows.add(new MemberIndex(memberNo, fieldName, hash(fieldName, token), null));
+        }
+        return rows;
+    }
+
+    /**
+     * 검색어를 토큰 해시 집합으로 바꿉니다.
+     * 접두어 방식에서 {@code max-prefix-length}보다 긴 검색어는 그 길이의 접두어로 후보를 찾습니다.
+     *
+     * @param query 검색어
+     * @return 토큰 집합
+     * @throws IllegalArgumentException 검색을 사용하지 않거나 검색어가 너무 짧은 경우
+     */
+    public TokenQuery query(String query) {
+        if (scheme == Scheme.NONE) {
+            throw new IllegalArgumentException("이메일 검색을 사용하지 않도록 설정되어 있습니다.");
+        }
+        String normalized = query == null ? "" : normalize(query);
+        // n-gram 방식은 n 보다 짧은 검색어를 토큰으로 만들 수 없음
+        int required = scheme == Scheme.NGRAM ? Math.max(minLength, ngramSize) : minLength;
+        if (normalized.length() < required) {
+            throw new IllegalArgumentException("검색어는 " + required + "자 이상 입력하세요.");
+        }
+
+        String fieldName = fieldName();
+        if (scheme == Scheme.PREFIX) {
+            int length = Math.min(normalized.length(), maxPrefixLength);
+            return new TokenQuery(fieldName, List.of(hash(fieldName, normalized.substring(0, length))),
+                    normalized.length() <= maxPrefixLength);
+        }
+        List<byte[]> hashes = new ArrayList<>();
+        for (String token : ngrams(normalized)) {
+            hashes.add(hash(fieldName, token));
+        }
+        return new TokenQuery(fieldName, hashes, false);
+    }
+
+    /**
+     * 복호화한 이메일이 검색어와 맞는지 확인합니다.
+     *
+     * @param email 회원 이메일 (평문)
+     * @param query 검색어
+     * @return 접두어 방식은 시작 문자열, n-gram 방식은 부분 문자열이면 true
+     */
+    public boolean matches(String email, String query) {
+        if (email == null || query == null) {
+            return false;
+        }
+        String normalizedEmail = normalize(email);
+        String normalizedQuery = normalize(query);
+        return scheme == Scheme.NGRAM
+                ? normalizedEmail.contains(normalizedQuery)
+                : normalizedEmail.startsWith(normalizedQuery);
+    }
+
+    private String fieldName() {
+        return scheme == Scheme.NGRAM ? NGRAM_FIELD : PREFIX_FIELD;
+    }
+
+    private Set<String> tokens(String email) {
+        if (scheme == Scheme.NGRAM) {
+            return ngrams(email);
+        }
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (int length = minLength; length <= Math.min(email.length(), maxPrefixLength); length++) {
+            prefixes.add(email.substring(0, length));
+        }
+        return prefixes;
+    }
+
+    private Set<String> ngrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + ngramSize <= value.length(); i++) {
+            grams.add(value.substring(i, i + ngramSize));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 필드명을 붙여 해시하므로 전체 이메일과 같은 토큰도 {@code "email"} 인덱스 값과 다릅니다.
+     */
+    private static byte[] hash(String fieldName, String token) {
+        return BlindIndexUtil.hash(fieldName + ":" + token);
+    }
+}
@@ -0,0 +1,161 @@
+package com.nhnacademy.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.member.dto.response.MemberLoginResponse;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.event.MemberIdentityChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 게이트웨이/인증 서버가 인증된 요청마다 호출하는 이메일 기반 조회({@code /members/me}, {@code /members/me/login-info})를
+ * 프로세스 내부에 캐싱합니다.
+ * <p>
+ * 키는 이메일 평문 대신 블라인드 인덱스(HMAC)이며, 항목 수와 TTL 로 크기를 제한합니다.
+ * 비밀번호 변경, 탈퇴, 권한 변경, 로그인 시각 갱신 시 {@link MemberIdentityChangedEvent}를 받아
+ * <b>커밋 이후</b>에 해당 회원의 항목을 제거하므로, 롤백된 변경은 캐시에 영향을 주지 않고
+ * 커밋 전에 다시 읽힌 이전 값이 남지 않습니다.
+ * <p>
+ * 트랜잭션 밖에서 동작하므로 캐시 적중 시에는 DB 커넥션을 사용하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberIdentityCache implements MeterBinder {
+
+    private static final String PREFIX = "member.identity.cache";
+
+    private final MemberService memberService;
+
+    @Value("${member.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${member.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${member.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<ByteBuffer, MemberResponse> profileCache;
+
+    private Cache<ByteBuffer, MemberLoginResponse> loginInfoCache;
+
+    private final Map<MemberIdentityChangedEvent.Reason, LongAdder> invalidations =
+            new EnumMap<>(MemberIdentityChangedEvent.Reason.class);
+
+    @PostConstruct
+    public void init() {
+        for (MemberIdentityChangedEvent.Reason reason : MemberIdentityChangedEvent.Reason.values()) {
+            invalidations.put(reason, new LongAdder());
+        }
+        if (!enabled) {
+            log.info("회원 조회 캐시 비활성화");
+            return;
+        }
+        profileCache = newCache();
+        loginInfoCache = newCache();
+        log.info("회원 조회 캐시 활성화: 최대 {}건, TTL {}초", maxEntries, ttlSeconds);
+    }
+
+    /**
+     * 이메일로 회원 정보를 조회합니다. 캐시에 없으면 {@link MemberService#getMemberByEmail(String)}로 읽어 저장합니다.
+     * 조회 중 발생한 예외(존재하지 않는 회원 등)는 캐싱하지 않고 그대로 전달합니다.
+     *
+     * @param email 회원 이메일
+     * @return 회원 정보
+     */
+    public MemberResponse getMemberByEmail(String email) {
+        return lookup(profileCache, email, memberService::getMemberByEmail);
+    }
+
+    /**
+     * 이메일로 로그인 정보를 조회합니다. 캐시에 없으면 {@link MemberService#getLoginInfoByEmail(String)}로 읽어 저장합니다.
+     * 탈퇴한 회원은 서비스에서 예외가 발생하므로 캐시에 남지 않습니다.
+     *
+     * @param email 회원 이메일
+     * @return 로그인 정보 (비밀번호 해시 포함)
+     */
+    public MemberLoginResponse getLoginInfoByEmail(String email) {
+        return lookup(loginInfoCache, email, memberService::getLoginInfoByEmail);
+    }
+
+    /**
+     * 회원 정보가 바뀐 트랜잭션이 커밋된 뒤 해당 회원의 항목을 제거합니다.
+     * 트랜잭션 없이 발행된 경우에는 즉시 제거합니다.
+     *
+     * @param event 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIdentityChanged(MemberIdentityChangedEvent event) {
+        if (!enabled || event.memberEmail() == null) {
+            return;
+        }
+        ByteBuffer key = keyOf(event.memberEmail());
+        profileCache.invalidate(key);
+        loginInfoCache.invalidate(key);
+        invalidations.get(event.reason()).increment();
+        log.debug("회원 조회 캐시 제거: ID {}, 사유 {}", event.memberNo(), event.reason());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        // 적중/미스/로드 시간/제거 수는 Caffeine 통계를 표준 이름(cache.gets 등)에 cache=member.identity.cache 태그로 노출
+        CaffeineCacheMetrics.monitor(registry, profileCache, PREFIX, "type", "profile");
+        CaffeineCacheMetrics.monitor(registry, loginInfoCache, PREFIX, "type", "login-info");
+        Gauge.builder(PREFIX + ".hit.ratio", profileCache, c -> c.stats().hitRate())
+                .tag("type", "profile")
+                .description("회원 정보 캐시 적중률")
+                .register(registry);
+        Gauge.builder(PREFIX + ".hit.ratio", loginInfoCache, c -> c.stats().hitRate())
+                .tag("type", "login-info")
+                .description("로그인 정보 캐시 적중률")
+                .register(registry);
+        for (Map.Entry<MemberIdentityChangedEvent.Reason, LongAdder> entry : invalidations.entrySet()) {
+            FunctionCounter.builder(PREFIX + ".invalidations", entry.getValue(), LongAdder::sum)
+                    .tag("reason", entry.getKey().name().toLowerCase())
+                    .description("회원 정보 변경으로 제거된 횟수")
+                    .register(registry);
+        }
+    }
+
+    private <V> V lookup(Cache<ByteBuffer, V> cache, String email, Function<String, V> loader) {
+        if (!enabled || email == null || email.isBlank()) {
+            return loader.apply(email);
+        }
+        return cache.get(keyOf(email), ignored -> loader.apply(email));
+    }
+
+    private <V> Cache<ByteBuffer, V> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    private static ByteBuffer keyOf(String email) {
+        return ByteBuffer.wrap(BlindIndexUtil.hash(email));
+    }
+}
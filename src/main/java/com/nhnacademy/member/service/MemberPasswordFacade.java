@@ -0,0 +1,155 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.common.exception.AuthenticationFailedException;
+import com.nhnacademy.common.exception.ServiceBusyException;
+import com.nhnacademy.common.password.PasswordHashExecutor;
+import com.nhnacademy.common.password.PasswordTransactionExecutor;
+import com.nhnacademy.common.util.PasswordUtil;
+import com.nhnacademy.member.common.NotExistMemberException;
+import com.nhnacademy.member.common.NotMatchesPasswordException;
+import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
+import com.nhnacademy.member.dto.request.MemberPasswordVerifyRequest;
+import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberAuthResponse;
+import com.nhnacademy.member.dto.response.MemberLoginResponse;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 비밀번호 해싱이 필요한 회원 작업(회원 가입, 소유주 가입, 비밀번호 변경, 로그인 검증)을 비동기로 처리하는 서비스입니다.
+ * <p>
+ * 트랜잭션을 열지 않습니다. BCrypt 해싱/검증은 {@link PasswordHashExecutor}에서 먼저 끝내고,
+ * 그 결과로 {@link MemberService}의 트랜잭션 메서드를 {@link PasswordTransactionExecutor}에서 호출하므로
+ * 해싱하는 동안에는 Tomcat 요청 스레드도, DB 커넥션도 점유하지 않습니다.
+ * 해싱 대기열이 가득 차면 {@link ServiceBusyException}이 호출 스레드에서 바로 발생하고,
+ * 트랜잭션 대기열이 가득 차면 future 가 {@link ServiceBusyException}으로 완료됩니다. (둘 다 503)
+ */
+@Slf4j
+@Service
+public class MemberPasswordFacade {
+
+    private static final String INVALID_CREDENTIALS = "이메일 또는 비밀번호가 일치하지 않습니다.";
+
+    private final MemberService memberService;
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    /**
+     * 해싱 이후 트랜잭션 작업을 실행할 풀. 해싱 풀 스레드가 DB 작업에 묶이지 않도록 분리합니다.
+     */
+    private final Executor transactionExecutor;
+
+    @Autowired
+    public MemberPasswordFacade(MemberService memberService,
+                                PasswordHashExecutor passwordHashExecutor,
+                                PasswordTransactionExecutor transactionExecutor) {
+        this(memberService, passwordHashExecutor, (Executor) transactionExecutor::execute);
+    }
+
+    MemberPasswordFacade(MemberService memberService, PasswordHashExecutor passwordHashExecutor,
+                         Executor transactionExecutor) {
+        this.memberService = memberService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.transactionExecutor = transactionExecutor;
+    }
+
+    /**
+     * @param request 회원 가입 정보
+     * @return 등록된 회원 정보를 완료하는 future
+     * @throws ServiceBusyException 해싱 대기열이 가득 찬 경우
+     * @see MemberService#registerMember(MemberRegisterRequest, String)
+     */
+    public CompletableFuture<MemberResponse> registerMember(MemberRegisterRequest request) {
+        return passwordHashExecutor.encode(request.getMemberPassword())
+                .thenApplyAsync(encoded -> memberService.registerMember(request, encoded), transactionExecutor);
+    }
+
+    /**
+     * @param request 소유주 가입 정보
+     * @return 등록된 회원 정보를 완료하는 future
+     * @throws ServiceBusyException 해싱 대기열이 가득 찬 경우
+     * @see MemberService#registerOwner(MemberRegisterRequest, String)
+     */
+    public CompletableFuture<MemberResponse> registerOwner(MemberRegisterRequest request) {
+        return passwordHashExecutor.encode(request.getMemberPassword())
+                .thenApplyAsync(encoded -> memberService.registerOwner(request, encoded), transactionExecutor);
+    }
+
+    /**
+     * 저장된 해시를 읽기 전용 트랜잭션으로 조회한 뒤, 현재 비밀번호 검증과 새 비밀번호 해싱을
+     * 해싱 풀에서 한 번에 처리하고 변경 트랜잭션을 실행합니다.
+     *
+     * @param memberNo 비밀번호를 변경할 회원 ID
+     * @param request  현재 비밀번호와 새 비밀번호
+     * @return 변경이 끝나면 완료되는 future. 현재 비밀번호가 다르면 {@link NotMatchesPasswordException}으로 완료됩니다.
+     * @throws ServiceBusyException 해싱 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<Void> changeMemberPassword(Long memberNo, MemberPasswordChangeRequest request) {
+        String storedHash = memberService.getPasswordHash(memberNo);
+        return passwordHashExecutor.submit(() -> {
+                    if (!PasswordUtil.matches(request.getCurrentPassword(), storedHash)) {
+                        throw new NotMatchesPasswordException(memberNo);
+                    }
+                    return PasswordUtil.encode(request.getNewPassword());
+                })
+                .thenAcceptAsync(encoded -> memberService.changeMemberPassword(memberNo, storedHash, encoded),
+                        transactionExecutor);
+    }
+
+    /**
+     * 로그인 비밀번호를 검증하고, 저장된 해시의 cost 가 현재 설정과 다르면 같은 평문으로 다시 해싱해 교체합니다.
+     * <p>
+     * 존재하지 않거나 탈퇴한 회원도 같은 시간 동안 BCrypt 비교를 수행한 뒤 비밀번호 불일치와 같은
+     * {@link AuthenticationFailedException}으로 완료해, 응답 시간으로 가입 여부를 알 수 없게 합니다.
+     * 재해싱이 실패해도 검증 결과에는 영향을 주지 않습니다.
+     *
+     * @param request 이메일과 평문 비밀번호
+     * @return 인증된 회원 정보를 완료하는 future
+     * @throws ServiceBusyException 해싱 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<MemberAuthResponse> verifyPassword(MemberPasswordVerifyRequest request) {
+        MemberLoginResponse loginInfo = findLoginInfo(request.getMemberEmail());
+        if (loginInfo == null) {
+            return passwordHashExecutor.submit(() -> {
+                PasswordUtil.matchesDummy(request.getMemberPassword());
+                throw new AuthenticationFailedException(INVALID_CREDENTIALS);
+            });
+        }
+
+        String storedHash = loginInfo.getMemberPassword();
+        return passwordHashExecutor.submit(() -> {
+                    if (!PasswordUtil.matches(request.getMemberPassword(), storedHash)) {
+                        throw new AuthenticationFailedException(INVALID_CREDENTIALS);
+                    }
+                    return PasswordUtil.needsRehash(storedHash) ? PasswordUtil.encode(request.getMemberPassword()) : null;
+                })
+                .thenApplyAsync(rehashed -> {
+                    if (rehashed != null) {
+                        rehash(loginInfo.getMemberNo(), storedHash, rehashed);
+                    }
+                    return new MemberAuthResponse(loginInfo.getMemberNo(), loginInfo.getMemberEmail(), loginInfo.getRoleId());
+                }, transactionExecutor);
+    }
+
+    private MemberLoginResponse findLoginInfo(String email) {
+        try {
+            return memberService.getLoginInfoByEmail(email);
+        } catch (NotExistMemberException e) {
+            return null;
+        }
+    }
+
+    private void rehash(Long memberNo, String storedHash, String rehashed) {
+        try {
+            if (memberService.rehashPassword(memberNo, storedHash, rehashed)) {
+                log.debug("BCrypt cost {} -> {} 재해싱: ID {}", PasswordUtil.costOf(storedHash), PasswordUtil.strength(), memberNo);
+            }
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 재해싱 실패: ID {}", memberNo, e);
+        }
+    }
+}
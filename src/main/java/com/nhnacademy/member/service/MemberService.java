@@ -1,15 +1,20 @@
 package com.nhnacademy.member.service;
 
+import com.nhnacademy.member.common.NotMatchesPasswordException;
 import com.nhnacademy.member.domain.Member;
-import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
 import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberBatchGetResponse;
+import com.nhnacademy.member.dto.response.MemberLoginBatchResponse;
 import com.nhnacademy.member.dto.response.MemberLoginResponse;
 import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.repository.CustomMemberRepository;
 import com.nhnacademy.common.exception.ResourceAlreadyExistsException;
 import com.nhnacademy.common.exception.ResourceNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 회원 관련 비즈니스 로직을 처리하는 서비스 인터페이스입니다.
  * Controller 계층과 Repository 계층 사이의 중간 역할을 수행합니다.
@@ -18,18 +23,26 @@ public interface MemberService {
 
     /**
      * 새로운 회원을 시스템에 등록합니다.
-     * 요청된 비밀번호는 안전하게 해싱되어 저장됩니다.
+     * 비밀번호는 트랜잭션 밖에서 미리 해싱된 값을 받아 그대로 저장합니다.
      * 기본 역할(예: ROLE_USER)이 할당됩니다.
      *
-     * @param request 회원 가입에 필요한 정보 (이메일, 비밀번호, 이름, 회사 도메인)
+     * @param request         회원 가입에 필요한 정보 (이메일, 비밀번호, 이름, 회사 도메인)
+     * @param encodedPassword 요청 비밀번호의 BCrypt 해시
      * @return 등록 완료된 회원의 정보 (비밀번호 제외)
      * @throws ResourceAlreadyExistsException 이미 해당 이메일로 가입된 회원이 있을 경우
      * @throws ResourceNotFoundException      요청된 회사 도메인이나 시스템 기본 역할이 존재하지 않을 경우
      */
-    MemberResponse registerMember(MemberRegisterRequest request);
+    MemberResponse registerMember(MemberRegisterRequest request, String encodedPassword);
 
 
-    MemberResponse registerOwner(MemberRegisterRequest request);
+    /**
+     * 회사의 소유주(Owner) 역할로 회원을 등록합니다.
+     *
+     * @param request         회원 가입에 필요한 정보
+     * @param encodedPassword 요청 비밀번호의 BCrypt 해시
+     * @return 등록 완료된 회원의 정보 (비밀번호 제외)
+     */
+    MemberResponse registerOwner(MemberRegisterRequest request, String encodedPassword);
 
 
     /**
@@ -51,16 +64,38 @@ public interface MemberService {
      */
     MemberResponse getMemberByEmail(String memberEmail);
 
+    /**
+     * 비밀번호 검증을 위해 회원의 저장된 비밀번호 해시를 조회합니다.
+     *
+     * @param memberNo 조회할 회원의 고유 ID
+     * @return 저장된 BCrypt 해시
+     * @throws ResourceNotFoundException 해당 ID를 가진 회원을 찾을 수 없을 경우
+     */
+    String getPasswordHash(Long memberNo);
+
     /**
      * 회원의 비밀번호를 변경합니다.
-     * 변경 전 현재 비밀번호를 확인하는 과정이 포함됩니다.
+     * 현재 비밀번호 검증과 새 비밀번호 해싱은 트랜잭션 밖에서 끝난 상태여야 하며,
+     * 검증에 사용한 해시가 그 사이에 바뀌었으면 변경하지 않습니다.
      *
-     * @param memberNo 비밀번호를 변경할 회원의 고유 ID
-     * @param request  현재 비밀번호와 변경할 새 비밀번호가 담긴 요청 DTO
+     * @param memberNo             비밀번호를 변경할 회원의 고유 ID
+     * @param verifiedPasswordHash 현재 비밀번호 검증에 사용한 저장 해시 ({@link #getPasswordHash(Long)})
+     * @param newEncodedPassword   새 비밀번호의 BCrypt 해시
      * @throws ResourceNotFoundException 해당 ID를 가진 회원을 찾을 수 없을 경우
-     * @throws IllegalArgumentException  현재 비밀번호가 일치하지 않거나 새 비밀번호 형식이 유효하지 않을 경우
+     * @throws NotMatchesPasswordException 검증 이후 비밀번호가 다른 요청으로 변경된 경우
+     */
+    void changeMemberPassword(Long memberNo, String verifiedPasswordHash, String newEncodedPassword);
+
+    /**
+     * 로그인 검증에 성공한 회원의 비밀번호 해시를 현재 BCrypt cost 로 다시 만든 값으로 교체합니다.
+     * 검증 이후 해시가 다른 요청으로 바뀌었으면 아무것도 하지 않습니다.
+     *
+     * @param memberNo             회원의 고유 ID
+     * @param verifiedPasswordHash 검증에 사용한 저장 해시
+     * @param newEncodedPassword   현재 cost 로 다시 해싱한 비밀번호
+     * @return 교체했으면 true
      */
-    void changeMemberPassword(Long memberNo, MemberPasswordChangeRequest request);
+    boolean rehashPassword(Long memberNo, String verifiedPasswordHash, String newEncodedPassword);
 
     /**
      * 회원을 시스템에서 탈퇴 처리합니다 (논리적 삭제/Soft Delete).
@@ -71,6 +106,16 @@ public interface MemberService {
      */
     void deleteMember(Long memberNo);
 
+    /**
+     * 여러 회원 번호의 회원 정보를 한 번에 조회합니다.
+     * 중복과 null 은 제외하며, 존재하지 않는 회원 번호는 예외 대신 {@code missing}에 담깁니다.
+     *
+     * @param memberNos 조회할 회원 번호 목록
+     * @return 요청 순서의 회원 정보와 찾지 못한 회원 번호
+     * @throws IllegalArgumentException 회원 번호가 없거나 {@code member.batch-get.max-size}개를 넘는 경우
+     */
+    MemberBatchGetResponse getMembersByIds(List<Long> memberNos);
+
     /**
      * 주어진 이메일 주소에 해당하는 회원의 로그인 관련 핵심 정보를 조회합니다.
      * 주로 다른 인증 서비스(Auth API 등)에서 비밀번호 검증 및 역할 확인을 위해 호출됩니다.
@@ -81,9 +126,20 @@ public interface MemberService {
      */
     MemberLoginResponse getLoginInfoByEmail(String email);
 
+    /**
+     * 여러 이메일의 로그인 정보를 한 번에 조회합니다.
+     * 중복과 빈 값은 제외하며, 회원이 없거나 탈퇴한 이메일은 예외 대신 {@code missing}에 담깁니다.
+     *
+     * @param emails 조회할 회원 이메일 목록
+     * @return 찾은 로그인 정보와 찾지 못한 이메일
+     * @throws IllegalArgumentException 이메일이 없거나 {@code member.login-info.batch.max-size}개를 넘는 경우
+     */
+    MemberLoginBatchResponse getLoginInfosByEmails(List<String> emails);
+
 
     /**
      * 회원이 로그인 된 후 최근 로그인 기록을 업데이트합니다.
+     * 기록은 메모리에 모았다가 주기적으로 저장되므로, 반환 직후에는 조회 결과에 반영되지 않았을 수 있습니다.
      * @param memberEmail
      */
     void updateLoginAt(String memberEmail);
@@ -99,6 +155,27 @@ public interface MemberService {
      */
     Page<MemberResponse> getMemberResponseFromCompanyDomain(String companyDomain, Pageable pageable, boolean isPending);
 
+    /**
+     * 회사의 회원 목록이 바뀌었는지 판단할 값(회원 수, 변경 버전 합계)을 조회합니다.
+     * 목록 응답의 ETag 를 만들 때 사용하며, 회원 정보를 복호화하지 않습니다.
+     *
+     * @param companyDomain 회사 도메인
+     * @param isPending     승인 대기 회원 목록이면 true
+     * @return 회원 목록 버전
+     */
+    CustomMemberRepository.MemberListVersion getMemberListVersion(String companyDomain, boolean isPending);
+
+    /**
+     * 회사 소속 회원을 이메일 일부로 검색합니다.
+     * 검색어를 이메일 토큰 블라인드 인덱스로 바꿔 후보를 찾은 뒤, 필요한 경우 복호화한 이메일로 다시 확인합니다.
+     *
+     * @param companyDomain 회사 도메인
+     * @param emailQuery    이메일 검색어 (접두어 방식이면 앞부분, n-gram 방식이면 일부)
+     * @return 회원 목록 (최대 {@code member.email-search.max-results}건)
+     * @throws IllegalArgumentException 검색을 사용하지 않거나 검색어가 너무 짧은 경우
+     */
+    List<MemberResponse> searchMembersByEmail(String companyDomain, String emailQuery);
+
     /**
      * 회원의 권한을 변경 합니다.
      * @param memberNo 회원 번호
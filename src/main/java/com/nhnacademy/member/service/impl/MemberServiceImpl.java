@@ -1,42 +1,57 @@
 package com.nhnacademy.member.service.impl;
 
-import com.nhnacademy.common.util.AESUtil;
-import com.nhnacademy.common.util.HashUtil;
-import com.nhnacademy.common.util.PasswordUtil;
+import com.nhnacademy.common.bloom.BlindIndexBloomFilter;
+import com.nhnacademy.common.crypto.EncryptedValue;
 import com.nhnacademy.company.common.NotExistCompanyException;
 import com.nhnacademy.company.domain.Company;
-import com.nhnacademy.company.domain.CompanyIndex;
-import com.nhnacademy.company.repository.CompanyIndexRepository;
-import com.nhnacademy.company.repository.CompanyRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
 import com.nhnacademy.member.common.AlreadyExistMemberException;
 import com.nhnacademy.member.common.NotExistMemberException;
 import com.nhnacademy.member.common.NotMatchesPasswordException;
 import com.nhnacademy.member.domain.Member;
 import com.nhnacademy.member.domain.MemberIndex;
-import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
 import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberBatchGetResponse;
+import com.nhnacademy.member.dto.response.MemberLoginBatchResponse;
 import com.nhnacademy.member.dto.response.MemberLoginResponse;
 import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.event.MemberIdentityChangedEvent;
+import com.nhnacademy.member.event.MemberRegisteredEvent;
+import com.nhnacademy.member.event.MemberRoleChangedEvent;
+import com.nhnacademy.member.event.MemberWithdrawnEvent;
+import com.nhnacademy.member.event.PasswordChangedEvent;
 import com.nhnacademy.member.repository.MemberIndexRepository;
+import com.nhnacademy.member.repository.CustomMemberRepository;
 import com.nhnacademy.member.repository.MemberRepository;
+import com.nhnacademy.member.service.LastLoginWriteBehind;
+import com.nhnacademy.member.service.MemberEmailTokenizer;
+import com.nhnacademy.member.service.MemberPasswordFacade;
 import com.nhnacademy.member.service.MemberService;
 import com.nhnacademy.role.common.NotExistRoleException;
 import com.nhnacademy.role.domain.Role;
 import com.nhnacademy.role.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 
 /**
  * {@link MemberService} 인터페이스의 구현 클래스입니다.
  * 회원 가입, 조회, 수정, 탈퇴, 로그인 정보 제공 등 회원 관련 핵심 비즈니스 로직을 수행합니다.
- * 데이터베이스 트랜잭션을 관리하며, {@link PasswordEncoder}를 사용하여 비밀번호를 안전하게 처리합니다.
+ * 데이터베이스 트랜잭션을 관리하며, 비밀번호 BCrypt 해싱/검증은 트랜잭션 밖({@link MemberPasswordFacade})에서 끝난 값을 받습니다.
  * 이 구현체는 회사 등록과 회원 가입 API가 분리된 구조를 가정합니다.
  *
  * @see com.nhnacademy.member.service.MemberService
@@ -51,9 +66,12 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final MemberIndexRepository memberIndexRepository;
-    private final CompanyRepository companyRepository;
-    private final CompanyIndexRepository companyIndexRepository;
+    private final CompanyDomainResolver companyDomainResolver;
     private final RoleRepository roleRepository;
+    private final BlindIndexBloomFilter blindIndexBloomFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberEmailTokenizer memberEmailTokenizer;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
 
     // application.yml 등 설정 파일에서 기본 사용자 역할 ID 주입
     @Value("${app.security.pending-role-id}")
@@ -62,34 +80,37 @@ public class MemberServiceImpl implements MemberService {
     @Value("${app.security.owner-role-id:ROLE_OWNER}")
     private String defaultOwnerRoleId;
 
+    @Value("${member.email-search.max-results:50}")
+    private int emailSearchMaxResults;
+
+    @Value("${member.login-info.batch.max-size:100}")
+    private int loginInfoBatchMaxSize;
+
+    @Value("${member.batch-get.max-size:100}")
+    private int batchGetMaxSize;
+
     /**
      * {@inheritDoc}
      * 이 메서드는 사전에 등록된 기존 회사에 새로운 멤버를 등록합니다.
      * 회사를 새로 생성하는 기능은 포함하지 않으며, 요청된 회사 도메인이 존재하지 않으면 예외가 발생합니다.
-     * 등록 시 기본 사용자 역할({@code defaultUserRoleId})이 할당되며, 비밀번호는 해싱되어 저장됩니다.
+     * 등록 시 기본 사용자 역할({@code defaultUserRoleId})이 할당되며, 비밀번호는 미리 해싱된 값이 저장됩니다.
      * 만약 요청된 이메일이 이미 시스템에 존재하면 {@code AlreadyExistMemberException}이 발생합니다.
      * 필요한 회사 또는 기본 역할 정보가 시스템에 없으면 {@code NotExistCompanyException} 또는
      * {@code NotExistRoleException}이 발생할 수 있습니다.
      */
     @Override
-    public MemberResponse registerMember(MemberRegisterRequest request) {
+    public MemberResponse registerMember(MemberRegisterRequest request, String encodedPassword) {
         log.debug("회원 등록 요청 처리 시작: 이메일 {}", request.getMemberEmail());
 
         // 이메일 중복 확인
-        String hashKey = HashUtil.sha256Hex(request.getMemberEmail());
-        if (memberIndexRepository.existsByHashValueAndFieldName(hashKey, "email")) {
+        if (isRegisteredEmail(request.getMemberEmail())) {
             log.warn("회원 등록 실패: 이미 존재하는 이메일 {}", request.getMemberEmail());
             throw new AlreadyExistMemberException("이미 존재하는 이메일 입니다 : " + request.getMemberEmail());
         }
 
         // 소속 회사 조회 (반드시 존재해야 함)
-        String index = HashUtil.sha256Hex(request.getCompanyDomain());
-        //인덱스 레포지토리로 존재하는지 검색
-        CompanyIndex companyIndex = companyIndexRepository.findByHashValue(index).orElseThrow(
-                () -> new NotExistCompanyException("존재하지 않는 회사 도메인입니다. " + request.getCompanyDomain()));
-
-        //인덱스 레포지토리에서 찾은 companyIndex를 통해 해당하는 필드값을 가져와 회사 레포지토리에서 검색
-        Company company = companyRepository.findById(companyIndex.getCompanyDomain())
+        // 도메인 -> PK 매핑(메모리)으로 회사를 PK 조회
+        Company company = companyDomainResolver.findCompany(request.getCompanyDomain())
                 .orElseThrow(() -> {
                     log.warn("회원 등록 실패: 존재하지 않는 회사 도메인 {}", request.getCompanyDomain());
                     return new NotExistCompanyException("가입하려는 회사 도메인('"
@@ -109,9 +130,13 @@ public class MemberServiceImpl implements MemberService {
         log.debug("신규 멤버에게 역할 '{}' 할당 예정.", defaultUserRoleId);
 
         // Member 엔티티 생성 및 저장
-        Member newMember = Member.ofNewMember(company, userRole, AESUtil.encrypt(request.getMemberEmail()), PasswordUtil.encode(request.getMemberPassword()));
+        Member newMember = Member.ofNewMember(company, userRole, request.getMemberEmail(), encodedPassword);
         Member savedMember = memberRepository.save(newMember);
-        memberIndexRepository.save(new MemberIndex(savedMember.getMemberNo(), "email", hashKey));
+        MemberIndex savedIndex = memberIndexRepository.save(MemberIndex.of(savedMember.getMemberNo(), "email", request.getMemberEmail()));
+        blindIndexBloomFilter.put(BlindIndexBloomFilter.Target.MEMBER, savedIndex.getHashValue());
+        saveEmailTokens(savedMember.getMemberNo(), request.getMemberEmail());
+        eventPublisher.publishEvent(new MemberRegisteredEvent(
+                savedMember.getMemberNo(), company.getCompanyNo(), userRole.getRoleId()));
         log.debug("회원 등록 성공: 이메일 '{}', ID '{}'", savedMember.getMemberEmail(), savedMember.getMemberNo());
 
         // 응답 DTO 변환 후 반환
@@ -119,22 +144,17 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    public MemberResponse registerOwner(MemberRegisterRequest request) {
+    public MemberResponse registerOwner(MemberRegisterRequest request, String encodedPassword) {
         log.debug("소유주 등록 요청 처리 시작: 이메일 {}", request.getMemberEmail());
 
-        String hashKey = HashUtil.sha256Hex(request.getMemberEmail());
-        if (memberIndexRepository.existsByHashValueAndFieldName(hashKey, "email")) {
+        if (isRegisteredEmail(request.getMemberEmail())) {
             log.warn("소유주 등록 실패: 이미 존재하는 이메일 {}", request.getMemberEmail());
             throw new AlreadyExistMemberException("이미 존재하는 이메일 입니다 : " + request.getMemberEmail());
         }
 
-        String index = HashUtil.sha256Hex(request.getCompanyDomain());
-        //인덱스 레포지토리로 존재하는지 검색
-        CompanyIndex companyIndex = companyIndexRepository.findByHashValue(index).orElseThrow(
-                () -> new NotExistCompanyException("존재하지 않는 회사 도메인입니다. " + request.getCompanyDomain()));
-
         // 소속 회사 조회 (반드시 존재해야 함)
-        Company company = companyRepository.findById(companyIndex.getCompanyDomain())
+        // 도메인 -> PK 매핑(메모리)으로 회사를 PK 조회
+        Company company = companyDomainResolver.findCompany(request.getCompanyDomain())
                 .orElseThrow(() -> {
                     log.warn("소유주 등록 실패: 존재하지 않는 회사 도메인 {}", request.getCompanyDomain());
                     return new NotExistCompanyException("가입하려는 회사 도메인('"
@@ -154,9 +174,13 @@ public class MemberServiceImpl implements MemberService {
         log.info("신규 소유주에게 역할 '{}' 할당 예정.", defaultOwnerRoleId);
 
         // Member 엔티티 생성 및 저장
-        Member newMember = Member.ofNewMember(company, userRole, AESUtil.encrypt(request.getMemberEmail()), PasswordUtil.encode(request.getMemberPassword()));
+        Member newMember = Member.ofNewMember(company, userRole, request.getMemberEmail(), encodedPassword);
         Member savedMember = memberRepository.save(newMember);
-        memberIndexRepository.save(new MemberIndex(savedMember.getMemberNo(), "email", hashKey));
+        MemberIndex savedIndex = memberIndexRepository.save(MemberIndex.of(savedMember.getMemberNo(), "email", request.getMemberEmail()));
+        blindIndexBloomFilter.put(BlindIndexBloomFilter.Target.MEMBER, savedIndex.getHashValue());
+        saveEmailTokens(savedMember.getMemberNo(), request.getMemberEmail());
+        eventPublisher.publishEvent(new MemberRegisteredEvent(
+                savedMember.getMemberNo(), company.getCompanyNo(), userRole.getRoleId()));
         log.info("소유주 등록 성공: 이메일 '{}', ID '{}'", savedMember.getMemberEmail(), savedMember.getMemberNo());
 
         // 응답 DTO 변환 후 반환
@@ -178,38 +202,108 @@ public class MemberServiceImpl implements MemberService {
         return mapToMemberResponse(member);
     }
 
+    /**
+     * {@inheritDoc}
+     * {@code @Transactional(readOnly = true)}로 설정되어 읽기 전용으로 동작합니다.
+     * 회원 수와 관계없이 쿼리 한 번으로 조회하고, 이메일/도메인은 복호화가 끝난 상태로 반환합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MemberBatchGetResponse getMembersByIds(List<Long> memberNos) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (memberNos != null) {
+            for (Long memberNo : memberNos) {
+                if (memberNo != null) {
+                    distinct.add(memberNo);
+                }
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("조회할 회원 번호를 하나 이상 입력하세요.");
+        }
+        if (distinct.size() > batchGetMaxSize) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 회원은 최대 " + batchGetMaxSize + "명입니다.");
+        }
+
+        Map<Long, MemberResponse> byMemberNo = new HashMap<>(distinct.size() * 2);
+        for (MemberResponse response : memberRepository.findMemberResponsesByMemberNos(distinct)) {
+            byMemberNo.put(response.getMemberNo(), response);
+        }
+        // 조회 결과는 회원 번호 순이므로 요청 순서로 다시 정렬
+        List<MemberResponse> members = new ArrayList<>(byMemberNo.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long memberNo : distinct) {
+            MemberResponse response = byMemberNo.get(memberNo);
+            if (response == null) {
+                missing.add(memberNo);
+            } else {
+                members.add(response);
+            }
+        }
+        log.debug("회원 일괄 조회: 요청 {}명, 찾음 {}명, 없음 {}명", distinct.size(), members.size(), missing.size());
+        return new MemberBatchGetResponse(members, missing);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public MemberResponse getMemberByEmail(String memberEmail) {
-        Member member = mapToMember(memberEmail);
+        if (memberEmail == null || memberEmail.isBlank()) {
+            throw new IllegalArgumentException("filed 값이 empty.");
+        }
+        // 응답에 필요한 컬럼만 한 번에 조회 (엔티티를 만들지 않음)
+        MemberResponse response = memberRepository.findMemberResponseByEmail(memberEmail).orElseThrow(
+                () -> new NotExistMemberException(String.format("%s 에 해당하는 멤버는 존재하지 않습니다.", memberEmail)));
 
         log.debug("회원 정보 조회 성공: email {}", memberEmail);
-        return mapToMemberResponse(member);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getPasswordHash(Long memberNo) {
+        return findMemberByIdOrThrow(memberNo).getMemberPassword();
     }
 
     /**
      * {@inheritDoc}
-     * 요청으로 받은 현재 비밀번호와 저장된 비밀번호를 {@link PasswordEncoder#matches(CharSequence, String)}로 비교하여 검증합니다.
-     * 검증 실패 시 {@code IllegalArgumentException}이 발생합니다.
-     * 검증 성공 시 새 비밀번호를 해싱하여 {@link Member#changePassword(String)}를 통해 엔티티 상태를 변경하며,
+     * 현재 비밀번호 검증({@code PasswordUtil.matches})과 새 비밀번호 해싱은 호출 전에 해싱 전용 풀에서 끝나므로,
+     * 이 트랜잭션은 저장된 해시가 검증 시점과 같은지만 확인하고 {@link Member#changePassword(String)}로 변경합니다.
      * JPA 변경 감지(Dirty Checking)에 의해 데이터베이스에 반영됩니다.
      * 대상 회원을 찾지 못하면 {@code NotExistMemberException}이 발생합니다.
      */
     @Override
-    public void changeMemberPassword(Long memberNo, MemberPasswordChangeRequest request) {
+    public void changeMemberPassword(Long memberNo, String verifiedPasswordHash, String newEncodedPassword) {
         log.debug("회원 비밀번호 변경 요청: ID {}", memberNo);
         Member member = findMemberByIdOrThrow(memberNo);
 
-        // 현재 비밀번호 일치 확인
-        if (!PasswordUtil.matches(request.getCurrentPassword(), member.getMemberPassword())) {
+        // 검증 이후 다른 요청이 비밀번호를 바꿨으면 이전 비밀번호로 검증한 결과이므로 거절
+        if (!member.getMemberPassword().equals(verifiedPasswordHash)) {
             throw new NotMatchesPasswordException(memberNo);
         }
 
-        // 새 비밀번호 해싱 및 엔티티 업데이트
-        member.changePassword(PasswordUtil.encode(request.getNewPassword()));
+        member.changePassword(newEncodedPassword);
+        publishIdentityChanged(member, MemberIdentityChangedEvent.Reason.PASSWORD);
+        eventPublisher.publishEvent(new PasswordChangedEvent(memberNo));
         log.debug("회원 비밀번호 변경 성공: ID {}", memberNo);
     }
 
+    /**
+     * {@inheritDoc}
+     * 비밀번호 변경과 달리 검증 이후 해시가 바뀐 경우는 예외 없이 건너뜁니다. (다음 로그인 때 다시 시도)
+     */
+    @Override
+    public boolean rehashPassword(Long memberNo, String verifiedPasswordHash, String newEncodedPassword) {
+        Member member = findMemberByIdOrThrow(memberNo);
+        if (!member.getMemberPassword().equals(verifiedPasswordHash)) {
+            log.debug("비밀번호 재해싱 생략: ID {} 의 비밀번호가 검증 이후 변경됨", memberNo);
+            return false;
+        }
+        member.changePassword(newEncodedPassword);
+        publishIdentityChanged(member, MemberIdentityChangedEvent.Reason.PASSWORD);
+        log.debug("비밀번호 재해싱 완료: ID {}", memberNo);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      * 회원 데이터를 물리적으로 삭제하는 대신, {@link Member#withdraw()} 메서드를 호출하여
@@ -222,6 +316,8 @@ public class MemberServiceImpl implements MemberService {
         log.debug("회원 탈퇴 요청: ID {}", memberNo);
         Member member = findMemberByIdOrThrow(memberNo);
         member.withdraw();
+        publishIdentityChanged(member, MemberIdentityChangedEvent.Reason.WITHDRAWAL);
+        eventPublisher.publishEvent(new MemberWithdrawnEvent(memberNo));
         log.info("회원 탈퇴 처리 완료: ID {}", memberNo);
     }
 
@@ -237,10 +333,16 @@ public class MemberServiceImpl implements MemberService {
     @Transactional(readOnly = true)
     public MemberLoginResponse getLoginInfoByEmail(String email) {
         log.debug("로그인 정보 조회 요청: 이메일 {}", email);
-        Member member = mapToMember(email);
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("filed 값이 empty.");
+        }
+        // 인덱스와 회원을 조인해 필요한 컬럼만 한 번에 조회 (엔티티/이메일 복호화 없음)
+        CustomMemberRepository.MemberLoginInfo loginInfo = memberRepository.findLoginInfoByEmail(email)
+                .orElseThrow(() -> new NotExistMemberException(
+                        String.format("%s 에 해당하는 멤버는 존재하지 않습니다.", email)));
 
         // 활성(탈퇴하지 않은) 회원인지 확인
-        if (!member.isActive()) {
+        if (!loginInfo.active()) {
             log.warn("로그인 정보 조회 실패: 탈퇴한 회원 {}", email);
             throw new NotExistMemberException("탈퇴 처리된 회원입니다: " + email);
         }
@@ -248,20 +350,70 @@ public class MemberServiceImpl implements MemberService {
         log.debug("로그인 정보 조회 성공: 이메일 {}", email);
         // 로그인 정보 DTO 생성 및 반환
         return new MemberLoginResponse(
-                member.getMemberNo(),
-                AESUtil.decrypt(member.getMemberEmail()),
-                member.getMemberPassword(),
-                member.getRole() != null ? member.getRole().getRoleId() : null // 역할 정보 포함
+                loginInfo.memberNo(),
+                email,
+                loginInfo.memberPassword(),
+                loginInfo.roleId() // 역할 정보 포함
         );
     }
 
     /**
+     * {@inheritDoc}
+     * {@code @Transactional(readOnly = true)}로 설정되어 읽기 전용으로 동작합니다.
+     * 이메일 수와 관계없이 인덱스/회원 조인 쿼리 한 번으로 조회합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MemberLoginBatchResponse getLoginInfosByEmails(List<String> emails) {
+        Set<String> distinct = new LinkedHashSet<>();
+        if (emails != null) {
+            for (String email : emails) {
+                if (email != null && !email.isBlank()) {
+                    distinct.add(email);
+                }
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("조회할 이메일을 하나 이상 입력하세요.");
+        }
+        if (distinct.size() > loginInfoBatchMaxSize) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 이메일은 최대 " + loginInfoBatchMaxSize + "개입니다.");
+        }
+
+        Map<String, CustomMemberRepository.MemberLoginInfo> loginInfos = memberRepository.findLoginInfosByEmails(distinct);
+        List<MemberLoginResponse> found = new ArrayList<>(loginInfos.size());
+        List<String> missing = new ArrayList<>();
+        for (String email : distinct) {
+            CustomMemberRepository.MemberLoginInfo loginInfo = loginInfos.get(email);
+            // 탈퇴한 회원은 단건 조회와 같이 없는 회원으로 취급
+            if (loginInfo == null || !loginInfo.active()) {
+                missing.add(email);
+                continue;
+            }
+            found.add(new MemberLoginResponse(
+                    loginInfo.memberNo(), email, loginInfo.memberPassword(), loginInfo.roleId()));
+        }
+        log.debug("로그인 정보 일괄 조회: 요청 {}개, 찾음 {}개, 없음 {}개", distinct.size(), found.size(), missing.size());
+        return new MemberLoginBatchResponse(found, missing);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 회원 번호만 조회한 뒤 {@link LastLoginWriteBehind}에 기록하고 바로 반환합니다.
+     * 실제 저장(변경 버전 증가, 조회 캐시 제거 포함)은 저장 주기마다 배치로 처리됩니다.
+     *
      * @param memberEmail 마지막 로그인 시간을 변경할 memberEmail
      */
     @Override
+    @Transactional(readOnly = true)
     public void updateLoginAt(String memberEmail) {
-        Member member = mapToMember(memberEmail);
-        member.updateLastLoginTime();
+        if (memberEmail == null || memberEmail.isBlank()) {
+            throw new IllegalArgumentException("filed 값이 empty.");
+        }
+        CustomMemberRepository.MemberLoginInfo loginInfo = memberRepository.findLoginInfoByEmail(memberEmail)
+                .orElseThrow(() -> new NotExistMemberException(
+                        String.format("%s 에 해당하는 멤버는 존재하지 않습니다.", memberEmail)));
+        lastLoginWriteBehind.record(loginInfo.memberNo(), memberEmail, LocalDateTime.now());
     }
 
     @Override
@@ -269,6 +421,32 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findMembersFromCompanyDomain(companyDomain, pageable, isPending);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CustomMemberRepository.MemberListVersion getMemberListVersion(String companyDomain, boolean isPending) {
+        return memberRepository.findMemberListVersion(companyDomain, isPending);
+    }
+
+    /**
+     * {@inheritDoc}
+     * {@code @Transactional(readOnly = true)}로 설정되어 읽기 전용으로 동작합니다.
+     * 접두어가 {@code max-prefix-length}보다 길거나 n-gram 방식인 경우 토큰이 모두 일치해도 다른 이메일일 수 있으므로,
+     * 후보의 이메일을 복호화해 검색어와 다시 비교합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponse> searchMembersByEmail(String companyDomain, String emailQuery) {
+        MemberEmailTokenizer.TokenQuery tokenQuery = memberEmailTokenizer.query(emailQuery);
+        List<MemberResponse> candidates = memberRepository.findMembersByTokens(
+                companyDomain, tokenQuery.fieldName(), tokenQuery.hashes(), emailSearchMaxResults);
+        if (tokenQuery.exact()) {
+            return candidates;
+        }
+        return candidates.stream()
+                .filter(candidate -> memberEmailTokenizer.matches(candidate.getMemberEmail(), emailQuery))
+                .toList();
+    }
+
     @Override
     public String updateMemberRole(Long memberNo, String role) {
         Role userRole = roleRepository.findById(role)
@@ -280,7 +458,10 @@ public class MemberServiceImpl implements MemberService {
                 () -> new NotExistMemberException("해당 회원은 존재하지 않습니다.")
         );
 
+        String previousRoleId = member.getRole().getRoleId();
         member.updateRole(userRole);
+        publishIdentityChanged(member, MemberIdentityChangedEvent.Reason.ROLE);
+        eventPublisher.publishEvent(new MemberRoleChangedEvent(memberNo, previousRoleId, userRole.getRoleId()));
         return "권한 변경 완료";
     }
 
@@ -300,6 +481,33 @@ public class MemberServiceImpl implements MemberService {
                 });
     }
 
+    /**
+     * 이메일로 조회되는 회원 정보가 바뀌었음을 알립니다.
+     * 구독자({@link com.nhnacademy.member.service.MemberIdentityCache})는 커밋 이후에만 반영하므로 롤백 시에는 아무 일도 일어나지 않습니다.
+     */
+    private void publishIdentityChanged(Member member, MemberIdentityChangedEvent.Reason reason) {
+        eventPublisher.publishEvent(new MemberIdentityChangedEvent(
+                member.getMemberNo(), EncryptedValue.plaintextOf(member.getMemberEmail()), reason));
+    }
+
+    /**
+     * Bloom 필터가 "확실히 없음"으로 판단하면 DB 조회 없이 false 를 반환합니다.
+     */
+    private boolean isRegisteredEmail(String email) {
+        return blindIndexBloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, email)
+                && memberIndexRepository.existsByBlindIndex(email, "email");
+    }
+
+    /**
+     * 관리자 이메일 검색용 토큰 인덱스 행을 저장합니다. 검색을 사용하지 않으면 저장하지 않습니다.
+     */
+    private void saveEmailTokens(Long memberNo, String email) {
+        List<MemberIndex> tokens = memberEmailTokenizer.indexRows(memberNo, email);
+        if (!tokens.isEmpty()) {
+            memberIndexRepository.saveAll(tokens);
+        }
+    }
+
     /**
      * {@link Member} 엔티티 객체를 API 응답에 사용될 {@link MemberResponse} DTO 객체로 변환합니다.
      * 연관된 엔티티(Company, Role)의 필드(도메인, 역할 ID)를 포함시키며, 비밀번호와 같은 민감 정보는 제외합니다.
@@ -310,29 +518,19 @@ public class MemberServiceImpl implements MemberService {
      */
     private MemberResponse mapToMemberResponse(Member member) {
         // 연관 객체가 null일 경우를 대비하여 안전하게 필드 접근
-        String companyDomain = (member.getCompany() != null) ? member.getCompany().getCompanyDomain() : null;
+        EncryptedValue companyDomain = (member.getCompany() != null) ? member.getCompany().getCompanyDomain() : null;
         String roleId = (member.getRole() != null) ? member.getRole().getRoleId() : null;
 
-        return new MemberResponse(
-                member.getMemberNo(),
-                AESUtil.decrypt(member.getMemberEmail()),
-                AESUtil.decrypt(companyDomain),
-                roleId,
-                member.getRegisteredAt(),
-                member.getLastLoginAt()
-        );
-    }
-
-    private Member mapToMember(String filed) {
-        if (filed == null || filed.isBlank()) {
-            throw new IllegalArgumentException("filed 값이 empty.");
-        }
-        MemberIndex memberIndex = memberIndexRepository.findByHashValue(HashUtil.sha256Hex(filed)).orElseThrow(
-                ()-> new NotExistMemberException(String.format("%s 에 해당하는 멤버는 존재하지 않습니다.", filed)));
-
-        return memberRepository.findById(memberIndex.getMemberNo())
-                .orElseThrow(() -> new NotExistMemberException(
-                        String.format("%s로 저장된 회원이 없습니다.", filed)));
+        // 이메일/도메인은 암호문 그대로 넘기고, 응답 직렬화 시점에 복호화
+        return MemberResponse.builder()
+                .memberNo(member.getMemberNo())
+                .memberEmail(member.getMemberEmail())
+                .companyDomain(companyDomain)
+                .roleId(roleId)
+                .registerAt(member.getRegisteredAt())
+                .lastLoginAt(member.getLastLoginAt())
+                .version(member.getVersion())
+                .build();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package db.migration.common;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * members 테이블의 제약 조건 이름을 V1__create_schema 와 같게 맞춥니다.
+ * <p>
+ * Flyway 도입 전 운영 DB 는 Hibernate 가 만든 스키마라 제약 조건 이름이 {@code FK...}/{@code UK...} 형태이고,
+ * baseline(버전 1)으로 V1 을 건너뛰므로 이후 마이그레이션(V5__company_surrogate_key)이 이름으로 지울 수 없습니다.
+ * 이름은 DB마다 다르므로 information_schema 에서 컬럼으로 찾아 바꾸며, 이미 같은 이름이면 아무것도 하지 않습니다.
+ */
+public class V4_1__Rename_generated_constraints extends BaseJavaMigration {
+
+    private static final String FOREIGN_KEY = "FOREIGN KEY";
+    private static final String UNIQUE = "UNIQUE";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        String schema = mysql ? connection.getCatalog() : connection.getSchema();
+
+        String companyFk = constraintName(connection, schema, FOREIGN_KEY, "company_domain");
+        if (companyFk != null && !companyFk.equalsIgnoreCase("fk_members_company")) {
+            renameForeignKey(connection, mysql, companyFk, "fk_members_company",
+                    "FOREIGN KEY (company_domain) REFERENCES companies (company_domain)");
+        }
+        String roleFk = constraintName(connection, schema, FOREIGN_KEY, "role_id");
+        if (roleFk != null && !roleFk.equalsIgnoreCase("fk_members_role")) {
+            renameForeignKey(connection, mysql, roleFk, "fk_members_role",
+                    "FOREIGN KEY (role_id) REFERENCES roles (role_id)");
+        }
+        String emailUk = constraintName(connection, schema, UNIQUE, "member_email");
+        if (emailUk != null && !emailUk.equalsIgnoreCase("uk_members_member_email")) {
+            execute(connection, mysql
+                    ? "ALTER TABLE members RENAME INDEX " + quote(connection, emailUk) + " TO uk_members_member_email"
+                    : "ALTER TABLE members RENAME CONSTRAINT " + quote(connection, emailUk) + " TO uk_members_member_email");
+        }
+    }
+
+    /**
+     * MySQL 은 외래키 이름을 바꿀 수 없으므로 지우고 같은 정의로 다시 만듭니다.
+     */
+    private static void renameForeignKey(Connection connection, boolean mysql, String current, String target,
+                                         String definition) throws SQLException {
+        if (mysql) {
+            execute(connection, "ALTER TABLE members DROP FOREIGN KEY " + quote(connection, current));
+            execute(connection, "ALTER TABLE members ADD CONSTRAINT " + target + " " + definition);
+        } else {
+            execute(connection, "ALTER TABLE members RENAME CONSTRAINT " + quote(connection, current) + " TO " + target);
+        }
+    }
+
+    /**
+     * @return members 테이블에서 해당 컬럼 하나에 걸린 제약 조건 이름, 없으면 null
+     */
+    private static String constraintName(Connection connection, String schema, String type, String column)
+            throws SQLException {
+        String sql = "SELECT tc.CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc "
+                + "JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA "
+                + "AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME AND kcu.TABLE_NAME = tc.TABLE_NAME "
+                + "WHERE tc.TABLE_SCHEMA = ? AND LOWER(tc.TABLE_NAME) = 'members' AND tc.CONSTRAINT_TYPE = ? "
+                + "GROUP BY tc.CONSTRAINT_NAME "
+                + "HAVING COUNT(*) = 1 AND MAX(LOWER(kcu.COLUMN_NAME)) = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, schema);
+            statement.setString(2, type);
+            statement.setString(3, column);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private static String quote(Connection connection, String identifier) throws SQLException {
+        String quote = connection.getMetaData().getIdentifierQuoteString();
+        return quote + identifier + quote;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- 블라인드 인덱스 조회는 항상 (field_name, 해시) 로 찾습니다.
+-- 이메일은 회원당 하나이므로 (field_name, hash_key) 가 유일합니다.
+CREATE UNIQUE INDEX uk_member_index_field_hash_key ON member_index (field_name, hash_key);
+CREATE INDEX idx_member_index_field_hash_value ON member_index (field_name, hash_value);
+
+-- 회사 이름/주소 등은 회사끼리 같을 수 있으므로 회사 도메인까지 포함해 같은 행이 중복되지 않게만 합니다.
+-- 앞의 (field_name, hash_key) 가 조회에 사용됩니다.
+CREATE UNIQUE INDEX uk_companies_index_field_hash_key ON companies_index (field_name, hash_key, company_domain);
+CREATE INDEX idx_companies_index_field_hash_value ON companies_index (field_name, hash_value);
+
+-- 회사별 회원 목록(승인 대기/일반)과 마지막 로그인 시각 조회
+CREATE INDEX idx_members_company_role ON members (company_domain, role_id);
+CREATE INDEX idx_members_last_login_at ON members (last_login_at);
@@ -0,0 +1,3 @@
+-- 조건부 조회(ETag/If-None-Match)용 변경 버전. 엔티티의 변경 메서드마다 1씩 증가합니다.
+ALTER TABLE members ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE companies ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,55 @@
+-- 최초 스키마 (마이그레이션 도입 전 운영 DB 와 같은 구조)
+
+CREATE TABLE roles
+(
+    role_id          VARCHAR(20)  NOT NULL,
+    role_name        VARCHAR(20)  NOT NULL,
+    role_description VARCHAR(100),
+    PRIMARY KEY (role_id)
+);
+
+CREATE TABLE companies
+(
+    company_domain  VARCHAR(200) NOT NULL,
+    company_name    VARCHAR(100) NOT NULL,
+    company_email   VARCHAR(100),
+    company_mobile  VARCHAR(200) NOT NULL,
+    company_address VARCHAR(200) NOT NULL,
+    registered_at   TIMESTAMP(6) NOT NULL,
+    is_active       BOOLEAN      NOT NULL,
+    PRIMARY KEY (company_domain)
+);
+
+CREATE TABLE members
+(
+    member_no       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    company_domain  VARCHAR(200) NOT NULL,
+    role_id         VARCHAR(20)  NOT NULL,
+    member_email    VARCHAR(100) NOT NULL,
+    member_password VARCHAR(60)  NOT NULL,
+    registered_at   TIMESTAMP(6) NOT NULL,
+    last_login_at   TIMESTAMP(6),
+    withdrawal_at   TIMESTAMP(6),
+    PRIMARY KEY (member_no),
+    CONSTRAINT uk_members_member_email UNIQUE (member_email),
+    CONSTRAINT fk_members_company FOREIGN KEY (company_domain) REFERENCES companies (company_domain),
+    CONSTRAINT fk_members_role FOREIGN KEY (role_id) REFERENCES roles (role_id)
+);
+
+CREATE TABLE member_index
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    member_no  BIGINT      NOT NULL,
+    field_name VARCHAR(20) NOT NULL,
+    hash_value VARCHAR(64) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE companies_index
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    company_domain VARCHAR(50) NOT NULL,
+    field_name     VARCHAR(30) NOT NULL,
+    hash_value     VARCHAR(64) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,15 @@
+-- AES 키 교체 작업(KeyRotationJob)의 진행 위치
+CREATE TABLE key_rotation_checkpoint
+(
+    target_table VARCHAR(30)  NOT NULL,
+    key_version  INT          NOT NULL,
+    last_key     VARCHAR(200),
+    rotated_rows BIGINT       NOT NULL,
+    completed    BOOLEAN      NOT NULL,
+    updated_at   TIMESTAMP(6),
+    PRIMARY KEY (target_table)
+);
+
+-- 버전 접두사가 붙은 암호문을 담도록 companies.company_domain 과 같은 길이로 확장
+ALTER TABLE companies_index
+    ALTER COLUMN company_domain SET DATA TYPE VARCHAR(200);
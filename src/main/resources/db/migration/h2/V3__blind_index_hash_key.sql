@@ -0,0 +1,10 @@
+-- HMAC-SHA256 블라인드 인덱스 컬럼. 이전 형식(SHA-256 hex)은 백필이 끝날 때까지 함께 저장하므로 NULL 허용
+ALTER TABLE member_index
+    ADD COLUMN hash_key BINARY(32);
+ALTER TABLE member_index
+    ALTER COLUMN hash_value DROP NOT NULL;
+
+ALTER TABLE companies_index
+    ADD COLUMN hash_key BINARY(32);
+ALTER TABLE companies_index
+    ALTER COLUMN hash_value DROP NOT NULL;
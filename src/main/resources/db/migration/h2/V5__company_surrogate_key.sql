@@ -0,0 +1,46 @@
+-- 회사 대리키(company_no). 도메인 암호문은 유니크 컬럼으로 남기고,
+-- members / companies_index 는 긴 암호문 대신 BIGINT 로 회사를 참조합니다.
+
+-- 기존 행에는 식별 값이 차례로 채워짐
+ALTER TABLE companies
+    ADD COLUMN company_no BIGINT GENERATED BY DEFAULT AS IDENTITY;
+ALTER TABLE members
+    DROP CONSTRAINT fk_members_company;
+ALTER TABLE companies
+    DROP PRIMARY KEY;
+ALTER TABLE companies
+    ADD CONSTRAINT pk_companies PRIMARY KEY (company_no);
+ALTER TABLE companies
+    ADD CONSTRAINT uk_companies_company_domain UNIQUE (company_domain);
+
+-- members.company_domain -> company_no
+ALTER TABLE members
+    ADD COLUMN company_no BIGINT;
+UPDATE members m
+SET company_no = (SELECT c.company_no FROM companies c WHERE c.company_domain = m.company_domain);
+DROP INDEX idx_members_company_role;
+ALTER TABLE members
+    DROP COLUMN company_domain;
+ALTER TABLE members
+    ALTER COLUMN company_no SET NOT NULL;
+ALTER TABLE members
+    ADD CONSTRAINT fk_members_company FOREIGN KEY (company_no) REFERENCES companies (company_no);
+CREATE INDEX idx_members_company_role ON members (company_no, role_id);
+
+-- companies_index.company_domain -> company_no (회사가 없는 인덱스 행은 조회될 수 없으므로 삭제)
+ALTER TABLE companies_index
+    ADD COLUMN company_no BIGINT;
+UPDATE companies_index ci
+SET company_no = (SELECT c.company_no FROM companies c WHERE c.company_domain = ci.company_domain);
+DELETE FROM companies_index WHERE company_no IS NULL;
+DROP INDEX uk_companies_index_field_hash_key;
+ALTER TABLE companies_index
+    DROP COLUMN company_domain;
+ALTER TABLE companies_index
+    ALTER COLUMN company_no SET NOT NULL;
+ALTER TABLE companies_index
+    ADD CONSTRAINT fk_companies_index_company FOREIGN KEY (company_no) REFERENCES companies (company_no);
+CREATE UNIQUE INDEX uk_companies_index_field_hash_key ON companies_index (field_name, hash_key, company_no);
+
+-- 키 교체 작업의 회사 진행 위치가 도메인 암호문이었으므로 처음부터 다시 확인 (이미 교체된 행은 건너뜀)
+UPDATE key_rotation_checkpoint SET last_key = NULL WHERE target_table = 'companies';
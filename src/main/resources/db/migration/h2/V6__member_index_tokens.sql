@@ -0,0 +1,4 @@
+-- 이메일 검색 토큰(email_prefix, email_ngram)은 여러 회원이 같은 해시를 가지므로 회원 번호까지 포함해 유일하게 합니다.
+-- 이메일 유일성은 members.member_email(uk_members_member_email)이 보장합니다.
+DROP INDEX uk_member_index_field_hash_key;
+CREATE UNIQUE INDEX uk_member_index_field_hash_key ON member_index (field_name, hash_key, member_no);
@@ -0,0 +1,61 @@
+-- 최초 스키마 (마이그레이션 도입 전 운영 DB 와 같은 구조)
+-- 기존 운영 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뜁니다.
+
+CREATE TABLE roles
+(
+    role_id          VARCHAR(20)  NOT NULL,
+    role_name        VARCHAR(20)  NOT NULL,
+    role_description VARCHAR(100) NULL,
+    PRIMARY KEY (role_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE companies
+(
+    company_domain  VARCHAR(200) NOT NULL,
+    company_name    VARCHAR(100) NOT NULL,
+    company_email   VARCHAR(100) NULL,
+    company_mobile  VARCHAR(200) NOT NULL,
+    company_address VARCHAR(200) NOT NULL,
+    registered_at   DATETIME(6)  NOT NULL,
+    is_active       BIT(1)       NOT NULL,
+    PRIMARY KEY (company_domain)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE members
+(
+    member_no       BIGINT       NOT NULL AUTO_INCREMENT,
+    company_domain  VARCHAR(200) NOT NULL,
+    role_id         VARCHAR(20)  NOT NULL,
+    member_email    VARCHAR(100) NOT NULL,
+    member_password VARCHAR(60)  NOT NULL,
+    registered_at   DATETIME(6)  NOT NULL,
+    last_login_at   DATETIME(6)  NULL,
+    withdrawal_at   DATETIME(6)  NULL,
+    PRIMARY KEY (member_no),
+    CONSTRAINT uk_members_member_email UNIQUE (member_email),
+    CONSTRAINT fk_members_company FOREIGN KEY (company_domain) REFERENCES companies (company_domain),
+    CONSTRAINT fk_members_role FOREIGN KEY (role_id) REFERENCES roles (role_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE member_index
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    member_no  BIGINT      NOT NULL,
+    field_name VARCHAR(20) NOT NULL,
+    hash_value VARCHAR(64) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE companies_index
+(
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    company_domain VARCHAR(50) NOT NULL,
+    field_name     VARCHAR(30) NOT NULL,
+    hash_value     VARCHAR(64) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,16 @@
+-- AES 키 교체 작업(KeyRotationJob)의 진행 위치
+CREATE TABLE key_rotation_checkpoint
+(
+    target_table VARCHAR(30)  NOT NULL,
+    key_version  INT          NOT NULL,
+    last_key     VARCHAR(200) NULL,
+    rotated_rows BIGINT       NOT NULL,
+    completed    BIT(1)       NOT NULL,
+    updated_at   DATETIME(6)  NULL,
+    PRIMARY KEY (target_table)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 버전 접두사가 붙은 암호문을 담도록 companies.company_domain 과 같은 길이로 확장
+ALTER TABLE companies_index
+    MODIFY company_domain VARCHAR(200) NOT NULL;
@@ -0,0 +1,48 @@
+-- 회사 대리키(company_no). 도메인 암호문은 유니크 컬럼으로 남기고,
+-- members / companies_index 는 긴 암호문 대신 BIGINT 로 회사를 참조합니다.
+
+-- 기존 회사에는 등록 순서대로 번호를 부여
+ALTER TABLE companies
+    ADD COLUMN company_no BIGINT NULL FIRST;
+SET @company_no := 0;
+UPDATE companies
+SET company_no = (@company_no := @company_no + 1)
+ORDER BY registered_at, company_domain;
+
+ALTER TABLE members
+    DROP FOREIGN KEY fk_members_company;
+ALTER TABLE companies
+    DROP PRIMARY KEY,
+    MODIFY company_no BIGINT NOT NULL AUTO_INCREMENT,
+    ADD PRIMARY KEY (company_no),
+    ADD CONSTRAINT uk_companies_company_domain UNIQUE (company_domain);
+
+-- members.company_domain -> company_no
+ALTER TABLE members
+    ADD COLUMN company_no BIGINT NULL AFTER member_no;
+UPDATE members m
+    JOIN companies c ON c.company_domain = m.company_domain
+SET m.company_no = c.company_no;
+ALTER TABLE members
+    DROP INDEX idx_members_company_role,
+    DROP COLUMN company_domain,
+    MODIFY company_no BIGINT NOT NULL,
+    ADD INDEX idx_members_company_role (company_no, role_id),
+    ADD CONSTRAINT fk_members_company FOREIGN KEY (company_no) REFERENCES companies (company_no);
+
+-- companies_index.company_domain -> company_no (회사가 없는 인덱스 행은 조회될 수 없으므로 삭제)
+ALTER TABLE companies_index
+    ADD COLUMN company_no BIGINT NULL AFTER id;
+UPDATE companies_index ci
+    JOIN companies c ON c.company_domain = ci.company_domain
+SET ci.company_no = c.company_no;
+DELETE FROM companies_index WHERE company_no IS NULL;
+ALTER TABLE companies_index
+    DROP INDEX uk_companies_index_field_hash_key,
+    DROP COLUMN company_domain,
+    MODIFY company_no BIGINT NOT NULL,
+    ADD UNIQUE INDEX uk_companies_index_field_hash_key (field_name, hash_key, company_no),
+    ADD CONSTRAINT fk_companies_index_company FOREIGN KEY (company_no) REFERENCES companies (company_no);
+
+-- 키 교체 작업의 회사 진행 위치가 도메인 암호문이었으므로 처음부터 다시 확인 (이미 교체된 행은 건너뜀)
+UPDATE key_rotation_checkpoint SET last_key = NULL WHERE target_table = 'companies';
@@ -6,6 +6,7 @@ import com.nhnacademy.common.exception.GlobalExceptionHandler;
 import com.nhnacademy.common.exception.ResourceAlreadyExistsException;
 import com.nhnacademy.common.exception.ResourceNotFoundException;
 import com.nhnacademy.company.dto.request.CompanyRegisterRequest;
+import com.nhnacademy.company.dto.request.CompanySearchRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateEmailRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateRequest;
 import com.nhnacademy.company.dto.response.CompanyResponse;
@@ -20,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -73,6 +75,7 @@ class CompanyControllerTest {
         defaultCompanyResponse = new CompanyResponse(
                 "nhn.com", "NHN", "nhn@nhn.com", "031-000-0000", "Pangyo", LocalDateTime.now(), true
         );
+        ReflectionTestUtils.setField(defaultCompanyResponse, "companyNo", 7L);
     }
 
     // --- 공통 요청 생성 헬퍼 메서드 ---
@@ -147,7 +150,52 @@ class CompanyControllerTest {
         performGetRequest(BASE_URL + "/" + domain)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.companyDomain").value(domain))
-                .andExpect(jsonPath("$.companyName").value(defaultCompanyResponse.getCompanyName()));
+                .andExpect(jsonPath("$.companyName").value(defaultCompanyResponse.getCompanyName()))
+                .andExpect(header().string("ETag", "\"company-7-0\""));
+        verify(companyService, never()).getCompanyVersion(any());
+    }
+
+    @Test
+    @DisplayName("회사 도메인으로 조회 - If-None-Match 가 현재 버전과 같으면 회사 정보를 조회하지 않고 304")
+    void getCompanyByDomain_NotModified() throws Exception {
+        String domain = defaultCompanyResponse.getCompanyDomain();
+        when(companyService.getCompanyVersion(domain)).thenReturn(new CompanyService.CompanyVersion(7L, 2L));
+
+        mockMvc.perform(get(BASE_URL + "/" + domain)
+                        .header("X-User-Role", "ROLE_ADMIN")
+                        .header("If-None-Match", "\"company-7-2\""))
+                .andExpect(status().isNotModified());
+
+        verify(companyService, never()).getCompanyByDomain(any());
+    }
+
+    @Test
+    @DisplayName("회사 도메인으로 조회 - 버전이 바뀌었으면 새 ETag 와 함께 200")
+    void getCompanyByDomain_Modified() throws Exception {
+        String domain = defaultCompanyResponse.getCompanyDomain();
+        when(companyService.getCompanyVersion(domain)).thenReturn(new CompanyService.CompanyVersion(7L, 0L));
+        when(companyService.getCompanyByDomain(domain)).thenReturn(defaultCompanyResponse);
+
+        mockMvc.perform(get(BASE_URL + "/" + domain)
+                        .header("X-User-Role", "ROLE_ADMIN")
+                        .header("If-None-Match", "\"company-7-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"company-7-0\""))
+                .andExpect(jsonPath("$.companyDomain").value(domain));
+    }
+
+    @Test
+    @DisplayName("회사 도메인으로 조회 - 같은 도메인으로 다시 등록된 회사는 버전이 같아도 200")
+    void getCompanyByDomain_ReRegistered() throws Exception {
+        String domain = defaultCompanyResponse.getCompanyDomain();
+        when(companyService.getCompanyVersion(domain)).thenReturn(new CompanyService.CompanyVersion(7L, 0L));
+        when(companyService.getCompanyByDomain(domain)).thenReturn(defaultCompanyResponse);
+
+        mockMvc.perform(get(BASE_URL + "/" + domain)
+                        .header("X-User-Role", "ROLE_ADMIN")
+                        .header("If-None-Match", "\"company-3-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"company-7-0\""));
     }
 
     @Test
@@ -187,6 +235,33 @@ class CompanyControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    // --- 회사 검색 테스트 ---
+    @Test
+    @DisplayName("회사 검색 성공")
+    void searchCompanies_Success() throws Exception {
+        CompanySearchRequest request = new CompanySearchRequest(List.of("NHN"), null, null, null);
+        when(companyService.searchCompanies(any(CompanySearchRequest.class)))
+                .thenReturn(List.of(defaultCompanyResponse));
+
+        performPostRequest(BASE_URL + "/search", request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].companyDomain").value(defaultCompanyResponse.getCompanyDomain()));
+        verify(companyService, never()).getAllCompanies();
+    }
+
+    @Test
+    @DisplayName("회사 검색 실패 - 검색할 값 없음")
+    void searchCompanies_Fail_NoCriteria() throws Exception {
+        String errorMessage = "검색할 값을 하나 이상 입력하세요.";
+        when(companyService.searchCompanies(any(CompanySearchRequest.class)))
+                .thenThrow(new IllegalArgumentException(errorMessage));
+
+        performPostRequest(BASE_URL + "/search", new CompanySearchRequest())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(errorMessage));
+    }
+
     // --- 회사 정보 수정 테스트 ---
     @Test
     @DisplayName("회사 정보 수정 성공")
@@ -0,0 +1,69 @@
+package com.nhnacademy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.member.dto.request.MemberBatchGetRequest;
+import com.nhnacademy.member.dto.response.MemberBatchGetResponse;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberBatchControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("회원 일괄 조회 성공 - 요청 순서의 회원 정보와 없는 회원 번호를 함께 반환")
+    void batchGet_Success() throws Exception {
+        List<Long> memberNos = List.of(2L, 9L, 1L);
+        when(memberService.getMembersByIds(memberNos)).thenReturn(new MemberBatchGetResponse(
+                List.of(new MemberResponse(2L, "b@test.com", "test.com", "ROLE_USER", null, null),
+                        new MemberResponse(1L, "a@test.com", "test.com", "ROLE_USER", null, null)),
+                List.of(9L)));
+
+        mockMvc.perform(post("/members:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberBatchGetRequest(memberNos))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members[0].memberNo").value(2L))
+                .andExpect(jsonPath("$.members[0].memberEmail").value("b@test.com"))
+                .andExpect(jsonPath("$.members[1].memberNo").value(1L))
+                .andExpect(jsonPath("$.members[0].version").doesNotExist())
+                .andExpect(jsonPath("$.missing[0]").value(9L));
+    }
+
+    @Test
+    @DisplayName("회원 일괄 조회 실패 - 최대 개수 초과 시 400")
+    void batchGet_Fail_TooMany() throws Exception {
+        when(memberService.getMembersByIds(any()))
+                .thenThrow(new IllegalArgumentException("한 번에 조회할 수 있는 회원은 최대 100명입니다."));
+
+        mockMvc.perform(post("/members:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberBatchGetRequest(List.of(1L)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("한 번에 조회할 수 있는 회원은 최대 100명입니다."));
+    }
+}
@@ -2,32 +2,46 @@ package com.nhnacademy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nhnacademy.common.exception.ServiceBusyException;
+import com.nhnacademy.common.password.PasswordHashExecutor;
+import com.nhnacademy.common.util.PasswordUtil;
 import com.nhnacademy.member.common.NotExistMemberException;
 import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
+import com.nhnacademy.member.dto.request.MemberLoginBatchRequest;
+import com.nhnacademy.member.dto.request.MemberPasswordVerifyRequest;
 import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberLoginBatchResponse;
 import com.nhnacademy.member.dto.response.MemberLoginResponse;
 import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.repository.CustomMemberRepository;
 import com.nhnacademy.member.service.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// 테스트마다 같은 이메일에 다른 응답을 스텁하므로 회원 조회 캐시는 끔 (캐시는 MemberIdentityCacheTest 에서 검증)
+@SpringBootTest(properties = "member.cache.enabled=false")
 @AutoConfigureMockMvc
 class MemberControllerTest {
 
@@ -37,6 +51,9 @@ class MemberControllerTest {
     @MockitoBean
     private MemberService memberService;
 
+    @MockitoSpyBean
+    private PasswordHashExecutor passwordHashExecutor;
+
     private ObjectMapper objectMapper;
 
     private MemberRegisterRequest memberRegisterRequest;
@@ -84,13 +101,17 @@ class MemberControllerTest {
                 LocalDateTime.now()
         );
 
-        when(memberService.registerMember(any())).thenReturn(response);
+        when(memberService.registerMember(any(), any())).thenReturn(response);
 
         // when & then
-        mockMvc.perform(post("/members/register")
+        MvcResult mvcResult = mockMvc.perform(post("/members/register")
                         .header("X-User-Role", "ROLE_ADMIN")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.memberNo").value(1L));
     }
@@ -115,18 +136,43 @@ class MemberControllerTest {
         );
 
         // 서비스 계층의 동작을 미리 정의
-        when(memberService.registerOwner(any())).thenReturn(response);
+        when(memberService.registerOwner(any(), any())).thenReturn(response);
 
         // when & then
-        mockMvc.perform(post("/members/register/owners")
+        MvcResult mvcResult = mockMvc.perform(post("/members/register/owners")
                         .header("X-User-Role", "ROLE_ADMIN")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.memberNo").value(2L))
                 .andExpect(jsonPath("$.memberEmail").value("owner@test.com"))
                 .andExpect(jsonPath("$.companyDomain").value("test-company.com"))
                 .andExpect(jsonPath("$.roleId").value("ROLE_OWNER"));
+
+        // 서비스에는 평문이 아닌 해싱된 비밀번호가 전달됨
+        ArgumentCaptor<String> encodedCaptor = ArgumentCaptor.forClass(String.class);
+        verify(memberService).registerOwner(any(), encodedCaptor.capture());
+        assertTrue(PasswordUtil.matches("ownerpassword", encodedCaptor.getValue()));
+    }
+
+    @Test
+    @DisplayName("회원 등록 실패 - 해싱 대기열 초과 시 503 과 Retry-After 반환")
+    void registerMember_Fail_HashQueueFull() throws Exception {
+        doThrow(new ServiceBusyException("요청이 많아 비밀번호를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 3))
+                .when(passwordHashExecutor).encode(any());
+
+        mockMvc.perform(post("/members/register")
+                        .header("X-User-Role", "ROLE_ADMIN")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(memberRegisterRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"));
+
+        verify(memberService, never()).registerMember(any(), any());
     }
 
 
@@ -146,6 +192,36 @@ class MemberControllerTest {
         verify(memberService).updateLoginAt(email);
     }
 
+    @Test
+    @DisplayName("로그인 정보 일괄 조회 성공 - 찾은 정보와 없는 이메일을 함께 반환")
+    void getLoginInfosByEmails_Success() throws Exception {
+        List<String> emails = List.of("user@test.com", "none@test.com");
+        when(memberService.getLoginInfosByEmails(emails)).thenReturn(new MemberLoginBatchResponse(
+                List.of(new MemberLoginResponse(1L, "user@test.com", "encoded", "ROLE_USER")),
+                List.of("none@test.com")));
+
+        mockMvc.perform(post("/members/internal/login-info:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberLoginBatchRequest(emails))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].memberNo").value(1L))
+                .andExpect(jsonPath("$.found[0].memberEmail").value("user@test.com"))
+                .andExpect(jsonPath("$.missing[0]").value("none@test.com"));
+    }
+
+    @Test
+    @DisplayName("로그인 정보 일괄 조회 실패 - 최대 개수 초과 시 400")
+    void getLoginInfosByEmails_Fail_TooMany() throws Exception {
+        when(memberService.getLoginInfosByEmails(any()))
+                .thenThrow(new IllegalArgumentException("한 번에 조회할 수 있는 이메일은 최대 100개입니다."));
+
+        mockMvc.perform(post("/members/internal/login-info:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberLoginBatchRequest(List.of("a@test.com")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("한 번에 조회할 수 있는 이메일은 최대 100개입니다."));
+    }
+
     @Test
     @DisplayName("회원 ID로 조회 성공")
     void getMemberById_Success() throws Exception {
@@ -179,9 +255,51 @@ class MemberControllerTest {
                         .header("X-User-Role", "ROLE_ADMIN")
                         .header("X-User-Email", "user@test.com"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"member-1-0\""))
                 .andExpect(jsonPath("$.memberEmail").value(email));
     }
 
+    @Test
+    @DisplayName("회원 이메일로 조회 - If-None-Match 가 같으면 304")
+    void getMemberByEmail_NotModified() throws Exception {
+        String email = "user@test.com";
+        MemberResponse response = new MemberResponse(
+                1L, email, "test-company.com", "ROLE_USER", LocalDateTime.now(), LocalDateTime.now()
+        );
+        when(memberService.getMemberByEmail(email)).thenReturn(response);
+
+        mockMvc.perform(get("/members/me")
+                        .header("X-User-Role", "ROLE_ADMIN")
+                        .header("X-User-Email", email)
+                        .header("If-None-Match", "\"member-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("회사 회원 목록 조회 - ETag 를 반환하고, If-None-Match 가 같으면 목록을 조회하지 않고 304")
+    void getMemberResponseFromCompanyDomain_ETag() throws Exception {
+        when(memberService.getMemberListVersion("test-company.com", false))
+                .thenReturn(new CustomMemberRepository.MemberListVersion(1L, 3L, 7L));
+        when(memberService.getMemberResponseFromCompanyDomain(eq("test-company.com"), any(), eq(false)))
+                .thenReturn(new PageImpl<>(List.of(memberResponse)));
+
+        mockMvc.perform(get("/members/companies/test-company.com")
+                        .header("X-User-Role", "ROLE_OWNER")
+                        .param("isPending", "false"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"members-1-3-7\""))
+                .andExpect(jsonPath("$.content[0].memberNo").value(1L));
+
+        mockMvc.perform(get("/members/companies/test-company.com")
+                        .header("X-User-Role", "ROLE_OWNER")
+                        .header("If-None-Match", "\"members-1-3-7\"")
+                        .param("isPending", "false"))
+                .andExpect(status().isNotModified());
+
+        verify(memberService, times(1)).getMemberResponseFromCompanyDomain(eq("test-company.com"), any(), eq(false));
+    }
+
 
 
     @Test
@@ -192,16 +310,23 @@ class MemberControllerTest {
         MemberPasswordChangeRequest request =
                 new MemberPasswordChangeRequest("oldPass", "newPass");
 
+        String storedHash = PasswordUtil.encode("oldPass");
+        when(memberService.getPasswordHash(memberNo)).thenReturn(storedHash);
         doNothing().when(memberService)
-                .changeMemberPassword(eq(memberNo), any());
+                .changeMemberPassword(eq(memberNo), eq(storedHash), any());
         Mockito.when(memberService.getMemberByEmail(Mockito.anyString())).thenReturn(memberResponse);
         // when & then
-        mockMvc.perform(put("/members/{memberNo}/password", memberNo)
+        MvcResult mvcResult = mockMvc.perform(put("/members/{memberNo}/password", memberNo)
                         .header("X-User-Role", "ROLE_ADMIN")
                         .header("X-User-Email", "notfound@test.com")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isNoContent());
+        verify(memberService).changeMemberPassword(eq(memberNo), eq(storedHash), any());
     }
 
     @Test
@@ -264,18 +389,22 @@ class MemberControllerTest {
         MemberPasswordChangeRequest request =
                 new MemberPasswordChangeRequest("wrongPassword", "newPassword");
 
-        doThrow(new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다."))
-                .when(memberService).changeMemberPassword(eq(memberNo), any());
+        when(memberService.getPasswordHash(memberNo)).thenReturn(PasswordUtil.encode("currentPassword"));
         Mockito.when(memberService.getMemberByEmail(Mockito.anyString())).thenReturn(memberResponse);
 
         // when & then
-        mockMvc.perform(put("/members/{memberNo}/password", memberNo)
+        MvcResult mvcResult = mockMvc.perform(put("/members/{memberNo}/password", memberNo)
                         .header("X-User-Role", "ROLE_ADMIN")
                         .header("X-User-Email", "notfound@test.com")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message").value("현재 비밀번호가 일치하지 않습니다."));
+                .andExpect(jsonPath("$.message").value("비밀번호 변경 실패: 현재 비밀번호 불일치. ID: " + memberNo));
+        verify(memberService, never()).changeMemberPassword(any(), any(), any());
     }
 
     // 로그인 정보 조회 실패 - 존재하지 않는 이메일
@@ -295,4 +424,66 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.message").value("회원을 찾을 수 없습니다."));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("비밀번호 검증 성공 - 해시 없이 회원 정보 반환")
+    void verifyPassword_Success() throws Exception {
+        when(memberService.getLoginInfoByEmail("user@test.com"))
+                .thenReturn(new MemberLoginResponse(1L, "user@test.com", PasswordUtil.encode("password123"), "ROLE_USER"));
+
+        MvcResult mvcResult = mockMvc.perform(post("/members/internal/password/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new MemberPasswordVerifyRequest("user@test.com", "password123"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberNo").value(1L))
+                .andExpect(jsonPath("$.roleId").value("ROLE_USER"))
+                .andExpect(jsonPath("$.memberPassword").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 실패 - 401")
+    void verifyPassword_Fail() throws Exception {
+        when(memberService.getLoginInfoByEmail("user@test.com"))
+                .thenReturn(new MemberLoginResponse(1L, "user@test.com", PasswordUtil.encode("password123"), "ROLE_USER"));
+
+        MvcResult mvcResult = mockMvc.perform(post("/members/internal/password/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new MemberPasswordVerifyRequest("user@test.com", "wrong"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("이메일 검색 성공")
+    void searchMembersByEmail_Success() throws Exception {
+        when(memberService.searchMembersByEmail("test-company.com", "new")).thenReturn(List.of(memberResponse));
+
+        mockMvc.perform(get("/members/companies/test-company.com/search")
+                        .header("X-User-Role", "ROLE_OWNER")
+                        .param("email", "new"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].memberNo").value(1L))
+                .andExpect(jsonPath("$[0].memberEmail").value("newbie@test.com"));
+    }
+
+    @Test
+    @DisplayName("이메일 검색 실패 - 검색어가 너무 짧으면 400")
+    void searchMembersByEmail_Fail_TooShort() throws Exception {
+        when(memberService.searchMembersByEmail("test-company.com", "ne"))
+                .thenThrow(new IllegalArgumentException("검색어는 3자 이상 입력하세요."));
+
+        mockMvc.perform(get("/members/companies/test-company.com/search")
+                        .header("X-User-Role", "ROLE_ADMIN")
+                        .param("email", "ne"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("검색어는 3자 이상 입력하세요."));
+    }
+}
@@ -0,0 +1,88 @@
+package com.nhnacademy.common.bloom;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.MemberIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({QueryDslConfig.class, CompanyDomainResolver.class, BlindIndexBloomFilter.class})
+class BlindIndexBloomFilterTest {
+
+    @Autowired
+    BlindIndexBloomFilter bloomFilter;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+        ReflectionTestUtils.setField(bloomFilter, "expectedInsertions", 1000L);
+        // 필터 빈은 테스트 메서드 사이에 공유되므로, 이전 테스트가 만든 필터를 지워 생성 전 상태로 되돌림
+        Map<?, ?> filters = (Map<?, ?>) ReflectionTestUtils.getField(bloomFilter, "filters");
+        filters.values().forEach(filter -> {
+            ReflectionTestUtils.setField(filter, "active", null);
+            ReflectionTestUtils.setField(filter, "building", null);
+        });
+
+        testEntityManager.persist(MemberIndex.of(1L, "email", "new@javame.com"));
+        // 백필 전 이전 형식 행
+        testEntityManager.persist(new MemberIndex(2L, "email", null, HashUtil.sha256Hex("legacy@javame.com")));
+        testEntityManager.flush();
+    }
+
+    @Test
+    @DisplayName("생성 전에는 항상 DB 조회, 생성 후에는 없는 값만 걸러냄")
+    void rebuildAll_LoadsBothFormats() {
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "absent@javame.com")).isTrue();
+
+        bloomFilter.rebuildAll();
+
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "new@javame.com")).isTrue();
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "legacy@javame.com")).isTrue();
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "absent@javame.com")).isFalse();
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.COMPANY, "new@javame.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가한 인덱스는 커밋 후 재생성 없이 반영")
+    void put_UpdatesActiveFilterAfterCommit() {
+        bloomFilter.rebuildAll();
+
+        bloomFilter.put(BlindIndexBloomFilter.Target.MEMBER, BlindIndexUtil.hash("added@javame.com"));
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "added@javame.com")).isFalse();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "added@javame.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 추가한 인덱스는 반영하지 않음")
+    void put_RolledBackNotAdded() {
+        bloomFilter.rebuildAll();
+
+        bloomFilter.put(BlindIndexBloomFilter.Target.MEMBER, BlindIndexUtil.hash("added@javame.com"));
+        TestTransaction.end();
+
+        assertThat(bloomFilter.mightContain(BlindIndexBloomFilter.Target.MEMBER, "added@javame.com")).isFalse();
+    }
+}
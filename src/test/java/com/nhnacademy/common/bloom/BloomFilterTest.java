@@ -0,0 +1,43 @@
+package com.nhnacademy.common.bloom;
+
+import com.nhnacademy.common.util.HashUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있음, 오탐률은 목표 근처")
+    void mightContain_NoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(sha256("member" + i + "@javame.com"));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(filter.mightContain(sha256("member" + i + "@javame.com")));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(sha256("absent" + i + "@javame.com"))) {
+                falsePositives++;
+            }
+        }
+        Assertions.assertTrue(falsePositives < 200, "오탐 수: " + falsePositives);
+        Assertions.assertEquals(0.01, filter.expectedFpp(), 0.005);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기/오탐률 설정은 IllegalArgumentException")
+    void constructor_InvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+
+    private static byte[] sha256(String value) {
+        byte[] hash = new byte[HashUtil.SHA256_LENGTH];
+        HashUtil.sha256(value, hash, 0);
+        return hash;
+    }
+}
@@ -0,0 +1,85 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.exception.DecryptionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+class AesKeyringTest {
+
+    private static final Map<Integer, String> KEYS = Map.of(0, "1234567890123456", 1, "abcdefghijklmnop");
+
+    private final AesKeyring legacy = new AesKeyring("AES", Map.of(0, "1234567890123456"), 0, 4);
+    private final AesKeyring rotated = new AesKeyring("AES", KEYS, 1, 4);
+
+    @Test
+    @DisplayName("활성 버전이 0 이면 기존과 같은 접두사 없는 암호문")
+    void encrypt_LegacyVersionHasNoPrefix() {
+        String encrypted = legacy.encrypt("member@javame.com");
+
+        Assertions.assertEquals(0, AesKeyring.versionOf(encrypted));
+        Assertions.assertEquals(new AesCipherEngine("AES", "1234567890123456", 1).encrypt("member@javame.com"), encrypted);
+    }
+
+    @Test
+    @DisplayName("새 버전 암호문에는 접두사가 붙고, 이전 버전 암호문도 복호화")
+    void decrypt_SupportsAllVersions() {
+        String old = legacy.encrypt("member@javame.com");
+        String current = rotated.encrypt("member@javame.com");
+
+        Assertions.assertTrue(current.startsWith("v1:"));
+        Assertions.assertFalse(rotated.isCurrent(old));
+        Assertions.assertTrue(rotated.isCurrent(current));
+        Assertions.assertEquals("member@javame.com", rotated.decrypt(old));
+        Assertions.assertEquals("member@javame.com", rotated.decrypt(current));
+        Assertions.assertEquals(current, rotated.reencrypt(old));
+    }
+
+    @Test
+    @DisplayName("버전이 섞인 목록도 순서를 유지해 일괄 복호화")
+    void decryptAll_MixedVersions() {
+        List<String> encrypted = Arrays.asList(legacy.encrypt("a"), rotated.encrypt("b"), null, legacy.encrypt("c"));
+
+        Assertions.assertEquals(Arrays.asList("a", "b", null, "c"), rotated.decryptAll(encrypted));
+    }
+
+    @Test
+    @DisplayName("GCM 암호문은 매번 달라지고, 접두사로 판별해 복호화")
+    void encryptRandomized_DecryptsByPrefix() {
+        String first = rotated.encryptRandomized("010-1234-5678");
+        String second = rotated.encryptRandomized("010-1234-5678");
+
+        Assertions.assertTrue(first.startsWith("g1:"));
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertTrue(AesKeyring.isRandomized(first));
+        Assertions.assertEquals("010-1234-5678", rotated.decrypt(first));
+        Assertions.assertEquals(Arrays.asList("010-1234-5678", "a"),
+                rotated.decryptAll(Arrays.asList(second, legacy.encrypt("a"))));
+        Assertions.assertTrue(rotated.isCurrent(first, true));
+        Assertions.assertFalse(rotated.isCurrent(legacy.encrypt("a"), true));
+    }
+
+    @Test
+    @DisplayName("GCM 암호문이 변조되면 DecryptionException")
+    void decrypt_TamperedGcm() {
+        String encrypted = rotated.encryptRandomized("광주광역시");
+        int position = 10;
+        char original = encrypted.charAt(position);
+        String tampered = encrypted.substring(0, position) + (original == 'A' ? 'B' : 'A')
+                + encrypted.substring(position + 1);
+
+        Assertions.assertThrows(DecryptionException.class, () -> rotated.decrypt(tampered));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 키 버전은 DecryptionException")
+    void decrypt_UnknownVersion() {
+        String unknown = "v9:" + legacy.encrypt("a");
+
+        Assertions.assertThrows(DecryptionException.class, () -> rotated.decrypt(unknown));
+    }
+}
@@ -0,0 +1,72 @@
+package com.nhnacademy.common.crypto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class DecryptionCacheTest {
+
+    @Test
+    @DisplayName("같은 암호문은 한 번만 복호화하고 적중/미스를 집계")
+    void getOrDecrypt_CachesResult() {
+        DecryptionCache cache = new DecryptionCache(10, 10_000, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("plain", cache.getOrDecrypt("cipher", c -> {
+                calls.incrementAndGet();
+                return "plain";
+            }));
+        }
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(2, cache.hitCount());
+        Assertions.assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("항목 수 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void put_EvictsLeastRecentlyUsed() {
+        DecryptionCache cache = new DecryptionCache(2, 10_000, 0);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        Assertions.assertEquals("1", cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals("3", cache.get("c"));
+        Assertions.assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("바이트 제한 초과 시 항목 제거")
+    void put_RespectsByteLimit() {
+        // 항목당 96 + 2 * (10 + 10) = 136 바이트이므로 두 번째 항목부터 제한(200)을 넘음
+        DecryptionCache cache = new DecryptionCache(100, 200, 0);
+        cache.put("aaaaaaaaaa", "1111111111");
+        cache.put("bbbbbbbbbb", "2222222222");
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertTrue(cache.estimatedBytes() <= 200);
+    }
+
+    @Test
+    @DisplayName("TTL 경과 후에는 다시 복호화")
+    void get_ExpiresAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        DecryptionCache cache = new DecryptionCache(10, 10_000, 60, now::get);
+        cache.put("cipher", "plain");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        Assertions.assertEquals("plain", cache.get("cipher"));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        Assertions.assertNull(cache.get("cipher"));
+        Assertions.assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.nhnacademy.common.crypto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.common.util.AESUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+@SpringBootTest(classes = AESUtil.class)
+class EncryptedValueSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("byte 스트림으로 쓸 때 평문 UTF-8 을 바로 기록하고 값 객체에는 평문을 남기지 않음")
+    void serialize_WritesPlaintextBytes() throws Exception {
+        EncryptedValue value = EncryptedValue.fromCiphertext(AESUtil.encrypt("광주 \"본사\""));
+
+        byte[] json = objectMapper.writeValueAsBytes(Map.of("address", value));
+
+        Assertions.assertEquals("{\"address\":\"광주 \\\"본사\\\"\"}", new String(json, StandardCharsets.UTF_8));
+        Assertions.assertFalse(value.isDecrypted());
+    }
+
+    @Test
+    @DisplayName("GCM 암호문과 긴 평문도 같은 버퍼 경로로 직렬화")
+    void serialize_GcmAndLongValues() throws Exception {
+        String longText = "a".repeat(1000);
+        List<EncryptedValue> values = List.of(
+                EncryptedValue.fromCiphertext(AESUtil.encryptRandomized("010-1234-5678")),
+                EncryptedValue.fromCiphertext(AESUtil.encrypt(longText)),
+                EncryptedValue.fromCiphertext(AESUtil.encrypt("b")));
+
+        byte[] json = objectMapper.writeValueAsBytes(values);
+
+        Assertions.assertEquals("[\"010-1234-5678\",\"" + longText + "\",\"b\"]",
+                new String(json, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Writer 기반 출력과 평문만 가진 값도 직렬화")
+    void serialize_WriterAndDecryptedValues() throws Exception {
+        EncryptedValue encrypted = EncryptedValue.fromCiphertext(AESUtil.encrypt("member@javame.com"));
+
+        Assertions.assertEquals("\"member@javame.com\"", objectMapper.writeValueAsString(encrypted));
+        Assertions.assertEquals("\"javame.com\"",
+                objectMapper.writeValueAsString(EncryptedValue.decrypted("javame.com")));
+    }
+}
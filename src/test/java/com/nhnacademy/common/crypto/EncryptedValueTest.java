@@ -0,0 +1,44 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.util.AESUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = AESUtil.class)
+class EncryptedValueTest {
+
+    private final EncryptedValueConverter converter = new EncryptedValueConverter();
+
+    @Test
+    @DisplayName("DB에서 읽은 값은 평문 접근 전까지 복호화하지 않음")
+    void fromDatabase_DecryptsLazily() {
+        String ciphertext = AESUtil.encrypt("member@javame.com");
+
+        EncryptedValue value = converter.convertToEntityAttribute(ciphertext);
+
+        Assertions.assertFalse(value.isDecrypted());
+        Assertions.assertEquals(ciphertext, value.ciphertext());
+        Assertions.assertEquals("member@javame.com", value.plaintext());
+        Assertions.assertTrue(value.isDecrypted());
+    }
+
+    @Test
+    @DisplayName("평문으로 만든 값은 암호문으로 저장되고 다시 복호화하지 않음")
+    void of_StoresCiphertext() {
+        EncryptedValue value = EncryptedValue.of("NHN Academy");
+
+        Assertions.assertTrue(value.isDecrypted());
+        Assertions.assertEquals(AESUtil.encrypt("NHN Academy"), converter.convertToDatabaseColumn(value));
+        Assertions.assertEquals(value, EncryptedValue.fromCiphertext(value.ciphertext()));
+    }
+
+    @Test
+    @DisplayName("null 값 변환")
+    void nullValues() {
+        Assertions.assertNull(converter.convertToDatabaseColumn(null));
+        Assertions.assertNull(converter.convertToEntityAttribute(null));
+        Assertions.assertNull(EncryptedValue.plaintextOf(null));
+    }
+}
@@ -0,0 +1,151 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.common.util.AESUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FieldCipher} 엔진별 암호화/복호화 비용을 페이로드 크기별로 비교하는 JMH 벤치마크입니다.
+ * main 메서드로 실행하면 {@link GCProfiler}가 함께 붙어 ns/op 와 함께
+ * {@code gc.alloc.rate.norm}(연산당 할당 바이트)을 보고합니다.
+ * <p>
+ * CTR 은 인증 태그가 없어 변조를 감지하지 못하므로 필드 엔진으로 제공하지 않고, GCM 과의 비용 차이 비교용으로만 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldCipherBenchmark {
+
+    @Param({"DETERMINISTIC", "GCM", "CTR"})
+    private String engine;
+
+    /**
+     * 평문 길이(문자 수). 이메일/연락처 ~ 주소 크기.
+     */
+    @Param({"16", "64", "256"})
+    private int payloadSize;
+
+    private FieldCipher cipher;
+    private String plain;
+    private String encrypted;
+    private List<String> encryptedBatch;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "rowNZDAeHhGcZBzA2nupUQ==");
+        cipher = "CTR".equals(engine) ? new CtrFieldCipher("rowNZDAeHhGcZBzA2nupUQ==")
+                : FieldCipherType.valueOf(engine).cipher();
+        char[] chars = new char[payloadSize];
+        Arrays.fill(chars, 'a');
+        plain = new String(chars);
+        encrypted = cipher.encrypt(plain);
+        encryptedBatch = Collections.nCopies(20, encrypted);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return cipher.encrypt(plain);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return cipher.decrypt(encrypted);
+    }
+
+    /**
+     * 목록 조회처럼 20건을 한 번에 복호화하는 경우.
+     */
+    @Benchmark
+    public List<String> decryptBatch() {
+        return cipher.decryptAll(encryptedBatch);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FieldCipherBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * 비교용 AES-CTR(무작위 IV) 엔진. 출력 형식은 Base64(IV || 암호문).
+     */
+    private static final class CtrFieldCipher implements FieldCipher {
+
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        private final SecretKeySpec keySpec;
+
+        CtrFieldCipher(String secretKey) {
+            this.keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "AES");
+        }
+
+        @Override
+        public String encrypt(String plaintext) {
+            try {
+                byte[] iv = new byte[16];
+                RANDOM.nextBytes(iv);
+                Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, keySpec, new IvParameterSpec(iv));
+                byte[] body = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+                byte[] out = Arrays.copyOf(iv, iv.length + body.length);
+                System.arraycopy(body, 0, out, iv.length, body.length);
+                return Base64.getEncoder().encodeToString(out);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public String decrypt(String ciphertext) {
+            try {
+                byte[] data = Base64.getDecoder().decode(ciphertext);
+                Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, keySpec, new IvParameterSpec(data, 0, 16));
+                return new String(cipher.doFinal(data, 16, data.length - 16), StandardCharsets.UTF_8);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public List<String> decryptAll(List<String> ciphertexts) {
+            return ciphertexts.stream().map(this::decrypt).toList();
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return false;
+        }
+    }
+}
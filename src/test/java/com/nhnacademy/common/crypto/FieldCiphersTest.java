@@ -0,0 +1,28 @@
+package com.nhnacademy.common.crypto;
+
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.member.domain.Member;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FieldCiphersTest {
+
+    @Test
+    @DisplayName("@Encrypted(cipher)에 지정된 필드별 엔진 반환")
+    void forField_UsesDeclaredCipher() {
+        Assertions.assertTrue(FieldCiphers.forField(Member.class, "memberEmail").isDeterministic());
+        Assertions.assertTrue(FieldCiphers.forField(Company.class, "companyName").isDeterministic());
+        Assertions.assertInstanceOf(GcmFieldCipher.class, FieldCiphers.forField(Company.class, "companyMobile"));
+        Assertions.assertInstanceOf(GcmFieldCipher.class, FieldCiphers.forField(Company.class, "companyAddress"));
+    }
+
+    @Test
+    @DisplayName("@Encrypted 가 없는 필드는 IllegalArgumentException")
+    void forField_NotEncrypted() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FieldCiphers.forField(Member.class, "memberPassword"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FieldCiphers.forField(Member.class, "unknown"));
+    }
+}
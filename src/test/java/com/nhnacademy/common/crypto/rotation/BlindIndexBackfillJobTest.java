@@ -0,0 +1,108 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.repository.CompanyIndexRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.member.domain.MemberIndex;
+import com.nhnacademy.member.repository.MemberIndexRepository;
+import com.nhnacademy.role.domain.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({QueryDslConfig.class, CompanyDomainResolver.class, BlindIndexBackfillJob.class})
+class BlindIndexBackfillJobTest {
+
+    @Autowired
+    BlindIndexBackfillJob backfillJob;
+
+    @Autowired
+    MemberIndexRepository memberIndexRepository;
+
+    @Autowired
+    CompanyIndexRepository companyIndexRepository;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+
+        Company company = Company.ofNewCompany("javame.com", "javame",
+                "company@javame.com", "010-1234-5678", "광주");
+        Role role = new Role("ROLE_USER", "USER", "기본 유저");
+        testEntityManager.persist(company);
+        testEntityManager.persist(role);
+        // 이전 형식(SHA-256 hex)만 있는 인덱스 행
+        testEntityManager.persist(new CompanyIndex(company.getCompanyNo(), "domain", null, HashUtil.sha256Hex("javame.com")));
+        testEntityManager.persist(new CompanyIndex(company.getCompanyNo(), "name", null, HashUtil.sha256Hex("javame")));
+        for (int i = 0; i < 3; i++) {
+            String email = "user" + i + "@javame.com";
+            Member member = testEntityManager.persist(Member.ofNewMember(company, role, email, "pw"));
+            testEntityManager.persist(new MemberIndex(member.getMemberNo(), "email", null, HashUtil.sha256Hex(email)));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        ReflectionTestUtils.setField(backfillJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(backfillJob, "pauseMillis", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+    }
+
+    @Test
+    @DisplayName("백필 전에는 이전 형식으로 조회하고, 이전 형식을 끄면 찾지 못함")
+    void findByBlindIndex_FallsBackToLegacy() {
+        assertThat(memberIndexRepository.findByBlindIndex("user1@javame.com", "email")).isPresent();
+        assertThat(companyIndexRepository.existsByBlindIndex("javame.com", "domain")).isTrue();
+
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", false);
+
+        assertThat(memberIndexRepository.findByBlindIndex("user1@javame.com", "email")).isEmpty();
+        assertThat(companyIndexRepository.existsByBlindIndex("javame.com", "domain")).isFalse();
+    }
+
+    @Test
+    @DisplayName("백필 후에는 HMAC 인덱스만으로 조회")
+    void backfillAll_FillsHashKey() {
+        backfillJob.backfillAll();
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", false);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member_index WHERE hash_key IS NULL", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM companies_index WHERE hash_key IS NULL", Integer.class)).isZero();
+        assertThat(memberIndexRepository.findByBlindIndex("user2@javame.com", "email")).isPresent();
+        assertThat(companyIndexRepository.findByBlindIndex("javame", "name"))
+                .hasValueSatisfying(index -> assertThat(index.getFieldName()).isEqualTo("name"));
+        assertThat(memberIndexRepository.findFirstByFieldNameAndHashValue("email", BlindIndexUtil.hash("user0@javame.com"))).isPresent();
+    }
+}
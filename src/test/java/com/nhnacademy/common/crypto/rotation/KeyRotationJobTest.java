@@ -0,0 +1,149 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.crypto.AesKeyring;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.role.domain.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({QueryDslConfig.class, CompanyDomainResolver.class, KeyRotationJob.class})
+class KeyRotationJobTest {
+
+    private static final String OLD_KEY = "1234567890123456";
+    private static final String NEW_KEY = "abcdefghijklmnop";
+
+    @Autowired
+    KeyRotationJob keyRotationJob;
+
+    @Autowired
+    KeyRotationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private String oldDomain;
+    private Long companyNo;
+
+    @BeforeEach
+    void setUp() {
+        useKeys("", 0);
+
+        Company company = Company.ofNewCompany("javame.com", "javame",
+                "company@javame.com", "010-1234-5678", "광주");
+        oldDomain = company.getCompanyDomain().ciphertext();
+        Role role = new Role("ROLE_USER", "USER", "기본 유저");
+        testEntityManager.persist(company);
+        testEntityManager.persist(role);
+        companyNo = company.getCompanyNo();
+        testEntityManager.persist(CompanyIndex.of(companyNo, "domain", "javame.com"));
+        for (int i = 0; i < 3; i++) {
+            testEntityManager.persist(Member.ofNewMember(company, role, "user" + i + "@javame.com", "pw"));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // 청크 경계를 여러 번 지나도록 작게 설정
+        ReflectionTestUtils.setField(keyRotationJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(keyRotationJob, "pauseMillis", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useKeys("", 0);
+    }
+
+    @Test
+    @DisplayName("회사 이메일이 없는 회사도 재암호화 (기존 암호문 조건이 null 에도 일치)")
+    void rotateAll_CompanyWithoutEmail() {
+        jdbcTemplate.update("UPDATE companies SET company_email = NULL WHERE company_no = ?", companyNo);
+        useKeys("1:" + NEW_KEY, 1);
+
+        keyRotationJob.rotateAll();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT company_domain FROM companies", String.class))
+                .startsWith("v1:");
+        assertThat(jdbcTemplate.queryForObject("SELECT company_email FROM companies", String.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("새 키 버전으로 회원 이메일과 회사 컬럼을 재암호화 (회사 번호와 참조는 그대로)")
+    void rotateAll_ReencryptsMembersAndCompanies() {
+        useKeys("1:" + NEW_KEY, 1);
+
+        keyRotationJob.rotateAll();
+
+        List<String> emails = jdbcTemplate.queryForList(
+                "SELECT member_email FROM members ORDER BY member_no", String.class);
+        assertThat(emails).allMatch(email -> AesKeyring.versionOf(email) == 1);
+        assertThat(AESUtil.decryptAll(emails))
+                .containsExactly("user0@javame.com", "user1@javame.com", "user2@javame.com");
+
+        String newDomain = jdbcTemplate.queryForObject("SELECT company_domain FROM companies", String.class);
+        assertThat(newDomain).startsWith("v1:");
+        assertThat(AESUtil.decrypt(newDomain)).isEqualTo("javame.com");
+        assertThat(jdbcTemplate.queryForObject("SELECT company_no FROM companies", Long.class)).isEqualTo(companyNo);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT company_no FROM members", Long.class))
+                .containsExactly(companyNo);
+        assertThat(jdbcTemplate.queryForObject("SELECT company_no FROM companies_index", Long.class))
+                .isEqualTo(companyNo);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM companies WHERE company_domain = ?", Integer.class, oldDomain)).isZero();
+
+        // GCM 엔진이 지정된 연락처는 GCM 암호문으로 옮겨짐
+        String mobile = jdbcTemplate.queryForObject("SELECT company_mobile FROM companies", String.class);
+        assertThat(mobile).startsWith("g1:");
+        assertThat(AESUtil.decrypt(mobile)).isEqualTo("010-1234-5678");
+
+        assertThat(checkpointRepository.findById(KeyRotationJob.MEMBERS))
+                .hasValueSatisfying(checkpoint -> {
+                    assertThat(checkpoint.isCompleted()).isTrue();
+                    assertThat(checkpoint.getKeyVersion()).isEqualTo(1);
+                    assertThat(checkpoint.getRotatedRows()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    @DisplayName("완료된 버전은 다시 실행해도 변경하지 않음")
+    void rotateAll_SkipsCompletedVersion() {
+        useKeys("1:" + NEW_KEY, 1);
+        keyRotationJob.rotateAll();
+        List<String> rotated = jdbcTemplate.queryForList("SELECT member_email FROM members", String.class);
+
+        keyRotationJob.rotateAll();
+
+        assertThat(jdbcTemplate.queryForList("SELECT member_email FROM members", String.class))
+                .isEqualTo(rotated);
+    }
+
+    private static void useKeys(String keyring, int activeVersion) {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", OLD_KEY);
+        ReflectionTestUtils.setField(AESUtil.class, "keyringSpec", keyring);
+        ReflectionTestUtils.setField(AESUtil.class, "activeVersion", activeVersion);
+    }
+}
@@ -0,0 +1,128 @@
+package com.nhnacademy.common.crypto.rotation;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.member.domain.MemberIndex;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.repository.MemberRepository;
+import com.nhnacademy.member.service.MemberEmailTokenizer;
+import com.nhnacademy.role.domain.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({QueryDslConfig.class, CompanyDomainResolver.class, MemberEmailTokenizer.class, MemberEmailTokenBackfillJob.class})
+class MemberEmailTokenBackfillJobTest {
+
+    @Autowired
+    MemberEmailTokenBackfillJob backfillJob;
+
+    @Autowired
+    MemberEmailTokenizer tokenizer;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    CompanyDomainResolver companyDomainResolver;
+
+    @Autowired
+    KeyRotationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(tokenizer, "scheme", MemberEmailTokenizer.Scheme.PREFIX);
+
+        Company company = Company.ofNewCompany("javame.com", "javame",
+                "company@javame.com", "010-1234-5678", "광주");
+        Role role = new Role("ROLE_USER", "USER", "기본 유저");
+        testEntityManager.persist(company);
+        testEntityManager.persist(role);
+        testEntityManager.persist(CompanyIndex.of(company.getCompanyNo(), "domain", "javame.com"));
+        // 토큰 없이 가입한 기존 회원
+        for (int i = 0; i < 3; i++) {
+            String email = "user" + i + "@javame.com";
+            Member member = testEntityManager.persist(Member.ofNewMember(company, role, email, "pw"));
+            testEntityManager.persist(MemberIndex.of(member.getMemberNo(), "email", email));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        // 이전 테스트의 도메인 매핑을 지우고 현재 데이터로 다시 생성
+        ReflectionTestUtils.invokeMethod(companyDomainResolver, "refresh");
+
+        ReflectionTestUtils.setField(backfillJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(backfillJob, "pauseMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("기존 회원의 토큰을 청크로 만들어 검색되게 하고 완료를 기록")
+    void backfill_BuildsTokens() {
+        assertThat(memberRepository.findMembersByTokens("javame.com", MemberEmailTokenizer.PREFIX_FIELD,
+                tokenizer.query("user1").hashes(), 10)).isEmpty();
+
+        backfillJob.backfill();
+
+        assertThat(memberRepository.findMembersByTokens("javame.com", MemberEmailTokenizer.PREFIX_FIELD,
+                tokenizer.query("user1").hashes(), 10))
+                .extracting(MemberResponse::getMemberEmail)
+                .containsExactly("user1@javame.com");
+        assertThat(checkpointRepository.findById(MemberEmailTokenBackfillJob.TARGET))
+                .hasValueSatisfying(checkpoint -> {
+                    assertThat(checkpoint.isCompleted()).isTrue();
+                    assertThat(checkpoint.getRotatedRows()).isEqualTo(3);
+                    assertThat(checkpoint.getKeyVersion()).isEqualTo(tokenizer.schemeVersion());
+                });
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 토큰이 중복되지 않고, 방식을 바꾸면 이전 방식의 토큰을 지우고 다시 만듦")
+    void backfill_RebuildsOnSchemeChange() {
+        backfillJob.backfill();
+        Integer prefixRows = countTokens(MemberEmailTokenizer.PREFIX_FIELD);
+        checkpointRepository.findById(MemberEmailTokenBackfillJob.TARGET).orElseThrow().restart(tokenizer.schemeVersion());
+        backfillJob.backfill();
+        assertThat(countTokens(MemberEmailTokenizer.PREFIX_FIELD)).isEqualTo(prefixRows);
+
+        ReflectionTestUtils.setField(tokenizer, "scheme", MemberEmailTokenizer.Scheme.NGRAM);
+        backfillJob.backfill();
+
+        assertThat(countTokens(MemberEmailTokenizer.PREFIX_FIELD)).isZero();
+        assertThat(countTokens(MemberEmailTokenizer.NGRAM_FIELD)).isPositive();
+        assertThat(memberRepository.findMembersByTokens("javame.com", MemberEmailTokenizer.NGRAM_FIELD,
+                tokenizer.query("er2@").hashes(), 10))
+                .extracting(MemberResponse::getMemberEmail)
+                .containsExactly("user2@javame.com");
+        // 이메일 인덱스는 그대로
+        assertThat(countTokens("email")).isEqualTo(3);
+    }
+
+    private Integer countTokens(String fieldName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member_index WHERE field_name = ?", Integer.class, fieldName);
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.common.event;
+
+import com.nhnacademy.company.event.CompanyDeactivatedEvent;
+import com.nhnacademy.member.event.MemberRegisteredEvent;
+import com.nhnacademy.member.event.MemberWithdrawnEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.PublishSubscribeChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventRelayTest {
+
+    @Test
+    @DisplayName("회원 이벤트와 회사 이벤트를 각 채널로 전달")
+    void relay_RoutesByEventType() {
+        QueueChannel memberChannel = new QueueChannel();
+        QueueChannel companyChannel = new QueueChannel();
+        DomainEventRelay relay = new DomainEventRelay(memberChannel, companyChannel);
+
+        relay.relay(new MemberRegisteredEvent(1L, 10L, "ROLE_PENDING"));
+        relay.relay(new CompanyDeactivatedEvent(10L));
+
+        assertThat(memberChannel.receive(0)).isNotNull()
+                .extracting(message -> message.getPayload()).isInstanceOf(MemberRegisteredEvent.class);
+        assertThat(companyChannel.receive(0)).isNotNull()
+                .extracting(message -> message.getPayload()).isInstanceOf(CompanyDeactivatedEvent.class);
+    }
+
+    @Test
+    @DisplayName("구독자가 밀려 스레드 풀 대기열이 가득 차면 기다리지 않고 버린 수를 기록")
+    void relay_DropsWhenQueueIsFull() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        PublishSubscribeChannel memberChannel = new PublishSubscribeChannel(executor);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        memberChannel.subscribe(message -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        DomainEventRelay relay = new DomainEventRelay(memberChannel, new QueueChannel());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay.bindTo(registry);
+
+        try {
+            relay.relay(new MemberWithdrawnEvent(1L));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            relay.relay(new MemberWithdrawnEvent(2L)); // 대기열
+            relay.relay(new MemberWithdrawnEvent(3L)); // 거절
+
+            assertThat(registry.get("domain.event.published").functionCounter().count()).isEqualTo(2);
+            assertThat(registry.get("domain.event.dropped").functionCounter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열 거절이 아닌 전달 오류는 버린 수가 아닌 실패 수로 기록")
+    void relay_CountsOtherErrorsAsFailed() {
+        DirectChannel memberChannel = new DirectChannel();
+        memberChannel.subscribe(message -> {
+            throw new IllegalStateException("구독자 오류");
+        });
+        DomainEventRelay relay = new DomainEventRelay(memberChannel, new QueueChannel());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay.bindTo(registry);
+
+        relay.relay(new MemberWithdrawnEvent(1L));
+
+        assertThat(registry.get("domain.event.failed").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("domain.event.dropped").functionCounter().count()).isZero();
+        assertThat(registry.get("domain.event.published").functionCounter().count()).isZero();
+    }
+}
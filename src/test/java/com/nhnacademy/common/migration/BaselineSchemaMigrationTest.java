@@ -0,0 +1,130 @@
+package com.nhnacademy.common.migration;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 Hibernate 가 만든 운영 DB 처럼 V1 없이 baseline(버전 1)에서 시작해도
+ * 이후 마이그레이션이 모두 적용되는지 확인합니다.
+ * 제약 조건 이름은 Hibernate 가 만든 형태({@code FK...}/{@code UK...})를 사용합니다.
+ */
+class BaselineSchemaMigrationTest {
+
+    /**
+     * ddl-auto 로 만들어진 스키마 (Hibernate 가 생성한 이름의 제약 조건).
+     */
+    private static final List<String> HIBERNATE_SCHEMA = List.of(
+            "create table roles (role_id varchar(20) not null, role_description varchar(100), "
+                    + "role_name varchar(20) not null, primary key (role_id))",
+            "create table companies (is_active boolean not null, registered_at timestamp(6) not null, "
+                    + "company_address varchar(200) not null, company_domain varchar(200) not null, "
+                    + "company_email varchar(100), company_mobile varchar(200) not null, "
+                    + "company_name varchar(100) not null, primary key (company_domain))",
+            "create table members (last_login_at timestamp(6), member_no bigint generated by default as identity, "
+                    + "registered_at timestamp(6) not null, withdrawal_at timestamp(6), role_id varchar(20) not null, "
+                    + "member_password varchar(60) not null, member_email varchar(100) not null, "
+                    + "company_domain varchar(200) not null, primary key (member_no))",
+            "create table member_index (id bigint generated by default as identity, member_no bigint not null, "
+                    + "field_name varchar(20) not null, hash_value varchar(64) not null, primary key (id))",
+            "create table companies_index (id bigint generated by default as identity, "
+                    + "company_domain varchar(50) not null, field_name varchar(30) not null, "
+                    + "hash_value varchar(64) not null, primary key (id))",
+            "alter table if exists members add constraint UKhuyt5bv2m9acwp0l3xgs4bm0x unique (member_email)",
+            "alter table if exists members add constraint FKq9e3nrb1ewd6l4mvqkdmw1x5b "
+                    + "foreign key (company_domain) references companies",
+            "alter table if exists members add constraint FK6m8d0n0s4dw1i4gkc6tfuo0cb "
+                    + "foreign key (role_id) references roles"
+    );
+
+    private JdbcTemplate jdbcTemplate;
+    private Flyway flyway;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        HIBERNATE_SCHEMA.forEach(jdbcTemplate::execute);
+
+        jdbcTemplate.update("INSERT INTO roles (role_id, role_name) VALUES ('ROLE_USER', 'USER')");
+        jdbcTemplate.update("INSERT INTO companies (company_domain, company_name, company_mobile, company_address, "
+                + "registered_at, is_active) VALUES ('domain-b', 'name', 'mobile', 'address', CURRENT_TIMESTAMP, TRUE)");
+        jdbcTemplate.update("INSERT INTO companies (company_domain, company_name, company_mobile, company_address, "
+                + "registered_at, is_active) VALUES ('domain-a', 'name', 'mobile', 'address', CURRENT_TIMESTAMP, TRUE)");
+        jdbcTemplate.update("INSERT INTO members (company_domain, role_id, member_email, member_password, registered_at) "
+                + "VALUES ('domain-a', 'ROLE_USER', 'email', 'password', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO companies_index (company_domain, field_name, hash_value) "
+                + "VALUES ('domain-a', 'domain', 'hash')");
+
+        // application.properties 와 같은 설정
+        flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    @Test
+    @DisplayName("baseline 스키마에서 최신 버전까지 마이그레이션됨")
+    void migrate_FromBaseline() {
+        assertThat(flyway.migrate().success).isTrue();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion())
+                .startsWith("1")
+                .contains("4.1", "5");
+    }
+
+    @Test
+    @DisplayName("baseline 스키마의 제약 조건 이름이 V1 과 같아지고, 회사 도메인에는 유니크 제약이 생김")
+    void migrate_ConstraintNames() {
+        flyway.migrate();
+
+        assertThat(constraints("MEMBERS"))
+                .containsEntry("FK_MEMBERS_COMPANY", "FOREIGN KEY")
+                .containsEntry("FK_MEMBERS_ROLE", "FOREIGN KEY")
+                .containsEntry("UK_MEMBERS_MEMBER_EMAIL", "UNIQUE");
+        assertThat(constraints("COMPANIES"))
+                .containsEntry("UK_COMPANIES_COMPANY_DOMAIN", "UNIQUE")
+                .containsEntry("PK_COMPANIES", "PRIMARY KEY");
+    }
+
+    @Test
+    @DisplayName("기존 행은 회사 번호로 다시 연결됨")
+    void migrate_KeepsReferences() {
+        flyway.migrate();
+
+        Long companyNo = jdbcTemplate.queryForObject(
+                "SELECT company_no FROM companies WHERE company_domain = 'domain-a'", Long.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT company_no FROM members", Long.class)).isEqualTo(companyNo);
+        assertThat(jdbcTemplate.queryForObject("SELECT company_no FROM companies_index", Long.class))
+                .isEqualTo(companyNo);
+    }
+
+    /**
+     * @return 제약 조건 이름 -> 종류
+     */
+    private Map<String, Object> constraints(String table) {
+        Map<String, Object> result = new HashMap<>();
+        jdbcTemplate.query("SELECT CONSTRAINT_NAME, CONSTRAINT_TYPE FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                        + "WHERE TABLE_NAME = ?",
+                rs -> {
+                    result.put(rs.getString(1), rs.getString(2));
+                },
+                table);
+        return result;
+    }
+}
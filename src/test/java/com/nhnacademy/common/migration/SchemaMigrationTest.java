@@ -0,0 +1,164 @@
+package com.nhnacademy.common.migration;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.repository.CompanyIndexRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.MemberIndex;
+import com.nhnacademy.member.repository.MemberIndexRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에 조회용 인덱스가 있는지, 블라인드 인덱스 조회가 필드별로 동작하는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
+class SchemaMigrationTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MemberIndexRepository memberIndexRepository;
+
+    @Autowired
+    CompanyIndexRepository companyIndexRepository;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+    }
+
+    @Test
+    @DisplayName("조회용 인덱스가 생성됨")
+    void lookupIndexesExist() {
+        assertThat(indexes("member_index"))
+                .containsEntry("uk_member_index_field_hash_key", true)
+                .containsEntry("idx_member_index_field_hash_value", false);
+        assertThat(indexes("companies_index"))
+                .containsEntry("uk_companies_index_field_hash_key", true)
+                .containsEntry("idx_companies_index_field_hash_value", false);
+        assertThat(indexes("members"))
+                .containsKeys("idx_members_company_role", "idx_members_last_login_at");
+    }
+
+    @Test
+    @DisplayName("같은 회원의 같은 필드에 같은 블라인드 인덱스는 저장할 수 없음")
+    void memberIndex_UniqueFieldHashAndMember() {
+        memberIndexRepository.saveAndFlush(MemberIndex.of(1L, "email", "user@javame.com"));
+
+        assertThatThrownBy(() -> memberIndexRepository.saveAndFlush(MemberIndex.of(1L, "email", "user@javame.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("이메일 검색 토큰은 여러 회원이 같은 값을 가질 수 있음")
+    void memberIndex_SharedToken() {
+        byte[] token = BlindIndexUtil.hash("email_prefix:use");
+        memberIndexRepository.saveAndFlush(new MemberIndex(1L, "email_prefix", token, null));
+        memberIndexRepository.saveAndFlush(new MemberIndex(2L, "email_prefix", token, null));
+
+        assertThat(memberIndexRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 필드에 저장된 같은 값의 해시로는 조회되지 않음")
+    void findByBlindIndex_IsFieldScoped() {
+        // 회사 이름이 다른 회사의 도메인과 같은 경우
+        Long other = companyNo("other.com");
+        companyIndexRepository.saveAndFlush(CompanyIndex.of(other, "name", "javame.com"));
+
+        assertThat(companyIndexRepository.findByBlindIndex("javame.com", "domain")).isEmpty();
+        assertThat(companyIndexRepository.existsByBlindIndex("javame.com", "domain")).isFalse();
+        assertThat(companyIndexRepository.findByBlindIndex("javame.com", "name"))
+                .hasValueSatisfying(index -> assertThat(index.getCompanyNo()).isEqualTo(other));
+    }
+
+    @Test
+    @DisplayName("회사 이름처럼 여러 회사가 같은 값을 가질 수 있는 필드는 회사별로 저장됨")
+    void companyIndex_SameValueForDifferentCompanies() {
+        Long a = companyNo("a.com");
+        Long b = companyNo("b.com");
+        companyIndexRepository.saveAndFlush(CompanyIndex.of(a, "name", "NHN Academy"));
+        companyIndexRepository.saveAndFlush(CompanyIndex.of(b, "name", "NHN Academy"));
+
+        assertThat(companyIndexRepository.findByBlindIndex("NHN Academy", "name")).isPresent();
+        assertThatThrownBy(() -> companyIndexRepository.saveAndFlush(CompanyIndex.of(a, "name", "NHN Academy")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("회사 인덱스는 회사 번호로 회사를 참조하고, 회사 도메인은 중복될 수 없음")
+    void companyNo_IsReferencedKey() {
+        Long companyNo = companyNo("javame.com");
+        String storedDomain = jdbcTemplate.queryForObject(
+                "SELECT company_domain FROM companies WHERE company_no = ?", String.class, companyNo);
+
+        assertThatThrownBy(() -> companyIndexRepository.saveAndFlush(CompanyIndex.of(-1L, "domain", "none.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO companies (company_domain, company_name, company_mobile, company_address, registered_at, "
+                        + "is_active) VALUES (?, 'name', 'mobile', 'address', CURRENT_TIMESTAMP, TRUE)", storedDomain))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    /**
+     * 인덱스 행이 참조할 회사를 저장합니다.
+     *
+     * @return 회사 번호
+     */
+    private Long companyNo(String domain) {
+        return testEntityManager.persistAndFlush(
+                Company.ofNewCompany(domain, "name", "company@" + domain, "010-1234-5678", "광주")).getCompanyNo();
+    }
+
+    /**
+     * @return 소문자 인덱스 이름 -> unique 여부
+     */
+    private Map<String, Boolean> indexes(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, Boolean>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            Map<String, Boolean> result = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, tableName, false, false)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null) {
+                        result.put(name.toLowerCase(Locale.ROOT), !rs.getBoolean("NON_UNIQUE"));
+                    }
+                }
+            }
+            return result;
+        });
+    }
+}
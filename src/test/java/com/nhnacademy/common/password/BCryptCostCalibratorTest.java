@@ -0,0 +1,71 @@
+package com.nhnacademy.common.password;
+
+import com.nhnacademy.common.util.PasswordUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTest {
+
+    @AfterEach
+    void tearDown() {
+        PasswordUtil.configureStrength(PasswordUtil.DEFAULT_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("고정 cost 가 있으면 측정 없이 그 값을 사용")
+    void fixedStrength() {
+        BCryptCostCalibrator calibrator = calibrator(7, 100, 4, 14);
+
+        calibrator.calibrate();
+
+        assertThat(PasswordUtil.strength()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 최소 cost 보다 짧아도 최소 cost 아래로 내리지 않음")
+    void neverBelowMinStrength() {
+        BCryptCostCalibrator calibrator = calibrator(0, 0, 5, 14);
+
+        calibrator.calibrate();
+
+        assertThat(PasswordUtil.strength()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 충분히 길어도 최대 cost 를 넘지 않음")
+    void neverAboveMaxStrength() {
+        BCryptCostCalibrator calibrator = calibrator(0, 60_000, 4, 6);
+
+        calibrator.calibrate();
+
+        assertThat(PasswordUtil.strength()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("선택한 cost 의 예상 시간은 목표 이하")
+    void estimatedWithinTarget() {
+        BCryptCostCalibrator calibrator = calibrator(0, 50, 4, 12);
+
+        calibrator.calibrate();
+
+        double estimated = (double) ReflectionTestUtils.getField(calibrator, "estimatedMillis");
+        int strength = PasswordUtil.strength();
+        assertThat(strength).isBetween(4, 12);
+        if (strength > 4) {
+            assertThat(estimated).isLessThanOrEqualTo(50);
+        }
+    }
+
+    private static BCryptCostCalibrator calibrator(int fixed, long targetMillis, int min, int max) {
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator();
+        ReflectionTestUtils.setField(calibrator, "fixedStrength", fixed);
+        ReflectionTestUtils.setField(calibrator, "targetMillis", targetMillis);
+        ReflectionTestUtils.setField(calibrator, "minStrength", min);
+        ReflectionTestUtils.setField(calibrator, "maxStrength", max);
+        return calibrator;
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.common.password;
+
+import com.nhnacademy.common.exception.ServiceBusyException;
+import com.nhnacademy.common.util.PasswordUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashExecutorTest {
+
+    private PasswordHashExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashExecutor();
+        ReflectionTestUtils.setField(executor, "threads", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(executor, "retryAfterSeconds", 2L);
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 풀 스레드에서 BCrypt 해시를 만든다")
+    void encode() throws Exception {
+        CompletableFuture<String> future = executor.encode("password123");
+
+        String encoded = future.get(5, TimeUnit.SECONDS);
+        assertThat(PasswordUtil.matches("password123", encoded)).isTrue();
+        assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                .startsWith("password-hash-");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 대기하지 않고 ServiceBusyException 으로 거절한다")
+    void rejectWhenQueueFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = executor.submit(() -> {
+            running.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+        assertThatThrownBy(() -> executor.encode("password123"))
+                .isInstanceOf(ServiceBusyException.class)
+                .extracting(e -> ((ServiceBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(2L);
+
+        release.countDown();
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+}
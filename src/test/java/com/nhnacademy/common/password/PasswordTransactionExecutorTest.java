@@ -0,0 +1,76 @@
+package com.nhnacademy.common.password;
+
+import com.nhnacademy.common.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordTransactionExecutorTest {
+
+    private PasswordTransactionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordTransactionExecutor();
+        ReflectionTestUtils.setField(executor, "threads", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(executor, "retryAfterSeconds", 2L);
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 풀 스레드에서 실행한다")
+    void execute() throws Exception {
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().getName(), executor::execute);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).startsWith("password-tx-");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 future 가 ServiceBusyException 으로 완료된다")
+    void rejectWhenQueueFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = CompletableFuture.supplyAsync(() -> {
+            running.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }, executor::execute);
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> "queued", executor::execute);
+
+        CompletableFuture<String> rejected = CompletableFuture.completedFuture("hashed")
+                .thenApplyAsync(hashed -> hashed, executor::execute);
+
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(ServiceBusyException.class)
+                .extracting(e -> ((ServiceBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(2L);
+
+        release.countDown();
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+}
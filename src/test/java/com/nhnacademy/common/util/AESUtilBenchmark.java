@@ -0,0 +1,82 @@
+package com.nhnacademy.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 Cipher를 새로 만들던 기존 방식과 {@link AESUtil}(엔진 재사용) 방식을 비교하는 JMH 벤치마크입니다.
+ * surefire 대상이 아니므로 필요할 때 main 메서드로 직접 실행합니다.
+ * 할당량까지 보려면 {@code -prof gc} 옵션을 추가합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AESUtilBenchmark {
+
+    private static final String ALGORITHM = "AES";
+    private static final String KEY = "rowNZDAeHhGcZBzA2nupUQ==";
+
+    private String plain;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", ALGORITHM);
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", KEY);
+        plain = "member-benchmark@javame.live";
+        encrypted = AESUtil.encrypt(plain);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(), ALGORITHM));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plain.getBytes()));
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(KEY.getBytes(), ALGORITHM));
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encrypted)), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String engineEncrypt() {
+        return AESUtil.encrypt(plain);
+    }
+
+    @Benchmark
+    public String engineDecrypt() {
+        return AESUtil.decrypt(encrypted);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AESUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -15,6 +15,8 @@ import javax.crypto.Cipher;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,11 +34,43 @@ class AESUtilTest {
         Assertions.assertEquals(test, decrypted);
     }
 
+    @Test
+    @DisplayName("일괄 복호화 - 순서 유지 및 null 처리")
+    void testDecryptAll() {
+        List<String> plains = List.of("a", "member@javame.com", "한글 주소 123", "x".repeat(100));
+        List<String> encrypted = new ArrayList<>(plains.stream().map(AESUtil::encrypt).toList());
+        encrypted.add(null);
+
+        List<String> decrypted = AESUtil.decryptAll(encrypted);
+
+        Assertions.assertEquals(plains, decrypted.subList(0, plains.size()));
+        Assertions.assertNull(decrypted.get(plains.size()));
+        Assertions.assertTrue(AESUtil.decryptAll(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Cipher 인스턴스 재사용 - 반복 호출 시 Cipher.getInstance는 모드별로 한 번만 호출")
+    void testCipherInstanceReused() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
+
+        try (MockedStatic<Cipher> cipherMock = Mockito.mockStatic(Cipher.class, Mockito.CALLS_REAL_METHODS)) {
+            for (int i = 0; i < 5; i++) {
+                String encrypted = AESUtil.encrypt("test" + i);
+                Assertions.assertEquals("test" + i, AESUtil.decrypt(encrypted));
+            }
+
+            cipherMock.verify(() -> Cipher.getInstance("AES"), Mockito.times(2));
+        }
+    }
+
     @Test
     @DisplayName("인코딩 문제시 EncryptionException 발생 여부 확인 테스트.")
     void testEncryptedThrowEncyrptionException() {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
 
         try (MockedStatic<Cipher> cipherMock = Mockito.mockStatic(Cipher.class)) {
             cipherMock.when(() -> Cipher.getInstance("AES"))
@@ -51,6 +85,7 @@ class AESUtilTest {
     void testEncryptInvalidKeyException() throws Exception {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
 
         Cipher mockCipher = Mockito.mock(Cipher.class);
 
@@ -69,6 +104,7 @@ class AESUtilTest {
     void testEncryptDoFinalException() throws Exception {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
 
         Cipher mockCipher = Mockito.mock(Cipher.class);
 
@@ -92,6 +128,7 @@ class AESUtilTest {
     void testEncryptedThrowDecryptionException() {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
 
         try (MockedStatic<Cipher> cipherMock = Mockito.mockStatic(Cipher.class)) {
             cipherMock.when(() -> Cipher.getInstance("AES"))
@@ -106,6 +143,7 @@ class AESUtilTest {
     void testDecryptedInvalidKeyException() throws Exception {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
 
         Cipher mockCipher = Mockito.mock(Cipher.class);
 
@@ -124,6 +162,7 @@ class AESUtilTest {
     void testDecryptDoFinalException() throws Exception {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(AESUtil.class, "keyring", null);
 
         Cipher mockCipher = Mockito.mock(Cipher.class);
 
@@ -0,0 +1,78 @@
+package com.nhnacademy.common.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 commons-codec {@code DigestUtils.sha256Hex}와 {@link HashUtil}(스레드별 다이제스트/버퍼 재사용)을 비교하는 JMH 벤치마크입니다.
+ * main 메서드로 실행하면 {@link GCProfiler}가 함께 붙어 {@code gc.alloc.rate.norm}(연산당 할당 바이트)을 보고합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class HashUtilBenchmark {
+
+    /**
+     * 이메일(ASCII) / 한글이 섞인 값.
+     */
+    @Param({"member-benchmark@javame.live", "광주광역시 동구 javame.com"})
+    private String input;
+
+    private final char[] hex = new char[HashUtil.SHA256_HEX_LENGTH];
+    private final byte[] digest = new byte[HashUtil.SHA256_LENGTH];
+
+    @Benchmark
+    public String legacySha256Hex() {
+        return DigestUtils.sha256Hex(input);
+    }
+
+    @Benchmark
+    public String sha256Hex() {
+        return HashUtil.sha256Hex(input);
+    }
+
+    /**
+     * 호출자 버퍼에 hex 를 쓰는 경우 (할당 없음).
+     */
+    @Benchmark
+    public char[] sha256HexInto() {
+        HashUtil.sha256Hex(input, hex, 0);
+        return hex;
+    }
+
+    /**
+     * 호출자 버퍼에 다이제스트만 쓰는 경우 (할당 없음).
+     */
+    @Benchmark
+    public byte[] sha256Into() {
+        HashUtil.sha256(input, digest, 0);
+        return digest;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HashUtilBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
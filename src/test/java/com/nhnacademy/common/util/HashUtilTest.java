@@ -0,0 +1,44 @@
+package com.nhnacademy.common.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+class HashUtilTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "member@javame.com", "javame.com", "광주광역시 동구", "é½ ß", "emoji 😀 end",
+            "unpaired \uD83D high", "unpaired \uDE00 low", "trailing \uD83D"})
+    @DisplayName("기존 commons-codec 구현과 같은 해시")
+    void sha256Hex_MatchesDigestUtils(String input) {
+        Assertions.assertEquals(DigestUtils.sha256Hex(input), HashUtil.sha256Hex(input));
+    }
+
+    @Test
+    @DisplayName("재사용 버퍼보다 긴 입력도 처리")
+    void sha256Hex_LongInput() {
+        String input = "가".repeat(500) + "a".repeat(500);
+
+        Assertions.assertEquals(DigestUtils.sha256Hex(input), HashUtil.sha256Hex(input));
+        Assertions.assertEquals(DigestUtils.sha256Hex("short"), HashUtil.sha256Hex("short"));
+    }
+
+    @Test
+    @DisplayName("호출자 버퍼에 hex 와 다이제스트를 기록")
+    void sha256_WritesIntoCallerBuffer() {
+        char[] hex = new char[HashUtil.SHA256_HEX_LENGTH + 2];
+        byte[] digest = new byte[HashUtil.SHA256_LENGTH + 1];
+
+        HashUtil.sha256Hex(new StringBuilder("member@javame.com"), hex, 2);
+        HashUtil.sha256("member@javame.com", digest, 1);
+
+        Assertions.assertEquals(DigestUtils.sha256Hex("member@javame.com"), new String(hex, 2, HashUtil.SHA256_HEX_LENGTH));
+        Assertions.assertArrayEquals(DigestUtils.sha256("member@javame.com"),
+                Arrays.copyOfRange(digest, 1, digest.length));
+    }
+}
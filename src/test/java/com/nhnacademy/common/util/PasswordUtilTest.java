@@ -0,0 +1,66 @@
+package com.nhnacademy.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordUtilTest {
+
+    @AfterEach
+    void tearDown() {
+        PasswordUtil.configureStrength(PasswordUtil.DEFAULT_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("설정한 cost 로 인코딩하고 검증")
+    void encodeWithConfiguredStrength() {
+        PasswordUtil.configureStrength(5);
+
+        String encoded = PasswordUtil.encode("password123");
+
+        assertEquals(5, PasswordUtil.strength());
+        assertEquals(5, PasswordUtil.costOf(encoded));
+        assertTrue(PasswordUtil.matches("password123", encoded));
+        assertFalse(PasswordUtil.matches("password124", encoded));
+    }
+
+    @Test
+    @DisplayName("저장된 cost 가 현재 cost 보다 낮거나 높으면 재해싱 대상")
+    void needsRehash() {
+        PasswordUtil.configureStrength(5);
+
+        assertTrue(PasswordUtil.needsRehash(new BCryptPasswordEncoder(4).encode("pw")));
+        assertTrue(PasswordUtil.needsRehash(new BCryptPasswordEncoder(6).encode("pw")));
+        assertFalse(PasswordUtil.needsRehash(PasswordUtil.encode("pw")));
+    }
+
+    @Test
+    @DisplayName("cost 를 바꾸면 비교용 임의 해시도 새 cost 로 미리 만들어 둠")
+    void configureStrength_PrecomputesDummyHash() {
+        PasswordUtil.configureStrength(5);
+        assertEquals(5, PasswordUtil.costOf(dummyHash()));
+
+        PasswordUtil.configureStrength(6);
+        assertEquals(6, PasswordUtil.costOf(dummyHash()));
+        assertDoesNotThrow(() -> PasswordUtil.matchesDummy("password123"));
+    }
+
+    @Test
+    @DisplayName("BCrypt 형식이 아닌 값은 cost -1, 재해싱 대상 아님")
+    void costOfInvalid() {
+        assertEquals(-1, PasswordUtil.costOf(null));
+        assertEquals(-1, PasswordUtil.costOf("plain"));
+        assertEquals(-1, PasswordUtil.costOf("$2a$xx$abcdefg"));
+        assertEquals(10, PasswordUtil.costOf("$2a$10$abcdefghijklmnopqrstuv"));
+        assertFalse(PasswordUtil.needsRehash("plain"));
+    }
+
+    private static String dummyHash() {
+        Object encoder = ReflectionTestUtils.getField(PasswordUtil.class, "encoder");
+        return (String) ReflectionTestUtils.getField(encoder, "dummyHash");
+    }
+}
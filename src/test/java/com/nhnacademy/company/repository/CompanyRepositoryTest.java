@@ -1,7 +1,10 @@
 package com.nhnacademy.company.repository;
 
 import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import com.nhnacademy.common.util.AESUtil;
 import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.service.CompanyDomainResolver;
 import com.nhnacademy.member.repository.impl.CustomMemberRepositoryImpl;
 import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,7 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ActiveProfiles("test")
 @DataJpaTest
-@Import({QueryDslConfig.class})
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
 class CompanyRepositoryTest {
 
     @Autowired
@@ -36,23 +40,26 @@ class CompanyRepositoryTest {
 
     @BeforeEach
     void setUp() {
+        // 엔티티가 생성 시 암호화하므로 키 설정
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
         // 테스트용 회사 3개 생성 (A와 B는 이름이 같음)
         companyA = Company.ofNewCompany(
-                "javame.com",          // PK (도메인)
+                "javame.com",          // 도메인
                 "NHN Academy",         // 회사 이름
                 "hr@javame.com",       // 대표 이메일
                 "010-1111-1111",
                 "주소 A"
         );
         companyB_SameName = Company.ofNewCompany(
-                "example.org",         // PK (도메인) - 달라야 함
+                "example.org",         // 도메인 - 달라야 함
                 "NHN Academy",         // 회사 이름 - companyA와 동일
                 "info@example.org",    // 대표 이메일 - 달라야 함 (unique 가정)
                 "010-2222-2222",
                 "주소 B"
         );
         companyC_UniqueName = Company.ofNewCompany(
-                "unique.dev",          // PK (도메인)
+                "unique.dev",          // 도메인
                 "Unique Corp",         // 회사 이름 - 고유
                 "contact@unique.dev",  // 대표 이메일 - 달라야 함 (unique 가정)
                 "010-3333-3333",
@@ -67,31 +74,31 @@ class CompanyRepositoryTest {
     }
 
     @Test
-    @DisplayName("회사 저장 및 ID(도메인)로 조회")
+    @DisplayName("회사 저장 및 ID(회사 번호)로 조회")
     void saveAndFindById_ShouldWork() {
         // given: setUp에서 저장됨
 
         // when: ID로 조회
-        Optional<Company> foundA = companyRepository.findById(companyA.getCompanyDomain());
-        Optional<Company> foundB = companyRepository.findById(companyB_SameName.getCompanyDomain());
-        Optional<Company> foundC = companyRepository.findById(companyC_UniqueName.getCompanyDomain());
+        Optional<Company> foundA = companyRepository.findById(companyA.getCompanyNo());
+        Optional<Company> foundB = companyRepository.findById(companyB_SameName.getCompanyNo());
+        Optional<Company> foundC = companyRepository.findById(companyC_UniqueName.getCompanyNo());
 
         // then: 조회 성공 및 내용 확인
         assertThat(foundA).isPresent();
-        assertThat(foundA.get().getCompanyName()).isEqualTo("NHN Academy");
+        assertThat(foundA.get().getCompanyName().plaintext()).isEqualTo("NHN Academy");
 
         assertThat(foundB).isPresent();
-        assertThat(foundB.get().getCompanyName()).isEqualTo("NHN Academy");
+        assertThat(foundB.get().getCompanyName().plaintext()).isEqualTo("NHN Academy");
 
         assertThat(foundC).isPresent();
-        assertThat(foundC.get().getCompanyName()).isEqualTo("Unique Corp");
+        assertThat(foundC.get().getCompanyName().plaintext()).isEqualTo("Unique Corp");
     }
 
     @Test
-    @DisplayName("존재하지 않는 ID(도메인)로 조회 시 Optional.empty 반환")
+    @DisplayName("존재하지 않는 ID(회사 번호)로 조회 시 Optional.empty 반환")
     void findById_WhenNotExists_ShouldReturnEmpty() {
         // when
-        Optional<Company> notFound = companyRepository.findById("nonexistent.com");
+        Optional<Company> notFound = companyRepository.findById(-1L);
 
         // then
         assertThat(notFound).isNotPresent();
@@ -117,7 +124,7 @@ class CompanyRepositoryTest {
     @DisplayName("회사 정보 업데이트")
     void updateCompany_ShouldModifyDetails() {
         // given: companyC 조회
-        Company companyToUpdate = companyRepository.findById(companyC_UniqueName.getCompanyDomain()).orElseThrow();
+        Company companyToUpdate = companyRepository.findById(companyC_UniqueName.getCompanyNo()).orElseThrow();
         String newName = "Updated Unique Corp";
         String newEmail = "updated@unique.dev";
         String newMobile = "010-4444-4444";
@@ -129,11 +136,11 @@ class CompanyRepositoryTest {
         companyRepository.flush();
 
         // then: 다시 조회하여 변경 확인
-        Company updatedCompany = testEntityManager.find(Company.class, companyC_UniqueName.getCompanyDomain());
-        assertThat(updatedCompany.getCompanyName()).isEqualTo(newName);
-        assertThat(updatedCompany.getCompanyEmail()).isEqualTo(newEmail);
-        assertThat(updatedCompany.getCompanyMobile()).isEqualTo(newMobile);
-        assertThat(updatedCompany.getCompanyAddress()).isEqualTo(newAddress);
+        Company updatedCompany = testEntityManager.find(Company.class, companyC_UniqueName.getCompanyNo());
+        assertThat(updatedCompany.getCompanyName().plaintext()).isEqualTo(newName);
+        assertThat(updatedCompany.getCompanyEmail().plaintext()).isEqualTo(newEmail);
+        assertThat(updatedCompany.getCompanyMobile().plaintext()).isEqualTo(newMobile);
+        assertThat(updatedCompany.getCompanyAddress().plaintext()).isEqualTo(newAddress);
         assertThat(updatedCompany.getRegisteredAt()).isEqualTo(companyC_UniqueName.getRegisteredAt());
         assertThat(updatedCompany.isActive()).isEqualTo(companyC_UniqueName.isActive());
     }
@@ -148,23 +155,23 @@ class CompanyRepositoryTest {
         companyRepository.flush();
 
         // then: 삭제 후 조회 안됨 확인
-        Optional<Company> deletedCompany = companyRepository.findById(companyA.getCompanyDomain());
+        Optional<Company> deletedCompany = companyRepository.findById(companyA.getCompanyNo());
         assertThat(deletedCompany).isNotPresent();
     }
 
     @Test
-    @DisplayName("중복된 ID(도메인)로 회사 저장 시 예외 발생")
-    void save_DuplicateId_ShouldThrowException() {
-        // given: 기존 ID와 동일한 ID를 가진 새 회사 객체
+    @DisplayName("중복된 도메인으로 회사 저장 시 예외 발생")
+    void save_DuplicateDomain_ShouldThrowException() {
+        // given: 기존 회사와 도메인이 같은 새 회사 객체
         Company duplicateCompany = Company.ofNewCompany(
-                companyA.getCompanyDomain(), // <- 중복 ID
+                companyA.getCompanyDomain().plaintext(), // <- 중복 도메인
                 "Duplicate Name",
                 "duplicate@email.com",
                 "010-4444-4444",
                 "주소 D"
         );
 
-        // when & then: persist 시 PK 중복 예외 확인
+        // when & then: persist 시 도메인 유니크 제약 위반 예외 확인
         assertThatThrownBy(() -> {
             testEntityManager.persist(duplicateCompany);
             testEntityManager.flush();
@@ -178,15 +185,15 @@ class CompanyRepositoryTest {
         assertThat(companyRepository.existsByCompanyEmail(companyA.getCompanyEmail())).isTrue();
         assertThat(companyRepository.existsByCompanyEmail(companyB_SameName.getCompanyEmail())).isTrue();
         assertThat(companyRepository.existsByCompanyEmail(companyC_UniqueName.getCompanyEmail())).isTrue();
-        assertThat(companyRepository.existsByCompanyEmail("nonexistent@email.com")).isFalse();
+        assertThat(companyRepository.existsByCompanyEmail(EncryptedValue.of("nonexistent@email.com"))).isFalse();
     }
 
     @Test
     @DisplayName("회사 이름으로 회사 목록 조회")
     void findByCompanyName_ShouldReturnListOfCompanies() {
         // when: 이름으로 조회
-        Optional<Company> foundByNameC = companyRepository.findByCompanyName("Unique Corp");
-        Optional<Company> foundByNonExistentName = companyRepository.findByCompanyName("NonExistent Name");
+        Optional<Company> foundByNameC = companyRepository.findByCompanyName(EncryptedValue.of("Unique Corp"));
+        Optional<Company> foundByNonExistentName = companyRepository.findByCompanyName(EncryptedValue.of("NonExistent Name"));
 
         // "Unique Corp" 이름의 회사가 존재해야 함
         assertThat(foundByNameC).isPresent();
@@ -200,8 +207,8 @@ class CompanyRepositoryTest {
     @DisplayName("회사 이름 존재 여부 확인")
     void existsByCompanyName_ShouldReturnCorrectBoolean() {
         // when & then
-        assertThat(companyRepository.existsByCompanyName("NHN Academy")).isTrue();
-        assertThat(companyRepository.existsByCompanyName("Unique Corp")).isTrue();
-        assertThat(companyRepository.existsByCompanyName("NonExistent Name")).isFalse();
+        assertThat(companyRepository.existsByCompanyName(EncryptedValue.of("NHN Academy"))).isTrue();
+        assertThat(companyRepository.existsByCompanyName(EncryptedValue.of("Unique Corp"))).isTrue();
+        assertThat(companyRepository.existsByCompanyName(EncryptedValue.of("NonExistent Name"))).isFalse();
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.nhnacademy.company.repository.impl;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.repository.CompanyIndexRepository;
+import com.nhnacademy.company.repository.CompanyRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
+class CustomCompanyRepositoryImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CompanyIndexRepository companyIndexRepository;
+
+    private Statistics statistics;
+    private Company javame;
+    private Company other;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+
+        javame = company("javame.com", "javame");
+        // 회사 이름이 다른 회사의 도메인과 같은 경우
+        other = company("other.com", "javame.com");
+        entityManager.persist(javame);
+        entityManager.persist(other);
+        entityManager.persist(CompanyIndex.of(javame.getCompanyNo(), "domain", "javame.com"));
+        entityManager.persist(CompanyIndex.of(javame.getCompanyNo(), "name", "javame"));
+        entityManager.persist(CompanyIndex.of(other.getCompanyNo(), "domain", "other.com"));
+        entityManager.persist(CompanyIndex.of(other.getCompanyNo(), "name", "javame.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+    }
+
+    private static Company company(String domain, String name) {
+        return Company.ofNewCompany(domain, name,
+                "company@" + domain, "010-1234-5678", "광주");
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 조회 - 인덱스와 회사를 쿼리 한 번으로 조회")
+    void findByBlindIndex_SingleStatement() {
+        assertThat(companyRepository.findByBlindIndex("javame.com", "domain"))
+                .map(Company::getCompanyDomain)
+                .contains(javame.getCompanyDomain());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 조회 - 필드명이 조건에 포함되어 다른 필드의 같은 값과 섞이지 않음")
+    void findByBlindIndex_FieldNameIsPartOfPredicate() {
+        assertThat(companyRepository.findByBlindIndex("javame.com", "name"))
+                .map(Company::getCompanyDomain)
+                .contains(other.getCompanyDomain());
+        assertThat(companyRepository.findByBlindIndex("javame", "domain")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 조회 - 이전 형식 인덱스만 있어도 같은 쿼리에서 조회")
+    void findByBlindIndex_LegacyOnly() {
+        Company legacy = company("legacy.com", "legacy");
+        entityManager.persist(legacy);
+        entityManager.persist(new CompanyIndex(legacy.getCompanyNo(), "domain", null, HashUtil.sha256Hex("legacy.com")));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(companyRepository.findByBlindIndex("legacy.com", "domain"))
+                .map(Company::getCompanyDomain)
+                .contains(legacy.getCompanyDomain());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 조회 - 존재하지 않는 도메인")
+    void findByBlindIndex_NotFound() {
+        assertThat(companyRepository.findByBlindIndex("none.com", "domain")).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 검색 - 한 필드의 여러 값을 쿼리 한 번으로 조회")
+    void findAllByBlindIndexes_BatchValues() {
+        List<Company> companies = companyRepository.findAllByBlindIndexes(
+                Map.of("name", Set.of("javame", "javame.com", "none")), 100);
+
+        assertThat(companies).extracting(Company::getCompanyDomain)
+                .containsExactlyInAnyOrder(javame.getCompanyDomain(), other.getCompanyDomain());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 검색 - 필드끼리는 AND, 다른 필드의 같은 값과 섞이지 않음")
+    void findAllByBlindIndexes_FieldsAreAnded() {
+        assertThat(companyRepository.findAllByBlindIndexes(
+                Map.of("domain", Set.of("other.com"), "name", Set.of("javame.com")), 100))
+                .extracting(Company::getCompanyDomain)
+                .containsExactly(other.getCompanyDomain());
+        assertThat(companyRepository.findAllByBlindIndexes(
+                Map.of("domain", Set.of("javame.com"), "name", Set.of("javame.com")), 100))
+                .isEmpty();
+        assertThat(companyRepository.findAllByBlindIndexes(Map.of("domain", Set.of("javame")), 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회사 검색 - 결과 수 제한")
+    void findAllByBlindIndexes_Limit() {
+        assertThat(companyRepository.findAllByBlindIndexes(
+                Map.of("name", Set.of("javame", "javame.com")), 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("회사 인덱스 교체 - 지정한 필드의 인덱스만 삭제")
+    void deleteByCompanyNoAndFieldNames() {
+        int deleted = companyIndexRepository.deleteByCompanyNoAndFieldNames(javame.getCompanyNo(), Set.of("name"));
+        entityManager.persist(CompanyIndex.of(javame.getCompanyNo(), "name", "javame renamed"));
+        entityManager.flush();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(companyRepository.findByBlindIndex("javame", "name")).isEmpty();
+        assertThat(companyRepository.findByBlindIndex("javame renamed", "name")).isPresent();
+        assertThat(companyRepository.findByBlindIndex("javame.com", "domain")).isPresent();
+    }
+}
@@ -0,0 +1,193 @@
+package com.nhnacademy.company.service;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.event.CompanyDomainChangedEvent;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
+class CompanyDomainResolverTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CompanyDomainResolver resolver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Company javame;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+
+        javame = company("javame.com");
+        entityManager.persist(javame);
+        entityManager.persist(CompanyIndex.of(javame.getCompanyNo(), "domain", "javame.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // 이전 테스트의 매핑을 지우고 현재 데이터로 다시 생성
+        resolver.refresh();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private static Company company(String domain) {
+        return Company.ofNewCompany(domain, domain,
+                "company@" + domain, "010-1234-5678", "광주");
+    }
+
+    @Test
+    @DisplayName("기동 시 만든 매핑으로 인덱스 조회 없이 PK와 활성 여부를 반환")
+    void resolve_FromWarmMapping() {
+        assertThat(resolver.resolve("javame.com"))
+                .contains(new CompanyDomainResolver.ResolvedCompany(javame.getCompanyNo(), true));
+        // 회사 번호 확인은 JdbcTemplate 의 PK 조회 한 번이며, 인덱스 조인(JPA) 쿼리는 없음
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("매핑의 회사 번호가 없는 회사면 매핑을 지우고 인덱스로 다시 조회")
+    void resolve_StaleMappingFallsBack() {
+        resolver.onCompanyChanged(new CompanyDomainChangedEvent("javame.com", -1L, true));
+
+        assertThat(resolver.resolve("javame.com"))
+                .map(CompanyDomainResolver.ResolvedCompany::companyNo)
+                .contains(javame.getCompanyNo());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 바뀐 활성 여부를 조회 시 반영")
+    void resolve_RefreshesActive() {
+        jdbcTemplate.update("UPDATE companies SET is_active = FALSE WHERE company_no = ?", javame.getCompanyNo());
+
+        assertThat(resolver.resolve("javame.com"))
+                .map(CompanyDomainResolver.ResolvedCompany::active)
+                .contains(false);
+    }
+
+    @Test
+    @DisplayName("매핑에 없으면 DB에서 찾아 커밋 이후에 추가하고, 이후에는 인덱스 조회 없음")
+    void resolve_MissLoadsOnce() {
+        Company added = company("added.com");
+        entityManager.persist(added);
+        entityManager.persist(CompanyIndex.of(added.getCompanyNo(), "domain", "added.com"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(resolver.resolve("added.com"))
+                .map(CompanyDomainResolver.ResolvedCompany::companyNo)
+                .contains(added.getCompanyNo());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 커밋 전에는 추가하지 않음
+        statistics.clear();
+        assertThat(resolver.resolve("added.com")).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        statistics.clear();
+        assertThat(resolver.resolve("added.com")).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 찾은 회사는 매핑에 남기지 않음")
+    void resolve_RolledBackNotCached() {
+        Company added = company("added.com");
+        entityManager.persist(added);
+        entityManager.persist(CompanyIndex.of(added.getCompanyNo(), "domain", "added.com"));
+        entityManager.flush();
+        assertThat(resolver.resolve("added.com")).isPresent();
+
+        TestTransaction.end();
+
+        // 롤백으로 회사가 없어졌으므로 새 트랜잭션에서는 찾지 못함
+        TestTransaction.start();
+        assertThat(resolver.resolve("added.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 도메인은 매핑에 남기지 않음")
+    void resolve_UnknownNotCached() {
+        assertThat(resolver.resolve("late.com")).isEmpty();
+
+        Company late = company("late.com");
+        entityManager.persist(late);
+        entityManager.persist(CompanyIndex.of(late.getCompanyNo(), "domain", "late.com"));
+        entityManager.flush();
+
+        assertThat(resolver.resolve("late.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("등록/활성 여부 변경 이벤트를 매핑에 반영")
+    void onCompanyChanged_UpdatesMapping() {
+        // 인덱스 없이 이벤트로만 매핑에 들어간 회사
+        Company registered = company("registered.com");
+        entityManager.persist(registered);
+        entityManager.flush();
+        statistics.clear();
+
+        resolver.onCompanyChanged(new CompanyDomainChangedEvent("registered.com", registered.getCompanyNo(), true));
+
+        assertThat(resolver.resolve("registered.com"))
+                .contains(new CompanyDomainResolver.ResolvedCompany(registered.getCompanyNo(), true));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("키 교체로 도메인 암호문이 바뀌어도 회사 번호로 쿼리 한 번에 조회")
+    void findCompany_AfterDomainRotated() {
+        jdbcTemplate.update("UPDATE companies SET company_domain = ? WHERE company_no = ?",
+                "rotated-domain", javame.getCompanyNo());
+        statistics.clear();
+
+        assertThat(resolver.findCompany("javame.com"))
+                .map(Company::getCompanyDomain)
+                .contains(EncryptedValue.fromCiphertext("rotated-domain"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("매핑이 낡아 PK로 찾지 못하면 인덱스로 다시 조회해 매핑을 고침")
+    void findCompany_StaleMappingFallsBack() {
+        resolver.onCompanyChanged(new CompanyDomainChangedEvent("javame.com", -1L, true));
+
+        assertThat(resolver.findCompany("javame.com"))
+                .map(Company::getCompanyDomain)
+                .contains(javame.getCompanyDomain());
+        assertThat(resolver.resolve("javame.com"))
+                .map(CompanyDomainResolver.ResolvedCompany::companyNo)
+                .contains(javame.getCompanyNo());
+    }
+}
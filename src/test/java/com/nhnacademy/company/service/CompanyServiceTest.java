@@ -1,15 +1,19 @@
 package com.nhnacademy.company.service;
 
+import com.nhnacademy.common.bloom.BlindIndexBloomFilter;
 import com.nhnacademy.common.util.AESUtil;
-import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
 import com.nhnacademy.company.common.AlreadyExistCompanyException;
 import com.nhnacademy.company.common.NotExistCompanyException;
 import com.nhnacademy.company.domain.Company;
 import com.nhnacademy.company.domain.CompanyIndex;
 import com.nhnacademy.company.dto.request.CompanyRegisterRequest;
+import com.nhnacademy.company.dto.request.CompanySearchRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateEmailRequest;
 import com.nhnacademy.company.dto.request.CompanyUpdateRequest;
 import com.nhnacademy.company.dto.response.CompanyResponse;
+import com.nhnacademy.company.event.CompanyDeactivatedEvent;
+import com.nhnacademy.company.event.CompanyDomainChangedEvent;
 import com.nhnacademy.company.repository.CompanyIndexRepository;
 import com.nhnacademy.company.repository.CompanyRepository;
 import com.nhnacademy.company.service.impl.CompanyServiceImpl;
@@ -23,11 +27,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,6 +50,15 @@ class CompanyServiceTest {
     @Mock
     private CompanyIndexRepository companyIndexRepository;
 
+    @Mock
+    private BlindIndexBloomFilter blindIndexBloomFilter;
+
+    @Mock
+    private CompanyDomainResolver companyDomainResolver;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks // 테스트 대상 서비스 (CompanyRepository Mock 주입)
     private CompanyServiceImpl companyService; // 실제 구현 클래스명으로
 
@@ -55,6 +71,9 @@ class CompanyServiceTest {
     void setUp() {
         ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
         ReflectionTestUtils.setField(AESUtil.class, "secretKey", "B3db/0BCMBBUcafzUryeTA==");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        // Bloom 필터는 항상 "있을 수도 있음"으로 응답해 기존처럼 DB 조회 결과로 판단
+        lenient().when(blindIndexBloomFilter.mightContain(any(), any())).thenReturn(true);
 
         ReflectionTestUtils.setField(companyService, "ownerRoleId", "ROLE_OWNER");
 
@@ -91,14 +110,15 @@ class CompanyServiceTest {
     @DisplayName("회사 등록 성공")
     void registerCompany_success() {
         Company testCompany = Company.ofNewCompany(
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyDomain()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyName()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyEmail()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyMobile()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyAddress())
+                companyRegisterRequestA.getCompanyDomain(),
+                companyRegisterRequestA.getCompanyName(),
+                companyRegisterRequestA.getCompanyEmail(),
+                companyRegisterRequestA.getCompanyMobile(),
+                companyRegisterRequestA.getCompanyAddress()
         );
+        ReflectionTestUtils.setField(testCompany, "companyNo", 1L);
 
-        when(companyIndexRepository.existsByHashValueAndFieldName(Mockito.any(), Mockito.anyString()))
+        when(companyIndexRepository.existsByBlindIndex(Mockito.any(), Mockito.anyString()))
                 .thenReturn(false);
         when(companyRepository.save(any(Company.class)))
                 .thenReturn(testCompany);
@@ -118,17 +138,47 @@ class CompanyServiceTest {
         Company saved = captor.getValue();
         System.out.println(">>> 실제 save된 회사 정보: " + saved);
 
-        // 저장된 company가 암호화된 값인지 확인도 가능
-        assertTrue(saved.getCompanyDomain().startsWith("enc:") || saved.getCompanyDomain().length() > 10);
-        assertNotEquals("testDomain", saved.getCompanyDomain()); // 평문이 아니어야 한다
-        verify(companyIndexRepository, times(1)).saveAll(anyList());
+        // 서비스는 평문을 넘기고 엔티티가 암호화
+        assertThat(saved.getCompanyDomain().plaintext()).isEqualTo(companyRegisterRequestA.getCompanyDomain());
+        assertNotEquals(companyRegisterRequestA.getCompanyDomain(), saved.getCompanyDomain().ciphertext()); // 평문이 아니어야 한다
+        // 연락처/주소는 GCM 으로 암호화
+        assertThat(saved.getCompanyMobile().ciphertext()).startsWith("g");
+        assertThat(saved.getCompanyAddress().ciphertext()).startsWith("g");
+        // 인덱스는 저장된 회사의 번호를 참조
+        ArgumentCaptor<List<CompanyIndex>> indexCaptor = ArgumentCaptor.captor();
+        verify(companyIndexRepository, times(1)).saveAll(indexCaptor.capture());
+        assertThat(indexCaptor.getValue()).hasSize(5).allMatch(index -> index.getCompanyNo() == 1L);
+        // 커밋 후 도메인 매핑에 추가되도록 이벤트 발행
+        verify(eventPublisher).publishEvent(new CompanyDomainChangedEvent(
+                companyRegisterRequestA.getCompanyDomain(), 1L, testCompany.isActive()));
+    }
+
+    @Test
+    @DisplayName("회사 등록 - 이메일을 입력하지 않으면 저장하지 않고 인덱스도 만들지 않음")
+    void registerCompany_WithoutEmail() {
+        when(companyIndexRepository.existsByBlindIndex(Mockito.any(), Mockito.anyString())).thenReturn(false);
+        when(companyRepository.save(any(Company.class))).thenAnswer(invocation -> {
+            Company company = invocation.getArgument(0);
+            ReflectionTestUtils.setField(company, "companyNo", 1L);
+            return company;
+        });
+
+        CompanyResponse response = companyService.registerCompany(new CompanyRegisterRequest(
+                "nhnacademy.com", "NHN Academy", " ", "031-123-4567", "Bundang, Seongnam"));
+
+        assertThat(response.getCompanyEmail()).isNull();
+        ArgumentCaptor<List<CompanyIndex>> indexCaptor = ArgumentCaptor.captor();
+        verify(companyIndexRepository).saveAll(indexCaptor.capture());
+        assertThat(indexCaptor.getValue()).extracting(CompanyIndex::getFieldName)
+                .containsExactly("domain", "name", "mobile", "address");
+        verify(blindIndexBloomFilter, times(4)).put(eq(BlindIndexBloomFilter.Target.COMPANY), any());
     }
 
     @Test
     @DisplayName("회사 등록 실패 - 이미 존재하는 회사 도메인")
     void registerCompany_Fail_DomainAlreadyExists() {
         // given
-        when(companyIndexRepository.existsByHashValueAndFieldName(Mockito.any(), Mockito.anyString()))
+        when(companyIndexRepository.existsByBlindIndex(Mockito.any(), Mockito.anyString()))
                 .thenReturn(true);
 
         // when & then
@@ -141,39 +191,31 @@ class CompanyServiceTest {
     @DisplayName("도메인으로 회사 조회 성공")
     void getCompanyByDomain_Success() {
         // given
-        String existingDomain = companyA.getCompanyDomain();
+        String existingDomain = companyA.getCompanyDomain().plaintext();
         Company company = Company.ofNewCompany(
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyDomain()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyName()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyEmail()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyMobile()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyAddress())
-        );
-
-        String hashKey = HashUtil.sha256Hex(existingDomain);
-        CompanyIndex testCompany = new CompanyIndex(
-                hashKey,
-               "domain",
-                AESUtil.encrypt(companyA.getCompanyDomain())
+                companyRegisterRequestA.getCompanyDomain(),
+                companyRegisterRequestA.getCompanyName(),
+                companyRegisterRequestA.getCompanyEmail(),
+                companyRegisterRequestA.getCompanyMobile(),
+                companyRegisterRequestA.getCompanyAddress()
         );
 
-        when(companyIndexRepository.existsByHashValue(Mockito.any())).thenReturn(true);
-        when(companyIndexRepository.findByHashValue(hashKey)).thenReturn(Optional.of(testCompany));
-        when(companyRepository.findById(testCompany.getCompanyDomain())).thenReturn(Optional.of(company));
+        when(companyDomainResolver.findCompany(existingDomain)).thenReturn(Optional.of(company));
         // when
         CompanyResponse foundCompanyResponse = companyService.getCompanyByDomain(existingDomain);
 
         // then
         assertThat(foundCompanyResponse).isNotNull();
-        assertThat(foundCompanyResponse.getCompanyDomain()).isEqualTo(companyA.getCompanyDomain());
-        assertThat(foundCompanyResponse.getCompanyName()).isEqualTo(companyA.getCompanyName());
-        assertThat(foundCompanyResponse.getCompanyEmail()).isEqualTo(companyA.getCompanyEmail());
-        assertThat(foundCompanyResponse.getCompanyMobile()).isEqualTo(companyA.getCompanyMobile());
-        assertThat(foundCompanyResponse.getCompanyAddress()).isEqualTo(companyA.getCompanyAddress());
+        assertThat(foundCompanyResponse.getCompanyDomain()).isEqualTo(companyA.getCompanyDomain().plaintext());
+        assertThat(foundCompanyResponse.getCompanyName()).isEqualTo(companyA.getCompanyName().plaintext());
+        assertThat(foundCompanyResponse.getCompanyEmail()).isEqualTo(companyA.getCompanyEmail().plaintext());
+        assertThat(foundCompanyResponse.getCompanyMobile()).isEqualTo(companyA.getCompanyMobile().plaintext());
+        assertThat(foundCompanyResponse.getCompanyAddress()).isEqualTo(companyA.getCompanyAddress().plaintext());
         assertThat(foundCompanyResponse.isActive()).isEqualTo(companyA.isActive());
         assertThat(foundCompanyResponse.getRegisteredAt()).isEqualTo(companyA.getRegisteredAt());
 
-        verify(companyRepository, times(1)).findById(testCompany.getCompanyDomain());
+        verify(companyDomainResolver, times(1)).findCompany(existingDomain);
+        verify(companyIndexRepository, never()).existsByBlindIndex(anyString(), anyString());
     }
 
     @Test
@@ -181,7 +223,7 @@ class CompanyServiceTest {
     void getCompanyByDomain_Fail_DomainNotFound() {
         // given
         String nonExistingDomain = "nonexisting.com";
-        when(companyIndexRepository.existsByHashValue(HashUtil.sha256Hex(nonExistingDomain))).thenReturn(false);
+        when(companyDomainResolver.findCompany(nonExistingDomain)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> companyService.getCompanyByDomain(nonExistingDomain))
@@ -193,8 +235,8 @@ class CompanyServiceTest {
     @Test
     @DisplayName("도메인으로 회사 조회 실패 - 도메인 값이 없을 때")
     void getCompanyByDomain_Fail_DomainIsNull() {
-        String existingDomain = companyA.getCompanyDomain();
-        when(companyIndexRepository.existsByHashValue(Mockito.any())).thenReturn(true);
+        String existingDomain = companyA.getCompanyDomain().plaintext();
+        when(companyDomainResolver.findCompany(Mockito.anyString())).thenReturn(Optional.empty());
         Assertions.assertThrows(NotExistCompanyException.class,() -> {
             companyService.getCompanyByDomain(existingDomain);
         });
@@ -203,22 +245,15 @@ class CompanyServiceTest {
     @Test
     @DisplayName("회사 정보 수정 성공")
     void updateCompany_Success() {
-        String existingDomain = companyA.getCompanyDomain(); // 수정 대상 회사 도메인
-        String hashKey = HashUtil.sha256Hex(existingDomain);
-        CompanyIndex companyIndex = new CompanyIndex(
-                hashKey,
-                "domain",
-                AESUtil.encrypt(companyA.getCompanyDomain())
-        );
+        String existingDomain = companyA.getCompanyDomain().plaintext(); // 수정 대상 회사 도메인
         Company company = spy(Company.ofNewCompany(
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyDomain()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyName()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyEmail()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyMobile()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyAddress())
+                companyRegisterRequestA.getCompanyDomain(),
+                companyRegisterRequestA.getCompanyName(),
+                companyRegisterRequestA.getCompanyEmail(),
+                companyRegisterRequestA.getCompanyMobile(),
+                companyRegisterRequestA.getCompanyAddress()
         ));
-        when(companyIndexRepository.findByHashValue(hashKey)).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain())).thenReturn(Optional.of(company));
+        when(companyDomainResolver.findCompany(existingDomain)).thenReturn(Optional.of(company));
 
         // when - 서비스 메서드 호출
         CompanyResponse updatedCompanyResponse = companyService.updateCompany(existingDomain, companyUpdateRequestA);
@@ -232,21 +267,51 @@ class CompanyServiceTest {
         assertThat(updatedCompanyResponse.getCompanyMobile()).isEqualTo(companyUpdateRequestA.getCompanyMobile());
         assertThat(updatedCompanyResponse.getCompanyAddress()).isEqualTo(companyUpdateRequestA.getCompanyAddress());
         // Email, isActive, registeredAt은 이 메서드에서 변경되지 않는다고 가정
-        assertThat(updatedCompanyResponse.getCompanyEmail()).isEqualTo(companyA.getCompanyEmail());
+        assertThat(updatedCompanyResponse.getCompanyEmail()).isEqualTo(companyA.getCompanyEmail().plaintext());
         assertThat(updatedCompanyResponse.isActive()).isEqualTo(companyA.isActive());
         assertThat(updatedCompanyResponse.getRegisteredAt()).isEqualTo(companyA.getRegisteredAt());
 
 
-        // 3. spiedCompany 객체의 updateDetails 메서드가 올바른 인자로 호출되었는지 검증
+        // 3. spiedCompany 객체의 updateDetails 메서드가 평문으로 호출되었는지 검증
         verify(company, times(1)).updateDetails(
-                AESUtil.encrypt(companyUpdateRequestA.getCompanyName()),
-                AESUtil.encrypt(companyUpdateRequestA.getCompanyMobile()),
-                AESUtil.encrypt(companyUpdateRequestA.getCompanyAddress())
+                companyUpdateRequestA.getCompanyName(),
+                companyUpdateRequestA.getCompanyMobile(),
+                companyUpdateRequestA.getCompanyAddress()
         );
+        // 연락처/주소는 엔티티가 GCM(매번 다른 IV)으로 암호화
+        assertThat(company.getCompanyMobile().ciphertext()).startsWith("g");
+        assertThat(company.getCompanyAddress().ciphertext()).startsWith("g");
         // 4. JPA 변경 감지로 동작하므로, companyRepository.save()는 호출되지 않음을 확인 (선택적)
         verify(companyRepository, never()).save(any(Company.class));
-        // 5. findById는 1번 호출됨
-        verify(companyRepository, times(1)).findById(companyIndex.getCompanyDomain());
+        // 5. 인덱스 조인 조회는 1번 호출됨
+        verify(companyDomainResolver, times(1)).findCompany(existingDomain);
+        // 6. 바뀐 필드의 검색 인덱스를 교체
+        verify(companyIndexRepository, times(1))
+                .deleteByCompanyNoAndFieldNames(company.getCompanyNo(), Set.of("name", "mobile", "address"));
+        verify(companyIndexRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("회사 정보 수정 - 입력하지 않은 필드는 기존 값과 인덱스를 유지")
+    void updateCompany_PartialUpdate() {
+        String existingDomain = companyA.getCompanyDomain().plaintext();
+        Company company = spy(Company.ofNewCompany(
+                companyRegisterRequestA.getCompanyDomain(),
+                companyRegisterRequestA.getCompanyName(),
+                companyRegisterRequestA.getCompanyEmail(),
+                companyRegisterRequestA.getCompanyMobile(),
+                companyRegisterRequestA.getCompanyAddress()
+        ));
+        when(companyDomainResolver.findCompany(existingDomain)).thenReturn(Optional.of(company));
+
+        CompanyResponse response = companyService.updateCompany(existingDomain,
+                new CompanyUpdateRequest("NHN Academy Corp.", null, " "));
+
+        assertThat(response.getCompanyName()).isEqualTo("NHN Academy Corp.");
+        assertThat(response.getCompanyMobile()).isEqualTo(companyRegisterRequestA.getCompanyMobile());
+        assertThat(response.getCompanyAddress()).isEqualTo(companyRegisterRequestA.getCompanyAddress());
+        verify(company).updateDetails("NHN Academy Corp.", null, " ");
+        verify(companyIndexRepository).deleteByCompanyNoAndFieldNames(company.getCompanyNo(), Set.of("name"));
     }
 
     @Test
@@ -255,7 +320,7 @@ class CompanyServiceTest {
         // given - Mock 설정
         String nonExistingDomain = "nonexisting.com";
         // companyUpdateRequestA는 @BeforeEach setUp()에서 이미 준비됨
-        when(companyIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.empty());
+        when(companyDomainResolver.findCompany(Mockito.any())).thenReturn(Optional.empty());
 
         // when & then - 예외 발생 검증
         assertThatThrownBy(() -> companyService.updateCompany(nonExistingDomain, companyUpdateRequestA))
@@ -263,7 +328,7 @@ class CompanyServiceTest {
                 .hasMessageContaining("회사를 찾을 수 없습니다: 도메인 " + nonExistingDomain);
 
         // then (추가 검증)
-        verify(companyIndexRepository, times(1)).findByHashValue(Mockito.any());
+        verify(companyDomainResolver, times(1)).findCompany(Mockito.any());
         verify(companyRepository, never()).save(any(Company.class));
     }
 
@@ -271,30 +336,21 @@ class CompanyServiceTest {
     @DisplayName("회사 이메일 수정 성공")
     void updateCompanyEmail_Success() {
         // given - 테스트 데이터 및 Mock 설정
-        String existingDomain = companyA.getCompanyDomain();
-        String currentEmail = companyA.getCompanyEmail(); // 현재 회사 이메일
+        String existingDomain = companyA.getCompanyDomain().plaintext();
+        String currentEmail = companyA.getCompanyEmail().plaintext(); // 현재 회사 이메일
         String newEmail = "new_contact@nhnacademy.com";   // 변경할 새 이메일
-        String hashKey = HashUtil.sha256Hex(existingDomain);
-        CompanyIndex companyIndex = new CompanyIndex(
-                hashKey,
-                "domain",
-                AESUtil.encrypt(companyA.getCompanyDomain())
-        );
         Company company = spy(Company.ofNewCompany(
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyDomain()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyName()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyEmail()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyMobile()),
-                AESUtil.encrypt(companyRegisterRequestA.getCompanyAddress())
+                companyRegisterRequestA.getCompanyDomain(),
+                companyRegisterRequestA.getCompanyName(),
+                companyRegisterRequestA.getCompanyEmail(),
+                companyRegisterRequestA.getCompanyMobile(),
+                companyRegisterRequestA.getCompanyAddress()
         ));
 
         CompanyUpdateEmailRequest updateEmailRequest = new CompanyUpdateEmailRequest(currentEmail, newEmail);
 
-        // 1. 현재 이메일로 회사가 존재하는지 확인: findByIndex(AESUtil.encrypt(currentEmail))
-        when(companyIndexRepository.findByHashValue(hashKey)).thenReturn(Optional.of(companyIndex));
-
-        // 2. 도메인으로 회사 조회: findById(existingDomain) -> company 반환 (spy로 감싸서 메서드 호출 검증)
-        when(companyRepository.findById(companyIndex.getCompanyDomain())).thenReturn(Optional.ofNullable(company));
+        // 도메인 인덱스와 회사를 조인해 조회 -> company 반환 (spy로 감싸서 메서드 호출 검증)
+        when(companyDomainResolver.findCompany(existingDomain)).thenReturn(Optional.of(company));
 
         // when - 서비스 메서드 호출
         CompanyResponse updatedCompanyResponse = companyService.updateCompanyEmail(existingDomain, updateEmailRequest);
@@ -304,28 +360,47 @@ class CompanyServiceTest {
         assertThat(updatedCompanyResponse.getCompanyDomain()).isEqualTo(existingDomain);
         assertThat(updatedCompanyResponse.getCompanyEmail()).isEqualTo(newEmail); // 이메일 변경 확인
         // 다른 필드들은 변경되지 않았는지 확인 (예: 회사 이름)
-        assertThat(updatedCompanyResponse.getCompanyName()).isEqualTo(companyA.getCompanyName());
+        assertThat(updatedCompanyResponse.getCompanyName()).isEqualTo(companyA.getCompanyName().plaintext());
 
         // Company 객체의 updateEmail 메서드가 올바른 인자로 호출되었는지 검증
-        verify(company, times(1)).updateEmail(AESUtil.encrypt(newEmail));
+        verify(company, times(1)).updateEmail(newEmail);
         // Mock Repository 메서드 호출 검증
-        verify(companyIndexRepository, times(1)).findByHashValue(hashKey);
-        verify(companyRepository, times(1)).findById(companyIndex.getCompanyDomain());
+        verify(companyDomainResolver, times(1)).findCompany(existingDomain);
         verify(companyRepository, never()).save(any(Company.class)); // 변경 감지로 동작
+        // 이메일 검색 인덱스만 교체
+        verify(companyIndexRepository, times(1))
+                .deleteByCompanyNoAndFieldNames(company.getCompanyNo(), Set.of("email"));
+        verify(companyIndexRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("회사 이메일 수정 실패 - 새 이메일 없음")
+    void updateCompanyEmail_Fail_NewEmailBlank() {
+        String existingDomain = companyA.getCompanyDomain().plaintext();
+
+        assertThatThrownBy(() -> companyService.updateCompanyEmail(existingDomain,
+                new CompanyUpdateEmailRequest(companyA.getCompanyEmail().plaintext(), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> companyService.updateCompanyEmail(existingDomain,
+                new CompanyUpdateEmailRequest(companyA.getCompanyEmail().plaintext(), " ")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(companyDomainResolver, never()).findCompany(any());
+        verify(companyIndexRepository, never()).deleteByCompanyNoAndFieldNames(any(), any());
     }
 
     @Test
     @DisplayName("회사 이메일 수정 실패 - 회사 도메인 없음")
     void updateCompanyEmail_Fail_CurrentEmailNotFound() {
         // given
-        String existingDomain = companyA.getCompanyDomain();
+        String existingDomain = companyA.getCompanyDomain().plaintext();
         String nonExistingCurrentEmail = "non_existing_current@email.com";
         String newEmail = "new@email.com";
 
         CompanyUpdateEmailRequest updateEmailRequest = new CompanyUpdateEmailRequest(nonExistingCurrentEmail, newEmail);
 
         // 현재 이메일로 회사가 존재하지 않음: existsByCompanyEmail(nonExistingCurrentEmail) -> false
-        when(companyIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.empty());
+        when(companyDomainResolver.findCompany(Mockito.any())).thenReturn(Optional.empty());
 
         // when & then - 예외 발생 검증
         Assertions.assertThrows(NotExistCompanyException.class, ()->{
@@ -333,9 +408,8 @@ class CompanyServiceTest {
         });
 
         // Mock Repository 메서드 호출 검증
-        verify(companyIndexRepository, times(1)).findByHashValue(Mockito.any());
-        verify(companyRepository, never()).findById(anyString()); // findById는 호출되지 않아야 함
-        verify(companyRepository, never()).save(any(Company.class));
+        verify(companyDomainResolver, times(1)).findCompany(Mockito.any());
+                verify(companyRepository, never()).save(any(Company.class));
     }
 
 
@@ -344,22 +418,15 @@ class CompanyServiceTest {
     @DisplayName("회사 비활성화 성공")
     void deactivateCompany_Success() {
         // given
-        String existingDomain = companyA.getCompanyDomain();
-        String hashKey = HashUtil.sha256Hex(existingDomain);
-        CompanyIndex companyIndex = new CompanyIndex(
-                hashKey,
-                "domain",
-                AESUtil.encrypt(companyA.getCompanyDomain())
-        );
+        String existingDomain = companyA.getCompanyDomain().plaintext();
         Company company = spy(Company.ofNewCompany(
-                AESUtil.encrypt(companyA.getCompanyDomain()),
-                AESUtil.encrypt(companyA.getCompanyName()),
-                AESUtil.encrypt(companyA.getCompanyEmail()),
-                AESUtil.encrypt(companyA.getCompanyMobile()),
-                AESUtil.encrypt(companyA.getCompanyAddress())
+                companyA.getCompanyDomain().plaintext(),
+                companyA.getCompanyName().plaintext(),
+                companyA.getCompanyEmail().plaintext(),
+                companyA.getCompanyMobile().plaintext(),
+                companyA.getCompanyAddress().plaintext()
         ));
-        when(companyIndexRepository.findByHashValue(hashKey)).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain())).thenReturn(Optional.of(company));
+        when(companyDomainResolver.findCompany(existingDomain)).thenReturn(Optional.of(company));
 
         // when
         companyService.deactivateCompany(existingDomain);
@@ -368,8 +435,10 @@ class CompanyServiceTest {
         verify(company, times(1)).deactivate(); // Company의 deactivate 메서드 호출 검증
         // 실제 spiedCompanyA 객체의 active 상태가 false로 변경되었는지 확인 가능 (spy는 실제 객체 기반)
         assertThat(company.isActive()).isFalse();
-        verify(companyRepository, times(1)).findById(companyIndex.getCompanyDomain());
+        verify(companyDomainResolver, times(1)).findCompany(existingDomain);
         verify(companyRepository, never()).save(any(Company.class)); // 변경 감지로 동작
+        verify(eventPublisher).publishEvent(new CompanyDomainChangedEvent(existingDomain, company.getCompanyNo(), false));
+        verify(eventPublisher).publishEvent(any(CompanyDeactivatedEvent.class));
     }
 
     @Test
@@ -377,40 +446,33 @@ class CompanyServiceTest {
     void deactivateCompany_Fail_DomainNotFound() {
         // given
         String nonExistingDomain = "nonexisting.com";
-        when(companyIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.empty());
+        when(companyDomainResolver.findCompany(Mockito.any())).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> companyService.deactivateCompany(nonExistingDomain))
                 .isInstanceOf(NotExistCompanyException.class)
                 .hasMessageContaining("회사를 찾을 수 없습니다: 도메인 " + nonExistingDomain);
 
-        verify(companyIndexRepository, times(1)).findByHashValue(Mockito.any());
+        verify(companyDomainResolver, times(1)).findCompany(Mockito.any());
     }
 
     @Test
     @DisplayName("회사 활성화 성공")
     void activateCompany_Success() {
         // given
-        String existingDomain = companyA.getCompanyDomain();
+        String existingDomain = companyA.getCompanyDomain().plaintext();
         // 테스트를 위해 초기 상태를 비활성으로 만듦
         companyA.deactivate(); // companyA는 이제 active=false 상태
         assertThat(companyA.isActive()).isFalse(); // 초기 상태 확인
 
-        String hashKey = HashUtil.sha256Hex(existingDomain);
-        CompanyIndex companyIndex = new CompanyIndex(
-                hashKey,
-                "domain",
-                AESUtil.encrypt(companyA.getCompanyDomain())
-        );
         Company company = spy(Company.ofNewCompany(
-                AESUtil.encrypt(companyA.getCompanyDomain()),
-                AESUtil.encrypt(companyA.getCompanyName()),
-                AESUtil.encrypt(companyA.getCompanyEmail()),
-                AESUtil.encrypt(companyA.getCompanyMobile()),
-                AESUtil.encrypt(companyA.getCompanyAddress())
+                companyA.getCompanyDomain().plaintext(),
+                companyA.getCompanyName().plaintext(),
+                companyA.getCompanyEmail().plaintext(),
+                companyA.getCompanyMobile().plaintext(),
+                companyA.getCompanyAddress().plaintext()
         ));
-        when(companyIndexRepository.findByHashValue(hashKey)).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain())).thenReturn(Optional.of(company));
+        when(companyDomainResolver.findCompany(existingDomain)).thenReturn(Optional.of(company));
 
 
         // when
@@ -419,7 +481,8 @@ class CompanyServiceTest {
         // then
         verify(company, times(1)).activate(); // Company의 activate 메서드 호출 검증
         assertThat(company.isActive()).isTrue(); // 상태가 true로 변경되었는지 확인
-        verify(companyRepository, times(1)).findById(companyIndex.getCompanyDomain());
+        verify(companyDomainResolver, times(1)).findCompany(existingDomain);
+        verify(eventPublisher).publishEvent(new CompanyDomainChangedEvent(existingDomain, company.getCompanyNo(), true));
         verify(companyRepository, never()).save(any(Company.class));
     }
 
@@ -428,15 +491,14 @@ class CompanyServiceTest {
     void activateCompany_Fail_DomainNotFound() {
         // given
         String nonExistingDomain = "nonexisting.com";
-        String hashKey = HashUtil.sha256Hex(nonExistingDomain);
-        when(companyIndexRepository.findByHashValue(hashKey)).thenReturn(Optional.empty());
+        when(companyDomainResolver.findCompany(nonExistingDomain)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> companyService.activateCompany(nonExistingDomain))
                 .isInstanceOf(NotExistCompanyException.class)
                 .hasMessageContaining("회사를 찾을 수 없습니다: 도메인 " + nonExistingDomain);
 
-        verify(companyIndexRepository, times(1)).findByHashValue(hashKey);
+        verify(companyDomainResolver, times(1)).findCompany(nonExistingDomain);
     }
 
     @Test
@@ -449,19 +511,19 @@ class CompanyServiceTest {
         String bMobile = "111-222-3333";
         String bAddress = "Mountain View";
         Company companyB = Company.ofNewCompany(
-                AESUtil.encrypt(bDomain),
-                AESUtil.encrypt(bName),
-                AESUtil.encrypt(bEmail),
-                AESUtil.encrypt(bMobile),
-                AESUtil.encrypt(bAddress)
+                bDomain,
+                bName,
+                bEmail,
+                bMobile,
+                bAddress
         );
 
         Company companyC = Company.ofNewCompany(
-                AESUtil.encrypt(companyA.getCompanyDomain()),
-                AESUtil.encrypt(companyA.getCompanyName()),
-                AESUtil.encrypt(companyA.getCompanyEmail()),
-                AESUtil.encrypt(companyA.getCompanyMobile()),
-                AESUtil.encrypt(companyA.getCompanyAddress())
+                companyA.getCompanyDomain().plaintext(),
+                companyA.getCompanyName().plaintext(),
+                companyA.getCompanyEmail().plaintext(),
+                companyA.getCompanyMobile().plaintext(),
+                companyA.getCompanyAddress().plaintext()
         );
         when(companyRepository.findAll()).thenReturn(List.of(companyC, companyB));
 
@@ -472,7 +534,7 @@ class CompanyServiceTest {
         assertThat(companyResponses).isNotNull();
         assertThat(companyResponses).hasSize(2);
         assertThat(companyResponses).extracting(CompanyResponse::getCompanyDomain)
-                .containsExactlyInAnyOrder(AESUtil.decrypt(companyC.getCompanyDomain()), AESUtil.decrypt(companyB.getCompanyDomain()));
+                .containsExactlyInAnyOrder(companyC.getCompanyDomain().plaintext(), companyB.getCompanyDomain().plaintext());
         // 필요시 다른 필드들도 검증
 
         verify(companyRepository, times(1)).findAll();
@@ -493,4 +555,52 @@ class CompanyServiceTest {
 
         verify(companyRepository, times(1)).findAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회사 검색 - 빈 값과 중복 값을 제외한 필드별 조건으로 조회")
+    void searchCompanies_Success() {
+        ReflectionTestUtils.setField(companyService, "searchMaxValues", 10);
+        ReflectionTestUtils.setField(companyService, "searchMaxResults", 50);
+        Company company = Company.ofNewCompany(
+                companyRegisterRequestA.getCompanyDomain(),
+                companyRegisterRequestA.getCompanyName(),
+                companyRegisterRequestA.getCompanyEmail(),
+                companyRegisterRequestA.getCompanyMobile(),
+                companyRegisterRequestA.getCompanyAddress()
+        );
+        when(companyRepository.findAllByBlindIndexes(anyMap(), eq(50))).thenReturn(List.of(company));
+
+        CompanySearchRequest request = new CompanySearchRequest(
+                List.of("NHN Academy", "NHN Academy", " "), null, List.of(), List.of("Bundang, Seongnam"));
+        List<CompanyResponse> responses = companyService.searchCompanies(request);
+
+        assertThat(responses).extracting(CompanyResponse::getCompanyDomain)
+                .containsExactly(companyRegisterRequestA.getCompanyDomain());
+        verify(companyRepository).findAllByBlindIndexes(
+                Map.of("name", Set.of("NHN Academy"), "address", Set.of("Bundang, Seongnam")), 50);
+        verify(companyRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("회사 검색 실패 - 검색할 값 없음")
+    void searchCompanies_Fail_NoCriteria() {
+        CompanySearchRequest request = new CompanySearchRequest(List.of(""), null, null, null);
+
+        assertThatThrownBy(() -> companyService.searchCompanies(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    @DisplayName("회사 검색 실패 - 값 수 제한 초과")
+    void searchCompanies_Fail_TooManyValues() {
+        ReflectionTestUtils.setField(companyService, "searchMaxValues", 2);
+        CompanySearchRequest request = new CompanySearchRequest(
+                List.of("a", "b"), List.of("c@test.com"), null, null);
+
+        assertThatThrownBy(() -> companyService.searchCompanies(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 2개");
+        verifyNoInteractions(companyRepository);
+    }
+}
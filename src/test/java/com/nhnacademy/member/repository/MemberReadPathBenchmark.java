@@ -0,0 +1,132 @@
+package com.nhnacademy.member.repository;
+
+import com.nhnacademy.JavameMemberApiApplication;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.member.domain.MemberIndex;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.role.domain.Role;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /members/me}의 회원 조회 경로를 비교하는 JMH 벤치마크입니다. (H2, test 프로필)
+ * <ul>
+ *     <li>{@code entity}: 이전 경로. {@link CustomMemberRepository#findByBlindIndex(String, String)}로
+ *     관리 엔티티(스냅샷, 역할 프록시 포함)를 만든 뒤 응답 DTO 로 옮김</li>
+ *     <li>{@code projection}: {@link CustomMemberRepository#findMemberResponseByEmail(String)}로 응답 컬럼만 조회</li>
+ *     <li>{@code loginInfo}: 로그인 정보 프로젝션 ({@link CustomMemberRepository#findLoginInfoByEmail(String)})</li>
+ * </ul>
+ * 각 연산은 서비스와 같이 읽기 전용 트랜잭션 하나에서 실행합니다.
+ * main 메서드로 실행하면 {@link GCProfiler}가 함께 붙어 연산당 할당 바이트도 보고합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberReadPathBenchmark {
+
+    private static final String EMAIL = "bench@javame.com";
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JavameMemberApiApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+
+        memberRepository = context.getBean(MemberRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            Company company = Company.ofNewCompany("javame.com", "javame",
+                    "company@javame.com", "010-1234-5678", "광주");
+            Role role = new Role("ROLE_USER", "USER", "기본 유저");
+            entityManager.persist(company);
+            entityManager.persist(role);
+            entityManager.persist(CompanyIndex.of(company.getCompanyNo(), "domain", "javame.com"));
+            Member member = Member.ofNewMember(company, role, EMAIL, "encoded-password");
+            entityManager.persist(member);
+            entityManager.persist(MemberIndex.of(member.getMemberNo(), "email", EMAIL));
+        });
+
+        readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberResponse entity() {
+        return readOnlyTransaction.execute(status -> {
+            Member member = memberRepository.findByBlindIndex(EMAIL, "email").orElseThrow();
+            return MemberResponse.builder()
+                    .memberNo(member.getMemberNo())
+                    .memberEmail(member.getMemberEmail())
+                    .companyDomain(member.getCompany().getCompanyDomain())
+                    .roleId(member.getRole().getRoleId())
+                    .registerAt(member.getRegisteredAt())
+                    .lastLoginAt(member.getLastLoginAt())
+                    .version(member.getVersion())
+                    .build();
+        });
+    }
+
+    @Benchmark
+    public MemberResponse projection() {
+        return readOnlyTransaction.execute(status -> memberRepository.findMemberResponseByEmail(EMAIL).orElseThrow());
+    }
+
+    @Benchmark
+    public CustomMemberRepository.MemberLoginInfo loginInfo() {
+        return readOnlyTransaction.execute(status -> memberRepository.findLoginInfoByEmail(EMAIL).orElseThrow());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MemberReadPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -1,7 +1,10 @@
 package com.nhnacademy.member.repository;
 
 import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.crypto.EncryptedValue;
+import com.nhnacademy.common.util.AESUtil;
 import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.service.CompanyDomainResolver;
 import com.nhnacademy.member.domain.Member;
 import com.nhnacademy.role.domain.Role;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,7 +28,7 @@ import static org.assertj.core.api.Assertions.*;
 @Slf4j
 @ActiveProfiles("test")
 @DataJpaTest
-@Import({QueryDslConfig.class})
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
 /**
  * MemberRepositoryTest는 MemberRepository의 CRUD 기능을 테스트하는 클래스입니다.
  * @see MemberRepository
@@ -47,6 +51,10 @@ class MemberRepositoryTest {
 
     @BeforeEach
     void setUp() {
+        // 엔티티가 생성 시 암호화하므로 키 설정
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+
         // 1. 회사 생성
         company = Company.ofNewCompany(
                 "javame.com",
@@ -97,7 +105,7 @@ class MemberRepositoryTest {
         assertThat(savedMember.getMemberNo()).isNotNull();
 
         assertThat(savedMember.getMemberEmail()).isNotNull();
-        assertThat(savedMember.getMemberEmail()).isEqualTo("new@test.com");
+        assertThat(savedMember.getMemberEmail().plaintext()).isEqualTo("new@test.com");
         log.info("새로 저장된 멤버 ID: {}", savedMember.getMemberNo());
 
     }
@@ -117,7 +125,7 @@ class MemberRepositoryTest {
         Optional<Member> foundMember = memberRepository.findById(savedMemberId);
         assertThat(foundMember).isPresent();
         assertThat(foundMember.get()).isEqualTo(savedMember);
-        assertThat(foundMember.get().getMemberEmail()).isEqualTo("another@test.com");
+        assertThat(foundMember.get().getMemberEmail().plaintext()).isEqualTo("another@test.com");
         log.info("저장된 멤버 ID: {}", savedMemberId);
         log.info("조회된 멤버 ID: {}", foundMember.get().getMemberNo());
     }
@@ -155,6 +163,26 @@ class MemberRepositoryTest {
         assertThat(updatedMember.getMemberPassword()).isEqualTo(newPassword);
     }
 
+    @Test
+    @DisplayName("멤버 업데이트 - 읽은 뒤 다른 곳에서 버전을 올려도 증가분이 사라지지 않음")
+    void updateMember_VersionIncrementedInSql() {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Member foundMember = testEntityManager.find(Member.class, memberUser.getMemberNo());
+
+        // 로그인 시각 지연 저장처럼 엔티티를 거치지 않는 갱신
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE members SET version = version + 1 WHERE member_no = ?")
+                .setParameter(1, memberUser.getMemberNo())
+                .executeUpdate();
+        foundMember.changePassword("newpassword123");
+        testEntityManager.flush();
+
+        assertThat(foundMember.getVersion()).isEqualTo(2L);
+        testEntityManager.clear();
+        assertThat(testEntityManager.find(Member.class, memberUser.getMemberNo()).getVersion()).isEqualTo(2L);
+    }
+
     @Test
     @DisplayName("멤버 삭제")
     void deleteMember() {
@@ -179,7 +207,7 @@ class MemberRepositoryTest {
         // when & then: 존재하는 이메일과 존재하지 않는 이메일로 체크
         assertThat(memberRepository.existsByMemberEmail(memberUser.getMemberEmail())).isTrue();
         assertThat(memberRepository.existsByMemberEmail(memberAdmin.getMemberEmail())).isTrue();
-        assertThat(memberRepository.existsByMemberEmail("nonexistent@test.com")).isFalse();
+        assertThat(memberRepository.existsByMemberEmail(EncryptedValue.of("nonexistent@test.com"))).isFalse();
     }
 
     @Test
@@ -191,7 +219,7 @@ class MemberRepositoryTest {
         Optional<Member> foundUserOpt = memberRepository.findByMemberEmail(memberUser.getMemberEmail());
         Optional<Member> foundAdminOpt = memberRepository.findByMemberEmail(memberAdmin.getMemberEmail());
         Optional<Member> foundOwnerOpt = memberRepository.findByMemberEmail(memberOwner.getMemberEmail());
-        Optional<Member> notFoundOpt = memberRepository.findByMemberEmail("nonexistent@test.com");
+        Optional<Member> notFoundOpt = memberRepository.findByMemberEmail(EncryptedValue.of("nonexistent@test.com"));
 
         // then: 각 조회가 성공하고, 해당 멤버 정보가 맞는지 확인
         assertThat(foundUserOpt).isPresent();
@@ -239,14 +267,17 @@ class MemberRepositoryTest {
         List<Member> userMembers = memberRepository.findByCompanyAndRole(company, roleUser);
         List<Member> adminMembers = memberRepository.findByCompanyAndRole(company, roleAdmin);
         List<Member> ownerMembers = memberRepository.findByCompanyAndRole(company, roleOwner);
-        List<Member> adminMembersInDifferentCompany = memberRepository.findByCompanyAndRole(
-                Company.ofNewCompany(
+        // 다른 회사도 저장해야 company_no 로 비교할 수 있음
+        Company differentCompany = Company.ofNewCompany(
                 "Example.com",
                 "Example",
                 "example@example.com",
                 "010-9999-9999",
                 "Example Address"
-                ), roleAdmin);
+        );
+        testEntityManager.persist(differentCompany);
+        List<Member> adminMembersInDifferentCompany = memberRepository.findByCompanyAndRole(
+                differentCompany, roleAdmin);
 
         // then: 각 역할별 조회 결과가 예상과 일치하는지 확인
         assertThat(userMembers).hasSize(1);
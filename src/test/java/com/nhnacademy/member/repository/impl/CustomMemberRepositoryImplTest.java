@@ -1,21 +1,46 @@
 package com.nhnacademy.member.repository.impl;
 
 import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.company.common.NotExistCompanyException;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.domain.CompanyIndex;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.member.domain.MemberIndex;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.repository.CustomMemberRepository;
 import com.nhnacademy.member.repository.MemberRepository;
+import com.nhnacademy.role.domain.Role;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QueryDslConfig.class})
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
 class CustomMemberRepositoryImplTest {
 
     @Autowired
@@ -24,12 +49,275 @@ class CustomMemberRepositoryImplTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private CompanyDomainResolver companyDomainResolver;
+
+    private Statistics statistics;
+    private Member member;
+    private Member withdrawn;
+
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
+        // 도메인 매핑은 테스트 메서드 사이에 공유되므로, 롤백된 이전 테스트의 회사 번호가 남지 않도록 비움
+        ReflectionTestUtils.invokeMethod(companyDomainResolver, "refresh");
+
+        Company company = Company.ofNewCompany("javame.com", "javame",
+                "company@javame.com", "010-1234-5678", "광주");
+        Role role = new Role("ROLE_USER", "USER", "기본 유저");
+        entityManager.persist(company);
+        entityManager.persist(role);
+
+        member = Member.ofNewMember(company, role, "user@javame.com", "encoded-password");
+        withdrawn = Member.ofNewMember(company, role, "withdrawn@javame.com", "encoded-password");
+        ReflectionTestUtils.setField(withdrawn, "withdrawalAt", LocalDateTime.now());
+        entityManager.persist(member);
+        entityManager.persist(withdrawn);
+        entityManager.persist(MemberIndex.of(member.getMemberNo(), "email", "user@javame.com"));
+        entityManager.persist(MemberIndex.of(withdrawn.getMemberNo(), "email", "withdrawn@javame.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", true);
     }
 
     @Test
-    @DisplayName("회사 도메인의 멤버 조회")
+    @DisplayName("회사 도메인의 멤버 조회 - 도메인 매핑 이후에는 인덱스 조회 없이 (회사 번호 확인 후) 목록/개수 쿼리만 실행")
     void findMembersFromCompanyDomain() {
+        entityManager.persist(CompanyIndex.of(member.getCompany().getCompanyNo(), "domain", "javame.com"));
+        entityManager.flush();
+        entityManager.clear();
+        // 기동 시와 같이 도메인 -> PK 매핑을 채움 (조회로 찾은 값은 커밋 이후에만 추가되므로)
+        ReflectionTestUtils.invokeMethod(companyDomainResolver, "refresh");
+        statistics.clear();
+
+        Page<MemberResponse> page = memberRepository.findMembersFromCompanyDomain("javame.com", PageRequest.of(0, 10), false);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent())
+                .extracting(MemberResponse::getMemberNo)
+                .containsExactlyInAnyOrder(member.getMemberNo(), withdrawn.getMemberNo());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회원 목록 버전 - 회원 정보가 바뀌면 버전 합계가 바뀜")
+    void findMemberListVersion() {
+        entityManager.persist(CompanyIndex.of(member.getCompany().getCompanyNo(), "domain", "javame.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        CustomMemberRepository.MemberListVersion before = memberRepository.findMemberListVersion("javame.com", false);
+        entityManager.find(Member.class, member.getMemberNo()).updateLastLoginTime();
+        entityManager.flush();
+        entityManager.clear();
+        CustomMemberRepository.MemberListVersion after = memberRepository.findMemberListVersion("javame.com", false);
+
+        long memberNoSum = member.getMemberNo() + withdrawn.getMemberNo();
+        assertThat(before).isEqualTo(new CustomMemberRepository.MemberListVersion(2L, 0L, memberNoSum));
+        assertThat(after).isEqualTo(new CustomMemberRepository.MemberListVersion(2L, 1L, memberNoSum));
+        assertThat(memberRepository.findMemberListVersion("javame.com", true))
+                .isEqualTo(new CustomMemberRepository.MemberListVersion(0L, 0L, 0L));
+    }
+
+    @Test
+    @DisplayName("회원 목록 버전 - 승인 대기 회원이 승인되면서 새 회원이 가입해도 버전이 바뀜")
+    void findMemberListVersion_ApprovalAndRegistration() {
+        Role pending = new Role("ROLE_PENDING", "PENDING", "승인 대기");
+        entityManager.persist(pending);
+        Company company = entityManager.find(Company.class, member.getCompany().getCompanyNo());
+        Member approved = Member.ofNewMember(company, pending, "approved@javame.com", "encoded-password");
+        entityManager.persist(approved);
+        entityManager.persist(CompanyIndex.of(company.getCompanyNo(), "domain", "javame.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        CustomMemberRepository.MemberListVersion before = memberRepository.findMemberListVersion("javame.com", true);
+        // 승인으로 목록에서 빠지고 (버전 0 -> 1), 같은 버전 0 인 새 대기 회원이 들어옴
+        entityManager.find(Member.class, approved.getMemberNo())
+                .updateRole(entityManager.find(Role.class, "ROLE_USER"));
+        entityManager.persist(Member.ofNewMember(entityManager.find(Company.class, company.getCompanyNo()),
+                entityManager.find(Role.class, "ROLE_PENDING"), "joined@javame.com", "encoded-password"));
+        entityManager.flush();
+        entityManager.clear();
+        CustomMemberRepository.MemberListVersion after = memberRepository.findMemberListVersion("javame.com", true);
+
+        assertThat(after.count()).isEqualTo(before.count());
+        assertThat(after.versionSum()).isEqualTo(before.versionSum());
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("회사 도메인의 멤버 조회 - 등록되지 않은 도메인")
+    void findMembersFromCompanyDomain_NotExist() {
+        assertThatThrownBy(() -> memberRepository.findMembersFromCompanyDomain("none.com", PageRequest.of(0, 10), false))
+                .isInstanceOf(NotExistCompanyException.class);
+    }
+
+    @Test
+    @DisplayName("토큰으로 회원 조회 - 모든 토큰을 가진 같은 회사 회원만 쿼리 한 번으로 조회")
+    void findMembersByTokens_Intersection() {
+        Company company = member.getCompany();
+        Company other = Company.ofNewCompany("other.com", "other",
+                "company@other.com", "010-1234-5678", "광주");
+        entityManager.persist(other);
+        Member outsider = Member.ofNewMember(other, entityManager.find(Role.class, "ROLE_USER"),
+                "user@other.com", "encoded-password");
+        entityManager.persist(outsider);
+        entityManager.persist(CompanyIndex.of(company.getCompanyNo(), "domain", "javame.com"));
+
+        byte[] use = BlindIndexUtil.hash("email_ngram:use");
+        byte[] ser = BlindIndexUtil.hash("email_ngram:ser");
+        entityManager.persist(new MemberIndex(member.getMemberNo(), "email_ngram", use, null));
+        entityManager.persist(new MemberIndex(member.getMemberNo(), "email_ngram", ser, null));
+        entityManager.persist(new MemberIndex(withdrawn.getMemberNo(), "email_ngram", use, null));
+        entityManager.persist(new MemberIndex(outsider.getMemberNo(), "email_ngram", use, null));
+        entityManager.persist(new MemberIndex(outsider.getMemberNo(), "email_ngram", ser, null));
+        entityManager.flush();
+        entityManager.clear();
+        ReflectionTestUtils.invokeMethod(companyDomainResolver, "refresh");
+        statistics.clear();
+
+        List<MemberResponse> both = memberRepository.findMembersByTokens("javame.com", "email_ngram", List.of(use, ser), 10);
+
+        assertThat(both).extracting(MemberResponse::getMemberNo).containsExactly(member.getMemberNo());
+        assertThat(both.getFirst().getMemberEmail()).isEqualTo("user@javame.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(memberRepository.findMembersByTokens("javame.com", "email_ngram", List.of(use), 10))
+                .extracting(MemberResponse::getMemberNo)
+                .containsExactly(member.getMemberNo(), withdrawn.getMemberNo());
+        assertThat(memberRepository.findMembersByTokens("javame.com", "email_prefix", List.of(use), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회원 조회 - 인덱스와 회원을 쿼리 한 번으로 조회")
+    void findByBlindIndex_SingleStatement() {
+        Optional<Member> found = memberRepository.findByBlindIndex("user@javame.com", "email");
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getMemberNo()).isEqualTo(member.getMemberNo());
+        // 회사는 같은 쿼리에서 함께 읽으므로 도메인을 읽어도 추가 쿼리 없음
+        assertThat(found.get().getCompany().getCompanyDomain().ciphertext()).isEqualTo(AESUtil.encrypt("javame.com"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회원 조회 - 필드명이 다르면 조회되지 않음")
+    void findByBlindIndex_FieldNameMismatch() {
+        assertThat(memberRepository.findByBlindIndex("user@javame.com", "name")).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블라인드 인덱스로 회원 조회 - 이전 형식 인덱스만 있어도 같은 쿼리에서 조회")
+    void findByBlindIndex_LegacyOnly() {
+        entityManager.persist(new MemberIndex(member.getMemberNo(), "email", null, HashUtil.sha256Hex("legacy@javame.com")));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(memberRepository.findByBlindIndex("legacy@javame.com", "email"))
+                .map(Member::getMemberNo)
+                .contains(member.getMemberNo());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 이전 형식을 끄면 이전 형식 인덱스는 조건에서 빠짐
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "legacyFallback", false);
+        assertThat(memberRepository.findByBlindIndex("legacy@javame.com", "email")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이메일로 회원 정보 조회 - 응답 컬럼만 쿼리 한 번으로 조회하고 엔티티를 만들지 않음")
+    void findMemberResponseByEmail_SingleStatement() {
+        Optional<MemberResponse> found = memberRepository.findMemberResponseByEmail("user@javame.com");
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getMemberNo()).isEqualTo(member.getMemberNo());
+        assertThat(found.get().getRoleId()).isEqualTo("ROLE_USER");
+        assertThat(found.get().getVersion()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // 이메일은 조회 값, 도메인은 암호문을 응답 시 복호화
+        assertThat(found.get().getMemberEmail()).isEqualTo("user@javame.com");
+        assertThat(found.get().getCompanyDomain()).isEqualTo("javame.com");
+    }
+
+    @Test
+    @DisplayName("이메일로 회원 정보 조회 - 탈퇴한 회원도 조회되고, 없는 이메일은 빈 값")
+    void findMemberResponseByEmail_WithdrawnAndNotFound() {
+        assertThat(memberRepository.findMemberResponseByEmail("withdrawn@javame.com"))
+                .map(MemberResponse::getMemberNo)
+                .contains(withdrawn.getMemberNo());
+        assertThat(memberRepository.findMemberResponseByEmail("none@javame.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그인 정보 조회 - 필요한 컬럼만 쿼리 한 번으로 조회")
+    void findLoginInfoByEmail_SingleStatement() {
+        Optional<CustomMemberRepository.MemberLoginInfo> found = memberRepository.findLoginInfoByEmail("user@javame.com");
+
+        assertThat(found).isPresent();
+        assertThat(found.get().memberNo()).isEqualTo(member.getMemberNo());
+        assertThat(found.get().memberPassword()).isEqualTo("encoded-password");
+        assertThat(found.get().roleId()).isEqualTo("ROLE_USER");
+        assertThat(found.get().active()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        // 엔티티를 로딩하지 않음
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그인 정보 조회 - 탈퇴한 회원은 비활성으로 조회")
+    void findLoginInfoByEmail_Withdrawn() {
+        assertThat(memberRepository.findLoginInfoByEmail("withdrawn@javame.com"))
+                .map(CustomMemberRepository.MemberLoginInfo::active)
+                .contains(false);
+    }
+
+    @Test
+    @DisplayName("로그인 정보 조회 - 존재하지 않는 이메일")
+    void findLoginInfoByEmail_NotFound() {
+        assertThat(memberRepository.findLoginInfoByEmail("none@javame.com")).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 정보 일괄 조회 - 여러 이메일을 쿼리 한 번으로 조회하고 요청 이메일에 연결")
+    void findLoginInfosByEmails_SingleStatement() {
+        Map<String, CustomMemberRepository.MemberLoginInfo> found = memberRepository.findLoginInfosByEmails(
+                List.of("user@javame.com", "withdrawn@javame.com", "none@javame.com"));
+
+        assertThat(found).containsOnlyKeys("user@javame.com", "withdrawn@javame.com");
+        assertThat(found.get("user@javame.com").memberNo()).isEqualTo(member.getMemberNo());
+        assertThat(found.get("user@javame.com").memberPassword()).isEqualTo("encoded-password");
+        assertThat(found.get("user@javame.com").active()).isTrue();
+        assertThat(found.get("withdrawn@javame.com").memberNo()).isEqualTo(withdrawn.getMemberNo());
+        assertThat(found.get("withdrawn@javame.com").active()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 번호 일괄 조회 - 쿼리 한 번으로 조회하고 이메일/도메인은 복호화된 상태로 반환")
+    void findMemberResponsesByMemberNos_SingleStatement() {
+        List<MemberResponse> found = memberRepository.findMemberResponsesByMemberNos(
+                List.of(withdrawn.getMemberNo(), member.getMemberNo(), -1L));
+
+        assertThat(found)
+                .extracting(MemberResponse::getMemberNo, MemberResponse::getMemberEmail, MemberResponse::getCompanyDomain)
+                .containsExactly(
+                        tuple(member.getMemberNo(), "user@javame.com", "javame.com"),
+                        tuple(withdrawn.getMemberNo(), "withdrawn@javame.com", "javame.com"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.common.util.AESUtil;
+import com.nhnacademy.company.domain.Company;
+import com.nhnacademy.company.service.CompanyDomainResolver;
+import com.nhnacademy.member.domain.Member;
+import com.nhnacademy.role.domain.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예약 저장이 테스트 트랜잭션 밖에서 실행되지 않도록 주기를 길게 둠
+@ActiveProfiles("test")
+@DataJpaTest(properties = "member.last-login.write-behind.flush-interval-millis=3600000")
+@Import({QueryDslConfig.class, CompanyDomainResolver.class, LastLoginWriteBehind.class})
+class LastLoginWriteBehindTest {
+
+    @Autowired
+    LastLoginWriteBehind writeBehind;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private long memberNo;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "1234567890123456");
+
+        Company company = Company.ofNewCompany("javame.com", "javame",
+                "company@javame.com", "010-1234-5678", "광주");
+        Role role = new Role("ROLE_USER", "USER", "기본 유저");
+        testEntityManager.persist(company);
+        testEntityManager.persist(role);
+        memberNo = testEntityManager.persist(
+                Member.ofNewMember(company, role, "user@javame.com", "pw")).getMemberNo();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        writeBehind.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("저장 주기 안의 반복 로그인은 가장 최근 시각 한 행 갱신으로 합쳐지고 버전이 한 번 오름")
+    void flush_CoalescesRepeatLogins() {
+        LocalDateTime first = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        // 빈은 테스트 메서드 사이에 공유되어 누적 지표가 남아 있으므로 증가분으로 확인
+        double coalesced = registry.get("member.last.login.coalesced").functionCounter().count();
+        double flushedRows = registry.get("member.last.login.flush.rows").functionCounter().count();
+        double flushes = registry.get("member.last.login.flush").functionTimer().count();
+
+        writeBehind.record(memberNo, "user@javame.com", first);
+        writeBehind.record(memberNo, "user@javame.com", first.plusSeconds(2));
+        // 늦게 도착한 이전 로그인은 무시
+        writeBehind.record(memberNo, "user@javame.com", first.plusSeconds(1));
+        assertThat(registry.get("member.last.login.buffered").gauge().value()).isEqualTo(1);
+
+        writeBehind.flushSafely();
+
+        Map<String, Object> row = loadRow();
+        assertThat(((Timestamp) row.get("last_login_at")).toLocalDateTime()).isEqualTo(first.plusSeconds(2));
+        assertThat(((Number) row.get("version")).longValue()).isEqualTo(1L);
+        assertThat(registry.get("member.last.login.coalesced").functionCounter().count() - coalesced).isEqualTo(2);
+        assertThat(registry.get("member.last.login.flush.rows").functionCounter().count() - flushedRows).isEqualTo(1);
+        assertThat(registry.get("member.last.login.flush").functionTimer().count() - flushes).isEqualTo(1);
+        assertThat(registry.get("member.last.login.buffered").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장된 시각보다 이전 시각은 덮어쓰지 않고 버전도 그대로")
+    void flush_IgnoresOlderThanStored() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        writeBehind.record(memberNo, "user@javame.com", now);
+        writeBehind.flushSafely();
+
+        // 다른 인스턴스가 늦게 저장하는 이전 로그인
+        writeBehind.record(memberNo, "user@javame.com", now.minusMinutes(1));
+        writeBehind.flushSafely();
+
+        Map<String, Object> row = loadRow();
+        assertThat(((Timestamp) row.get("last_login_at")).toLocalDateTime()).isEqualTo(now);
+        assertThat(((Number) row.get("version")).longValue()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 로그인 시각을 저장")
+    void stop_DrainsBuffer() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        writeBehind.record(memberNo, "user@javame.com", now);
+
+        writeBehind.stop();
+
+        assertThat(((Timestamp) loadRow().get("last_login_at")).toLocalDateTime()).isEqualTo(now);
+        assertThat(registry.get("member.last.login.buffered").gauge().value()).isZero();
+    }
+
+    private Map<String, Object> loadRow() {
+        return jdbcTemplate.queryForMap(
+                "SELECT last_login_at, version FROM members WHERE member_no = ?", memberNo);
+    }
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.member.domain.MemberIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberEmailTokenizerTest {
+
+    private MemberEmailTokenizer tokenizer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        tokenizer = newTokenizer(MemberEmailTokenizer.Scheme.PREFIX);
+    }
+
+    @Test
+    @DisplayName("접두어 방식은 min-length ~ max-prefix-length 길이의 접두어만 저장")
+    void indexRows_Prefix() {
+        List<MemberIndex> rows = tokenizer.indexRows(1L, "User@javame.com");
+
+        // "use" ~ "user@javame" (3 ~ 11자)
+        assertThat(rows).hasSize(9)
+                .allSatisfy(row -> {
+                    assertThat(row.getMemberNo()).isEqualTo(1L);
+                    assertThat(row.getFieldName()).isEqualTo(MemberEmailTokenizer.PREFIX_FIELD);
+                    assertThat(row.getLegacyHashValue()).isNull();
+                });
+        // 대소문자를 구분하지 않으며, 저장한 접두어와 검색어 토큰이 같음
+        assertThat(rows.getFirst().getHashValue()).isEqualTo(tokenizer.query("USE").hashes().getFirst());
+    }
+
+    @Test
+    @DisplayName("토큰 해시는 같은 값의 이메일 블라인드 인덱스와 다름")
+    void indexRows_DomainSeparated() {
+        ReflectionTestUtils.setField(tokenizer, "maxPrefixLength", 64);
+
+        List<MemberIndex> rows = tokenizer.indexRows(1L, "user@javame.com");
+
+        assertThat(rows.getLast().getHashValue()).isNotEqualTo(BlindIndexUtil.hash("user@javame.com"));
+    }
+
+    @Test
+    @DisplayName("max-prefix-length 보다 긴 검색어는 최대 길이 접두어로 찾고 복호화 비교가 필요")
+    void query_PrefixLongerThanMax() {
+        MemberEmailTokenizer.TokenQuery shortQuery = tokenizer.query("user@java");
+        MemberEmailTokenizer.TokenQuery longQuery = tokenizer.query("user@javame.c");
+
+        assertThat(shortQuery.exact()).isTrue();
+        assertThat(longQuery.exact()).isFalse();
+        assertThat(longQuery.hashes().getFirst()).isEqualTo(tokenizer.query("user@javame").hashes().getFirst());
+        assertThat(tokenizer.matches("user@javame.com", "user@javame.c")).isTrue();
+        assertThat(tokenizer.matches("user@javame.net", "user@javame.c")).isFalse();
+    }
+
+    @Test
+    @DisplayName("n-gram 방식은 검색어의 모든 n-gram 을 중복 없이 토큰으로 만들고 부분 문자열로 확인")
+    void query_Ngram() {
+        MemberEmailTokenizer ngram = newTokenizer(MemberEmailTokenizer.Scheme.NGRAM);
+
+        MemberEmailTokenizer.TokenQuery query = ngram.query("aaaa@ja");
+
+        // "aaa", "aaa"(중복), "aa@", "a@j", "@ja"
+        assertThat(query.fieldName()).isEqualTo(MemberEmailTokenizer.NGRAM_FIELD);
+        assertThat(query.hashes()).hasSize(4);
+        assertThat(query.exact()).isFalse();
+        assertThat(ngram.indexRows(1L, "aaaa@javame.com")).hasSize(12);
+        assertThat(ngram.matches("xaaaa@javame.com", "aaaa@ja")).isTrue();
+    }
+
+    @Test
+    @DisplayName("검색어가 최소 길이보다 짧거나 검색을 사용하지 않으면 예외")
+    void query_Invalid() {
+        assertThatThrownBy(() -> tokenizer.query(" ab "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어는 3자 이상 입력하세요.");
+
+        MemberEmailTokenizer none = newTokenizer(MemberEmailTokenizer.Scheme.NONE);
+        assertThat(none.indexRows(1L, "user@javame.com")).isEmpty();
+        assertThatThrownBy(() -> none.query("user"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("방식이나 길이 설정이 바뀌면 버전이 바뀜")
+    void schemeVersion_ChangesWithSettings() {
+        int prefixVersion = tokenizer.schemeVersion();
+
+        assertThat(newTokenizer(MemberEmailTokenizer.Scheme.PREFIX).schemeVersion()).isEqualTo(prefixVersion);
+        assertThat(newTokenizer(MemberEmailTokenizer.Scheme.NGRAM).schemeVersion()).isNotEqualTo(prefixVersion);
+        ReflectionTestUtils.setField(tokenizer, "minLength", 4);
+        assertThat(tokenizer.schemeVersion()).isNotEqualTo(prefixVersion);
+    }
+
+    private static MemberEmailTokenizer newTokenizer(MemberEmailTokenizer.Scheme scheme) {
+        MemberEmailTokenizer emailTokenizer = new MemberEmailTokenizer();
+        ReflectionTestUtils.setField(emailTokenizer, "scheme", scheme);
+        ReflectionTestUtils.setField(emailTokenizer, "minLength", 3);
+        ReflectionTestUtils.setField(emailTokenizer, "maxPrefixLength", 11);
+        ReflectionTestUtils.setField(emailTokenizer, "ngramSize", 3);
+        return emailTokenizer;
+    }
+}
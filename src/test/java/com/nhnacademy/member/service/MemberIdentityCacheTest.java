@@ -0,0 +1,153 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.common.util.BlindIndexUtil;
+import com.nhnacademy.member.common.NotExistMemberException;
+import com.nhnacademy.member.dto.response.MemberLoginResponse;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.event.MemberIdentityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIdentityCacheTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private MemberService memberService;
+
+    private MemberIdentityCache cache;
+
+    private MemberResponse memberResponse;
+
+    private MemberLoginResponse loginResponse;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+
+        cache = newCache(true);
+        memberResponse = new MemberResponse(1L, EMAIL, "test.com", "ROLE_USER", LocalDateTime.now(), LocalDateTime.now());
+        loginResponse = new MemberLoginResponse(1L, EMAIL, "hash", "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("같은 이메일은 두 번째 조회부터 서비스를 호출하지 않음")
+    void getMemberByEmail_Hit() {
+        when(memberService.getMemberByEmail(EMAIL)).thenReturn(memberResponse);
+
+        assertThat(cache.getMemberByEmail(EMAIL)).isSameAs(memberResponse);
+        assertThat(cache.getMemberByEmail(EMAIL)).isSameAs(memberResponse);
+
+        verify(memberService, times(1)).getMemberByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("회원 정보와 로그인 정보는 따로 캐싱")
+    void getLoginInfoByEmail_SeparateCache() {
+        when(memberService.getMemberByEmail(EMAIL)).thenReturn(memberResponse);
+        when(memberService.getLoginInfoByEmail(EMAIL)).thenReturn(loginResponse);
+
+        cache.getMemberByEmail(EMAIL);
+        assertThat(cache.getLoginInfoByEmail(EMAIL)).isSameAs(loginResponse);
+        assertThat(cache.getLoginInfoByEmail(EMAIL)).isSameAs(loginResponse);
+
+        verify(memberService, times(1)).getLoginInfoByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 해당 회원의 항목을 제거")
+    void onIdentityChanged_Invalidate() {
+        when(memberService.getMemberByEmail(EMAIL)).thenReturn(memberResponse);
+        when(memberService.getLoginInfoByEmail(EMAIL)).thenReturn(loginResponse);
+        cache.getMemberByEmail(EMAIL);
+        cache.getLoginInfoByEmail(EMAIL);
+
+        cache.onIdentityChanged(new MemberIdentityChangedEvent(1L, EMAIL, MemberIdentityChangedEvent.Reason.PASSWORD));
+        cache.getMemberByEmail(EMAIL);
+        cache.getLoginInfoByEmail(EMAIL);
+
+        verify(memberService, times(2)).getMemberByEmail(EMAIL);
+        verify(memberService, times(2)).getLoginInfoByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 변경 이벤트는 영향 없음")
+    void onIdentityChanged_OtherMember() {
+        when(memberService.getMemberByEmail(EMAIL)).thenReturn(memberResponse);
+        cache.getMemberByEmail(EMAIL);
+
+        cache.onIdentityChanged(new MemberIdentityChangedEvent(2L, "other@test.com", MemberIdentityChangedEvent.Reason.ROLE));
+        cache.getMemberByEmail(EMAIL);
+
+        verify(memberService, times(1)).getMemberByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("조회 실패(없는 회원/탈퇴 회원)는 캐싱하지 않음")
+    void getLoginInfoByEmail_ExceptionNotCached() {
+        when(memberService.getLoginInfoByEmail(EMAIL))
+                .thenThrow(new NotExistMemberException("탈퇴 처리된 회원입니다: " + EMAIL));
+
+        assertThatThrownBy(() -> cache.getLoginInfoByEmail(EMAIL)).isInstanceOf(NotExistMemberException.class);
+        assertThatThrownBy(() -> cache.getLoginInfoByEmail(EMAIL)).isInstanceOf(NotExistMemberException.class);
+
+        verify(memberService, times(2)).getLoginInfoByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 서비스를 호출")
+    void disabled_PassThrough() {
+        MemberIdentityCache disabled = newCache(false);
+        when(memberService.getMemberByEmail(EMAIL)).thenReturn(memberResponse);
+
+        disabled.getMemberByEmail(EMAIL);
+        disabled.getMemberByEmail(EMAIL);
+        disabled.onIdentityChanged(new MemberIdentityChangedEvent(1L, EMAIL, MemberIdentityChangedEvent.Reason.LOGIN));
+
+        verify(memberService, times(2)).getMemberByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("적중/미스, 적중률, 사유별 제거 수를 지표로 노출")
+    void bindTo_Metrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        when(memberService.getMemberByEmail(EMAIL)).thenReturn(memberResponse);
+
+        cache.getMemberByEmail(EMAIL);
+        cache.getMemberByEmail(EMAIL);
+        cache.onIdentityChanged(new MemberIdentityChangedEvent(1L, EMAIL, MemberIdentityChangedEvent.Reason.WITHDRAWAL));
+
+        // Caffeine 통계는 표준 cache.* 이름에 cache 태그로 구분
+        assertThat(registry.get("cache.gets").tags("cache", "member.identity.cache", "type", "profile", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "member.identity.cache", "type", "profile", "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("member.identity.cache.hit.ratio").tag("type", "profile")
+                .gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("member.identity.cache.invalidations").tag("reason", "withdrawal")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    private MemberIdentityCache newCache(boolean enabled) {
+        MemberIdentityCache identityCache = new MemberIdentityCache(memberService);
+        ReflectionTestUtils.setField(identityCache, "enabled", enabled);
+        ReflectionTestUtils.setField(identityCache, "maxEntries", 100L);
+        ReflectionTestUtils.setField(identityCache, "ttlSeconds", 60L);
+        identityCache.init();
+        return identityCache;
+    }
+}
@@ -0,0 +1,168 @@
+package com.nhnacademy.member.service;
+
+import com.nhnacademy.common.exception.AuthenticationFailedException;
+import com.nhnacademy.common.exception.ServiceBusyException;
+import com.nhnacademy.common.password.PasswordHashExecutor;
+import com.nhnacademy.common.util.PasswordUtil;
+import com.nhnacademy.member.common.NotExistMemberException;
+import com.nhnacademy.member.common.NotMatchesPasswordException;
+import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
+import com.nhnacademy.member.dto.request.MemberPasswordVerifyRequest;
+import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberAuthResponse;
+import com.nhnacademy.member.dto.response.MemberLoginResponse;
+import com.nhnacademy.member.dto.response.MemberResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPasswordFacadeTest {
+
+    @Mock
+    private MemberService memberService;
+
+    private PasswordHashExecutor passwordHashExecutor;
+
+    private MemberPasswordFacade memberPasswordFacade;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashExecutor = new PasswordHashExecutor();
+        ReflectionTestUtils.setField(passwordHashExecutor, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashExecutor, "queueCapacity", 4);
+        passwordHashExecutor.init();
+        // 트랜잭션 단계는 해싱을 마친 스레드에서 바로 실행
+        memberPasswordFacade = new MemberPasswordFacade(memberService, passwordHashExecutor, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+        PasswordUtil.configureStrength(PasswordUtil.DEFAULT_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("회원 가입 - 해싱을 마친 뒤 해시된 비밀번호로 서비스 호출")
+    void registerMember() {
+        MemberRegisterRequest request = new MemberRegisterRequest("newbie@test.com", "password123", "test.com");
+        MemberResponse response = new MemberResponse(1L, "newbie@test.com", "test.com", "ROLE_USER",
+                LocalDateTime.now(), null);
+        when(memberService.registerMember(eq(request), any())).thenReturn(response);
+
+        assertThat(memberPasswordFacade.registerMember(request).join()).isSameAs(response);
+
+        ArgumentCaptor<String> encoded = ArgumentCaptor.forClass(String.class);
+        verify(memberService).registerMember(eq(request), encoded.capture());
+        assertThat(PasswordUtil.matches("password123", encoded.getValue())).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원 가입 실패 - 트랜잭션 대기열이 가득 차면 ServiceBusyException 으로 완료")
+    void registerMember_TransactionQueueFull() {
+        MemberPasswordFacade busyFacade = new MemberPasswordFacade(memberService, passwordHashExecutor, task -> {
+            throw new ServiceBusyException("요청이 많아 회원 정보를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1);
+        });
+        MemberRegisterRequest request = new MemberRegisterRequest("newbie@test.com", "password123", "test.com");
+
+        assertThatThrownBy(() -> busyFacade.registerMember(request).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceBusyException.class);
+
+        verify(memberService, never()).registerMember(any(), any());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 - 검증한 해시와 새 해시로 서비스 호출")
+    void changeMemberPassword() {
+        String storedHash = PasswordUtil.encode("oldPass");
+        when(memberService.getPasswordHash(1L)).thenReturn(storedHash);
+
+        memberPasswordFacade.changeMemberPassword(1L, new MemberPasswordChangeRequest("oldPass", "newPass")).join();
+
+        ArgumentCaptor<String> encoded = ArgumentCaptor.forClass(String.class);
+        verify(memberService).changeMemberPassword(eq(1L), eq(storedHash), encoded.capture());
+        assertThat(PasswordUtil.matches("newPass", encoded.getValue())).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 실패 - 현재 비밀번호 불일치 시 변경 트랜잭션을 실행하지 않음")
+    void changeMemberPassword_Mismatch() {
+        when(memberService.getPasswordHash(1L)).thenReturn(PasswordUtil.encode("oldPass"));
+
+        assertThatThrownBy(() -> memberPasswordFacade
+                .changeMemberPassword(1L, new MemberPasswordChangeRequest("wrongPass", "newPass")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NotMatchesPasswordException.class);
+
+        verify(memberService, never()).changeMemberPassword(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 검증 - cost 가 다른 해시는 검증 후 현재 cost 로 재해싱")
+    void verifyPassword_Rehash() {
+        PasswordUtil.configureStrength(4);
+        String storedHash = new BCryptPasswordEncoder(5).encode("password123");
+        when(memberService.getLoginInfoByEmail("user@test.com"))
+                .thenReturn(new MemberLoginResponse(1L, "user@test.com", storedHash, "ROLE_USER"));
+        when(memberService.rehashPassword(eq(1L), eq(storedHash), any())).thenReturn(true);
+
+        MemberAuthResponse response = memberPasswordFacade
+                .verifyPassword(new MemberPasswordVerifyRequest("user@test.com", "password123")).join();
+
+        assertThat(response.getMemberNo()).isEqualTo(1L);
+        assertThat(response.getRoleId()).isEqualTo("ROLE_USER");
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(memberService).rehashPassword(eq(1L), eq(storedHash), rehashed.capture());
+        assertThat(PasswordUtil.costOf(rehashed.getValue())).isEqualTo(4);
+        assertThat(PasswordUtil.matches("password123", rehashed.getValue())).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인 검증 - cost 가 같으면 재해싱하지 않음")
+    void verifyPassword_NoRehash() {
+        PasswordUtil.configureStrength(4);
+        String storedHash = PasswordUtil.encode("password123");
+        when(memberService.getLoginInfoByEmail("user@test.com"))
+                .thenReturn(new MemberLoginResponse(1L, "user@test.com", storedHash, "ROLE_USER"));
+
+        memberPasswordFacade.verifyPassword(new MemberPasswordVerifyRequest("user@test.com", "password123")).join();
+
+        verify(memberService, never()).rehashPassword(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 검증 실패 - 비밀번호 불일치와 없는 회원 모두 AuthenticationFailedException")
+    void verifyPassword_Fail() {
+        PasswordUtil.configureStrength(4);
+        when(memberService.getLoginInfoByEmail("user@test.com"))
+                .thenReturn(new MemberLoginResponse(1L, "user@test.com", PasswordUtil.encode("password123"), "ROLE_USER"));
+        when(memberService.getLoginInfoByEmail("none@test.com"))
+                .thenThrow(new NotExistMemberException("none@test.com"));
+
+        assertThatThrownBy(() -> memberPasswordFacade
+                .verifyPassword(new MemberPasswordVerifyRequest("user@test.com", "wrong")).join())
+                .hasCauseInstanceOf(AuthenticationFailedException.class);
+        assertThatThrownBy(() -> memberPasswordFacade
+                .verifyPassword(new MemberPasswordVerifyRequest("none@test.com", "password123")).join())
+                .hasCauseInstanceOf(AuthenticationFailedException.class);
+
+        verify(memberService, never()).rehashPassword(any(), any(), any());
+    }
+}
@@ -1,22 +1,28 @@
 package com.nhnacademy.member.service;
 
+import com.nhnacademy.common.bloom.BlindIndexBloomFilter;
 import com.nhnacademy.common.util.AESUtil;
-import com.nhnacademy.common.util.HashUtil;
+import com.nhnacademy.common.util.BlindIndexUtil;
 import com.nhnacademy.common.util.PasswordUtil;
 import com.nhnacademy.company.common.NotExistCompanyException;
 import com.nhnacademy.company.domain.Company;
-import com.nhnacademy.company.domain.CompanyIndex;
-import com.nhnacademy.company.repository.CompanyIndexRepository;
-import com.nhnacademy.company.repository.CompanyRepository;
+import com.nhnacademy.company.service.CompanyDomainResolver;
 import com.nhnacademy.member.common.AlreadyExistMemberException;
 import com.nhnacademy.member.common.NotExistMemberException;
 import com.nhnacademy.member.common.NotMatchesPasswordException;
 import com.nhnacademy.member.domain.Member;
 import com.nhnacademy.member.domain.MemberIndex;
-import com.nhnacademy.member.dto.request.MemberPasswordChangeRequest;
 import com.nhnacademy.member.dto.request.MemberRegisterRequest;
+import com.nhnacademy.member.dto.response.MemberBatchGetResponse;
+import com.nhnacademy.member.dto.response.MemberLoginBatchResponse;
 import com.nhnacademy.member.dto.response.MemberLoginResponse;
 import com.nhnacademy.member.dto.response.MemberResponse;
+import com.nhnacademy.member.event.MemberIdentityChangedEvent;
+import com.nhnacademy.member.event.MemberRegisteredEvent;
+import com.nhnacademy.member.event.MemberRoleChangedEvent;
+import com.nhnacademy.member.event.MemberWithdrawnEvent;
+import com.nhnacademy.member.event.PasswordChangedEvent;
+import com.nhnacademy.member.repository.CustomMemberRepository;
 import com.nhnacademy.member.repository.MemberIndexRepository;
 import com.nhnacademy.member.repository.MemberRepository;
 import com.nhnacademy.member.service.impl.MemberServiceImpl;
@@ -33,14 +39,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -54,17 +67,31 @@ class MemberServiceTest {
     private MemberIndexRepository memberIndexRepository;
 
     @Mock
-    private CompanyRepository companyRepository;
+    private CompanyDomainResolver companyDomainResolver;
 
     @Mock
-    private CompanyIndexRepository companyIndexRepository;
+    private RoleRepository roleRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private BlindIndexBloomFilter blindIndexBloomFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MemberEmailTokenizer memberEmailTokenizer;
+
+    @Mock
+    private LastLoginWriteBehind lastLoginWriteBehind;
 
     @InjectMocks
     private MemberServiceImpl memberService;
 
+    /**
+     * 해싱 풀에서 미리 해싱된 "password123" (memberRegisterRequest 의 비밀번호).
+     */
+    private static final String ENCODED_PASSWORD = PasswordUtil.encode("password123");
+
     private Company company;
     private MemberRegisterRequest memberRegisterRequest;
 
@@ -76,23 +103,32 @@ class MemberServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 엔티티가 생성 시 암호화하므로 키를 먼저 설정
+        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
+        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "B3db/0BCMBBUcafzUryeTA==");
+
         // 테스트용 기본 객체 생성
         company = Company.ofNewCompany("test-comp.com", "Test Company", "contact@test-comp.com", "010-1234-5678", "Test Address 123");
 
         memberRegisterRequest = new MemberRegisterRequest(
                 "newbie@test.com",       // memberEmail
                 "password123",         // memberPassword
-                company.getCompanyDomain() // companyDomain
+                company.getCompanyDomain().plaintext() // companyDomain
         );
 
         roleUser = new Role(defaultRoleId, "USER", "일반 사용자");
         roleOwner = new Role(ownerRoleId, "OWNER", "소유주");
 
-        ReflectionTestUtils.setField(AESUtil.class, "algorithm", "AES");
-        ReflectionTestUtils.setField(AESUtil.class, "secretKey", "B3db/0BCMBBUcafzUryeTA==");
+        ReflectionTestUtils.setField(BlindIndexUtil.class, "secretKey", "blind-index-test-key");
+        // Bloom 필터는 항상 "있을 수도 있음"으로 응답해 기존처럼 DB 조회 결과로 판단
+        lenient().when(blindIndexBloomFilter.mightContain(any(), any())).thenReturn(true);
 
         ReflectionTestUtils.setField(memberService, "defaultUserRoleId", defaultRoleId);
         ReflectionTestUtils.setField(memberService, "defaultOwnerRoleId", ownerRoleId);
+        ReflectionTestUtils.setField(memberService, "emailSearchMaxResults", 50);
+        ReflectionTestUtils.setField(memberService, "loginInfoBatchMaxSize", 3);
+        ReflectionTestUtils.setField(memberService, "batchGetMaxSize", 3);
+        lenient().when(memberIndexRepository.save(any(MemberIndex.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -100,15 +136,10 @@ class MemberServiceTest {
     void registerMember_Success() {
         String email = memberRegisterRequest.getMemberEmail();
         String companyDomain = memberRegisterRequest.getCompanyDomain();
-        String hashedEmail = HashUtil.sha256Hex(email); // 실제 사용되는 값
-        String hashedCompanyDomain = HashUtil.sha256Hex(companyDomain); // 실제 사용되는 값
         String encryptedEmail = AESUtil.encrypt(email);
 
-        CompanyIndex companyIndex = new CompanyIndex(hashedCompanyDomain, "domain", company.getCompanyDomain());
-
-        when(memberIndexRepository.existsByHashValueAndFieldName(hashedEmail, "email")).thenReturn(false);
-        when(companyIndexRepository.findByHashValue(hashedCompanyDomain)).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain()))
+        when(memberIndexRepository.existsByBlindIndex(email, "email")).thenReturn(false);
+        when(companyDomainResolver.findCompany(companyDomain))
                 .thenReturn(Optional.of(company));
 
         when(roleRepository.findById(defaultRoleId))
@@ -120,64 +151,48 @@ class MemberServiceTest {
             ReflectionTestUtils.setField(memberBeingSaved, "memberNo", 1L);
             return memberBeingSaved;
         });
-        MemberResponse memberResponse = memberService.registerMember(memberRegisterRequest);
+        MemberResponse memberResponse = memberService.registerMember(memberRegisterRequest, ENCODED_PASSWORD);
 
         Assertions.assertNotNull(memberResponse);
 
         Member captured = memberCaptor.getValue();
         Assertions.assertEquals(company, captured.getCompany());
-        Assertions.assertEquals(encryptedEmail, captured.getMemberEmail());
+        Assertions.assertEquals(encryptedEmail, captured.getMemberEmail().ciphertext());
         Assertions.assertTrue(PasswordUtil.matches(memberRegisterRequest.getMemberPassword(), captured.getMemberPassword()));
 
         // 불필요한 호출 제거됨
-        verify(memberIndexRepository, times(1)).existsByHashValueAndFieldName(hashedEmail, "email");
-        verify(companyIndexRepository, times(1)).findByHashValue(hashedCompanyDomain);
-        verify(companyRepository, times(1)).findById(companyIndex.getCompanyDomain());
+        verify(memberIndexRepository, times(1)).existsByBlindIndex(email, "email");
+        verify(memberEmailTokenizer, times(1)).indexRows(1L, email);
+        verify(companyDomainResolver, times(1)).findCompany(companyDomain);
         verify(roleRepository, times(1)).findById(defaultRoleId);
         verify(memberRepository, times(1)).save(any(Member.class));
-
+        // 커밋 후 비동기 구독자에게 전달할 가입 이벤트 발행
+        verify(eventPublisher).publishEvent(any(MemberRegisteredEvent.class));
     }
 
     @Test
     @DisplayName("회원 등록 실패 - 이미 존재하는 이메일")
     void registerMember_Failure_AlreadyExists() {
-        when(memberIndexRepository.existsByHashValueAndFieldName(Mockito.any(), Mockito.anyString())).thenReturn(true);
+        when(memberIndexRepository.existsByBlindIndex(Mockito.any(), Mockito.anyString())).thenReturn(true);
 
         assertThatThrownBy(() ->
-                memberService.registerMember(memberRegisterRequest))
+                memberService.registerMember(memberRegisterRequest, ENCODED_PASSWORD))
                 .isInstanceOf(AlreadyExistMemberException.class)
                 .hasMessageContaining("이미 존재하는 이메일 입니다");
 
-        verify(companyRepository, never()).findById(anyString());
+        verify(companyDomainResolver, never()).findCompany(anyString());
         verify(roleRepository, never()).findById(anyString());
         verify(memberRepository, never()).save(any(Member.class));
     }
 
     @Test
-    @DisplayName("회원 등록 실패 - 인덱스 테이블에서 찾지 못함. ")
-    void registerMember_Failure_CompanyNotFound_1() {
-        when(memberIndexRepository.existsByHashValueAndFieldName(Mockito.any(), Mockito.anyString())).thenReturn(false);
-        when(companyIndexRepository.findByHashValue(Mockito.anyString())).thenReturn(Optional.empty());
+    @DisplayName("회원 등록 실패 - 회사 도메인을 인덱스 조인 조회로 찾을 수 없음. ")
+    void registerMember_Failure_CompanyNotFound() {
+        when(memberIndexRepository.existsByBlindIndex(Mockito.any(), Mockito.anyString())).thenReturn(false);
+        when(companyDomainResolver.findCompany(Mockito.anyString())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() ->
-                memberService.registerMember(memberRegisterRequest))
-                .isInstanceOf(NotExistCompanyException.class)
-                .hasMessageContaining("존재하지 않는 회사 도메인입니다. ");
-
-        verify(roleRepository, never()).findById(anyString());
-        verify(memberRepository, never()).save(any(Member.class));
-    }
-
-    @Test
-    @DisplayName("회원 등록 실패 - 회사 도메인을 DB에서 찾을 수 없음. ")
-    void registerMember_Failure_CompanyNotFound_2() {
-        CompanyIndex companyIndex =  new CompanyIndex(HashUtil.sha256Hex(company.getCompanyDomain()), "domain", AESUtil.encrypt(company.getCompanyDomain()));
-        when(memberIndexRepository.existsByHashValueAndFieldName(Mockito.any(), Mockito.anyString())).thenReturn(false);
-        when(companyIndexRepository.findByHashValue(Mockito.anyString())).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain())).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() ->
-                memberService.registerMember(memberRegisterRequest))
+                memberService.registerMember(memberRegisterRequest, ENCODED_PASSWORD))
                 .isInstanceOf(NotExistCompanyException.class)
                 .hasMessageContaining("가입하려는 회사 도메인('")
                 .hasMessageContaining("')을 찾을 수 없습니다. 회사 등록을 먼저 진행해주세요.");
@@ -189,13 +204,11 @@ class MemberServiceTest {
     @Test
     @DisplayName("회원 등록 실패 - 기본 역할 없음")
     void registerMember_Failure_RoleNotFound() {
-        CompanyIndex companyIndex =  new CompanyIndex(HashUtil.sha256Hex(company.getCompanyDomain()), "domain", AESUtil.encrypt(company.getCompanyDomain()));
-        when(memberIndexRepository.existsByHashValueAndFieldName(Mockito.any(), Mockito.anyString())).thenReturn(false);
-        when(companyIndexRepository.findByHashValue(Mockito.anyString())).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain())).thenReturn(Optional.ofNullable(company));
+        when(memberIndexRepository.existsByBlindIndex(Mockito.any(), Mockito.anyString())).thenReturn(false);
+        when(companyDomainResolver.findCompany(Mockito.anyString())).thenReturn(Optional.of(company));
         when(roleRepository.findById(Mockito.anyString())).thenReturn(Optional.empty());
         assertThatThrownBy(() ->
-                memberService.registerMember(memberRegisterRequest))
+                memberService.registerMember(memberRegisterRequest, ENCODED_PASSWORD))
                 .isInstanceOf(NotExistRoleException.class)
                 .hasMessageContaining("시스템 기본 역할(")
                 .hasMessageContaining(") 을 찾을 수 없습니다.");
@@ -209,14 +222,9 @@ class MemberServiceTest {
     void registerOwner_Success() {
         String email = memberRegisterRequest.getMemberEmail();
         String companyDomain = memberRegisterRequest.getCompanyDomain();
-        String hashedEmail = HashUtil.sha256Hex(email); // 실제 사용되는 값
-        String hashedCompanyDomain = HashUtil.sha256Hex(companyDomain); // 실제 사용되는 값
-
-        CompanyIndex companyIndex = new CompanyIndex(hashedCompanyDomain, "domain", company.getCompanyDomain());
 
-        when(memberIndexRepository.existsByHashValueAndFieldName(hashedEmail, "email")).thenReturn(false);
-        when(companyIndexRepository.findByHashValue(hashedCompanyDomain)).thenReturn(Optional.of(companyIndex));
-        when(companyRepository.findById(companyIndex.getCompanyDomain()))
+        when(memberIndexRepository.existsByBlindIndex(email, "email")).thenReturn(false);
+        when(companyDomainResolver.findCompany(companyDomain))
                 .thenReturn(Optional.of(company));
 
         when(roleRepository.findById(ownerRoleId))
@@ -229,19 +237,19 @@ class MemberServiceTest {
             return memberBeingSaved;
         });
 
-        MemberResponse response = memberService.registerOwner(memberRegisterRequest);
+        MemberResponse response = memberService.registerOwner(memberRegisterRequest, ENCODED_PASSWORD);
 
         Assertions.assertNotNull(response);
         Member captureMember = memberCaptor.getValue();
 
-        assertThat(AESUtil.decrypt(captureMember.getMemberEmail())).isEqualTo(memberRegisterRequest.getMemberEmail());
+        assertThat(captureMember.getMemberEmail().plaintext()).isEqualTo(memberRegisterRequest.getMemberEmail());
         Assertions.assertTrue(PasswordUtil.matches(memberRegisterRequest.getMemberPassword(), captureMember.getMemberPassword()));
         assertThat(captureMember.getCompany()).isSameAs(company);
 
         assertThat(captureMember.getRole()).isSameAs(roleOwner);
 
 
-        verify(companyRepository, times(1)).findById(companyIndex.getCompanyDomain());
+        verify(companyDomainResolver, times(1)).findCompany(companyDomain);
         verify(roleRepository, times(1)).findById(ownerRoleId);
         verify(memberRepository, times(1)).save(any(Member.class));
     }
@@ -252,7 +260,10 @@ class MemberServiceTest {
         // given - 테스트용 데이터 및 Mock 설정
         Long existingMemberId = 1L;
         // mapToMemberResponse 에서 company, role 정보도 사용하므로 설정 필요
-        Member foundMember = Member.ofNewMember(company, roleUser, "found@test.com", "password");
+        // 응답은 엔티티의 암호문을 받아 꺼낼 때 복호화하므로 암호화해서 저장
+        Company encryptedCompany = Company.ofNewCompany("test-comp.com", "Test Company",
+                "contact@test-comp.com", "010-1234-5678", "Test Address 123");
+        Member foundMember = Member.ofNewMember(encryptedCompany, roleUser, "found@test.com", "password");
         // 테스트를 위해 ID 강제 설정
         ReflectionTestUtils.setField(foundMember, "memberNo", existingMemberId);
 
@@ -266,7 +277,7 @@ class MemberServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getMemberNo()).isEqualTo(existingMemberId);
         assertThat(response.getMemberEmail()).isEqualTo("found@test.com");
-        assertThat(response.getCompanyDomain()).isEqualTo(company.getCompanyDomain());
+        assertThat(response.getCompanyDomain()).isEqualTo("test-comp.com");
         assertThat(response.getRoleId()).isEqualTo(roleUser.getRoleId());
 
         // Mock 호출 검증
@@ -296,27 +307,24 @@ class MemberServiceTest {
     void getMemberByEmail_Success() {
         // given - 테스트용 데이터 및 Mock 설정
         String existingEmail = "found@test.com";
-        Member foundMember = Member.ofNewMember(company, roleUser, existingEmail, "password");
-        ReflectionTestUtils.setField(foundMember, "memberNo", 1L); // ID 설정 (MemberResponse 변환 시 필요)
+        MemberResponse projected = new MemberResponse(
+                1L, existingEmail, company.getCompanyDomain().plaintext(), roleUser.getRoleId(), LocalDateTime.now(), null);
 
-        MemberIndex memberIndex = new MemberIndex(foundMember.getMemberNo(), "email", HashUtil.sha256Hex(existingEmail));
-        when(memberIndexRepository.findByHashValue(HashUtil.sha256Hex(existingEmail))).thenReturn(Optional.of(memberIndex));
-
-        // memberRepository.findByMemberEmail 이 호출되면 Optional<Member> 반환하도록 설정
-        when(memberRepository.findById(memberIndex.getMemberNo())).thenReturn(Optional.of(foundMember));
+        // 인덱스 조인 프로젝션 조회가 호출되면 응답을 바로 반환하도록 설정
+        when(memberRepository.findMemberResponseByEmail(existingEmail)).thenReturn(Optional.of(projected));
 
         // when - 서비스 메서드 호출
         MemberResponse response = memberService.getMemberByEmail(existingEmail);
 
         // then - 결과 검증
-        assertThat(response).isNotNull();
+        assertThat(response).isSameAs(projected);
         assertThat(response.getMemberNo()).isEqualTo(1L);
         assertThat(response.getMemberEmail()).isEqualTo(existingEmail);
-        assertThat(response.getCompanyDomain()).isEqualTo(company.getCompanyDomain());
-        assertThat(response.getRoleId()).isEqualTo(roleUser.getRoleId());
 
-        // Mock 호출 검증
-        verify(memberRepository, times(1)).findById(memberIndex.getMemberNo());
+        // Mock 호출 검증 - 엔티티 조회 경로는 사용하지 않음
+        verify(memberRepository, times(1)).findMemberResponseByEmail(existingEmail);
+        verify(memberRepository, never()).findByBlindIndex(any(), any());
+        verify(memberRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -332,11 +340,9 @@ class MemberServiceTest {
     void getMemberByEmail_Fail_NotFound_in_index() {
         // given - 테스트용 데이터 및 Mock 설정
         String nonExistingEmail = "notfound@test.com";
-        Member foundMember = Member.ofNewMember(company, roleUser, nonExistingEmail, "password");
-        ReflectionTestUtils.setField(foundMember, "memberNo", 1L); // ID 설정 (MemberResponse 변환 시 필요)
 
-        // memberRepository.findByMemberEmail 이 호출되면 Optional.empty() 반환하도록 설정
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.empty());
+        // 인덱스 조인 조회가 호출되면 Optional.empty() 반환하도록 설정
+        when(memberRepository.findMemberResponseByEmail(nonExistingEmail)).thenReturn(Optional.empty());
 
         // when & then - 예외 발생 검증
         assertThatThrownBy(() -> memberService.getMemberByEmail(nonExistingEmail))
@@ -345,40 +351,13 @@ class MemberServiceTest {
 
     }
 
-    @Test
-    @DisplayName("이메일로 회원 조회 실패 - 테이블에서 찾지 못했을 때")
-    void getMemberByEmail_Fail_NotFound_in_table() {
-        // given - 테스트용 데이터 및 Mock 설정
-        String nonExistingEmail = "notfound@test.com";
-        Member foundMember = Member.ofNewMember(company, roleUser, nonExistingEmail, "password");
-        ReflectionTestUtils.setField(foundMember, "memberNo", 1L); // ID 설정 (MemberResponse 변환 시 필요)
-        MemberIndex memberIndex = new MemberIndex(foundMember.getMemberNo(),
-                "email",
-                HashUtil.sha256Hex(nonExistingEmail));
-
-        // memberRepository.findById 이 호출되면 Optional.empty() 반환하도록 설정
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.of(memberIndex));
-        when(memberRepository.findById(memberIndex.getMemberNo())).thenReturn(Optional.empty());
-        // when & then - 예외 발생 검증
-        assertThatThrownBy(() -> memberService.getMemberByEmail(nonExistingEmail))
-                .isInstanceOf(NotExistMemberException.class)
-                .hasMessageContaining(nonExistingEmail + "로 저장된 회원이 없습니다."); // 서비스 코드의 예외 메시지 확인
-
-    }
-
     @Test
     @DisplayName("비밀번호 변경 성공")
     void changeMemberPassword_Success() {
         // given - 테스트 데이터 및 Mock 설정
         Long memberId = 1L;
-        String cPassword = "password123"; // 현재 비밀번호 (평문)
-        String currentPassword = PasswordUtil.encode(cPassword);
-        String newPassword = "newPassword456";  // 새 비밀번호 (평문)
-
-        MemberPasswordChangeRequest request = new MemberPasswordChangeRequest(
-                cPassword,
-                newPassword
-        );
+        String currentPassword = PasswordUtil.encode("password123");
+        String newPassword = PasswordUtil.encode("newPassword456"); // 해싱 풀에서 미리 해싱된 새 비밀번호
 
         Member existingMember = Member.ofNewMember(
                 company,
@@ -389,14 +368,28 @@ class MemberServiceTest {
         ReflectionTestUtils.setField(existingMember, "memberNo", memberId);
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(existingMember));
 
-        memberService.changeMemberPassword(memberId, request);
+        // when - 비밀번호 변경 메서드 호출
+        memberService.changeMemberPassword(memberId, currentPassword, newPassword);
 
         verify(memberRepository, times(1)).findById(memberId);
-
-        // when - 비밀번호 변경 메서드 호출
-        Assertions.assertTrue(PasswordUtil.matches(newPassword, existingMember.getMemberPassword()));
+        Assertions.assertEquals(newPassword, existingMember.getMemberPassword());
+        Assertions.assertTrue(PasswordUtil.matches("newPassword456", existingMember.getMemberPassword()));
 
         verify(memberRepository, never()).save(any(Member.class));
+        // 커밋 후 조회 캐시를 비우도록 변경 이벤트 발행
+        verify(eventPublisher).publishEvent(new MemberIdentityChangedEvent(
+                memberId, "user@test.com", MemberIdentityChangedEvent.Reason.PASSWORD));
+        verify(eventPublisher).publishEvent(any(PasswordChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 조회 성공")
+    void getPasswordHash_Success() {
+        Long memberId = 1L;
+        Member existingMember = Member.ofNewMember(company, roleUser, "user@test.com", ENCODED_PASSWORD);
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(existingMember));
+
+        Assertions.assertEquals(ENCODED_PASSWORD, memberService.getPasswordHash(memberId));
     }
 
     @Test
@@ -404,13 +397,12 @@ class MemberServiceTest {
     void changeMemberPassword_Fail_MemberNotFound() {
         // given - 테스트 데이터 및 Mock 설정
         Long nonExistingMemberId = 999L;
-        MemberPasswordChangeRequest request = new MemberPasswordChangeRequest("current", "new");
 
         // findById가 호출되면 Optional.empty() 반환하도록 설정
         when(memberRepository.findById(nonExistingMemberId)).thenReturn(Optional.empty());
 
         // when & then - 예외 발생 검증
-        assertThatThrownBy(() -> memberService.changeMemberPassword(nonExistingMemberId, request))
+        assertThatThrownBy(() -> memberService.changeMemberPassword(nonExistingMemberId, "current", "new"))
                 .isInstanceOf(NotExistMemberException.class)
                 .hasMessageContaining("회원을 찾을 수 없습니다: ID " + nonExistingMemberId);
 
@@ -419,37 +411,57 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("비밀번호 변경 실패 - 현재 비밀번호 불일치")
-    void changeMemberPassword_Fail_PasswordMismatch() {
+    @DisplayName("비밀번호 변경 실패 - 검증 이후 다른 요청이 비밀번호를 변경함")
+    void changeMemberPassword_Fail_PasswordChangedConcurrently() {
         // given - 테스트 데이터 및 Mock 설정
         Long memberId = 1L;
-        String cPW = "password123";      // 실제 멤버의 비밀번호
-        String correctCurrentPassword = PasswordUtil.encode(cPW);
-        String incorrectCurrentPassword = "wrongPassword"; // 요청으로 들어온 틀린 비밀번호
-        String newPassword = "newPassword456";
+        String verifiedHash = ENCODED_PASSWORD;             // 검증 시점에 읽은 해시
+        String changedHash = PasswordUtil.encode("other"); // 그 사이 다른 요청이 저장한 해시
 
-        MemberPasswordChangeRequest request = new MemberPasswordChangeRequest(incorrectCurrentPassword, newPassword);
-
-        // 실제 비밀번호를 가진 Member 객체 생성
-        Member existingMember = Member.ofNewMember(company, roleUser, "user@test.com", correctCurrentPassword);
+        Member existingMember = Member.ofNewMember(company, roleUser, "user@test.com", changedHash);
         ReflectionTestUtils.setField(existingMember, "memberNo", memberId);
 
         // findById가 호출되면 existingMember 반환하도록 설정
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(existingMember));
 
         // when & then - 예외 발생 검증
-        assertThatThrownBy(() -> memberService.changeMemberPassword(memberId, request))
+        assertThatThrownBy(() -> memberService.changeMemberPassword(memberId, verifiedHash, "new-hash"))
                 .isInstanceOf(NotMatchesPasswordException.class)
                 .hasMessageContaining("비밀번호 변경 실패: 현재 비밀번호 불일치. ID: "+memberId);
 
         // then (추가 검증) - 비밀번호가 변경되지 않았는지 확인
-        Assertions.assertTrue(PasswordUtil.matches(cPW, correctCurrentPassword));
+        Assertions.assertEquals(changedHash, existingMember.getMemberPassword());
 
         // Mock 호출 검증 (findById만 호출됨)
         verify(memberRepository, times(1)).findById(memberId);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
 
+    @Test
+    @DisplayName("비밀번호 재해싱 - 검증한 해시가 그대로면 교체")
+    void rehashPassword_Success() {
+        Long memberId = 1L;
+        Member existingMember = Member.ofNewMember(company, roleUser, "user@test.com", ENCODED_PASSWORD);
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(existingMember));
+
+        Assertions.assertTrue(memberService.rehashPassword(memberId, ENCODED_PASSWORD, "rehashed"));
+        Assertions.assertEquals("rehashed", existingMember.getMemberPassword());
+        verify(eventPublisher).publishEvent(any(MemberIdentityChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("비밀번호 재해싱 - 검증 이후 비밀번호가 바뀌었으면 예외 없이 건너뜀")
+    void rehashPassword_SkipWhenChanged() {
+        Long memberId = 1L;
+        Member existingMember = Member.ofNewMember(company, roleUser, "user@test.com", "changed-hash");
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(existingMember));
+
+        Assertions.assertFalse(memberService.rehashPassword(memberId, ENCODED_PASSWORD, "rehashed"));
+        Assertions.assertEquals("changed-hash", existingMember.getMemberPassword());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     @DisplayName("회원 탈퇴 성공 - withdraw 호출 검증")
     void deleteMember_Success() {
@@ -473,6 +485,10 @@ class MemberServiceTest {
         verify(spiedMember, times(1)).withdraw();
         // 3. 물리적 삭제 (deleteById)는 호출되지 않았는지 확인
         verify(memberRepository, never()).deleteById(anyLong());
+        // 4. 커밋 후 조회 캐시를 비우도록 변경 이벤트 발행
+        verify(eventPublisher).publishEvent(new MemberIdentityChangedEvent(
+                memberIdToDelete, "user@test.com", MemberIdentityChangedEvent.Reason.WITHDRAWAL));
+        verify(eventPublisher).publishEvent(any(MemberWithdrawnEvent.class));
     }
 
     @Test
@@ -499,15 +515,12 @@ class MemberServiceTest {
     @DisplayName("로그인 정보 조회 성공")
     void getLoginInfoByEmail_Success() {
         // given - 테스트 데이터 및 Mock 설정
-        String existingEmail = AESUtil.encrypt("activeUser@test.com");
+        String existingEmail = "activeUser@test.com";
         String password = PasswordUtil.encode("password123!");
-        Member activeMember = Member.ofNewMember(company, roleUser, existingEmail, password);
-        ReflectionTestUtils.setField(activeMember, "memberNo", 1L);
-        MemberIndex index = new MemberIndex(1L,"email", HashUtil.sha256Hex(existingEmail));
 
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.of(index));
-        // memberRepository.findById 가 호출되면 activeMember 반환하도록 설정
-        when(memberRepository.findById(index.getMemberNo())).thenReturn(Optional.of(activeMember));
+        // 인덱스와 회원을 조인한 projection 조회 결과
+        when(memberRepository.findLoginInfoByEmail(existingEmail)).thenReturn(Optional.of(
+                new CustomMemberRepository.MemberLoginInfo(1L, password, roleUser.getRoleId(), true)));
 
         // when - 서비스 메서드 호출
         MemberLoginResponse response = memberService.getLoginInfoByEmail(existingEmail);
@@ -515,46 +528,43 @@ class MemberServiceTest {
         // then - 결과 검증
         assertThat(response).isNotNull();
         assertThat(response.getMemberNo()).isEqualTo(1L);
-        assertThat(response.getMemberEmail()).isEqualTo(AESUtil.decrypt(existingEmail));
+        assertThat(response.getMemberEmail()).isEqualTo(existingEmail);
         Assertions.assertTrue(PasswordUtil.matches("password123!", response.getMemberPassword()));
         assertThat(response.getMemberPassword()).isEqualTo(password); // 해싱된 비밀번호 원문 반환 검증
         assertThat(response.getRoleId()).isEqualTo(roleUser.getRoleId());
 
-        // Mock 호출 검증
-        verify(memberRepository, times(1)).findById(index.getMemberNo());
+        // Mock 호출 검증 - 엔티티 조회 없이 projection 한 번
+        verify(memberRepository, times(1)).findLoginInfoByEmail(existingEmail);
+        verify(memberRepository, never()).findById(anyLong());
+        verify(memberRepository, never()).findByBlindIndex(any(), any());
     }
 
     @Test
     @DisplayName("로그인 정보 조회 실패 - 존재하지 않는 이메일")
     void getLoginInfoByEmail_Fail_EmailNotFound() {
-        // memberRepository.findByMemberEmail 가 호출되면 Optional.empty() 반환하도록 설정
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.empty());
+        // 인덱스 조인 조회가 호출되면 Optional.empty() 반환하도록 설정
+        when(memberRepository.findLoginInfoByEmail(Mockito.any())).thenReturn(Optional.empty());
         // when & then - 예외 발생 검증
         Assertions.assertThrows(NotExistMemberException.class, ()->{
             memberService.getLoginInfoByEmail("nonExistingEmail");
         });
     }
 
+    @Test
+    @DisplayName("로그인 정보 조회 실패 - 이메일이 비어 있을 때")
+    void getLoginInfoByEmail_Fail_Blank() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> memberService.getLoginInfoByEmail(" "));
+        verify(memberRepository, never()).findLoginInfoByEmail(any());
+    }
+
     @Test
     @DisplayName("로그인 정보 조회 실패 - 탈퇴한 회원")
     void getLoginInfoByEmail_Fail_InactiveMember() {
         // given - 테스트 데이터 및 Mock 설정
         String inactiveEmail = "inactive_user@test.com";
-        String encryptedEmail = AESUtil.encrypt(inactiveEmail);
 
-        Member inactiveMember = Member.ofNewMember(
-                company,
-                roleUser,
-                encryptedEmail,
-                PasswordUtil.encode("password"));
-
-        ReflectionTestUtils.setField(inactiveMember, "memberNo", 2L);
-        ReflectionTestUtils.setField(inactiveMember, "withdrawalAt", LocalDateTime.now());
-
-        MemberIndex index = new MemberIndex(2L, "email", HashUtil.sha256Hex(inactiveEmail));
-
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.of(index));
-        when(memberRepository.findById(index.getMemberNo())).thenReturn(Optional.of(inactiveMember));
+        when(memberRepository.findLoginInfoByEmail(inactiveEmail)).thenReturn(Optional.of(
+                new CustomMemberRepository.MemberLoginInfo(2L, PasswordUtil.encode("password"), roleUser.getRoleId(), false)));
 
         // when & then
         assertThatThrownBy(() -> memberService.getLoginInfoByEmail(inactiveEmail))
@@ -563,35 +573,86 @@ class MemberServiceTest {
 
     }
 
+    @Test
+    @DisplayName("회원 일괄 조회 - 쿼리 한 번으로 조회하고 요청 순서 유지, 없는 번호는 missing")
+    void getMembersByIds_Success() {
+        when(memberRepository.findMemberResponsesByMemberNos(any())).thenReturn(List.of(
+                new MemberResponse(1L, "a@test.com", "test.com", defaultRoleId, null, null),
+                new MemberResponse(3L, "c@test.com", "test.com", defaultRoleId, null, null)));
+
+        MemberBatchGetResponse response = memberService.getMembersByIds(Arrays.asList(3L, 2L, null, 1L, 3L));
+
+        assertThat(response.getMembers()).extracting(MemberResponse::getMemberNo).containsExactly(3L, 1L);
+        assertThat(response.getMissing()).containsExactly(2L);
+        verify(memberRepository, times(1)).findMemberResponsesByMemberNos(
+                eq(new LinkedHashSet<>(List.of(3L, 2L, 1L))));
+        verify(memberRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 조회 실패 - 최대 개수 초과 또는 빈 목록")
+    void getMembersByIds_Fail_Size() {
+        assertThatThrownBy(() -> memberService.getMembersByIds(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 3명");
+        assertThatThrownBy(() -> memberService.getMembersByIds(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(memberRepository, never()).findMemberResponsesByMemberNos(any());
+    }
+
+    @Test
+    @DisplayName("로그인 정보 일괄 조회 - 중복/빈 값을 제외하고 한 번에 조회, 없거나 탈퇴한 회원은 missing")
+    void getLoginInfosByEmails_Success() {
+        when(memberRepository.findLoginInfosByEmails(any())).thenReturn(Map.of(
+                "a@test.com", new CustomMemberRepository.MemberLoginInfo(1L, "pw-a", defaultRoleId, true),
+                "b@test.com", new CustomMemberRepository.MemberLoginInfo(2L, "pw-b", defaultRoleId, false)));
+
+        MemberLoginBatchResponse response = memberService.getLoginInfosByEmails(
+                Arrays.asList("a@test.com", "b@test.com", "a@test.com", " ", null, "c@test.com"));
+
+        assertThat(response.getFound())
+                .extracting(MemberLoginResponse::getMemberNo, MemberLoginResponse::getMemberEmail,
+                        MemberLoginResponse::getMemberPassword)
+                .containsExactly(tuple(1L, "a@test.com", "pw-a"));
+        assertThat(response.getMissing()).containsExactly("b@test.com", "c@test.com");
+        verify(memberRepository, times(1)).findLoginInfosByEmails(
+                eq(new LinkedHashSet<>(List.of("a@test.com", "b@test.com", "c@test.com"))));
+        verify(memberRepository, never()).findLoginInfoByEmail(any());
+    }
+
+    @Test
+    @DisplayName("로그인 정보 일괄 조회 실패 - 최대 개수 초과 또는 빈 목록")
+    void getLoginInfosByEmails_Fail_Size() {
+        List<String> tooMany = List.of("a@test.com", "b@test.com", "c@test.com", "d@test.com");
+
+        assertThatThrownBy(() -> memberService.getLoginInfosByEmails(tooMany))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 3개");
+        assertThatThrownBy(() -> memberService.getLoginInfosByEmails(List.of(" ")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(memberRepository, never()).findLoginInfosByEmails(any());
+    }
+
 // MemberServiceTest.java 파일에 아래 테스트 메서드를 추가하세요.
 
     @Test
-    @DisplayName("마지막 로그인 시간 업데이트 성공")
+    @DisplayName("마지막 로그인 시간 업데이트 성공 - 엔티티를 읽지 않고 지연 저장 버퍼에 기록")
     void updateLoginAt_Success() {
         // given - 테스트 데이터 및 Mock 설정
         String existingEmail = "user@test.com";
-        Member existingMember = Member.ofNewMember(company, roleUser, existingEmail, "password");
-        ReflectionTestUtils.setField(existingMember, "memberNo", 1L);
-        MemberIndex memberIndex = new MemberIndex(existingMember.getMemberNo(),
-                "email",
-                HashUtil.sha256Hex(existingEmail));
-        // Member 객체를 spy로 만들어 updateLastLoginTime() 호출을 감시
-        Member spiedMember = spy(existingMember);
-
-        // memberRepository.findById 가 호출되면 spiedMember 반환하도록 설정
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.of(memberIndex));
-        when(memberRepository.findById(memberIndex.getMemberNo())).thenReturn(Optional.of(spiedMember));
+        when(memberRepository.findLoginInfoByEmail(existingEmail)).thenReturn(Optional.of(
+                new CustomMemberRepository.MemberLoginInfo(1L, "password", defaultRoleId, true)));
 
         // when - 서비스 메서드 호출
         memberService.updateLoginAt(existingEmail);
 
         // then - 검증
-        // 1. findByMemberEmail이 1번 호출되었는지 확인
-        verify(memberRepository, times(1)).findById(memberIndex.getMemberNo());
-        // 2. Member 객체(spiedMember)의 updateLastLoginTime() 메서드가 1번 호출되었는지 확인
-        verify(spiedMember, times(1)).updateLastLoginTime();
-        // 3. (선택) memberRepository.save()가 호출되지 않았는지 확인 (변경 감지 사용 시)
-        verify(memberRepository, never()).save(any(Member.class));
+        // 1. 회원 번호만 프로젝션으로 조회하고 엔티티는 읽지 않음
+        verify(memberRepository, times(1)).findLoginInfoByEmail(existingEmail);
+        verify(memberRepository, never()).findByBlindIndex(any(), any());
+        // 2. 버퍼에 기록 (저장과 조회 캐시 제거는 LastLoginWriteBehind 가 저장 시점에 처리)
+        verify(lastLoginWriteBehind, times(1)).record(eq(1L), eq(existingEmail), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -600,15 +661,112 @@ class MemberServiceTest {
         // given - 테스트 데이터 및 Mock 설정
         String nonExistingEmail = "notfound@test.com";
 
-        // memberRepository.findByMemberEmail 가 호출되면 Optional.empty() 반환하도록 설정
-        when(memberIndexRepository.findByHashValue(Mockito.any())).thenReturn(Optional.empty());
+        // 인덱스 조인 조회가 호출되면 Optional.empty() 반환하도록 설정
+        when(memberRepository.findLoginInfoByEmail(nonExistingEmail)).thenReturn(Optional.empty());
 
         // when & then - 예외 발생 검증
         assertThatThrownBy(() -> memberService.updateLoginAt(nonExistingEmail))
                 .isInstanceOf(NotExistMemberException.class)
                 .hasMessageContaining(String.format("%s 에 해당하는 멤버는 존재하지 않습니다.", nonExistingEmail));
 
-        // Mock 호출 검증
-        verify(memberIndexRepository, times(1)).findByHashValue(Mockito.any());
+        // 버퍼에 기록하지 않음
+        verify(lastLoginWriteBehind, never()).record(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("회원 권한 변경 성공 - 변경 이벤트 발행")
+    void updateMemberRole_Success() {
+        Long memberId = 1L;
+        Member existingMember = Member.ofNewMember(company, roleUser, "user@test.com", "password");
+        ReflectionTestUtils.setField(existingMember, "memberNo", memberId);
+        when(roleRepository.findById(ownerRoleId)).thenReturn(Optional.of(roleOwner));
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(existingMember));
+
+        memberService.updateMemberRole(memberId, ownerRoleId);
+
+        Assertions.assertEquals(ownerRoleId, existingMember.getRole().getRoleId());
+        verify(eventPublisher).publishEvent(new MemberIdentityChangedEvent(
+                memberId, "user@test.com", MemberIdentityChangedEvent.Reason.ROLE));
+        // 변경 전/후 권한을 담은 도메인 이벤트
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .filteredOn(MemberRoleChangedEvent.class::isInstance)
+                .singleElement()
+                .isInstanceOfSatisfying(MemberRoleChangedEvent.class, event -> {
+                    assertThat(event.memberNo()).isEqualTo(memberId);
+                    assertThat(event.previousRoleId()).isEqualTo(defaultRoleId);
+                    assertThat(event.roleId()).isEqualTo(ownerRoleId);
+                });
+    }
+
+    @Test
+    @DisplayName("회원 권한 변경 실패 - 존재하지 않는 권한이면 이벤트 없음")
+    void updateMemberRole_Fail_RoleNotFound() {
+        when(roleRepository.findById("ROLE_NONE")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> memberService.updateMemberRole(1L, "ROLE_NONE"))
+                .isInstanceOf(NotExistRoleException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("회원 등록 시 이메일 검색 토큰도 함께 저장")
+    void registerMember_SavesEmailTokens() {
+        String email = memberRegisterRequest.getMemberEmail();
+        List<MemberIndex> tokens = List.of(new MemberIndex(1L, MemberEmailTokenizer.PREFIX_FIELD, new byte[32], null));
+        when(memberIndexRepository.existsByBlindIndex(email, "email")).thenReturn(false);
+        when(companyDomainResolver.findCompany(company.getCompanyDomain().plaintext())).thenReturn(Optional.of(company));
+        when(roleRepository.findById(defaultRoleId)).thenReturn(Optional.of(roleUser));
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> {
+            Member memberBeingSaved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(memberBeingSaved, "memberNo", 1L);
+            return memberBeingSaved;
+        });
+        when(memberEmailTokenizer.indexRows(1L, email)).thenReturn(tokens);
+
+        memberService.registerMember(memberRegisterRequest, ENCODED_PASSWORD);
+
+        verify(memberIndexRepository).saveAll(tokens);
+    }
+
+    @Test
+    @DisplayName("이메일 검색 - 토큰만으로 확정되면 복호화 비교 없이 반환")
+    void searchMembersByEmail_Exact() {
+        List<byte[]> hashes = List.of(new byte[32]);
+        MemberResponse found = new MemberResponse(1L, "user@test.com", "test.com", "ROLE_USER", LocalDateTime.now(), null);
+        when(memberEmailTokenizer.query("use"))
+                .thenReturn(new MemberEmailTokenizer.TokenQuery(MemberEmailTokenizer.PREFIX_FIELD, hashes, true));
+        when(memberRepository.findMembersByTokens("test.com", MemberEmailTokenizer.PREFIX_FIELD, hashes, 50))
+                .thenReturn(List.of(found));
+
+        assertThat(memberService.searchMembersByEmail("test.com", "use")).containsExactly(found);
+        verify(memberEmailTokenizer, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("이메일 검색 - 토큰이 모두 일치해도 이메일이 검색어와 다르면 제외")
+    void searchMembersByEmail_FiltersCandidates() {
+        List<byte[]> hashes = List.of(new byte[32], new byte[32]);
+        MemberResponse matched = new MemberResponse(1L, "abcd@test.com", "test.com", "ROLE_USER", LocalDateTime.now(), null);
+        MemberResponse falsePositive = new MemberResponse(2L, "bcdabc@test.com", "test.com", "ROLE_USER", LocalDateTime.now(), null);
+        when(memberEmailTokenizer.query("abcd"))
+                .thenReturn(new MemberEmailTokenizer.TokenQuery(MemberEmailTokenizer.NGRAM_FIELD, hashes, false));
+        when(memberRepository.findMembersByTokens("test.com", MemberEmailTokenizer.NGRAM_FIELD, hashes, 50))
+                .thenReturn(List.of(matched, falsePositive));
+        when(memberEmailTokenizer.matches("abcd@test.com", "abcd")).thenReturn(true);
+        when(memberEmailTokenizer.matches("bcdabc@test.com", "abcd")).thenReturn(false);
+
+        assertThat(memberService.searchMembersByEmail("test.com", "abcd")).containsExactly(matched);
+    }
+
+    @Test
+    @DisplayName("이메일 검색 실패 - 검색어가 너무 짧으면 조회하지 않음")
+    void searchMembersByEmail_Fail_TooShort() {
+        when(memberEmailTokenizer.query("ab")).thenThrow(new IllegalArgumentException("검색어는 3자 이상 입력하세요."));
+
+        assertThatThrownBy(() -> memberService.searchMembersByEmail("test.com", "ab"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(memberRepository, never()).findMembersByTokens(any(), any(), any(), anyInt());
     }
-}
\ No newline at end of file
+}
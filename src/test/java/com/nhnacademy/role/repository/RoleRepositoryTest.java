@@ -1,6 +1,7 @@
 package com.nhnacademy.role.repository;
 
 import com.nhnacademy.common.config.QueryDslConfig;
+import com.nhnacademy.company.service.CompanyDomainResolver;
 import com.nhnacademy.role.domain.Role;
 import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ActiveProfiles("test")
 @DataJpaTest
-@Import({QueryDslConfig.class})
+@Import({QueryDslConfig.class, CompanyDomainResolver.class})
 class RoleRepositoryTest {
 
     @Autowired